@@ -0,0 +1,43 @@
+package edu.claflin.finder.bench;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the benchmarks with allocation profiling.  Accepts the usual JMH
+ * command line, e.g. a benchmark name pattern or -p nodes=1000, and always
+ * adds the GC profiler so each result reports its allocation rate
+ * (gc.alloc.rate.norm is the number of bytes allocated per operation).
+ * <br>
+ * Usage: {@code java -jar target/benchmarks.jar [JMH options] [pattern]}
+ *
+ * @version 1.0 October 19, 2026
+ */
+public final class Benchmarks {
+
+    /**
+     * Private constructor for preventing instantiation of the class.
+     */
+    private Benchmarks() {}
+
+    /**
+     * Runs the selected benchmarks.
+     *
+     * @param args the JMH command line.
+     * @throws CommandLineOptionException if the command line is invalid.
+     * @throws RunnerException if the benchmarks could not be run.
+     */
+    public static void main(String[] args)
+            throws CommandLineOptionException, RunnerException {
+        Options options = new OptionsBuilder()
+                .parent(new CommandLineOptions(args))
+                .addProfiler(GCProfiler.class)
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,161 @@
+package edu.claflin.finder.bench;
+
+import edu.claflin.finder.logic.Condition;
+import edu.claflin.finder.logic.ConditionedGraph;
+import edu.claflin.finder.logic.Edge;
+import edu.claflin.finder.logic.Graph;
+import edu.claflin.finder.logic.Node;
+import edu.claflin.finder.logic.cond.BipartiteCondition;
+import edu.claflin.finder.logic.cond.CliqueCondition;
+import edu.claflin.finder.logic.cond.DirectedCliqueCondition;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures growing a {@link ConditionedGraph} under each {@link Condition},
+ * the way the traversal searches do: the edges of the graph are offered in
+ * breadth first order from the first node, each along with the node it
+ * reaches, and every offer runs the condition check.
+ *
+ * @version 1.0 October 19, 2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConditionBenchmark {
+
+    /**
+     * The number of nodes in the graph.
+     */
+    @Param({"50", "200"})
+    public int nodes;
+    /**
+     * The probability of each pair of nodes being connected.
+     */
+    @Param({"0.05", "0.2"})
+    public double density;
+    /**
+     * The condition applied, named as on the command line.
+     */
+    @Param({"BIPARTITE", "CLIQUE", "DCLIQUE"})
+    public String condition;
+
+    /**
+     * The graph the edges are taken from.
+     */
+    private Graph graph;
+    /**
+     * The conditions of the grown graph.
+     */
+    private List<Condition> conditions;
+    /**
+     * The edges in the order they are offered.
+     */
+    private List<Edge> order;
+
+    /**
+     * Builds the graph and the order its edges are offered in.
+     */
+    @Setup
+    public void setup() {
+        graph = RandomGraphs.build(nodes, density);
+        conditions = Collections.singletonList(condition(condition));
+        order = breadthFirstEdges(graph);
+    }
+
+    /**
+     * Measures growing the conditioned graph from the first node.
+     *
+     * @return the grown Graph.
+     */
+    @Benchmark
+    public Graph addPartialGraph() {
+        ConditionedGraph grown = new ConditionedGraph("grown", conditions);
+        Set<Node> present = new HashSet<>();
+        Node root = graph.getNodeList().get(0);
+        grown.addNode(root);
+        present.add(root);
+
+        for (Edge edge : order) {
+            List<Node> added = new ArrayList<>(1);
+            if (!present.contains(edge.getSource()))
+                added.add(edge.getSource());
+            if (!present.contains(edge.getDestination()))
+                added.add(edge.getDestination());
+            if (added.size() == 2)
+                continue;
+
+            if (grown.addPartialGraph(added, Collections.singletonList(edge)))
+                present.addAll(added);
+        }
+        return grown;
+    }
+
+    /**
+     * Creates the condition with the given command line name.
+     *
+     * @param name the String name of the condition.
+     * @return the Condition.
+     */
+    static Condition condition(String name) {
+        switch (name) {
+            case "BIPARTITE":
+                return new BipartiteCondition();
+            case "CLIQUE":
+                return new CliqueCondition();
+            case "DCLIQUE":
+                return new DirectedCliqueCondition();
+            default:
+                throw new IllegalArgumentException("Unknown condition: " + name);
+        }
+    }
+    /**
+     * Lists the edges of a graph in the order a breadth first traversal from
+     * its first node reaches them.
+     *
+     * @param graph the Graph to traverse.
+     * @return the List of edges in traversal order.
+     */
+    private static List<Edge> breadthFirstEdges(Graph graph) {
+        List<Edge> order = new ArrayList<>();
+        Set<Edge> seen = new HashSet<>();
+        Set<Node> visited = new HashSet<>();
+        ArrayDeque<Node> queue = new ArrayDeque<>();
+        Node root = graph.getNodeList().get(0);
+        queue.add(root);
+        visited.add(root);
+
+        while (!queue.isEmpty()) {
+            Node current = queue.remove();
+            for (Node neighbor : graph.getAdjacencyList(current)) {
+                Edge edge = graph.getEdge(current, neighbor);
+                if (edge != null && seen.add(edge))
+                    order.add(edge);
+                if (visited.add(neighbor))
+                    queue.add(neighbor);
+            }
+        }
+        return order;
+    }
+}
@@ -0,0 +1,125 @@
+package edu.claflin.finder.bench;
+
+import edu.claflin.finder.algo.Algorithm;
+import edu.claflin.finder.algo.ArgumentsBundle;
+import edu.claflin.finder.logic.Graph;
+import edu.claflin.finder.logic.Node;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures removing duplicate subgraphs with {@link Algorithm}'s cull.  One
+ * subgraph is found per node of the graph, as by the traversal searches, and
+ * half of them are contained in another so that the cull has work to do.
+ *
+ * @version 1.0 October 19, 2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CullBenchmark {
+
+    /**
+     * The number of nodes in the graph, and so the number of subgraphs.
+     */
+    @Param({"100", "500"})
+    public int nodes;
+    /**
+     * The probability of each pair of nodes being connected.
+     */
+    @Param({"0.05", "0.2"})
+    public double density;
+
+    /**
+     * The subgraphs culled.
+     */
+    private ArrayList<Graph> subGraphs;
+    /**
+     * The algorithm performing the cull.
+     */
+    private Culler culler;
+
+    /**
+     * Builds the graph and its subgraphs.
+     */
+    @Setup
+    public void setup() {
+        Graph graph = RandomGraphs.build(nodes, density);
+        List<Node> nodeList = graph.getNodeList();
+        Random random = new Random(RandomGraphs.SEED);
+        subGraphs = new ArrayList<>();
+
+        for (Node root : nodeList) {
+            List<Node> members = graph.getAdjacencyList(root);
+            members.add(0, root);
+            if (random.nextBoolean() && members.size() > 2)
+                members = members.subList(0, members.size() / 2 + 1);
+            subGraphs.add(graph.getSubGraph(new ArrayList<>(members),
+                    "[" + root + "]_"));
+        }
+        culler = new Culler();
+    }
+
+    /**
+     * Measures culling the subgraphs.  The list is copied first as the cull
+     * removes from the list it is given.
+     *
+     * @return the List of unique subgraphs.
+     */
+    @Benchmark
+    public List<Graph> cull() {
+        return culler.cullAll(new ArrayList<>(subGraphs));
+    }
+
+    /**
+     * Exposes the cull of the Algorithm class.
+     */
+    static final class Culler extends Algorithm {
+
+        /**
+         * Constructs the Culler with no conditions.
+         */
+        Culler() {
+            super(new ArgumentsBundle());
+        }
+
+        /**
+         * Culls the provided subgraphs.
+         *
+         * @param subGraphs the ArrayList of subgraphs to cull.
+         * @return the ArrayList of unique subgraphs.
+         */
+        ArrayList<Graph> cullAll(ArrayList<Graph> subGraphs) {
+            return cull(subGraphs);
+        }
+
+        /**
+         * {@inheritDoc } Not used; the benchmark only culls.
+         *
+         * @param graph the Graph to search.
+         * @return an empty ArrayList.
+         */
+        @Override
+        public ArrayList<Graph> process(Graph graph) {
+            return new ArrayList<>();
+        }
+    }
+}
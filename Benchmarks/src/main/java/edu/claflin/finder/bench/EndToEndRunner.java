@@ -0,0 +1,602 @@
+package edu.claflin.finder.bench;
+
+import edu.claflin.finder.algo.Algorithm;
+import edu.claflin.finder.algo.ArgumentsBundle;
+import edu.claflin.finder.algo.BreadthFirstTraversalSearch;
+import edu.claflin.finder.algo.Bundle;
+import edu.claflin.finder.algo.DepthFirstTraversalSearch;
+import edu.claflin.finder.io.graph.SimpleGraphIO;
+import edu.claflin.finder.logic.BronKerboschHandler;
+import edu.claflin.finder.logic.Graph;
+import edu.claflin.finder.logic.comp.EdgeWeightComparator;
+import edu.claflin.finder.logic.processor.BatchProcessor;
+import edu.claflin.finder.logic.processor.Processable;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.net.InetAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Measures whole searches end to end: every combination of algorithm,
+ * condition and edge ordering over the bundled networks and over random
+ * networks of increasing size, each at a range of worker thread counts.  For
+ * each combination the wall time, peak heap, GC time and number of
+ * subgraphs found are recorded.
+ * <br>
+ * Thread scaling is measured the way a manifest run is processed: the same
+ * batch of copies of the network is searched through
+ * {@link BatchProcessor#processPipelined} with 1 to N workers, so the work
+ * is identical at every thread count and the speedup is the ratio of wall
+ * times.
+ * <br>
+ * The results are written as a JSON report holding one scenario per line,
+ * headed by a description of the host.  Given a previous report as a
+ * baseline, the fastest run of each scenario is compared to the fastest run
+ * in the baseline and the run fails if any slowed down by more than the
+ * tolerance.  Timings only compare on the same machine, so a baseline
+ * recorded on another host (or with another core count or JVM) is refused
+ * before anything is measured.
+ * <br>
+ * The full matrix over the bundled networks takes hours; narrow it with the
+ * options below when checking a change, e.g.
+ * {@code -graphs SYNTHETIC -sizes 50,100 -algos BFTS,DFTS -threads 1}.
+ * <br>
+ * Usage: {@code java -cp target/benchmarks.jar edu.claflin.finder.bench.EndToEndRunner [options]}
+ * <pre>
+ *   -data DIR        the repository root holding the bundled networks (default ..)
+ *   -graphs LIST     bundled networks and/or SYNTHETIC (default Lung_Cancer,Adherens_Junction,SYNTHETIC)
+ *   -sizes LIST      node counts of the synthetic networks (default 50,100,200,400)
+ *   -degree D        mean degree of the synthetic networks (default 6)
+ *   -algos LIST      BFTS, DFTS, BK and/or BNDL (default BFTS,DFTS,BNDL)
+ *   -types LIST      BIPARTITE, CLIQUE and/or DCLIQUE (default all)
+ *   -threads LIST    worker counts (default powers of two up to the core count)
+ *   -warmups N       unmeasured runs per scenario (default 2)
+ *   -runs N          measured runs per scenario after the warm ups (default 5)
+ *   -out FILE        the report to write (default e2e-report.json)
+ *   -baseline FILE   a previous report to compare against
+ *   -tolerance T     the allowed slowdown of the fastest run (default 0.25)
+ * </pre>
+ *
+ * @version 1.3 October 19, 2026
+ */
+public final class EndToEndRunner {
+
+    /**
+     * Extracts the scenario key of a report line.
+     */
+    private static final Pattern KEY = Pattern.compile("\"key\": \"([^\"]*)\"");
+    /**
+     * Extracts the fastest wall time of a report line.
+     */
+    private static final Pattern WALL = Pattern.compile("\"wall_min_ms\": ([0-9.]+)");
+    /**
+     * Extracts the host of a report.
+     */
+    private static final Pattern HOST = Pattern.compile("\"host\": \"([^\"]*)\"");
+
+    /**
+     * The repository root holding the bundled networks.
+     */
+    private File data = new File("..");
+    /**
+     * The networks searched.
+     */
+    private List<String> graphs = Arrays.asList("Lung_Cancer",
+            "Adherens_Junction", "SYNTHETIC");
+    /**
+     * The node counts of the synthetic networks.
+     */
+    private int[] sizes = {50, 100, 200, 400};
+    /**
+     * The mean degree of the synthetic networks.
+     */
+    private double degree = 6D;
+    /**
+     * The algorithms run.  Bron-Kerbosch never narrows its candidate set P,
+     * so it takes exponential time on these networks and is left to the
+     * command line.
+     */
+    private List<String> algorithms = Arrays.asList("BFTS", "DFTS", "BNDL");
+    /**
+     * The conditions searched for.
+     */
+    private List<String> types = Arrays.asList("BIPARTITE", "CLIQUE", "DCLIQUE");
+    /**
+     * The worker counts measured.
+     */
+    private int[] threads = defaultThreads();
+    /**
+     * The unmeasured runs of each scenario.
+     */
+    private int warmups = 2;
+    /**
+     * The measured runs of each scenario.
+     */
+    private int runs = 5;
+    /**
+     * The report written.
+     */
+    private File out = new File("e2e-report.json");
+    /**
+     * The report compared against, if any.
+     */
+    private File baseline = null;
+    /**
+     * The allowed slowdown against the baseline.
+     */
+    private double tolerance = 0.25D;
+
+    /**
+     * Runs the benchmark.
+     *
+     * @param args the command line.
+     * @throws IOException if a network or the report could not be read or
+     * written.
+     */
+    public static void main(String[] args) throws IOException {
+        EndToEndRunner runner = new EndToEndRunner();
+        runner.parse(args);
+        System.exit(runner.run() ? 0 : 1);
+    }
+
+    /**
+     * Reads the command line.
+     *
+     * @param args the command line.
+     */
+    private void parse(String[] args) {
+        for (int arg = 0; arg < args.length; arg++) {
+            String value = arg + 1 < args.length ? args[arg + 1] : null;
+            if (value == null)
+                throw new IllegalArgumentException("Missing value for " + args[arg]);
+            switch (args[arg++]) {
+                case "-data":
+                    data = new File(value);
+                    break;
+                case "-graphs":
+                    graphs = Arrays.asList(value.split(","));
+                    break;
+                case "-sizes":
+                    sizes = parseInts(value);
+                    break;
+                case "-degree":
+                    degree = Double.parseDouble(value);
+                    break;
+                case "-algos":
+                    algorithms = Arrays.asList(value.split(","));
+                    break;
+                case "-types":
+                    types = Arrays.asList(value.split(","));
+                    break;
+                case "-threads":
+                    threads = parseInts(value);
+                    break;
+                case "-warmups":
+                    warmups = Integer.parseInt(value);
+                    break;
+                case "-runs":
+                    runs = Integer.parseInt(value);
+                    break;
+                case "-out":
+                    out = new File(value);
+                    break;
+                case "-baseline":
+                    baseline = new File(value);
+                    break;
+                case "-tolerance":
+                    tolerance = Double.parseDouble(value);
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown option: " + args[arg - 1]);
+            }
+        }
+    }
+
+    /**
+     * Runs every scenario, writes the report and compares it against the
+     * baseline.
+     *
+     * @return false if a scenario slowed down beyond the tolerance.
+     * @throws IOException if a network or the report could not be read or
+     * written, or if the baseline was recorded on another host.
+     */
+    private boolean run() throws IOException {
+        Map<String, Double> previous = baseline == null ? new HashMap<>()
+                : readBaseline(baseline);
+        List<String> lines = new ArrayList<>();
+        boolean passed = true;
+        int batch = Arrays.stream(threads).max().orElse(1);
+
+        for (Map.Entry<String, Graph> network : loadGraphs().entrySet()) {
+            Graph graph = network.getValue();
+            for (String algorithm : algorithms) {
+                for (String type : types) {
+                    for (boolean ordered : new boolean[] {false, true}) {
+                        if (!supported(algorithm, type, ordered))
+                            continue;
+
+                        double single = 0D;
+                        for (int workers : threads) {
+                            String key = network.getKey() + "|" + algorithm
+                                    + "|" + type + "|" + (ordered ? "ordered" : "unordered")
+                                    + "|" + workers;
+                            System.err.print(key + " ... ");
+                            Measurement result = measure(graph, algorithm,
+                                    type, ordered, workers, batch);
+                            if (workers == 1)
+                                single = result.wall;
+                            double speedup = single > 0D ? single / result.wall : 0D;
+
+                            Double before = previous.get(key);
+                            String change = "";
+                            if (before != null) {
+                                double ratio = result.wallMin / before;
+                                change = String.format(Locale.ROOT,
+                                        ", \"baseline_wall_min_ms\": %.3f, \"change\": %.3f",
+                                        before, ratio - 1D);
+                                if (ratio - 1D > tolerance) {
+                                    passed = false;
+                                    System.err.print("REGRESSION ");
+                                }
+                            }
+                            System.err.println(String.format(Locale.ROOT,
+                                    "%.1f ms (fastest %.1f ms), %d found",
+                                    result.wall, result.wallMin, result.found));
+
+                            lines.add(String.format(Locale.ROOT, "    {\"key\": \"%s\", "
+                                    + "\"graph\": \"%s\", \"nodes\": %d, \"edges\": %d, "
+                                    + "\"algorithm\": \"%s\", \"type\": \"%s\", "
+                                    + "\"ordered\": %b, \"threads\": %d, \"batch\": %d, "
+                                    + "\"wall_ms\": %.3f, \"wall_min_ms\": %.3f, "
+                                    + "\"speedup\": %.3f, \"peak_heap_mb\": %.1f, "
+                                    + "\"gc_ms\": %d, \"gc_count\": %d, \"found\": %d%s}",
+                                    key, network.getKey(), graph.getNodeCount(),
+                                    graph.getEdgeCount(), algorithm, type, ordered,
+                                    workers, batch, result.wall, result.wallMin,
+                                    speedup, result.peakHeap / 1048576D,
+                                    result.gcTime, result.gcCount, result.found,
+                                    change));
+                        }
+                    }
+                }
+            }
+        }
+
+        writeReport(lines);
+        System.err.println("Wrote " + lines.size() + " scenarios to "
+                + out.getAbsolutePath());
+        if (!passed) {
+            System.err.println(String.format(Locale.ROOT, "Scenarios slowed "
+                    + "down by more than %.0f%% against %s.", tolerance * 100D,
+                    baseline));
+        }
+        return passed;
+    }
+
+    /**
+     * Loads the bundled networks and builds the synthetic ones.
+     *
+     * @return the Map of network names to graphs, in run order.
+     * @throws IOException if a bundled network could not be read.
+     */
+    private Map<String, Graph> loadGraphs() throws IOException {
+        Map<String, Graph> loaded = new LinkedHashMap<>();
+        for (String name : graphs) {
+            if (name.equals("SYNTHETIC")) {
+                for (int size : sizes) {
+                    loaded.put("synthetic-" + size, RandomGraphs.build(size,
+                            Math.min(1D, degree / (size - 1))));
+                }
+                continue;
+            }
+
+            File file = find(name + ".txt");
+            Graph graph = new SimpleGraphIO().parseGraph(file, true);
+            if (graph == null)
+                throw new IOException("Could not read network: " + file);
+            loaded.put(name, graph);
+        }
+        return loaded;
+    }
+    /**
+     * Finds a bundled network, which may be at the repository root or in the
+     * Subgraph Finder project.
+     *
+     * @param name the String file name.
+     * @return the File of the network.
+     * @throws IOException if the network could not be found.
+     */
+    private File find(String name) throws IOException {
+        for (File candidate : new File[] {new File(data, name),
+                new File(new File(data, "Subgraph Finder"), name)}) {
+            if (candidate.isFile())
+                return candidate;
+        }
+        throw new IOException("Could not find network " + name + " under "
+                + data.getAbsolutePath());
+    }
+
+    /**
+     * Checks that a combination can be run.  Bron-Kerbosch takes no edge
+     * ordering and is only run for cliques: its bipartite variant joins each
+     * side of the division into a clique, which on a network that is not
+     * bipartite takes exponential time.
+     *
+     * @param algorithm the String algorithm code.
+     * @param type the String condition name.
+     * @param ordered true if the edge ordering is used.
+     * @return true if the combination can be run.
+     */
+    private static boolean supported(String algorithm, String type,
+            boolean ordered) {
+        if (!algorithm.equals("BK"))
+            return true;
+        return !ordered && type.equals("CLIQUE");
+    }
+    /**
+     * Creates the search run for a combination.
+     *
+     * @param algorithm the String algorithm code.
+     * @param type the String condition name.
+     * @param ordered true if the edge ordering is used.
+     * @return the Processable searching a graph.
+     */
+    private static Processable<Graph, Graph> processor(String algorithm,
+            String type, boolean ordered) {
+        if (algorithm.equals("BK"))
+            return BronKerboschHandler::bronKerbosch;
+
+        // Edges are preserved on expansion, as by default on the command line.
+        ArgumentsBundle bundle = new ArgumentsBundle();
+        bundle.putBoolean(ArgumentsBundle.COMMON_ARGS.EDGE_PRESERVATION.toString(), true);
+        bundle.addCondition(ConditionBenchmark.condition(type));
+        bundle.putObject(ArgumentsBundle.COMMON_ARGS.EDGE_WEIGHT_COMPARATOR.toString(),
+                ordered ? new EdgeWeightComparator(false) : null);
+        switch (algorithm) {
+            case "BFTS":
+                return new BreadthFirstTraversalSearch(bundle);
+            case "DFTS":
+                return new DepthFirstTraversalSearch(bundle);
+            case "BNDL":
+                return new Bundle(new Algorithm[] {
+                    new BreadthFirstTraversalSearch(bundle),
+                    new DepthFirstTraversalSearch(bundle)});
+            default:
+                throw new IllegalArgumentException("Unknown algorithm: " + algorithm);
+        }
+    }
+
+    /**
+     * Measures a scenario: the warm up runs followed by the measured runs.
+     *
+     * @param graph the Graph searched.
+     * @param algorithm the String algorithm code.
+     * @param type the String condition name.
+     * @param ordered true if the edge ordering is used.
+     * @param workers the number of worker threads.
+     * @param batch the number of copies of the graph searched.
+     * @return the Measurement of the scenario.
+     */
+    private Measurement measure(Graph graph, String algorithm, String type,
+            boolean ordered, int workers, int batch) {
+        Measurement result = new Measurement();
+        double[] walls = new double[runs];
+        long[] gcTimes = new long[runs];
+        long[] gcCounts = new long[runs];
+
+        for (int run = -warmups; run < runs; run++) {
+            Graph[] sources = new Graph[batch];
+            Arrays.fill(sources, graph);
+            AtomicLong found = new AtomicLong();
+
+            System.gc();
+            for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans())
+                pool.resetPeakUsage();
+            long gcTime = gcTime();
+            long gcCount = gcCount();
+            long start = System.nanoTime();
+            int failures = new BatchProcessor<Graph, Graph>()
+                    .processPipelined(sources, source -> source,
+                    () -> processor(algorithm, type, ordered),
+                    (source, subgraphs) -> found.addAndGet(subgraphs.size()),
+                    workers, workers * 2);
+            double wall = (System.nanoTime() - start) / 1e6;
+            if (failures > 0)
+                throw new IllegalStateException(failures + " of " + batch
+                        + " searches failed!");
+
+            if (run < 0)
+                continue;
+            walls[run] = wall;
+            gcTimes[run] = gcTime() - gcTime;
+            gcCounts[run] = gcCount() - gcCount;
+            result.peakHeap = Math.max(result.peakHeap, peakHeap());
+            result.found = found.get() / batch;
+        }
+
+        Arrays.sort(walls);
+        Arrays.sort(gcTimes);
+        Arrays.sort(gcCounts);
+        result.wall = walls[runs / 2];
+        result.wallMin = walls[0];
+        result.gcTime = gcTimes[runs / 2];
+        result.gcCount = gcCounts[runs / 2];
+        return result;
+    }
+
+    /**
+     * Sums the collection time of every garbage collector.
+     *
+     * @return the total GC time in milliseconds.
+     */
+    private static long gcTime() {
+        long total = 0L;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans())
+            total += Math.max(0L, gc.getCollectionTime());
+        return total;
+    }
+    /**
+     * Sums the collection count of every garbage collector.
+     *
+     * @return the total number of collections.
+     */
+    private static long gcCount() {
+        long total = 0L;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans())
+            total += Math.max(0L, gc.getCollectionCount());
+        return total;
+    }
+    /**
+     * Sums the peak usage of every heap pool since the peaks were reset.
+     *
+     * @return the peak heap in bytes.
+     */
+    private static long peakHeap() {
+        long total = 0L;
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP && pool.getPeakUsage() != null)
+                total += pool.getPeakUsage().getUsed();
+        }
+        return total;
+    }
+
+    /**
+     * Writes the report.
+     *
+     * @param lines the List of scenario lines.
+     * @throws IOException if the report could not be written.
+     */
+    private void writeReport(List<String> lines) throws IOException {
+        try (Writer writer = Files.newBufferedWriter(out.toPath(),
+                StandardCharsets.UTF_8)) {
+            writer.write(String.format(Locale.ROOT, "{%n  \"java\": \"%s\",%n"
+                    + "  \"host\": \"%s\",%n"
+                    + "  \"cores\": %d,%n  \"max_heap_mb\": %d,%n"
+                    + "  \"warmups\": %d,%n  \"runs\": %d,%n"
+                    + "  \"scenarios\": [%n", System.getProperty("java.version"),
+                    host(), Runtime.getRuntime().availableProcessors(),
+                    Runtime.getRuntime().maxMemory() / 1048576L, warmups, runs));
+            for (int line = 0; line < lines.size(); line++) {
+                writer.write(lines.get(line));
+                writer.write(line + 1 < lines.size() ? ",\n" : "\n");
+            }
+            writer.write("  ]\n}\n");
+        }
+    }
+    /**
+     * Reads the fastest wall time of every scenario of a previous report,
+     * checking that it was recorded on this host.
+     *
+     * @param report the File of the report.
+     * @return the Map of scenario keys to fastest wall times.
+     * @throws IOException if the report could not be read or was recorded
+     * on another host.
+     */
+    private static Map<String, Double> readBaseline(File report) throws IOException {
+        Map<String, Double> walls = new HashMap<>();
+        String recorded = null;
+        for (String line : Files.readAllLines(report.toPath(), StandardCharsets.UTF_8)) {
+            Matcher host = HOST.matcher(line);
+            if (recorded == null && host.find())
+                recorded = host.group(1);
+            Matcher key = KEY.matcher(line);
+            Matcher wall = WALL.matcher(line);
+            if (key.find() && wall.find())
+                walls.put(key.group(1), Double.parseDouble(wall.group(1)));
+        }
+        if (!host().equals(recorded))
+            throw new IOException("Baseline " + report + " was recorded on "
+                    + (recorded == null ? "an unknown host" : "\"" + recorded + "\"")
+                    + ", not on \"" + host() + "\"; record a baseline here "
+                    + "first.");
+        return walls;
+    }
+    /**
+     * Describes the host the timings are taken on: its name, core count,
+     * architecture and JVM.
+     *
+     * @return the String description.
+     */
+    private static String host() {
+        String name;
+        try {
+            name = InetAddress.getLocalHost().getHostName();
+        } catch (IOException ioe) {
+            name = "unknown";
+        }
+        return String.format(Locale.ROOT, "%s, %d cores, %s, Java %s", name,
+                Runtime.getRuntime().availableProcessors(),
+                System.getProperty("os.arch"), System.getProperty("java.version"));
+    }
+
+    /**
+     * Lists the powers of two up to the core count, along with the core
+     * count itself.
+     *
+     * @return the int array of worker counts.
+     */
+    private static int[] defaultThreads() {
+        int cores = Runtime.getRuntime().availableProcessors();
+        List<Integer> counts = new ArrayList<>();
+        for (int count = 1; count < cores; count *= 2)
+            counts.add(count);
+        counts.add(cores);
+        return counts.stream().mapToInt(Integer::intValue).toArray();
+    }
+    /**
+     * Parses a comma separated list of integers.
+     *
+     * @param value the String list.
+     * @return the int array.
+     */
+    private static int[] parseInts(String value) {
+        return Arrays.stream(value.split(",")).mapToInt(Integer::parseInt).toArray();
+    }
+
+    /**
+     * The measurements of a single scenario.
+     */
+    private static final class Measurement {
+        /**
+         * The median wall time in milliseconds.
+         */
+        private double wall;
+        /**
+         * The fastest wall time in milliseconds.
+         */
+        private double wallMin;
+        /**
+         * The largest peak heap in bytes.
+         */
+        private long peakHeap;
+        /**
+         * The median GC time in milliseconds.
+         */
+        private long gcTime;
+        /**
+         * The median number of collections.
+         */
+        private long gcCount;
+        /**
+         * The number of subgraphs found in one copy of the graph.
+         */
+        private long found;
+    }
+}
@@ -0,0 +1,122 @@
+package edu.claflin.finder.bench;
+
+import edu.claflin.finder.logic.Edge;
+import edu.claflin.finder.logic.Graph;
+import edu.claflin.finder.logic.Node;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the basic {@link Graph} operations the searches are built on.
+ * Lookups cycle through every node or edge of the graph so a single hot
+ * entry does not stand in for the whole graph.
+ *
+ * @version 1.0 October 19, 2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GraphBenchmark {
+
+    /**
+     * The number of nodes in the graph.
+     */
+    @Param({"100", "1000"})
+    public int nodes;
+    /**
+     * The probability of each pair of nodes being connected.
+     */
+    @Param({"0.01", "0.1"})
+    public double density;
+
+    /**
+     * The graph measured.
+     */
+    private Graph graph;
+    /**
+     * The nodes of the graph.
+     */
+    private List<Node> nodeList;
+    /**
+     * The edges of the graph.
+     */
+    private List<Edge> edgeList;
+    /**
+     * The position of the next node looked up.
+     */
+    private int nodeCursor = 0;
+    /**
+     * The position of the next edge looked up.
+     */
+    private int edgeCursor = 0;
+
+    /**
+     * Builds the graph.
+     */
+    @Setup
+    public void setup() {
+        graph = RandomGraphs.build(nodes, density);
+        nodeList = graph.getNodeList();
+        edgeList = graph.getEdgeList();
+    }
+
+    /**
+     * Measures obtaining the adjacency list of a node.
+     *
+     * @return the List of adjacent nodes.
+     */
+    @Benchmark
+    public List<Node> getAdjacencyList() {
+        Node node = nodeList.get(nodeCursor);
+        nodeCursor = (nodeCursor + 1) % nodeList.size();
+        return graph.getAdjacencyList(node);
+    }
+    /**
+     * Measures looking up an existing edge by its nodes.
+     *
+     * @return the Edge found.
+     */
+    @Benchmark
+    public Edge getEdge() {
+        Edge edge = edgeList.get(edgeCursor);
+        edgeCursor = (edgeCursor + 1) % edgeList.size();
+        return graph.getEdge(edge.getSource(), edge.getDestination());
+    }
+    /**
+     * Measures building the whole graph through a single partial graph
+     * addition.
+     *
+     * @return the Graph built.
+     */
+    @Benchmark
+    public Graph addPartialGraph() {
+        Graph built = new Graph(graph.getName());
+        built.addPartialGraph(nodeList, edgeList);
+        return built;
+    }
+    /**
+     * Measures copying the graph along with its nodes and edges.
+     *
+     * @return the copied Graph.
+     */
+    @Benchmark
+    public Graph uniqueCopy() {
+        return graph.uniqueCopy();
+    }
+}
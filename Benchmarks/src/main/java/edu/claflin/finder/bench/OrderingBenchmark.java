@@ -0,0 +1,95 @@
+package edu.claflin.finder.bench;
+
+import edu.claflin.finder.logic.Edge;
+import edu.claflin.finder.logic.Graph;
+import edu.claflin.finder.logic.PrioritySet;
+import edu.claflin.finder.logic.comp.EdgeWeightComparator;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the edge ordering used by the searches when an ordering is
+ * selected: the {@link EdgeWeightComparator} alone and the
+ * {@link PrioritySet} queue built on it.
+ *
+ * @version 1.0 October 19, 2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OrderingBenchmark {
+
+    /**
+     * The number of nodes in the graph.
+     */
+    @Param({"100", "1000"})
+    public int nodes;
+    /**
+     * The probability of each pair of nodes being connected.
+     */
+    @Param({"0.01", "0.1"})
+    public double density;
+
+    /**
+     * The edges ordered.
+     */
+    private List<Edge> edgeList;
+    /**
+     * The comparator measured.
+     */
+    private EdgeWeightComparator comparator;
+
+    /**
+     * Builds the graph and the comparator.
+     */
+    @Setup
+    public void setup() {
+        Graph graph = RandomGraphs.build(nodes, density);
+        edgeList = graph.getEdgeList();
+        comparator = new EdgeWeightComparator(false);
+    }
+
+    /**
+     * Measures comparing each edge with the next.
+     *
+     * @param blackhole the Blackhole consuming the comparisons.
+     */
+    @Benchmark
+    public void compare(Blackhole blackhole) {
+        for (int index = 1; index < edgeList.size(); index++)
+            blackhole.consume(comparator.compare(edgeList.get(index - 1),
+                    edgeList.get(index)));
+    }
+    /**
+     * Measures offering every edge to an overriding PrioritySet twice, so
+     * half of the additions hit an edge already queued.
+     *
+     * @return the filled PrioritySet.
+     */
+    @Benchmark
+    public PrioritySet<Edge> prioritySetAdd() {
+        PrioritySet<Edge> queue = new PrioritySet<>(comparator, true);
+        for (Edge edge : edgeList)
+            queue.add(edge);
+        for (Edge edge : edgeList)
+            queue.add(edge);
+        return queue;
+    }
+}
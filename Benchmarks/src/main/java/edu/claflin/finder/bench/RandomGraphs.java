@@ -0,0 +1,51 @@
+package edu.claflin.finder.bench;
+
+import edu.claflin.finder.logic.Graph;
+import edu.claflin.finder.logic.GraphBuilder;
+
+import java.util.Random;
+
+/**
+ * Builds the random graphs measured by the benchmarks.  Graphs are built from
+ * a fixed seed so every fork and every run measures the same graph.
+ *
+ * @version 1.0 October 19, 2026
+ */
+final class RandomGraphs {
+
+    /**
+     * The seed used for every graph.
+     */
+    static final long SEED = 0x5EED5EEDL;
+
+    /**
+     * Private constructor for preventing instantiation of the class.
+     */
+    private RandomGraphs() {}
+
+    /**
+     * Builds an undirected random graph in which each pair of nodes is
+     * connected with the given probability.  Edges carry an integer weight
+     * from 1 to 10.
+     *
+     * @param nodes the number of nodes.
+     * @param density the probability of each pair of nodes being connected.
+     * @return the random Graph.
+     */
+    static Graph build(int nodes, double density) {
+        Random random = new Random(SEED);
+        GraphBuilder builder = new GraphBuilder("random_" + nodes + "_" + density);
+        for (int node = 0; node < nodes; node++)
+            builder.intern("N" + node);
+
+        for (int source = 0; source < nodes; source++) {
+            for (int destination = source + 1; destination < nodes; destination++) {
+                if (random.nextDouble() < density) {
+                    builder.addEdge(source, destination, 1 + random.nextInt(10),
+                            true);
+                }
+            }
+        }
+        return builder.build();
+    }
+}
@@ -0,0 +1,109 @@
+package edu.claflin.finder.bench.generate;
+
+import java.io.IOException;
+
+/**
+ * The Barabasi-Albert model, whose degrees follow a power law: the graph
+ * starts as a clique of m + 1 nodes, and each node added after it joins m
+ * distinct earlier nodes chosen in proportion to their degree.
+ * <br>
+ * A node is chosen in proportion to its degree by picking an end of an
+ * earlier edge at random.  The source of every edge after the initial clique
+ * follows from its position, so only the destinations are kept: four bytes
+ * per edge, which limits the model to about two billion edges.
+ *
+ * @version 1.0 October 19, 2026
+ */
+public class BarabasiAlbertModel extends GraphModel {
+
+    /**
+     * The number of edges added with each node.
+     */
+    private final int attachments;
+    /**
+     * The number of nodes in the initial clique.
+     */
+    private final int seedNodes;
+    /**
+     * The number of edges in the initial clique.
+     */
+    private final int seedEdges;
+
+    /**
+     * Constructs the model.
+     *
+     * @param nodes the number of nodes.
+     * @param degree the mean degree of a node; each node is added with half
+     * as many edges.
+     * @param weights the Weights of the edges.
+     * @param seed the long seed of the model.
+     */
+    public BarabasiAlbertModel(int nodes, double degree, Weights weights,
+            long seed) {
+        super(nodes, weights, seed);
+        this.attachments = Math.max(1, (int) Math.round(degree / 2D));
+        this.seedNodes = Math.min(nodes, attachments + 1);
+        this.seedEdges = seedNodes * (seedNodes - 1) / 2;
+
+        long total = seedEdges + (long) (nodes - seedNodes) * attachments;
+        if (total > Integer.MAX_VALUE - 8)
+            throw new IllegalArgumentException("Too many edges for the "
+                    + "Barabasi-Albert model: " + total);
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void generate(EdgeSink sink) throws IOException {
+        int total = seedEdges + (nodes - seedNodes) * attachments;
+        int[] destinations = new int[total];
+        int[] seedSources = new int[seedEdges];
+        int edge = 0;
+
+        for (int source = 1; source < seedNodes; source++) {
+            for (int destination = 0; destination < source; destination++) {
+                seedSources[edge] = source;
+                destinations[edge++] = destination;
+                emit(sink, source, destination);
+            }
+        }
+
+        int[] chosen = new int[attachments];
+        for (int source = seedNodes; source < nodes; source++) {
+            for (int pick = 0; pick < attachments; pick++) {
+                int node;
+                do {
+                    int end = random.nextInt(edge);
+                    if (random.nextBoolean())
+                        node = destinations[end];
+                    else if (end < seedEdges)
+                        node = seedSources[end];
+                    else
+                        node = seedNodes + (end - seedEdges) / attachments;
+                } while (contains(chosen, pick, node));
+                chosen[pick] = node;
+            }
+            for (int pick = 0; pick < attachments; pick++) {
+                destinations[edge++] = chosen[pick];
+                emit(sink, source, chosen[pick]);
+            }
+        }
+    }
+
+    /**
+     * Tests if a node was already chosen.
+     *
+     * @param chosen the int array of chosen nodes.
+     * @param count the number of nodes chosen so far.
+     * @param node the node to look for.
+     * @return true if the node was chosen.
+     */
+    private static boolean contains(int[] chosen, int count, int node) {
+        for (int index = 0; index < count; index++) {
+            if (chosen[index] == node)
+                return true;
+        }
+        return false;
+    }
+}
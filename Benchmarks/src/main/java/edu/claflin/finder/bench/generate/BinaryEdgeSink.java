@@ -0,0 +1,227 @@
+package edu.claflin.finder.bench.generate;
+
+import edu.claflin.finder.io.graph.GraphSnapshot;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * Writes edges as a binary graph snapshot read by
+ * {@link edu.claflin.finder.io.graph.BinaryGraphIO}; see
+ * {@link GraphSnapshot} for the layout.  Edges must arrive in order of their
+ * source node, so each row of the snapshot is complete as soon as the next
+ * begins.  Destinations and weights are spooled to temporary files while the
+ * row sizes are counted, so only an int per node is held in memory.
+ * <br>
+ * A snapshot is limited to 2 GB, about 160 million edges.
+ *
+ * @version 1.0 October 19, 2026
+ */
+public final class BinaryEdgeSink implements EdgeSink {
+
+    /**
+     * The snapshot written.
+     */
+    private final File output;
+    /**
+     * The graph name stored in the snapshot.
+     */
+    private final String name;
+    /**
+     * The number of nodes.
+     */
+    private final int nodeCount;
+    /**
+     * The flags of every edge.
+     */
+    private final byte flags;
+    /**
+     * The edges of each node, shifted by one to become the row pointers.
+     */
+    private final int[] rowPointers;
+    /**
+     * The spooled destinations.
+     */
+    private final Path destinationFile;
+    /**
+     * The spooled weights.
+     */
+    private final Path weightFile;
+    /**
+     * Writes the spooled destinations.
+     */
+    private final DataOutputStream destinations;
+    /**
+     * Writes the spooled weights.
+     */
+    private final DataOutputStream weights;
+    /**
+     * The size of the snapshot without its edges.
+     */
+    private final long fixedLength;
+    /**
+     * The number of edges written.
+     */
+    private int edgeCount = 0;
+    /**
+     * The source of the last edge written.
+     */
+    private int lastSource = 0;
+
+    /**
+     * Opens the sink.
+     *
+     * @param output the File of the snapshot.
+     * @param name the String name of the graph.
+     * @param nodeCount the number of nodes.
+     * @param undirected true if every edge is undirected.
+     * @throws IOException if the temporary files could not be created.
+     */
+    public BinaryEdgeSink(File output, String name, int nodeCount,
+            boolean undirected) throws IOException {
+        this.output = output;
+        this.name = name;
+        this.nodeCount = nodeCount;
+        this.flags = undirected ? GraphSnapshot.FLAG_UNDIRECTED : 0;
+        this.rowPointers = new int[nodeCount + 1];
+
+        File directory = output.getAbsoluteFile().getParentFile();
+        this.destinationFile = Files.createTempFile(directory.toPath(), "dst", ".tmp");
+        this.weightFile = Files.createTempFile(directory.toPath(), "wgt", ".tmp");
+        this.destinations = new DataOutputStream(new BufferedOutputStream(
+                Files.newOutputStream(destinationFile), 1 << 16));
+        this.weights = new DataOutputStream(new BufferedOutputStream(
+                Files.newOutputStream(weightFile), 1 << 16));
+
+        long stringBytes = name.getBytes(StandardCharsets.UTF_8).length;
+        for (int node = 0; node < nodeCount; node++)
+            stringBytes += 1 + digits(node);
+        this.fixedLength = GraphSnapshot.HEADER_SIZE + 4L * (nodeCount + 1)
+                + 4L * (nodeCount + 2) + stringBytes;
+    }
+
+    /**
+     * {@inheritDoc }
+     *
+     * @throws IOException if the edge is out of order, or the snapshot would
+     * exceed 2 GB.
+     */
+    @Override
+    public void edge(int source, int destination, int weight) throws IOException {
+        if (source < lastSource)
+            throw new IOException("Edges must be ordered by source: N"
+                    + source + " after N" + lastSource);
+        if (fixedLength + 13L * (edgeCount + 1) > Integer.MAX_VALUE)
+            throw new IOException("Graph is too large for a snapshot: " + name);
+
+        lastSource = source;
+        rowPointers[source + 1]++;
+        destinations.writeInt(destination);
+        weights.writeInt(weight);
+        edgeCount++;
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public boolean isSourceOrdered() {
+        return true;
+    }
+
+    /**
+     * Assembles the snapshot from the row sizes and the spooled edges, then
+     * removes the temporary files.
+     *
+     * @throws IOException if the snapshot could not be written.
+     */
+    @Override
+    public void close() throws IOException {
+        destinations.close();
+        weights.close();
+        try {
+            assemble();
+        } finally {
+            Files.deleteIfExists(destinationFile);
+            Files.deleteIfExists(weightFile);
+        }
+    }
+
+    /**
+     * Writes the snapshot.
+     *
+     * @throws IOException if the snapshot could not be written.
+     */
+    private void assemble() throws IOException {
+        for (int node = 0; node < nodeCount; node++)
+            rowPointers[node + 1] += rowPointers[node];
+
+        try (FileChannel channel = FileChannel.open(output.toPath(),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            CRC32 crc = new CRC32();
+            channel.position(GraphSnapshot.HEADER_SIZE);
+            DataOutputStream out = new DataOutputStream(new CheckedOutputStream(
+                    new BufferedOutputStream(Channels.newOutputStream(channel),
+                    1 << 16), crc));
+
+            for (int pointer : rowPointers)
+                out.writeInt(pointer);
+            Files.copy(destinationFile, out);
+            Files.copy(weightFile, out);
+            // Edges were written row by row, so each sits in its own slot.
+            for (int edge = 0; edge < edgeCount; edge++)
+                out.writeInt(edge);
+
+            byte[] nameBytes = name.getBytes(StandardCharsets.UTF_8);
+            int offset = 0;
+            out.writeInt(offset);
+            out.writeInt(offset += nameBytes.length);
+            for (int node = 0; node < nodeCount; node++)
+                out.writeInt(offset += 1 + digits(node));
+            for (int edge = 0; edge < edgeCount; edge++)
+                out.write(flags);
+            out.write(nameBytes);
+            for (int node = 0; node < nodeCount; node++)
+                out.write(("N" + node).getBytes(StandardCharsets.US_ASCII));
+            out.flush();
+
+            // The header is written last, once the checksum is known.
+            ByteBuffer header = ByteBuffer.allocate(GraphSnapshot.HEADER_SIZE);
+            header.putInt(GraphSnapshot.MAGIC)
+                    .putInt(GraphSnapshot.VERSION)
+                    .putInt(nodeCount)
+                    .putInt(edgeCount)
+                    .putInt(0)
+                    .putInt((int) crc.getValue())
+                    .putLong(fixedLength + 13L * edgeCount);
+            header.flip();
+            while (header.hasRemaining())
+                channel.write(header, header.position());
+        }
+    }
+
+    /**
+     * Counts the decimal digits of a node number.
+     *
+     * @param node the non-negative node number.
+     * @return the number of digits.
+     */
+    private static int digits(int node) {
+        int digits = 1;
+        for (int value = node; value >= 10; value /= 10)
+            digits++;
+        return digits;
+    }
+}
@@ -0,0 +1,34 @@
+package edu.claflin.finder.bench.generate;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * Receives the edges of a generated graph as they are produced, so that the
+ * graph is never held in memory.  Nodes are numbered from 0 and written as
+ * "N" followed by their number.
+ *
+ * @version 1.0 October 19, 2026
+ */
+public interface EdgeSink extends Closeable {
+
+    /**
+     * Writes a single edge.
+     *
+     * @param source the number of the source node.
+     * @param destination the number of the destination node.
+     * @param weight the int weight of the edge.
+     * @throws IOException if the edge could not be written.
+     */
+    void edge(int source, int destination, int weight) throws IOException;
+
+    /**
+     * Tests if the sink needs the edges in order of their source node.
+     *
+     * @return true if the source of each edge must be no lower than that of
+     * the edge before it.
+     */
+    default boolean isSourceOrdered() {
+        return false;
+    }
+}
@@ -0,0 +1,69 @@
+package edu.claflin.finder.bench.generate;
+
+import java.io.IOException;
+
+/**
+ * The Erdos-Renyi model: each pair of nodes is joined with the same
+ * probability, chosen from the requested mean degree.  Rather than testing
+ * every pair, the gap to the next neighbor of a node is drawn from the
+ * geometric distribution, so producing the graph takes time proportional to
+ * its edges.
+ *
+ * @version 1.0 October 19, 2026
+ */
+public class ErdosRenyiModel extends GraphModel {
+
+    /**
+     * The probability of a pair being joined.
+     */
+    private final double probability;
+    /**
+     * The logarithm of the probability of a pair not being joined.
+     */
+    private final double logMiss;
+
+    /**
+     * Constructs the model.
+     *
+     * @param nodes the number of nodes.
+     * @param degree the mean degree of a node.
+     * @param weights the Weights of the edges.
+     * @param seed the long seed of the model.
+     */
+    public ErdosRenyiModel(int nodes, double degree, Weights weights, long seed) {
+        super(nodes, weights, seed);
+        this.probability = nodes < 2 ? 0D : Math.min(1D, Math.max(0D,
+                degree / (nodes - 1)));
+        this.logMiss = Math.log(1D - probability);
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void generate(EdgeSink sink) throws IOException {
+        for (int source = 0; source < nodes; source++) {
+            for (int destination = nextNeighbor(source); destination < nodes;
+                    destination = nextNeighbor(destination))
+                emit(sink, source, destination);
+        }
+    }
+
+    /**
+     * Draws the next higher numbered neighbor of a node.  Neighbors are
+     * drawn in increasing order by passing the previous one.
+     *
+     * @param previous the node itself, or the neighbor drawn before.
+     * @return the number of the next neighbor, or the node count if there
+     * are none left.
+     */
+    protected final int nextNeighbor(int previous) {
+        if (probability <= 0D)
+            return nodes;
+        if (probability >= 1D)
+            return previous + 1;
+
+        double gap = Math.floor(Math.log(1D - random.nextDouble()) / logMiss);
+        return (int) Math.min(nodes, previous + 1L + (long) Math.min(gap, nodes));
+    }
+}
@@ -0,0 +1,165 @@
+package edu.claflin.finder.bench.generate;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Locale;
+
+/**
+ * Writes a synthetic network for load and scaling tests.  The network is
+ * streamed to the file as it is drawn, so its size is limited by the disk
+ * rather than the heap.  For the planted models the ground truth is written
+ * beside it, to FILE.truth, for checking the recall of a search.
+ * <br>
+ * Usage: {@code java -cp target/benchmarks.jar edu.claflin.finder.bench.generate.GraphGenerator -out FILE [options]}
+ * <pre>
+ *   -model M         er, ba, cliques, bicliques or kpartite (default er)
+ *   -nodes N         the number of nodes (default 1000)
+ *   -degree D        the mean degree of the network or background (default 6)
+ *   -planted C       the number of structures planted (default 10)
+ *   -size S          the number of members of each structure (default 8)
+ *   -parts K         the sides of each k-partite structure (default 3)
+ *   -weights W       constant:W, uniform:LO:HI or powerlaw:ALPHA:MAX (default uniform:1:10)
+ *   -format F        simple, sif or binary (default simple)
+ *                    (SIF edges are always read as directed)
+ *   -directed        mark the edges of a binary snapshot as directed
+ *   -seed S          the seed of the network (default 1)
+ * </pre>
+ *
+ * @version 1.0 October 19, 2026
+ */
+public final class GraphGenerator {
+
+    /**
+     * Private constructor for preventing instantiation of the class.
+     */
+    private GraphGenerator() {}
+
+    /**
+     * Writes the network.
+     *
+     * @param args the command line.
+     * @throws IOException if the network could not be written.
+     */
+    public static void main(String[] args) throws IOException {
+        String model = "er";
+        int nodes = 1000;
+        double degree = 6D;
+        int planted = 10;
+        int size = 8;
+        int parts = 3;
+        Weights weights = Weights.parse("uniform:1:10");
+        String format = "simple";
+        boolean directed = false;
+        long seed = 1L;
+        File out = null;
+
+        for (int arg = 0; arg < args.length; arg++) {
+            if (args[arg].equals("-directed")) {
+                directed = true;
+                continue;
+            }
+            if (arg + 1 >= args.length)
+                throw new IllegalArgumentException("Missing value for " + args[arg]);
+            String value = args[++arg];
+            switch (args[arg - 1]) {
+                case "-model":
+                    model = value;
+                    break;
+                case "-nodes":
+                    nodes = Integer.parseInt(value);
+                    break;
+                case "-degree":
+                    degree = Double.parseDouble(value);
+                    break;
+                case "-planted":
+                    planted = Integer.parseInt(value);
+                    break;
+                case "-size":
+                    size = Integer.parseInt(value);
+                    break;
+                case "-parts":
+                    parts = Integer.parseInt(value);
+                    break;
+                case "-weights":
+                    weights = Weights.parse(value);
+                    break;
+                case "-format":
+                    format = value;
+                    break;
+                case "-seed":
+                    seed = Long.parseLong(value);
+                    break;
+                case "-out":
+                    out = new File(value);
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown option: " + args[arg - 1]);
+            }
+        }
+        if (out == null)
+            throw new IllegalArgumentException("An output file is required (-out).");
+
+        GraphModel graph;
+        switch (model) {
+            case "er":
+                graph = new ErdosRenyiModel(nodes, degree, weights, seed);
+                break;
+            case "ba":
+                graph = new BarabasiAlbertModel(nodes, degree, weights, seed);
+                break;
+            case "cliques":
+                graph = new PlantedModel(nodes, degree, weights, seed,
+                        PlantedModel.Kind.CLIQUE, planted, size, parts);
+                break;
+            case "bicliques":
+                graph = new PlantedModel(nodes, degree, weights, seed,
+                        PlantedModel.Kind.BICLIQUE, planted, size, parts);
+                break;
+            case "kpartite":
+                graph = new PlantedModel(nodes, degree, weights, seed,
+                        PlantedModel.Kind.KPARTITE, planted, size, parts);
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown model: " + model);
+        }
+
+        long start = System.nanoTime();
+        try (EdgeSink sink = open(format, out, nodes, !directed)) {
+            graph.generate(sink);
+        }
+        File truth = new File(out.getPath() + ".truth");
+        boolean wroteTruth = graph.writeTruth(truth);
+
+        System.err.println(String.format(Locale.ROOT,
+                "Wrote %d nodes and %d edges to %s in %.1f s.", nodes,
+                graph.getEdgeCount(), out.getAbsolutePath(),
+                (System.nanoTime() - start) / 1e9));
+        if (wroteTruth)
+            System.err.println("Wrote the planted structures to " + truth.getAbsolutePath());
+    }
+
+    /**
+     * Opens the sink for an output format.
+     *
+     * @param format the String name of the format.
+     * @param out the File to write.
+     * @param nodes the number of nodes.
+     * @param undirected true if the edges are undirected.
+     * @return the EdgeSink.
+     * @throws IOException if the file could not be opened.
+     */
+    private static EdgeSink open(String format, File out, int nodes,
+            boolean undirected) throws IOException {
+        switch (format) {
+            case "simple":
+                return new TextEdgeSink(out, false);
+            case "sif":
+                return new TextEdgeSink(out, true);
+            case "binary":
+                return new BinaryEdgeSink(out, out.getName().split("\\.")[0],
+                        nodes, undirected);
+            default:
+                throw new IllegalArgumentException("Unknown format: " + format);
+        }
+    }
+}
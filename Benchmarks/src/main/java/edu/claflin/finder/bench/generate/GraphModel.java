@@ -0,0 +1,99 @@
+package edu.claflin.finder.bench.generate;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Random;
+
+/**
+ * A random graph model.  Every model draws from a single seeded Random, so
+ * the same options always produce the same graph, and hands its edges to an
+ * {@link EdgeSink} as they are drawn.  Each undirected edge is produced once,
+ * and edges are produced in order of their source node.
+ *
+ * @version 1.0 October 19, 2026
+ */
+public abstract class GraphModel {
+
+    /**
+     * The number of nodes.
+     */
+    protected final int nodes;
+    /**
+     * The distribution of edge weights.
+     */
+    private final Weights weights;
+    /**
+     * The source of every random choice.
+     */
+    protected final Random random;
+    /**
+     * The number of edges produced.
+     */
+    private long edges = 0L;
+
+    /**
+     * Constructs the model.
+     *
+     * @param nodes the number of nodes.
+     * @param weights the Weights of the edges.
+     * @param seed the long seed of the model.
+     */
+    protected GraphModel(int nodes, Weights weights, long seed) {
+        if (nodes < 1)
+            throw new IllegalArgumentException("A graph needs at least one node.");
+        this.nodes = nodes;
+        this.weights = weights;
+        this.random = new Random(seed);
+    }
+
+    /**
+     * Produces the graph.
+     *
+     * @param sink the EdgeSink receiving the edges.
+     * @throws IOException if the sink could not write an edge.
+     */
+    public abstract void generate(EdgeSink sink) throws IOException;
+
+    /**
+     * Records the structure planted in the graph, if any, so that a search
+     * can be checked for finding it.
+     *
+     * @param truth the File to write.
+     * @return true if the model planted structure and it was written.
+     * @throws IOException if the file could not be written.
+     */
+    public boolean writeTruth(File truth) throws IOException {
+        return false;
+    }
+
+    /**
+     * Gets the number of nodes.
+     *
+     * @return the number of nodes.
+     */
+    public int getNodeCount() {
+        return nodes;
+    }
+    /**
+     * Gets the number of edges produced so far.
+     *
+     * @return the number of edges.
+     */
+    public long getEdgeCount() {
+        return edges;
+    }
+
+    /**
+     * Hands an edge with a newly drawn weight to the sink.
+     *
+     * @param sink the EdgeSink receiving the edge.
+     * @param source the number of the source node.
+     * @param destination the number of the destination node.
+     * @throws IOException if the sink could not write the edge.
+     */
+    protected final void emit(EdgeSink sink, int source, int destination)
+            throws IOException {
+        sink.edge(source, destination, weights.next(random));
+        edges++;
+    }
+}
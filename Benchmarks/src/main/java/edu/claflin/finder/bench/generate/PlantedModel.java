@@ -0,0 +1,196 @@
+package edu.claflin.finder.bench.generate;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.HashMap;
+
+/**
+ * An Erdos-Renyi background with structures planted on disjoint sets of
+ * randomly chosen nodes:
+ * <ul>
+ * <li>{@link Kind#CLIQUE} - every member joined to every other.</li>
+ * <li>{@link Kind#BICLIQUE} - the members split into two sides, every member
+ * joined to every member of the other side and to none of its own.</li>
+ * <li>{@link Kind#KPARTITE} - the same with k sides.</li>
+ * </ul>
+ * Background edges between members of the same structure are left out, so
+ * the subgraph on each set of members is exactly the structure planted.
+ * Only the members are held in memory.
+ * <br>
+ * The ground truth is written one structure per line: the kind, a tab and
+ * the member names, with the sides of bipartite and k-partite structures
+ * separated by " | ".
+ *
+ * @version 1.0 October 19, 2026
+ */
+public class PlantedModel extends ErdosRenyiModel {
+
+    /**
+     * The structures that can be planted.
+     */
+    public enum Kind {
+        /**
+         * A complete graph.
+         */
+        CLIQUE,
+        /**
+         * A complete bipartite graph.
+         */
+        BICLIQUE,
+        /**
+         * A complete k-partite graph.
+         */
+        KPARTITE
+    }
+
+    /**
+     * The structure planted.
+     */
+    private final Kind kind;
+    /**
+     * The sides of each structure.
+     */
+    private final int parts;
+    /**
+     * The members of each structure, in increasing order.
+     */
+    private final int[][] members;
+    /**
+     * The structure and side of each member, packed as structure * parts +
+     * side.
+     */
+    private final HashMap<Integer, Integer> membership = new HashMap<>();
+
+    /**
+     * Constructs the model and chooses the members of each structure.
+     *
+     * @param nodes the number of nodes.
+     * @param degree the mean degree of the background.
+     * @param weights the Weights of the edges.
+     * @param seed the long seed of the model.
+     * @param kind the Kind of structure planted.
+     * @param count the number of structures planted.
+     * @param size the number of members of each structure.
+     * @param parts the number of sides of a k-partite structure.
+     */
+    public PlantedModel(int nodes, double degree, Weights weights, long seed,
+            Kind kind, int count, int size, int parts) {
+        super(nodes, degree, weights, seed);
+        this.kind = kind;
+        this.parts = kind == Kind.CLIQUE ? size : kind == Kind.BICLIQUE ? 2 : parts;
+        if (size < this.parts || this.parts < 2)
+            throw new IllegalArgumentException("A structure needs at least two "
+                    + "sides and a member on each.");
+        if ((long) count * size > nodes)
+            throw new IllegalArgumentException("Too few nodes to plant " + count
+                    + " structures of " + size);
+
+        members = new int[count][];
+        for (int structure = 0; structure < count; structure++) {
+            int[] chosen = new int[size];
+            for (int member = 0; member < size; member++) {
+                int node;
+                do {
+                    node = random.nextInt(nodes);
+                } while (membership.containsKey(node));
+                membership.put(node, structure * this.parts + member % this.parts);
+                chosen[member] = node;
+            }
+            Arrays.sort(chosen);
+            members[structure] = chosen;
+        }
+    }
+
+    /**
+     * {@inheritDoc } The planted edges of each node are merged with its
+     * background edges so the output stays ordered by source.
+     */
+    @Override
+    public void generate(EdgeSink sink) throws IOException {
+        for (int source = 0; source < nodes; source++) {
+            Integer packed = membership.get(source);
+            int structure = packed == null ? -1 : packed / parts;
+            int[] planted = packed == null ? new int[0] : members[structure];
+            int next = packed == null ? 0 : firstAbove(planted, source);
+
+            int background = nextNeighbor(source);
+            while (background < nodes || next < planted.length) {
+                if (background < nodes && sameStructure(background, structure)) {
+                    background = nextNeighbor(background);
+                    continue;
+                }
+                if (next < planted.length && membership.get(planted[next]).equals(packed)) {
+                    next++;
+                    continue;
+                }
+
+                if (next < planted.length && (background >= nodes
+                        || planted[next] < background)) {
+                    emit(sink, source, planted[next++]);
+                } else {
+                    emit(sink, source, background);
+                    background = nextNeighbor(background);
+                }
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public boolean writeTruth(File truth) throws IOException {
+        try (Writer writer = Files.newBufferedWriter(truth.toPath(),
+                StandardCharsets.UTF_8)) {
+            for (int[] structure : members) {
+                writer.write(kind.name());
+                writer.write('\t');
+                int sides = kind == Kind.CLIQUE ? 1 : parts;
+                for (int side = 0; side < sides; side++) {
+                    if (side > 0)
+                        writer.write(" | ");
+                    boolean first = true;
+                    for (int member : structure) {
+                        if (sides > 1 && membership.get(member) % parts != side)
+                            continue;
+                        if (!first)
+                            writer.write(' ');
+                        writer.write("N" + member);
+                        first = false;
+                    }
+                }
+                writer.write('\n');
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Tests if a node is a member of a structure.
+     *
+     * @param node the number of the node.
+     * @param structure the index of the structure, or -1 for none.
+     * @return true if the node is a member of the structure.
+     */
+    private boolean sameStructure(int node, int structure) {
+        if (structure < 0)
+            return false;
+        Integer packed = membership.get(node);
+        return packed != null && packed / parts == structure;
+    }
+    /**
+     * Finds the first member numbered above a node.
+     *
+     * @param sorted the int array of members in increasing order.
+     * @param node the number of the node.
+     * @return the index of the first member above the node.
+     */
+    private static int firstAbove(int[] sorted, int node) {
+        int index = Arrays.binarySearch(sorted, node);
+        return index >= 0 ? index + 1 : -index - 1;
+    }
+}
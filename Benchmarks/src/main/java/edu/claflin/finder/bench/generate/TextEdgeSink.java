@@ -0,0 +1,72 @@
+package edu.claflin.finder.bench.generate;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+/**
+ * Writes edges one per line in the formats read by
+ * {@link edu.claflin.finder.io.graph.SimpleGraphIO} ("source TAB destination
+ * TAB weight") and {@link edu.claflin.finder.io.graph.SIFGraphIO} ("source
+ * weight destination").
+ *
+ * @version 1.0 October 19, 2026
+ */
+public final class TextEdgeSink implements EdgeSink {
+
+    /**
+     * The output.
+     */
+    private final Writer writer;
+    /**
+     * True if writing SIF rather than simple tab delimited lines.
+     */
+    private final boolean sif;
+
+    /**
+     * Opens the sink.
+     *
+     * @param output the File to write.
+     * @param sif true to write SIF, false for tab delimited lines.
+     * @throws IOException if the file could not be opened.
+     */
+    public TextEdgeSink(File output, boolean sif) throws IOException {
+        this.writer = new BufferedWriter(new OutputStreamWriter(
+                Files.newOutputStream(output.toPath()), StandardCharsets.UTF_8),
+                1 << 16);
+        this.sif = sif;
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void edge(int source, int destination, int weight) throws IOException {
+        writer.write('N');
+        writer.write(Integer.toString(source));
+        if (sif) {
+            writer.write(' ');
+            writer.write(Integer.toString(weight));
+            writer.write(" N");
+            writer.write(Integer.toString(destination));
+        } else {
+            writer.write("\tN");
+            writer.write(Integer.toString(destination));
+            writer.write('\t');
+            writer.write(Integer.toString(weight));
+        }
+        writer.write('\n');
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void close() throws IOException {
+        writer.close();
+    }
+}
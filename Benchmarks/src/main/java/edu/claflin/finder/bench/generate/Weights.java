@@ -0,0 +1,104 @@
+package edu.claflin.finder.bench.generate;
+
+import java.util.Random;
+
+/**
+ * A distribution of integer edge weights, named on the command line as one
+ * of:
+ * <ul>
+ * <li>{@code constant:W} - every edge weighs W.</li>
+ * <li>{@code uniform:LO:HI} - weights drawn evenly from LO to HI.</li>
+ * <li>{@code powerlaw:ALPHA:MAX} - weights from 1 to MAX with the
+ * probability of a weight w falling off as w to the power of -ALPHA, so most
+ * edges are light and a few are heavy.</li>
+ * </ul>
+ *
+ * @version 1.0 October 19, 2026
+ */
+public final class Weights {
+
+    /**
+     * The smallest weight, or the exponent of a power law.
+     */
+    private final double low;
+    /**
+     * The largest weight.
+     */
+    private final int high;
+    /**
+     * True if the weights follow a power law.
+     */
+    private final boolean powerLaw;
+
+    /**
+     * Constructs a distribution.
+     *
+     * @param low the smallest weight, or the exponent of a power law.
+     * @param high the largest weight.
+     * @param powerLaw true if the weights follow a power law.
+     */
+    private Weights(double low, int high, boolean powerLaw) {
+        this.low = low;
+        this.high = high;
+        this.powerLaw = powerLaw;
+    }
+
+    /**
+     * Parses a distribution.
+     *
+     * @param spec the String naming the distribution.
+     * @return the Weights.
+     * @throws IllegalArgumentException if the distribution is not recognised.
+     */
+    public static Weights parse(String spec) {
+        String[] fields = spec.split(":");
+        try {
+            switch (fields[0]) {
+                case "constant":
+                    if (fields.length == 2) {
+                        int weight = Integer.parseInt(fields[1]);
+                        return new Weights(weight, weight, false);
+                    }
+                    break;
+                case "uniform":
+                    if (fields.length == 3) {
+                        int low = Integer.parseInt(fields[1]);
+                        int high = Integer.parseInt(fields[2]);
+                        if (low <= high)
+                            return new Weights(low, high, false);
+                    }
+                    break;
+                case "powerlaw":
+                    if (fields.length == 3) {
+                        double alpha = Double.parseDouble(fields[1]);
+                        int max = Integer.parseInt(fields[2]);
+                        if (alpha > 1D && max >= 1)
+                            return new Weights(alpha, max, true);
+                    }
+                    break;
+                default:
+                    break;
+            }
+        } catch (NumberFormatException nfe) {
+            // Reported below.
+        }
+        throw new IllegalArgumentException("Unknown weight distribution: " + spec);
+    }
+
+    /**
+     * Draws a weight.
+     *
+     * @param random the Random to draw from.
+     * @return the int weight.
+     */
+    public int next(Random random) {
+        if (powerLaw) {
+            // Inverse transform of a continuous Pareto, floored and capped.
+            double u = 1D - random.nextDouble();
+            double weight = Math.floor(Math.pow(u, -1D / (low - 1D)));
+            return (int) Math.min(high, weight);
+        }
+        int base = (int) low;
+        return base == high ? base : base + random.nextInt(high - base + 1);
+    }
+}
@@ -21,13 +21,19 @@
  */
 package edu.claflin.cyfinder.internal;
 
+import edu.claflin.cyfinder.internal.logic.GraphCache;
+import edu.claflin.cyfinder.internal.tasks.factories.BatchSubgraphFinderTaskFactory;
 import edu.claflin.cyfinder.internal.tasks.factories.MakeUndirectedTaskFactory;
 import edu.claflin.cyfinder.internal.tasks.factories.SubgraphFinderTaskFactory;
 import java.util.Properties;
 import org.cytoscape.application.swing.CySwingApplication;
+import org.cytoscape.event.CyEventHelper;
 import org.cytoscape.model.CyNetworkManager;
+import org.cytoscape.model.CyTableFactory;
+import org.cytoscape.model.CyTableManager;
 import org.cytoscape.model.subnetwork.CyRootNetworkManager;
 import org.cytoscape.service.util.AbstractCyActivator;
+import org.cytoscape.task.NetworkCollectionTaskFactory;
 import org.cytoscape.task.NetworkTaskFactory;
 import static org.cytoscape.work.ServiceProperties.ENABLE_FOR;
 import static org.cytoscape.work.ServiceProperties.PREFERRED_MENU;
@@ -39,7 +45,7 @@ import org.osgi.framework.BundleContext;
  * Activates the plugin in Cytoscape.
  *
  * @author Charles Allen Schultz II
- * @version 1.4.1 June 19, 2015
+ * @version 1.6 October 19, 2026
  */
 public class CyFinderActivator extends AbstractCyActivator {
 
@@ -55,6 +61,13 @@ public class CyFinderActivator extends AbstractCyActivator {
         Global.taskManagerService = getService(context, TaskManager.class);
         Global.rootNetworkService = getService(context, CyRootNetworkManager.class);
         Global.networkManagerService = getService(context, CyNetworkManager.class);
+        Global.tableFactoryService = getService(context, CyTableFactory.class);
+        Global.tableManagerService = getService(context, CyTableManager.class);
+        Global.eventHelperService = getService(context, CyEventHelper.class);
+        
+        // Converted networks, dropped by Cytoscape's model events
+        Global.graphCache = new GraphCache();
+        registerAllServices(context, Global.graphCache, new Properties());
         
         // Subgraph Finder Service
         Properties finderProps = new Properties();
@@ -68,6 +81,18 @@ public class CyFinderActivator extends AbstractCyActivator {
         registerService(context, sfTaskFactory, NetworkTaskFactory.class, 
                 finderProps);
         
+        // Subgraph Finder Service - Selected Networks
+        Properties batchProps = new Properties();
+        batchProps.put(TITLE, "Subgraph Finder (Selected Networks)");
+        batchProps.put(PREFERRED_MENU, "Apps.CyFinder");
+        batchProps.put(ENABLE_FOR, "networks");
+        
+        BatchSubgraphFinderTaskFactory bsfTaskFactory = 
+                new BatchSubgraphFinderTaskFactory();
+        
+        registerService(context, bsfTaskFactory, 
+                NetworkCollectionTaskFactory.class, batchProps);
+        
         // Make Undirected Service - Additive
         Properties undirectedPropsAdditive = new Properties();
         undirectedPropsAdditive.put(TITLE, "Additive Method");
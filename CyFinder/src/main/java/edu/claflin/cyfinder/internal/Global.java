@@ -21,8 +21,12 @@
  */
 package edu.claflin.cyfinder.internal;
 
+import edu.claflin.cyfinder.internal.logic.GraphCache;
 import org.cytoscape.application.swing.CySwingApplication;
+import org.cytoscape.event.CyEventHelper;
 import org.cytoscape.model.CyNetworkManager;
+import org.cytoscape.model.CyTableFactory;
+import org.cytoscape.model.CyTableManager;
 import org.cytoscape.model.subnetwork.CyRootNetworkManager;
 import org.cytoscape.work.TaskManager;
 
@@ -30,7 +34,7 @@ import org.cytoscape.work.TaskManager;
  * Contains Global Constants.
  * 
  * @author Charles Allen Schultz II
- * @version 1.1 June 17, 2015
+ * @version 1.2 October 19, 2026
  */
 public class Global {
     
@@ -54,6 +58,26 @@ public class Global {
      * classes.  Used to access the CyNewtorkManager service.
      */
     static CyNetworkManager networkManagerService = null;
+    /**
+     * Package member used for accessing cytoscape functionality in other 
+     * classes.  Used to access the CyTableFactory service.
+     */
+    static CyTableFactory tableFactoryService = null;
+    /**
+     * Package member used for accessing cytoscape functionality in other 
+     * classes.  Used to access the CyTableManager service.
+     */
+    static CyTableManager tableManagerService = null;
+    /**
+     * Package member used for accessing cytoscape functionality in other 
+     * classes.  Used to access the CyEventHelper service.
+     */
+    static CyEventHelper eventHelperService = null;
+    /**
+     * Package member used for accessing the finder Graphs converted from 
+     * networks in other classes.
+     */
+    static GraphCache graphCache = null;
     
     /**
      * Gets the Cytoscape Desktop Service.
@@ -90,4 +114,40 @@ public class Global {
     public static CyNetworkManager getNetworkManagerService() {
         return networkManagerService;
     }
+    
+    /**
+     * Gets the Cytoscape TableFactory service.
+     * 
+     * @return the CyTableFactory object of the current cytoscape instance.
+     */
+    public static CyTableFactory getTableFactoryService() {
+        return tableFactoryService;
+    }
+    
+    /**
+     * Gets the Cytoscape TableManager service.
+     * 
+     * @return the CyTableManager object of the current cytoscape instance.
+     */
+    public static CyTableManager getTableManagerService() {
+        return tableManagerService;
+    }
+    
+    /**
+     * Gets the Cytoscape EventHelper service.
+     * 
+     * @return the CyEventHelper object of the current cytoscape instance.
+     */
+    public static CyEventHelper getEventHelperService() {
+        return eventHelperService;
+    }
+    
+    /**
+     * Gets the cache of finder Graphs converted from networks.
+     * 
+     * @return the GraphCache object of the current cytoscape instance.
+     */
+    public static GraphCache getGraphCache() {
+        return graphCache;
+    }
 }
@@ -28,6 +28,7 @@ import java.io.File;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
+import java.util.function.Supplier;
 import org.cytoscape.model.CyColumn;
 
 /**
@@ -37,7 +38,7 @@ import org.cytoscape.model.CyColumn;
  * necessary.
  * 
  * @author Charles Allen Schultz II
- * @version 1.2 June 17, 2015
+ * @version 1.3 October 19, 2026
  */
 public class ConfigurationBundle {
     
@@ -49,6 +50,11 @@ public class ConfigurationBundle {
      * The search method.
      */
     private Algorithm algo;
+    /**
+     * Creates a new instance of the search method, or null if the search 
+     * method can not be re-created.
+     */
+    private Supplier<Algorithm> algoFactory = null;
     /**
      * Boolean indicating if the search should preserve back edges.
      */
@@ -70,16 +76,45 @@ public class ConfigurationBundle {
      * annotations on the source graph.
      */
     private boolean inPlace = false;
+    /**
+     * Boolean indicating that in place annotations should be written as one 
+     * list column of subgraph ids per table instead of a column per subgraph.
+     */
+    private boolean membershipList = false;
+    /**
+     * Boolean indicating that in place annotations should also be summarized 
+     * in a table with a row per subgraph.
+     */
+    private boolean resultsTable = false;
     /**
      * Boolean indicating that a child graph should be created for each found 
      * subgraph.
      */
     private boolean newChild = false;
+    /**
+     * Boolean indicating that only the first child networks should be 
+     * created, and the rest of the found subgraphs offered in a browser.
+     */
+    private boolean browseResults = false;
+    /**
+     * The number of child networks created right away when browsing results.
+     */
+    private int childLimit = 10;
     /**
      * Boolean indicating that the found subgraph should be saved to file.  
      * Currently uses the simple output built into the finder utility.
      */
     private boolean saveToFile = false;
+    /**
+     * Boolean indicating that the found subgraphs should be saved to a single 
+     * result archive instead of one file per subgraph.
+     */
+    private boolean archive = false;
+    /**
+     * Boolean indicating that flight recorder events should be emitted 
+     * during the search.
+     */
+    private boolean flightRecording = false;
     
     /**
      * The File object indicating in what directory to save found subgraphs.
@@ -122,6 +157,43 @@ public class ConfigurationBundle {
     public Algorithm getAlgo() {
         return algo;
     }
+    /**
+     * Sets the factory creating new instances of the search algorithm.
+     * @param algoFactory the Supplier of Algorithm objects configured like 
+     * the search algorithm.
+     */
+    public void setAlgoFactory(Supplier<Algorithm> algoFactory) {
+        this.algoFactory = algoFactory;
+    }
+    /**
+     * Copies the configuration for a search of another network.  The copy 
+     * has a new instance of the search algorithm, so that searches may run 
+     * at the same time.
+     * @return the ConfigurationBundle copy.
+     * @throws IllegalStateException if no algorithm factory was set.
+     */
+    public ConfigurationBundle forNewSearch() {
+        if (algoFactory == null)
+            throw new IllegalStateException(
+                    "The search algorithm can not be re-created!");
+        ConfigurationBundle copy = new ConfigurationBundle();
+        copy.algo = algoFactory.get();
+        copy.algoFactory = algoFactory;
+        copy.preservative = preservative;
+        copy.ordering = ordering;
+        copy.orderingColumn = orderingColumn;
+        copy.inPlace = inPlace;
+        copy.membershipList = membershipList;
+        copy.resultsTable = resultsTable;
+        copy.newChild = newChild;
+        copy.browseResults = browseResults;
+        copy.childLimit = childLimit;
+        copy.saveToFile = saveToFile;
+        copy.archive = archive;
+        copy.flightRecording = flightRecording;
+        copy.saveDirectory = saveDirectory;
+        return copy;
+    }
 
 //    /**
 //     * Sets the preservative boolean.
@@ -186,6 +258,40 @@ public class ConfigurationBundle {
     public boolean isInPlace() {
         return inPlace;
     }
+    
+    /**
+     * Sets the membershipList boolean.
+     * @param membershipList the boolean indicating if in place annotations 
+     * should be written as a single list column per table.
+     */
+    public void setMembershipList(boolean membershipList) {
+        this.membershipList = membershipList;
+    }
+    /**
+     * Gets the membershipList boolean.
+     * @return the boolean indicating if in place annotations should be 
+     * written as a single list column per table.
+     */
+    public boolean isMembershipList() {
+        return membershipList;
+    }
+    
+    /**
+     * Sets the resultsTable boolean.
+     * @param resultsTable the boolean indicating if in place annotations 
+     * should be summarized in a table of subgraphs.
+     */
+    public void setResultsTable(boolean resultsTable) {
+        this.resultsTable = resultsTable;
+    }
+    /**
+     * Gets the resultsTable boolean.
+     * @return the boolean indicating if in place annotations should be 
+     * summarized in a table of subgraphs.
+     */
+    public boolean isResultsTable() {
+        return resultsTable;
+    }
 
     /**
      * Sets the newChild boolean.
@@ -203,6 +309,40 @@ public class ConfigurationBundle {
     public boolean isNewChild() {
         return newChild;
     }
+    
+    /**
+     * Sets the browseResults boolean.
+     * @param browseResults the boolean indicating if only the first child 
+     * networks should be created and the found subgraphs browsed.
+     */
+    public void setBrowseResults(boolean browseResults) {
+        this.browseResults = browseResults;
+    }
+    /**
+     * Gets the browseResults boolean.
+     * @return the boolean indicating if only the first child networks should 
+     * be created and the found subgraphs browsed.
+     */
+    public boolean isBrowseResults() {
+        return browseResults;
+    }
+    
+    /**
+     * Sets the number of child networks created right away when browsing 
+     * results.
+     * @param childLimit the int number of child networks, at least 0.
+     */
+    public void setChildLimit(int childLimit) {
+        this.childLimit = Math.max(0, childLimit);
+    }
+    /**
+     * Gets the number of child networks created right away when browsing 
+     * results.
+     * @return the int number of child networks.
+     */
+    public int getChildLimit() {
+        return childLimit;
+    }
 
     /**
      * Sets the saveToFile boolean.
@@ -221,6 +361,40 @@ public class ConfigurationBundle {
         return saveToFile;
     }
     
+    /**
+     * Sets the archive boolean.
+     * @param archive the boolean indicating if found subgraphs should be 
+     * saved to a single result archive.
+     */
+    public void setArchive(boolean archive) {
+        this.archive = archive;
+    }
+    /**
+     * Gets the archive boolean.
+     * @return the boolean indicating if found subgraphs should be saved to a 
+     * single result archive.
+     */
+    public boolean isArchive() {
+        return archive;
+    }
+    
+    /**
+     * Sets the flightRecording boolean.
+     * @param flightRecording the boolean indicating if flight recorder events 
+     * should be emitted during the search.
+     */
+    public void setFlightRecording(boolean flightRecording) {
+        this.flightRecording = flightRecording;
+    }
+    /**
+     * Gets the flightRecording boolean.
+     * @return the boolean indicating if flight recorder events should be 
+     * emitted during the search.
+     */
+    public boolean isFlightRecording() {
+        return flightRecording;
+    }
+    
     /**
      * Sets the save directory for saving subgraphs to file.
      * @param file the File object indicating the directory to save to.
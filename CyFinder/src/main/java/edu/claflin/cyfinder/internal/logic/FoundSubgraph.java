@@ -0,0 +1,135 @@
+/* 
+ * Copyright 2015 Charles Allen Schultz II.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package edu.claflin.cyfinder.internal.logic;
+
+import edu.claflin.finder.logic.Edge;
+import edu.claflin.finder.logic.Graph;
+import edu.claflin.finder.logic.Node;
+import edu.claflin.finder.logic.cygrouper.CygrouperNode;
+import java.util.LinkedHashSet;
+import java.util.Map;
+
+/**
+ * Represents a found subgraph by the SUIDs of its CyNodes and CyEdges, so 
+ * that a large set of results can be kept and browsed without creating a 
+ * child network for each.  The edges are held once per CyEdge, even if the 
+ * conversion turned an undirected CyEdge into two finder edges.  The group 
+ * and partition number of each node are held alongside its SUID, so neither 
+ * the found Graph nor the search result need be kept.
+ * 
+ * @version 1.2 October 19, 2026
+ */
+public class FoundSubgraph {
+    
+    /**
+     * The name of the subgraph, used for its child network.
+     */
+    private final String name;
+    /**
+     * The SUIDs of the nodes in the order they were found.
+     */
+    private final long[] nodes;
+    /**
+     * The SUIDs of the edges in the order they were found.
+     */
+    private final long[] edges;
+    /**
+     * The group of each node, or null if no groups were assigned.
+     */
+    private final String[] groups;
+    /**
+     * The partition number of each node, or null if no groups were assigned.
+     */
+    private final int[] partitions;
+    
+    /**
+     * Constructs the FoundSubgraph from a subgraph of a converted network.
+     * @param name the String name of the subgraph.
+     * @param graph the Graph holding CyNodeAdapters and CyEdgeAdapters.
+     * @param groups the Map from node names to the groups assigned to them, 
+     * or null if none were assigned.
+     */
+    public FoundSubgraph(String name, Graph graph, 
+            Map<String, CygrouperNode> groups) {
+        this.name = name;
+        
+        nodes = new long[graph.getNodeCount()];
+        this.groups = groups == null ? null : new String[nodes.length];
+        this.partitions = groups == null ? null : new int[nodes.length];
+        int index = 0;
+        for (Node node : graph.getNodeList()) {
+            if (groups != null) {
+                CygrouperNode grouped = groups.get(node.getIdentifier());
+                this.groups[index] = grouped == null ? null : grouped.group;
+                this.partitions[index] = grouped == null ? 0 : 
+                        grouped.kPartiteGroupNumber;
+            }
+            nodes[index++] = ((CyNodeAdapter) node).getCyNode().getSUID();
+        }
+        
+        LinkedHashSet<Long> edgeSet = new LinkedHashSet<>();
+        for (Edge edge : graph.getEdgeList())
+            edgeSet.add(((CyEdgeAdapter) edge).getCyEdge().getSUID());
+        edges = new long[edgeSet.size()];
+        index = 0;
+        for (Long edge : edgeSet)
+            edges[index++] = edge;
+    }
+    
+    /**
+     * Gets the name of the subgraph.
+     * @return the String name.
+     */
+    public String getName() {
+        return name;
+    }
+    /**
+     * Gets the SUIDs of the nodes.
+     * @return the long[] holding the node SUIDs.
+     */
+    public long[] getNodes() {
+        return nodes;
+    }
+    /**
+     * Gets the SUIDs of the edges.
+     * @return the long[] holding the edge SUIDs.
+     */
+    public long[] getEdges() {
+        return edges;
+    }
+    /**
+     * Gets the group assigned to a node.
+     * @param index the index of the node in {@link #getNodes()}.
+     * @return the String group, or null if none was assigned.
+     */
+    public String getGroup(int index) {
+        return groups == null ? null : groups[index];
+    }
+    /**
+     * Gets the partition number assigned to a node.
+     * @param index the index of the node in {@link #getNodes()}.
+     * @return the partition number, or 0 if none was assigned.
+     */
+    public int getPartition(int index) {
+        return partitions == null ? 0 : partitions[index];
+    }
+}
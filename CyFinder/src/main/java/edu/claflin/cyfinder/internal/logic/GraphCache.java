@@ -0,0 +1,402 @@
+/* 
+ * Copyright 2015 Charles Allen Schultz II.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package edu.claflin.cyfinder.internal.logic;
+
+import edu.claflin.finder.logic.Graph;
+import java.lang.ref.SoftReference;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.cytoscape.model.CyNetwork;
+import org.cytoscape.model.CyTable;
+import org.cytoscape.model.events.AddedEdgesEvent;
+import org.cytoscape.model.events.AddedEdgesListener;
+import org.cytoscape.model.events.AddedNodesEvent;
+import org.cytoscape.model.events.AddedNodesListener;
+import org.cytoscape.model.events.ColumnCreatedEvent;
+import org.cytoscape.model.events.ColumnCreatedListener;
+import org.cytoscape.model.events.ColumnDeletedEvent;
+import org.cytoscape.model.events.ColumnDeletedListener;
+import org.cytoscape.model.events.ColumnNameChangedEvent;
+import org.cytoscape.model.events.ColumnNameChangedListener;
+import org.cytoscape.model.events.NetworkAboutToBeDestroyedEvent;
+import org.cytoscape.model.events.NetworkAboutToBeDestroyedListener;
+import org.cytoscape.model.events.RemovedEdgesEvent;
+import org.cytoscape.model.events.RemovedEdgesListener;
+import org.cytoscape.model.events.RemovedNodesEvent;
+import org.cytoscape.model.events.RemovedNodesListener;
+import org.cytoscape.model.events.RowSetRecord;
+import org.cytoscape.model.events.RowsSetEvent;
+import org.cytoscape.model.events.RowsSetListener;
+
+/**
+ * Keeps the finder Graph converted from each CyNetwork, so that running the 
+ * Subgraph Finder again on the same network, with other algorithm or 
+ * condition settings, skips the conversion.  Graphs are keyed by the SUID of 
+ * the network and the column the edge data was read from.
+ * <br>
+ * The cache listens to Cytoscape's network and table events and drops the 
+ * graphs of a network as soon as a node or edge is added or removed, or a 
+ * column the conversion read is set, created, deleted or renamed.  Columns 
+ * the conversion did not read, such as those added by an in place search, 
+ * leave the graphs cached.  Graphs are evicted least recently used 
+ * first once their estimated size passes a share of the maximum heap, and 
+ * are softly referenced so that the garbage collector may reclaim them 
+ * before memory runs out.
+ * <br>
+ * Each network also has a generation, which the same events advance.  A 
+ * conversion reads the generation before it starts and hands it back with 
+ * the graph, and the graph is not cached if the network changed meanwhile.
+ * 
+ * @version 1.1 October 19, 2026
+ */
+public class GraphCache implements AddedNodesListener, AddedEdgesListener, 
+        RemovedNodesListener, RemovedEdgesListener, RowsSetListener, 
+        ColumnCreatedListener, ColumnDeletedListener, 
+        ColumnNameChangedListener, NetworkAboutToBeDestroyedListener {
+    
+    /**
+     * The approximate number of bytes held for each node of a graph.
+     */
+    private static final long NODE_BYTES = 96L;
+    /**
+     * The approximate number of bytes held for each edge of a graph.
+     */
+    private static final long EDGE_BYTES = 80L;
+    /**
+     * The name of the node column read for node names.
+     */
+    private static final String NAME_COLUMN = "shared name";
+    /**
+     * The name of the edge column read for edge data by default.
+     */
+    private static final String WEIGHT_COLUMN = "weight";
+    
+    /**
+     * Represents a cached graph and the tables it was read from.
+     */
+    private static class Entry {
+        /**
+         * The SUID of the network.
+         */
+        private final long network;
+        /**
+         * The default node table of the network.
+         */
+        private final CyTable nodeTable;
+        /**
+         * The default edge table of the network.
+         */
+        private final CyTable edgeTable;
+        /**
+         * The name of the edge column the edge data was read from.
+         */
+        private final String column;
+        /**
+         * The converted graph, until it is reclaimed.
+         */
+        private final SoftReference<Graph> graph;
+        /**
+         * The estimated size of the graph in bytes.
+         */
+        private final long bytes;
+        
+        /**
+         * Constructs the Entry.
+         * @param network the CyNetwork the graph was converted from.
+         * @param column the String name of the edge data column.
+         * @param graph the converted Graph.
+         */
+        private Entry(CyNetwork network, String column, Graph graph) {
+            this.network = network.getSUID();
+            this.nodeTable = network.getDefaultNodeTable();
+            this.edgeTable = network.getDefaultEdgeTable();
+            this.column = column;
+            this.graph = new SoftReference<>(graph);
+            this.bytes = graph.getNodeCount() * NODE_BYTES + 
+                    graph.getEdgeCount() * EDGE_BYTES;
+        }
+        
+        /**
+         * Tests if a change to a column of a table affects the graph.
+         * @param table the CyTable that changed.
+         * @param name the String name of the changed column.
+         * @return true if the graph is out of date.
+         */
+        private boolean isAffectedBy(CyTable table, String name) {
+            if (table == nodeTable)
+                return NAME_COLUMN.equals(name);
+            if (table == edgeTable)
+                return column.equals(name);
+            return false;
+        }
+    }
+    
+    /**
+     * Represents the generation of a network being converted.
+     */
+    private static class Generation {
+        /**
+         * The default node table of the network.
+         */
+        private final CyTable nodeTable;
+        /**
+         * The default edge table of the network.
+         */
+        private final CyTable edgeTable;
+        /**
+         * The number of changes seen to the network.
+         */
+        private long count = 0L;
+        
+        /**
+         * Constructs the Generation.
+         * @param network the CyNetwork.
+         */
+        private Generation(CyNetwork network) {
+            this.nodeTable = network.getDefaultNodeTable();
+            this.edgeTable = network.getDefaultEdgeTable();
+        }
+        
+        /**
+         * Tests if a change to a column of a table may affect a conversion.  
+         * Any edge column counts, as the column a conversion reads is not 
+         * known here.
+         * @param table the CyTable that changed.
+         * @param name the String name of the changed column.
+         * @return true if the network changed.
+         */
+        private boolean isAffectedBy(CyTable table, String name) {
+            if (table == nodeTable)
+                return NAME_COLUMN.equals(name);
+            return table == edgeTable;
+        }
+    }
+    
+    /**
+     * The generations of the networks by SUID.
+     */
+    private final HashMap<Long, Generation> generations = new HashMap<>();
+    /**
+     * The cached graphs by key, least recently used first.
+     */
+    private final LinkedHashMap<String, Entry> entries = 
+            new LinkedHashMap<>(16, 0.75F, true);
+    /**
+     * The estimated size of all cached graphs in bytes.
+     */
+    private long bytes = 0L;
+    /**
+     * The estimated size the cached graphs may reach in bytes.
+     */
+    private final long budget;
+    
+    /**
+     * Constructs a GraphCache allowed a quarter of the maximum heap.
+     */
+    public GraphCache() {
+        this(Runtime.getRuntime().maxMemory() / 4);
+    }
+    /**
+     * Constructs a GraphCache.
+     * @param budget the estimated size in bytes the cached graphs may reach.
+     */
+    public GraphCache(long budget) {
+        this.budget = budget;
+    }
+    
+    /**
+     * Gets the graph converted from a network.  The returned Graph is a 
+     * shallow copy of the cached one, which the caller may re-order freely.  
+     * A graph is not returned once the network has been renamed, as it is 
+     * named after the network.
+     * @param network the CyNetwork.
+     * @param column the String name of the edge data column, or null for 
+     * the default weight column.
+     * @return the Graph, or null if none is cached.
+     */
+    public synchronized Graph get(CyNetwork network, String column) {
+        String key = key(network.getSUID(), column);
+        Entry entry = entries.get(key);
+        if (entry == null)
+            return null;
+        Graph graph = entry.graph.get();
+        if (graph == null || !graph.getName().equals(network.toString())) {
+            remove(key);
+            return null;
+        }
+        return graph.shallowCopy();
+    }
+    /**
+     * Gets the generation of a network, to be read before converting it.
+     * @param network the CyNetwork.
+     * @return the long generation.
+     */
+    public synchronized long generation(CyNetwork network) {
+        Generation generation = generations.get(network.getSUID());
+        if (generation == null) {
+            generation = new Generation(network);
+            generations.put(network.getSUID(), generation);
+        }
+        return generation.count;
+    }
+    /**
+     * Caches the graph converted from a network.  The graph should not be 
+     * changed afterwards; it is copied when it is handed out.  The graph is 
+     * dropped if the network changed since its generation was read.
+     * @param network the CyNetwork.
+     * @param column the String name of the edge data column, or null for 
+     * the default weight column.
+     * @param graph the converted Graph.
+     * @param generation the long generation read before the conversion.
+     */
+    public synchronized void put(CyNetwork network, String column, 
+            Graph graph, long generation) {
+        Generation current = generations.get(network.getSUID());
+        if (current == null || current.count != generation)
+            return;
+        String name = column == null ? WEIGHT_COLUMN : column;
+        String key = key(network.getSUID(), column);
+        remove(key);
+        Entry entry = new Entry(network, name, graph);
+        if (entry.bytes > budget)
+            return;
+        entries.put(key, entry);
+        bytes += entry.bytes;
+        
+        Iterator<Entry> eldest = entries.values().iterator();
+        while (bytes > budget && eldest.hasNext()) {
+            bytes -= eldest.next().bytes;
+            eldest.remove();
+        }
+    }
+    /**
+     * Drops every cached graph.
+     */
+    public synchronized void clear() {
+        for (Generation generation : generations.values())
+            generation.count++;
+        entries.clear();
+        bytes = 0L;
+    }
+    
+    @Override
+    public void handleEvent(AddedNodesEvent e) {
+        invalidate(e.getSource());
+    }
+    @Override
+    public void handleEvent(AddedEdgesEvent e) {
+        invalidate(e.getSource());
+    }
+    @Override
+    public void handleEvent(RemovedNodesEvent e) {
+        invalidate(e.getSource());
+    }
+    @Override
+    public void handleEvent(RemovedEdgesEvent e) {
+        invalidate(e.getSource());
+    }
+    @Override
+    public void handleEvent(NetworkAboutToBeDestroyedEvent e) {
+        invalidate(e.getNetwork());
+        synchronized (this) {
+            generations.remove(e.getNetwork().getSUID());
+        }
+    }
+    @Override
+    public void handleEvent(RowsSetEvent e) {
+        HashSet<String> columns = new HashSet<>();
+        for (RowSetRecord record : e.getPayloadCollection())
+            columns.add(record.getColumn());
+        for (String column : columns)
+            invalidate(e.getSource(), column);
+    }
+    @Override
+    public void handleEvent(ColumnCreatedEvent e) {
+        invalidate(e.getSource(), e.getColumnName());
+    }
+    @Override
+    public void handleEvent(ColumnDeletedEvent e) {
+        invalidate(e.getSource(), e.getColumnName());
+    }
+    @Override
+    public void handleEvent(ColumnNameChangedEvent e) {
+        invalidate(e.getSource(), e.getOldColumnName());
+        invalidate(e.getSource(), e.getNewColumnName());
+    }
+    
+    /**
+     * Drops the graphs converted from a network.
+     * @param network the CyNetwork that changed.
+     */
+    private synchronized void invalidate(CyNetwork network) {
+        Generation generation = generations.get(network.getSUID());
+        if (generation != null)
+            generation.count++;
+        Iterator<Entry> iterator = entries.values().iterator();
+        while (iterator.hasNext()) {
+            Entry entry = iterator.next();
+            if (entry.network == network.getSUID()) {
+                bytes -= entry.bytes;
+                iterator.remove();
+            }
+        }
+    }
+    /**
+     * Drops the graphs affected by a change to a table.
+     * @param table the CyTable that changed.
+     * @param column the String name of the changed column.
+     */
+    private synchronized void invalidate(CyTable table, String column) {
+        for (Generation generation : generations.values())
+            if (generation.isAffectedBy(table, column))
+                generation.count++;
+        Iterator<Entry> iterator = entries.values().iterator();
+        while (iterator.hasNext()) {
+            Entry entry = iterator.next();
+            if (entry.isAffectedBy(table, column)) {
+                bytes -= entry.bytes;
+                iterator.remove();
+            }
+        }
+    }
+    /**
+     * Drops a cached graph.
+     * @param key the String key of the graph.
+     */
+    private void remove(String key) {
+        Entry entry = entries.remove(key);
+        if (entry != null)
+            bytes -= entry.bytes;
+    }
+    /**
+     * Builds the key of a graph.
+     * @param network the SUID of the network.
+     * @param column the String name of the edge data column, or null.
+     * @return the String key.
+     */
+    private static String key(long network, String column) {
+        return network + (column == null ? "" : ":" + column);
+    }
+}
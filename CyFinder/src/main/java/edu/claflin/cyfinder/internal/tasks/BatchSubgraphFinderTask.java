@@ -0,0 +1,244 @@
+/* 
+ * Copyright 2015 Charles Allen Schultz II.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package edu.claflin.cyfinder.internal.tasks;
+
+import static edu.claflin.cyfinder.internal.Global.getDesktopService;
+import edu.claflin.cyfinder.internal.logic.ConfigurationBundle;
+import edu.claflin.cyfinder.internal.ui.ErrorPanel;
+import static edu.claflin.finder.Global.getMetrics;
+import edu.claflin.finder.algo.SearchResult;
+import edu.claflin.finder.logic.Graph;
+import edu.claflin.finder.metrics.Flight;
+import edu.claflin.finder.metrics.Metrics;
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import javax.swing.SwingUtilities;
+import org.cytoscape.model.CyNetwork;
+import org.cytoscape.work.AbstractTask;
+import org.cytoscape.work.TaskMonitor;
+
+/**
+ * Represents a Subgraph Finder Task run with one configuration over several 
+ * networks.  The networks are converted and searched at the same time on a 
+ * bounded pool of threads, each with its own instance of the search 
+ * algorithm, and the results of each network are saved as soon as its 
+ * search completes.  Saving is done by this task's own thread, one network 
+ * at a time, so Cytoscape's tables are never written concurrently.
+ * 
+ * @version 1.3 October 19, 2026
+ */
+public class BatchSubgraphFinderTask extends AbstractTask {
+    
+    /**
+     * Represents a network whose search has completed.
+     */
+    private static final class Searched {
+        
+        /**
+         * The task of the network.
+         */
+        private final SubgraphFinderTask task;
+        /**
+         * The converted network.
+         */
+        private final Graph graph;
+        /**
+         * The results of the search, or null if cancelled.
+         */
+        private final SearchResult result;
+        
+        /**
+         * Constructs the Searched network.
+         * @param task the SubgraphFinderTask of the network.
+         * @param graph the converted Graph.
+         * @param result the SearchResult of the search.
+         */
+        private Searched(SubgraphFinderTask task, Graph graph, 
+                SearchResult result) {
+            this.task = task;
+            this.graph = graph;
+            this.result = result;
+        }
+    }
+    
+    /**
+     * Represents the TaskMonitor of one network, passing its status messages 
+     * on with the name of the network.  Progress is reported for the batch 
+     * as a whole, so that of a single network is dropped.
+     */
+    private static final class NetworkMonitor implements TaskMonitor {
+        
+        /**
+         * The TaskMonitor of the batch.
+         */
+        private final TaskMonitor batch;
+        /**
+         * The prefix naming the network.
+         */
+        private final String prefix;
+        
+        /**
+         * Constructs the NetworkMonitor.
+         * @param batch the TaskMonitor of the batch.
+         * @param network the CyNetwork being processed.
+         */
+        private NetworkMonitor(TaskMonitor batch, CyNetwork network) {
+            this.batch = batch;
+            this.prefix = network.toString() + ": ";
+        }
+        
+        @Override
+        public void setTitle(String title) {
+        }
+        @Override
+        public void setProgress(double progress) {
+        }
+        @Override
+        public void setStatusMessage(String statusMessage) {
+            batch.setStatusMessage(prefix + statusMessage);
+        }
+        @Override
+        public void showMessage(Level level, String message) {
+            batch.showMessage(level, prefix + message);
+        }
+    }
+    
+    /**
+     * The networks to search.
+     */
+    private final List<CyNetwork> networks;
+    /**
+     * The configuration applied to every network.
+     */
+    private final ConfigurationBundle config;
+    /**
+     * The tasks of the networks, all created before any is submitted.  Read 
+     * by {@link #cancel()} from another thread.
+     */
+    private final List<SubgraphFinderTask> tasks = new CopyOnWriteArrayList<>();
+    /**
+     * The pool the networks are searched on, once started.
+     */
+    private volatile ExecutorService pool = null;
+    
+    /**
+     * Constructs the Task.
+     * @param networks the Collection&lt;CyNetwork&gt; to search.
+     * @param config the ConfigurationBundle to apply to each network, which 
+     * must be able to re-create its search algorithm.
+     */
+    public BatchSubgraphFinderTask(Collection<CyNetwork> networks, 
+            ConfigurationBundle config) {
+        this.networks = new ArrayList<>(networks);
+        this.config = config;
+    }
+
+    @Override
+    public void run(final TaskMonitor taskMonitor) {
+        taskMonitor.setTitle("Subgraph Finder (" + networks.size() + 
+                " networks)");
+        taskMonitor.setProgress(0D);
+        Metrics.Snapshot metricsStart = getMetrics().snapshot();
+        Flight.Session flightSession = !config.isFlightRecording() ? null : 
+                Flight.open(config.isSaveToFile() ? 
+                        new File(config.getSaveDirectory(), "batch.jfr") : null);
+        
+        Throwable failure = null;
+        try {
+            // Every task exists before the pool does, so a cancel() from 
+            // here on reaches them all.
+            for (CyNetwork network : networks)
+                tasks.add(new SubgraphFinderTask(network, 
+                        config.forNewSearch(), true));
+            if (cancelled)
+                return;
+            
+            int threads = Math.max(1, Math.min(networks.size(), 
+                    Runtime.getRuntime().availableProcessors()));
+            pool = Executors.newFixedThreadPool(threads);
+            CompletionService<Searched> searches = 
+                    new ExecutorCompletionService<>(pool);
+            for (int index = 0; index < networks.size(); index++) {
+                SubgraphFinderTask task = tasks.get(index);
+                TaskMonitor monitor = new NetworkMonitor(taskMonitor, 
+                        networks.get(index));
+                searches.submit(() -> {
+                    Graph graph = task.convert(monitor);
+                    return new Searched(task, graph, task.search(graph));
+                });
+            }
+            
+            for (int done = 0; done < networks.size() && !cancelled; done++) {
+                Future<Searched> future = searches.take();
+                try {
+                    Searched searched = future.get();
+                    searched.task.save(searched.graph, searched.result);
+                } catch (ExecutionException ee) {
+                    if (failure == null)
+                        failure = ee.getCause();
+                    taskMonitor.setStatusMessage("A search failed: " + 
+                            ee.getCause());
+                }
+                taskMonitor.setProgress(1D * (done + 1) / networks.size());
+            }
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+        } catch (Throwable error) {
+            failure = error;
+        } finally {
+            if (pool != null)
+                pool.shutdownNow();
+            if (flightSession != null)
+                flightSession.close();
+        }
+        
+        if (failure != null) {
+            Throwable error = failure;
+            SwingUtilities.invokeLater(() -> {
+                String message = "An error occurred during execution!";
+                ErrorPanel errorPanel = new ErrorPanel(message, error);
+                errorPanel.display(getDesktopService().getJFrame(), message);
+            });
+        }
+        taskMonitor.setStatusMessage("Search metrics: " + getMetrics().summary(3, metricsStart));
+        taskMonitor.setProgress(1D);
+    }
+    
+    @Override
+    public void cancel() {
+        super.cancel();
+        for (SubgraphFinderTask task : tasks)
+            task.cancel();
+        ExecutorService running = pool;
+        if (running != null)
+            running.shutdownNow();
+    }
+}
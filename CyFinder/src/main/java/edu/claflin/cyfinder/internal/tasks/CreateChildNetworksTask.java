@@ -0,0 +1,175 @@
+/* 
+ * Copyright 2015 Charles Allen Schultz II.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package edu.claflin.cyfinder.internal.tasks;
+
+import static edu.claflin.cyfinder.internal.Global.getEventHelperService;
+import static edu.claflin.cyfinder.internal.Global.getNetworkManagerService;
+import static edu.claflin.cyfinder.internal.Global.getRootNetworkService;
+import edu.claflin.cyfinder.internal.logic.FoundSubgraph;
+import java.util.ArrayList;
+import java.util.List;
+import org.cytoscape.event.CyEventHelper;
+import org.cytoscape.model.CyEdge;
+import org.cytoscape.model.CyNetwork;
+import org.cytoscape.model.CyNode;
+import org.cytoscape.model.CyRow;
+import org.cytoscape.model.CyTable;
+import org.cytoscape.model.subnetwork.CyRootNetwork;
+import org.cytoscape.model.subnetwork.CySubNetwork;
+import org.cytoscape.task.AbstractNetworkTask;
+import org.cytoscape.work.TaskMonitor;
+
+/**
+ * Represents a task creating a child network beneath the source network for 
+ * each of a list of found subgraphs.  The child networks are built in 
+ * batches: the events of each child network are silenced while it is being 
+ * filled, and the batch is only registered with Cytoscape, and its events 
+ * flushed, once it is complete.  Cytoscape therefore reacts to a batch once 
+ * rather than to every node and edge added.
+ * <br>
+ * The subgraphs hold the SUIDs of the nodes and edges they were found with, 
+ * which may have since been deleted from the network.  Such nodes and edges 
+ * are left out, as are the edges of a left out node, and the number left 
+ * out is shown as the status message.
+ * 
+ * @version 1.2 October 19, 2026
+ */
+public class CreateChildNetworksTask extends AbstractNetworkTask {
+    
+    /**
+     * The number of child networks built before they are registered.
+     */
+    private static final int BATCH_SIZE = 25;
+    
+    /**
+     * The found subgraphs to create child networks for.
+     */
+    private final List<FoundSubgraph> subgraphs;
+    
+    /**
+     * Constructs the task.
+     * 
+     * @param network the CyNetwork the subgraphs were found in.
+     * @param subgraphs the List&lt;FoundSubgraph&gt; to create child networks 
+     * for.
+     */
+    public CreateChildNetworksTask(CyNetwork network, 
+            List<FoundSubgraph> subgraphs) {
+        super(network);
+        this.subgraphs = subgraphs;
+    }
+
+    @Override
+    public void run(TaskMonitor taskMonitor) {
+        taskMonitor.setTitle("Creating child networks...");
+        taskMonitor.setProgress(0D);
+        
+        CyRootNetwork root = getRootNetworkService().getRootNetwork(network);
+        CyEventHelper events = getEventHelperService();
+        ArrayList<CySubNetwork> batch = new ArrayList<>(BATCH_SIZE);
+        int count = 0;
+        int missing = 0;
+        for (FoundSubgraph subgraph : subgraphs) {
+            if (cancelled)
+                break;
+            CySubNetwork sub = root.addSubNetwork();
+            if (events != null)
+                events.silenceEventSource(sub);
+            missing += fill(sub, subgraph);
+            batch.add(sub);
+            
+            if (batch.size() == BATCH_SIZE)
+                register(batch, events);
+            taskMonitor.setProgress(1D * ++count / subgraphs.size());
+        }
+        register(batch, events);
+        if (missing > 0) {
+            taskMonitor.setStatusMessage(missing + " nodes and edges no "
+                    + "longer in the network were left out.");
+        }
+        taskMonitor.setProgress(1D);
+    }
+    
+    /**
+     * Adds the nodes and edges of a found subgraph to a child network, along 
+     * with the groups assigned to its nodes.  Nodes and edges no longer in 
+     * the network, and edges whose ends are not in the child network, are 
+     * left out.
+     * 
+     * @param sub the CySubNetwork to fill.
+     * @param subgraph the FoundSubgraph to fill it with.
+     * @return the number of nodes and edges left out.
+     */
+    private int fill(CySubNetwork sub, FoundSubgraph subgraph) {
+        /* Evyatar & Ariel- adding a new column "Groups" and mapping UI Node to each Node in the groups of the search to give it the correct group, A or B*/
+        CyTable local = sub.getTable(CyNode.class, CyNetwork.LOCAL_ATTRS);
+        local.createColumn("group", String.class, false);
+        local.createColumn("partition number", String.class, false);
+        sub.getRow(sub).set(CySubNetwork.NAME, subgraph.getName());
+        
+        long[] nodes = subgraph.getNodes();
+        int missing = 0;
+        for (int index = 0; index < nodes.length; index++) {
+            CyNode node = network.getNode(nodes[index]);
+            if (node == null) {
+                missing++;
+                continue;
+            }
+            sub.addNode(node);
+            String group = subgraph.getGroup(index);
+            if (group != null) {
+                CyRow row = sub.getDefaultNodeTable().getRow(nodes[index]);
+                row.set("group", group);
+                row.set("partition number", subgraph.getPartition(index) + "");
+            }
+        }
+        for (long suid : subgraph.getEdges()) {
+            CyEdge edge = network.getEdge(suid);
+            if (edge == null || !sub.containsNode(edge.getSource()) || 
+                    !sub.containsNode(edge.getTarget())) {
+                missing++;
+                continue;
+            }
+            sub.addEdge(edge);
+        }
+        return missing;
+    }
+    /**
+     * Lets Cytoscape see a batch of child networks: their events are 
+     * unsilenced and flushed, and they are registered with the network 
+     * manager.
+     * 
+     * @param batch the List&lt;CySubNetwork&gt; of filled child networks, 
+     * emptied afterwards.
+     * @param events the CyEventHelper, or null.
+     */
+    private void register(List<CySubNetwork> batch, CyEventHelper events) {
+        if (events != null) {
+            for (CySubNetwork sub : batch)
+                events.unsilenceEventSource(sub);
+            events.flushPayloadEvents();
+        }
+        for (CySubNetwork sub : batch)
+            getNetworkManagerService().addNetwork(sub);
+        batch.clear();
+    }
+}
@@ -21,10 +21,14 @@
  */
 package edu.claflin.cyfinder.internal.tasks;
 
-import java.util.Collections;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import org.cytoscape.model.CyColumn;
 import org.cytoscape.model.CyEdge;
 import org.cytoscape.model.CyNetwork;
+import org.cytoscape.model.CyRow;
+import org.cytoscape.model.CyTable;
 import org.cytoscape.task.AbstractNetworkTask;
 import org.cytoscape.work.TaskMonitor;
 
@@ -34,7 +38,7 @@ import org.cytoscape.work.TaskMonitor;
  * the instance.
  * 
  * @author Charles Allen Schultz II
- * @version 1.1 June 19, 2015
+ * @version 1.2 October 19, 2026
  */
 public class MakeUndirectedTask extends AbstractNetworkTask {
     
@@ -69,69 +73,141 @@ public class MakeUndirectedTask extends AbstractNetworkTask {
     /**
      * The old network has edges added to it to force it into an undirected
      * state. If undirected-like edges already exist between two nodes no 
-     * action is taken, even if the edge attributes are different.
+     * action is taken, even if the edge attributes are different.  Existing 
+     * edges are looked up by the SUIDs of their nodes, so the conversion 
+     * takes time linear in the number of edges.
      *
      * @param taskMonitor the TaskMonitor object to use to report progress.
      */
     private void addNewEdges(TaskMonitor taskMonitor) {
         List<CyEdge> oldEdges = network.getEdgeList();
-        int count = 0;
+        HashSet<Pair> existing = new HashSet<>(
+                Math.max(16, oldEdges.size() * 4 / 3));
+        for (CyEdge edge : oldEdges)
+            existing.add(new Pair(edge.getSource().getSUID(), 
+                    edge.getTarget().getSUID()));
         
+        CyTable table = network.getDefaultEdgeTable();
+        List<CyColumn> columns = copiedColumns(table);
+        int count = 0;
+        int step = Math.max(1, oldEdges.size() / 100);
         for (CyEdge edge : oldEdges) {
-            if (edge.isDirected()) {
-                boolean backEdgeExists = false;
-                for (CyEdge backEdge : oldEdges) {
-                    if (edge.getSource() == backEdge.getTarget() && 
-                            edge.getTarget() == backEdge.getSource()) {
-                        backEdgeExists = true;
-                        break;
-                    }
-                }
-                
-                if (!backEdgeExists) {
-                    CyEdge newEdge = network.addEdge(edge.getTarget(),
-                            edge.getSource(), true);
-                    network.getDefaultEdgeTable().getColumns().stream()
-                            .forEach(col -> {
-                                Object value = network.getDefaultEdgeTable()
-                                        .getRow(edge.getSUID())
-                                        .get(col.getName(), col.getType());
-                                network.getDefaultEdgeTable()
-                                        .getRow(newEdge.getSUID())
-                                        .set(col.getName(), value);
-                            });
-                }
+            if (cancelled)
+                return;
+            if (edge.isDirected() && !existing.contains(new Pair(
+                    edge.getTarget().getSUID(), edge.getSource().getSUID()))) {
+                CyEdge newEdge = network.addEdge(edge.getTarget(),
+                        edge.getSource(), true);
+                copyRow(table, columns, edge, newEdge);
             }
             
-            taskMonitor.setProgress(1D * ++count / oldEdges.size());
+            if (++count % step == 0)
+                taskMonitor.setProgress(1D * count / oldEdges.size());
         }
+        taskMonitor.setProgress(1D);
     }
     /**
      * Transforms old edges that are not undirected into directed versions.
+     * The old edges are removed together once every new edge is made.
      * 
      * @param taskMonitor the TaskMonitor object to use to report progress.
      */
     private void convertOldEdges(TaskMonitor taskMonitor) {
         List<CyEdge> oldEdges = network.getEdgeList();
+        ArrayList<CyEdge> removed = new ArrayList<>();
+        CyTable table = network.getDefaultEdgeTable();
+        List<CyColumn> columns = copiedColumns(table);
         int count = 0;
+        int step = Math.max(1, oldEdges.size() / 100);
         
         for (CyEdge edge : oldEdges) {
+            if (cancelled)
+                break;
             if (edge.isDirected()) {
                 CyEdge newEdge = network.addEdge(edge.getSource(), 
                         edge.getTarget(), false);
-                network.getDefaultEdgeTable().getColumns().stream()
-                        .forEach(col -> {
-                            Object value = network.getDefaultEdgeTable()
-                                    .getRow(edge.getSUID())
-                                    .get(col.getName(), col.getType());
-                            network.getDefaultEdgeTable()
-                                    .getRow(newEdge.getSUID())
-                                    .set(col.getName(), value);
-                        });
-                network.removeEdges(Collections.singletonList(edge));
+                copyRow(table, columns, edge, newEdge);
+                removed.add(edge);
             }
             
-            taskMonitor.setProgress(1D * ++count / oldEdges.size());
+            if (++count % step == 0)
+                taskMonitor.setProgress(0.9D * count / oldEdges.size());
+        }
+        
+        taskMonitor.setStatusMessage("Removing " + removed.size() + 
+                " directed edges...");
+        network.removeEdges(removed);
+        taskMonitor.setProgress(1D);
+    }
+    
+    /**
+     * Gets the columns of a table whose values are copied to a new edge.  
+     * The primary key and immutable columns can not be set and are skipped.
+     * 
+     * @param table the CyTable of the edges.
+     * @return the List&lt;CyColumn&gt; to copy.
+     */
+    private static List<CyColumn> copiedColumns(CyTable table) {
+        ArrayList<CyColumn> columns = new ArrayList<>();
+        for (CyColumn column : table.getColumns())
+            if (!column.isPrimaryKey() && !column.isImmutable())
+                columns.add(column);
+        return columns;
+    }
+    /**
+     * Copies the values of an edge to a new edge, looking up each row once.
+     * 
+     * @param table the CyTable of the edges.
+     * @param columns the List&lt;CyColumn&gt; to copy.
+     * @param from the CyEdge to copy from.
+     * @param to the CyEdge to copy to.
+     */
+    private static void copyRow(CyTable table, List<CyColumn> columns, 
+            CyEdge from, CyEdge to) {
+        CyRow source = table.getRow(from.getSUID());
+        CyRow target = table.getRow(to.getSUID());
+        for (CyColumn column : columns) {
+            Object value = source.getRaw(column.getName());
+            if (value != null)
+                target.set(column.getName(), value);
+        }
+    }
+    
+    /**
+     * Represents the pair of node SUIDs an edge runs between.
+     */
+    private static final class Pair {
+        
+        /**
+         * The SUID of the source node.
+         */
+        private final long source;
+        /**
+         * The SUID of the target node.
+         */
+        private final long target;
+        
+        /**
+         * Constructs the pair.
+         * 
+         * @param source the SUID of the source node.
+         * @param target the SUID of the target node.
+         */
+        private Pair(long source, long target) {
+            this.source = source;
+            this.target = target;
+        }
+        
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof Pair))
+                return false;
+            Pair other = (Pair) obj;
+            return source == other.source && target == other.target;
+        }
+        @Override
+        public int hashCode() {
+            return Long.hashCode(source * 31 + target);
         }
     }
 }
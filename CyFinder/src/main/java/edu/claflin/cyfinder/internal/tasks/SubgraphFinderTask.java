@@ -22,35 +22,48 @@
 package edu.claflin.cyfinder.internal.tasks;
 
 import static edu.claflin.cyfinder.internal.Global.getDesktopService;
-import static edu.claflin.cyfinder.internal.Global.getNetworkManagerService;
-import static edu.claflin.cyfinder.internal.Global.getRootNetworkService;
+import static edu.claflin.cyfinder.internal.Global.getGraphCache;
+import static edu.claflin.cyfinder.internal.Global.getTableFactoryService;
+import static edu.claflin.cyfinder.internal.Global.getTableManagerService;
 import edu.claflin.cyfinder.internal.logic.ConfigurationBundle;
 import edu.claflin.cyfinder.internal.logic.CyEdgeAdapter;
 import edu.claflin.cyfinder.internal.logic.CyNodeAdapter;
+import edu.claflin.cyfinder.internal.logic.FoundSubgraph;
+import edu.claflin.cyfinder.internal.logic.GraphCache;
 import edu.claflin.cyfinder.internal.ui.ErrorPanel;
+import edu.claflin.cyfinder.internal.ui.ResultsBrowser;
+import static edu.claflin.finder.Global.getMetrics;
 import edu.claflin.finder.algo.Algorithm;
+import edu.claflin.finder.algo.SearchResult;
+import edu.claflin.finder.io.graph.ResultArchiveWriter;
 import edu.claflin.finder.io.graph.SimpleGraphIO;
 import edu.claflin.finder.io.graph.sub.GraphWriter;
 import edu.claflin.finder.log.LogLevel;
 import edu.claflin.finder.log.LogUtil;
 import edu.claflin.finder.logic.Edge;
 import edu.claflin.finder.logic.Graph;
+import edu.claflin.finder.logic.GraphBuilder;
 import edu.claflin.finder.logic.Node;
+import edu.claflin.finder.metrics.Flight;
+import edu.claflin.finder.metrics.Metrics;
+import edu.claflin.finder.metrics.ProgressTracker;
 import java.beans.PropertyChangeEvent;
 import java.beans.PropertyChangeListener;
+import java.io.File;
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import javax.swing.*;
 
-import edu.claflin.finder.logic.cygrouper.Communicator;
-import edu.claflin.finder.logic.cygrouper.CygrouperNode;
+import org.cytoscape.model.CyEdge;
+import org.cytoscape.model.CyIdentifiable;
 import org.cytoscape.model.CyNetwork;
 import org.cytoscape.model.CyNode;
 import org.cytoscape.model.CyRow;
-import org.cytoscape.model.subnetwork.CyRootNetwork;
-import org.cytoscape.model.subnetwork.CyRootNetworkManager;
-import org.cytoscape.model.subnetwork.CySubNetwork;
+import org.cytoscape.model.CyTable;
 import org.cytoscape.task.AbstractNetworkTask;
 import org.cytoscape.work.TaskMonitor;
 
@@ -59,7 +72,7 @@ import org.cytoscape.work.TaskMonitor;
  * with the same name to find subgraphs and return them in Cytoscape Format.
  * 
  * @author Charles Allen Schultz II
- * @version 1.4 June 19, 2015
+ * @version 1.15 October 19, 2026
  */
 public class SubgraphFinderTask extends AbstractNetworkTask 
         implements PropertyChangeListener {
@@ -72,6 +85,16 @@ public class SubgraphFinderTask extends AbstractNetworkTask
      * The TaskMonitor currently used in reporting.
      */
     private TaskMonitor taskMonitor;
+    /**
+     * Indicates that the task is run step by step as part of a batch rather 
+     * than through a TaskIterator.
+     */
+    private final boolean batched;
+    /**
+     * The metrics when the task started, which its summaries count from 
+     * rather than resetting metrics other runs may be recording.
+     */
+    private Metrics.Snapshot metricsStart = null;
 
     /**
      * Constructs the Task.
@@ -79,15 +102,36 @@ public class SubgraphFinderTask extends AbstractNetworkTask
      * @param config the Configuration to use.
      */
     public SubgraphFinderTask(CyNetwork network, ConfigurationBundle config) {
+        this(network, config, false);
+    }
+    /**
+     * Constructs the Task for a batch, which calls {@link #convert(TaskMonitor)}, 
+     * {@link #search(Graph)} and {@link #save(Graph, SearchResult)} instead of 
+     * running it.
+     * @param network the Network to analyze.
+     * @param config the Configuration to use, not shared with other tasks.
+     * @param batched true if the task is part of a batch.
+     */
+    SubgraphFinderTask(CyNetwork network, ConfigurationBundle config, 
+            boolean batched) {
         super(network);
         this.config = config;
+        this.batched = batched;
     }
 
     @Override
     public void run(final TaskMonitor taskMonitor) {
+        Flight.Session flightSession = null;
         try {
         this.taskMonitor = taskMonitor;
         taskMonitor.setTitle("Subgraph Finder");
+        metricsStart = getMetrics().snapshot();
+        // The session is this run's own, so closing it leaves the events 
+        // and recordings of other runs alone.
+        if (config.isFlightRecording())
+            flightSession = Flight.open(config.isSaveToFile() ? 
+                    new File(config.getSaveDirectory(), 
+                            network.toString() + ".jfr") : null);
         
         // Read CyNetwork into a Subgraph Finder Network
         Graph graph = null;
@@ -95,13 +139,13 @@ public class SubgraphFinderTask extends AbstractNetworkTask
             graph = convertCyNetwork(taskMonitor);
         
         // Search for Subgraphs Here
-        ArrayList<Graph> subgraphs = null;
+        SearchResult result = null;
         if (!cancelled)
-            subgraphs = findSubGraphs(taskMonitor, graph);
+            result = findSubGraphs(taskMonitor, graph);
         
         // Save Found Subgraphs To Current Network, child network, file...
         if (!cancelled)
-            saveSubGraphs(taskMonitor, subgraphs);
+            saveSubGraphs(taskMonitor, graph, result);
         
         } catch (Throwable error) {
             SwingUtilities.invokeLater(() -> {
@@ -110,66 +154,152 @@ public class SubgraphFinderTask extends AbstractNetworkTask
                 errorPanel.display(getDesktopService().getJFrame(), message);
             });
             cancel();
+        } finally {
+            if (flightSession != null)
+                flightSession.close();
         }
     }
     /**
-     * Converts a CyNetwork to a finder Graph
+     * Converts the network, as the first step of a batched task.
+     * @param taskMonitor the TaskMonitor to use to report progress.
+     * @return the Graph containing the network, or null if cancelled.
+     */
+    Graph convert(TaskMonitor taskMonitor) {
+        this.taskMonitor = taskMonitor;
+        metricsStart = getMetrics().snapshot();
+        return cancelled ? null : convertCyNetwork(taskMonitor);
+    }
+    /**
+     * Searches the converted network, as the second step of a batched task.
+     * @param graph the Graph returned by {@link #convert(TaskMonitor)}.
+     * @return the SearchResult holding the subgraphs, or null if cancelled.
+     */
+    SearchResult search(Graph graph) {
+        return cancelled || graph == null ? null : 
+                findSubGraphs(taskMonitor, graph);
+    }
+    /**
+     * Saves the found subgraphs, as the last step of a batched task.
+     * @param graph the Graph returned by {@link #convert(TaskMonitor)}.
+     * @param result the SearchResult returned by {@link #search(Graph)}.
+     */
+    void save(Graph graph, SearchResult result) {
+        if (!cancelled && result != null)
+            saveSubGraphs(taskMonitor, graph, result);
+    }
+    
+    /**
+     * Converts a CyNetwork to a finder Graph.  The node and edge tables are 
+     * each read once, the endpoints of an edge are found through a map keyed 
+     * by SUID, and the Graph is bulk loaded through a GraphBuilder, so the 
+     * conversion takes time linear in the size of the network.  The Graph is 
+     * kept in the {@link GraphCache}, and later runs on the unchanged network 
+     * reuse it instead.
      * @param taskMonitor the TaskMonitor to use to report progress.
      * @return the Graph containing the new network.
      */
     private Graph convertCyNetwork(final TaskMonitor taskMonitor) {
+        String column = config.getOrderingColumn() == null ? null :
+                config.getOrderingColumn().getName();
+        GraphCache cache = getGraphCache();
+        Graph cached = cache == null ? null : cache.get(network, column);
+        if (cached != null) {
+            taskMonitor.setStatusMessage("Using previously converted network...");
+            taskMonitor.setProgress(1D);
+            return cached;
+        }
+        long generation = cache == null ? 0L : cache.generation(network);
+        
         taskMonitor.setStatusMessage("Converting Network...");
-        taskMonitor.setProgress(-0.1D);
+        taskMonitor.setProgress(0D);
         
-        Graph returnGraph = new Graph(network.toString());
-        network.getNodeList().stream().forEach(cynode -> {
-            String name = network.getDefaultNodeTable()
-                    .getRow(cynode.getSUID()).get("shared name", String.class);
-            CyNodeAdapter node = new CyNodeAdapter(cynode, name);
-            returnGraph.addNode(node);
-        });
+        Object event = Flight.beginGraphLoad();
+        List<CyNode> cynodes = network.getNodeList();
+        List<CyEdge> cyedges = network.getEdgeList();
+        int total = Math.max(1, cynodes.size() + cyedges.size());
+        int step = Math.max(1, total / 100);
+        int done = 0;
         
-        network.getEdgeList().stream().forEach(cyedge -> {
-            String nodeName1 = network.getDefaultNodeTable()
-                    .getRow(cyedge.getSource().getSUID())
-                    .get("shared name", String.class);
-            CyNodeAdapter node1 = (CyNodeAdapter) returnGraph.getNodeList()
-                    .stream().filter(anode -> anode.getIdentifier()
-                            .equals(nodeName1)).toArray()[0];
-            
-            String nodeName2 = network.getDefaultNodeTable()
-                    .getRow(cyedge.getTarget().getSUID())
-                    .get("shared name", String.class);
-            CyNodeAdapter node2 = (CyNodeAdapter) returnGraph.getNodeList()
-                    .stream().filter(anode -> anode.getIdentifier()
-                            .equals(nodeName2))
-                    .toArray()[0];
-            
-            Object data = network.getDefaultEdgeTable().getRow(cyedge.getSUID()).get("weight", Integer.class);
-            if (config.getOrderingColumn() != null) {
-                data = network.getRow(cyedge).getRaw(config.getOrderingColumn()
-                        .getName());
-            }
+        Map<Long, String> names = readColumn(network.getDefaultNodeTable(), 
+                "shared name", String.class);
+        Map<Long, Object> weights = config.getOrderingColumn() == null ?
+                readColumn(network.getDefaultEdgeTable(), "weight", 
+                        Integer.class) :
+                readColumn(network.getDefaultEdgeTable(), 
+                        column, null);
+        
+        GraphBuilder builder = new GraphBuilder(network.toString(), 
+                cynodes.size(), 2 * cyedges.size());
+        Map<Long, Integer> ids = new HashMap<>(
+                Math.max(16, cynodes.size() * 4 / 3));
+        for (CyNode cynode : cynodes) {
+            if (cancelled)
+                return null;
+            CyNodeAdapter node = new CyNodeAdapter(cynode, 
+                    names.get(cynode.getSUID()));
+            ids.put(cynode.getSUID(), builder.addNode(node));
+            if (++done % step == 0)
+                taskMonitor.setProgress(1D * done / total);
+        }
+        
+        for (CyEdge cyedge : cyedges) {
+            if (cancelled)
+                return null;
+            CyNodeAdapter node1 = (CyNodeAdapter) builder.getNode(
+                    ids.get(cyedge.getSource().getSUID()));
+            CyNodeAdapter node2 = (CyNodeAdapter) builder.getNode(
+                    ids.get(cyedge.getTarget().getSUID()));
+            Object data = weights.get(cyedge.getSUID());
             
-            CyEdgeAdapter edge = new CyEdgeAdapter(node1, node2, data, cyedge);
-            returnGraph.addEdge(edge);
+            builder.addEdge(new CyEdgeAdapter(node1, node2, data, cyedge));
             
             // Add second edge if undirected.
-            if (!cyedge.isDirected()) {
-                edge = new CyEdgeAdapter(node2, node1, data, cyedge);
-                returnGraph.addEdge(edge);
-            }
-        });
+            if (!cyedge.isDirected())
+                builder.addEdge(new CyEdgeAdapter(node2, node1, data, cyedge));
+            if (++done % step == 0)
+                taskMonitor.setProgress(1D * done / total);
+        }
         
-        return returnGraph;
+        Graph returnGraph = builder.build();
+        taskMonitor.setProgress(1D);
+        Flight.endGraphLoad(event, "Cytoscape", network.toString(), 
+                returnGraph.getNodeCount(), returnGraph.getEdgeCount());
+        if (cache == null)
+            return returnGraph;
+        cache.put(network, column, returnGraph, generation);
+        return returnGraph.shallowCopy();
+    }
+    /**
+     * Reads a column of a table in a single pass over its rows.
+     * @param table the CyTable to read.
+     * @param column the String name of the column.
+     * @param type the Class of the values, or null to read them raw.
+     * @return the Map from the SUID of each row to its value, which is 
+     * empty if the table has no such column.
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> Map<Long, T> readColumn(CyTable table, String column, 
+            Class<? extends T> type) {
+        Map<Long, T> values = new HashMap<>(
+                Math.max(16, table.getRowCount() * 4 / 3));
+        if (table.getColumn(column) == null)
+            return values;
+        for (CyRow row : table.getAllRows()) {
+            Long suid = row.get(CyIdentifiable.SUID, Long.class);
+            values.put(suid, type == null ? (T) row.getRaw(column) : 
+                    row.get(column, type));
+        }
+        return values;
     }
     /**
-     * Processes the graph and returns the subgraphs.
+     * Processes the graph and returns the subgraphs.  The groups of their 
+     * nodes are returned with them rather than through the Communicator, so 
+     * that several searches can run at the same time.
      * @param taskMonitor the TaskMonitor to use to report progress.
      * @param target the Graph object to analyze.
-     * @return the ArrayList containing the subgraphs.
+     * @return the SearchResult holding the subgraphs.
      */
-    private ArrayList<Graph> findSubGraphs(final TaskMonitor taskMonitor, Graph target) {
+    private SearchResult findSubGraphs(final TaskMonitor taskMonitor, Graph target) {
         taskMonitor.setStatusMessage("Searching for subgraphs...");
         taskMonitor.setProgress(0D);
 
@@ -178,11 +308,19 @@ public class SubgraphFinderTask extends AbstractNetworkTask
         Algorithm algo = config.getAlgo();
         algo.addPropertyChangeListener(this);
         taskMonitor.setStatusMessage("Processing graphs based on " + config.getAlgo().toString());
-        ArrayList<Graph> graphs = algo.process(target);
-        return graphs;
+        SearchResult result;
+        try {
+            result = algo.search(target);
+        } finally {
+            algo.removePropertyChangeListener(this);
+        }
+        taskMonitor.setStatusMessage("Search metrics: " + getMetrics().summary(3, metricsStart));
+        return result;
     }
     
-    private void saveSubGraphs(final TaskMonitor taskMonitor, ArrayList<Graph> subgraphs) {
+    private void saveSubGraphs(final TaskMonitor taskMonitor, Graph source, 
+            SearchResult result) {
+        ArrayList<Graph> subgraphs = result.getSubgraphs();
     	
     	
         taskMonitor.setStatusMessage("Saving subgraphs...");
@@ -195,8 +333,13 @@ public class SubgraphFinderTask extends AbstractNetworkTask
         int completedOperations = 0;
         
         // Add inplace annotations.
-        if (config.isInPlace()) {
+        if (config.isInPlace() && config.isMembershipList()) {
+            annotateMembership(taskMonitor, subgraphs, completedOperations, 
+                    operationCount);
+            taskMonitor.setProgress(1D * ++completedOperations / operationCount);
+        } else if (config.isInPlace()) {
             int count = 0;
+            int done = 0;
             for (Graph graph : subgraphs) {
                 String name;
                 do {
@@ -215,84 +358,192 @@ public class SubgraphFinderTask extends AbstractNetworkTask
                     CyEdgeAdapter aedge = (CyEdgeAdapter) edge;
                     network.getDefaultEdgeTable().getRow(aedge.getCyEdge().getSUID()).set(name, true);
                 }
-                taskMonitor.setProgress(1D * count * completedOperations / subgraphs.size() / operationCount);
+                taskMonitor.setProgress((completedOperations 
+                        + 1D * ++done / subgraphs.size()) / operationCount);
             }
             taskMonitor.setProgress(1D * ++completedOperations / operationCount);
         }
         
         // Add new graphs to collection
         if (config.isNewChild()) {
-            CyRootNetworkManager rootManager = getRootNetworkService();
-            CyRootNetwork root = rootManager.getRootNetwork(network);
+            List<String> taken = network.getDefaultNetworkTable()
+                    .getColumn(CyNetwork.NAME).getValues(String.class);
+            ArrayList<FoundSubgraph> found = new ArrayList<>(subgraphs.size());
+            // The groups are worked out now, in parallel, so the entries only 
+            // hold ids and the search result need not be kept for them.
+            result.getGroups();
             int count = 0;
-            
-            
-            for (Graph graph : subgraphs) {
+            for (int index = 0; index < subgraphs.size(); index++) {
                 String name;
                 do {
                     name = "SG" + (++count);
-                } while (network.getDefaultNetworkTable()
-                        .getColumn(CyNetwork.NAME).getValues(String.class)
-                        .contains(name));
-                
-                CySubNetwork sub = root.addSubNetwork();
-                /* Evyatar & Ariel- adding a new column "Groups" and mapping UI Node to each Node in the Communicator.getSingleton().groups  to give it the correct group, A or B*/
-                sub.getTable(CyNode.class,CyNetwork.LOCAL_ATTRS).createColumn("group", String.class, false);
-                sub.getTable(CyNode.class,CyNetwork.LOCAL_ATTRS).createColumn("partition number", String.class, false);
-                sub.getRow(sub).set(CySubNetwork.NAME, name);
-                Map<String, CygrouperNode> m;
-                try
-                {
-                	m = Communicator.getSingleton().groups.get(count -1);
-                } catch (IndexOutOfBoundsException e) {
-                	continue;
-                }
-                	
+                } while (taken.contains(name));
                 
-                graph.getNodeList().stream().forEach(node -> {
-                    CyNodeAdapter anode = (CyNodeAdapter) node;
-                    sub.addNode(anode.getCyNode());
-                    CyRow row =sub.getDefaultNodeTable().getRow(anode.getCyNode().getSUID());
-                    CygrouperNode grp = m.get(row.get("name",String.class));                    
-                   
-                   row.set("group",grp.group);
-                   row.set("partition number", grp.kPartiteGroupNumber + "");
-                    
-                    
-                });
-                graph.getEdgeList().stream().forEach(edge -> {
-                    CyEdgeAdapter aedge = (CyEdgeAdapter) edge;
-                    sub.addEdge(aedge.getCyEdge());
-                });
-                getNetworkManagerService().addNetwork(sub);
-                taskMonitor.setProgress(1D * count * completedOperations / subgraphs.size() / operationCount);
+                found.add(new FoundSubgraph(name, subgraphs.get(index), 
+                        result.getGroups(index)));
+            }
+            
+            // Only the first results are created if the rest are browsed.
+            int created = config.isBrowseResults() ? 
+                    Math.min(config.getChildLimit(), found.size()) : 
+                    found.size();
+            if (created > 0) {
+                CreateChildNetworksTask children = new CreateChildNetworksTask(
+                        network, new ArrayList<>(found.subList(0, created)));
+                if (batched)
+                    children.run(taskMonitor);
+                else
+                    insertTasksAfterCurrentTask(children);
+            }
+            if (config.isBrowseResults()) {
+                SwingUtilities.invokeLater(() -> new ResultsBrowser(
+                        getDesktopService().getJFrame(), network, found, 
+                        created).setVisible(true));
             }
             taskMonitor.setProgress(1D * ++completedOperations / operationCount);
         }
         
-        if (config.isSaveToFile()) {
+        if (config.isSaveToFile() && config.isArchive()) {
+            File output = new File(config.getSaveDirectory(), 
+                    source.getName() + ResultArchiveWriter.EXTENSION);
+            try (ResultArchiveWriter archive = new ResultArchiveWriter(output, source)) {
+                int count = 0;
+                for (Graph graph : subgraphs) {
+                    archive.writeGraph(graph);
+                    taskMonitor.setProgress((completedOperations 
+                            + 1D * ++count / subgraphs.size()) / operationCount);
+                }
+            } catch (IOException ioe) {
+                taskMonitor.setStatusMessage("Unable to write result archive: " 
+                        + output.getAbsolutePath());
+            }
+            taskMonitor.setProgress(1D * ++completedOperations / operationCount);
+        } else if (config.isSaveToFile()) {
             GraphWriter gW = new SimpleGraphIO();
             edu.claflin.finder.Global.setOutput(config.getSaveDirectory());
             
             int count = 0;
             for (Graph graph : subgraphs) {
                 gW.writeGraph(graph);
-                taskMonitor.setProgress(1D * ++count * completedOperations / subgraphs.size() / operationCount);
+                taskMonitor.setProgress((completedOperations 
+                        + 1D * ++count / subgraphs.size()) / operationCount);
             }
             taskMonitor.setProgress(1D * ++completedOperations / operationCount);
         }
         
+        taskMonitor.setStatusMessage("Search metrics: " + getMetrics().summary(3, metricsStart));
         taskMonitor.setProgress(1D);
     }
 
+    /**
+     * Annotates the network in place with a single list column per table, 
+     * holding the ids of the subgraphs each node or edge belongs to.  The 
+     * lists are gathered in memory first, so each row is set once no matter 
+     * how many subgraphs were found.  Subgraph ids count up from 1 in the 
+     * order the subgraphs were found.  If requested, a table with a row per 
+     * subgraph is also created.
+     * @param taskMonitor the TaskMonitor to use to report progress.
+     * @param subgraphs the ArrayList containing the subgraphs.
+     * @param completedOperations the number of saving operations completed.
+     * @param operationCount the number of saving operations requested.
+     */
+    private void annotateMembership(final TaskMonitor taskMonitor, 
+            ArrayList<Graph> subgraphs, int completedOperations, 
+            int operationCount) {
+        Map<Long, List<Integer>> nodeMembership = new HashMap<>();
+        Map<Long, List<Integer>> edgeMembership = new HashMap<>();
+        int id = 0;
+        for (Graph graph : subgraphs) {
+            id++;
+            for (Node node : graph.getNodeList())
+                addMembership(nodeMembership, 
+                        ((CyNodeAdapter) node).getCyNode().getSUID(), id);
+            for (Edge edge : graph.getEdgeList())
+                addMembership(edgeMembership, 
+                        ((CyEdgeAdapter) edge).getCyEdge().getSUID(), id);
+        }
+        
+        int total = Math.max(1, nodeMembership.size() + edgeMembership.size());
+        int done = 0;
+        CyTable nodeTable = network.getDefaultNodeTable();
+        String nodeColumn = createMembershipColumn(nodeTable);
+        for (Map.Entry<Long, List<Integer>> entry : nodeMembership.entrySet()) {
+            nodeTable.getRow(entry.getKey()).set(nodeColumn, entry.getValue());
+            if (++done % 1000 == 0)
+                taskMonitor.setProgress((completedOperations + 1D * done / total) 
+                        / operationCount);
+        }
+        CyTable edgeTable = network.getDefaultEdgeTable();
+        String edgeColumn = createMembershipColumn(edgeTable);
+        for (Map.Entry<Long, List<Integer>> entry : edgeMembership.entrySet()) {
+            edgeTable.getRow(entry.getKey()).set(edgeColumn, entry.getValue());
+            if (++done % 1000 == 0)
+                taskMonitor.setProgress((completedOperations + 1D * done / total) 
+                        / operationCount);
+        }
+        
+        if (config.isResultsTable() && getTableFactoryService() != null && 
+                getTableManagerService() != null) {
+            CyTable results = getTableFactoryService().createTable(
+                    network.toString() + " subgraphs", "subgraph id", 
+                    Integer.class, true, true);
+            results.createColumn("nodes", Integer.class, false);
+            results.createColumn("edges", Integer.class, false);
+            id = 0;
+            for (Graph graph : subgraphs) {
+                CyRow row = results.getRow(++id);
+                row.set("nodes", graph.getNodeCount());
+                row.set("edges", graph.getEdgeCount());
+            }
+            getTableManagerService().addTable(results);
+        }
+    }
+    /**
+     * Adds a subgraph id to the membership list of a node or edge, once.
+     * @param membership the Map from SUIDs to membership lists.
+     * @param suid the SUID of the node or edge.
+     * @param id the id of the subgraph.
+     */
+    private static void addMembership(Map<Long, List<Integer>> membership, 
+            Long suid, int id) {
+        List<Integer> ids = membership.get(suid);
+        if (ids == null) {
+            ids = new ArrayList<>(2);
+            membership.put(suid, ids);
+        }
+        // Both halves of an undirected CyEdge appear in the same subgraph.
+        if (ids.isEmpty() || ids.get(ids.size() - 1) != id)
+            ids.add(id);
+    }
+    /**
+     * Creates the membership list column of a table, numbering the name if 
+     * an earlier search already took it.
+     * @param table the CyTable to add the column to.
+     * @return the String name of the created column.
+     */
+    private static String createMembershipColumn(CyTable table) {
+        String name = "subgraph membership";
+        for (int count = 2; table.getColumn(name) != null; count++)
+            name = "subgraph membership " + count;
+        table.createListColumn(name, Integer.class, false);
+        return name;
+    }
+
     /**
      * {@inheritDoc }
+     * <br>
+     * Shows the progress of the search, with its rate and the estimated time 
+     * remaining.  The Algorithm limits how often it reports, so the 
+     * TaskMonitor is updated only a few times a second.
      */
     @Override
     public void propertyChange(PropertyChangeEvent evt) {
         if (!cancelled && 
                 evt.getPropertyName().equals(Algorithm.PROP_PROGRESS)) {
             taskMonitor.setProgress((Double) evt.getNewValue());
+            ProgressTracker tracker = 
+                    ((Algorithm) evt.getSource()).getProgressTracker();
+            taskMonitor.setStatusMessage("Searching: " + tracker.describe());
         }
     }
     
@@ -0,0 +1,125 @@
+/* 
+ * Copyright 2015 Charles Allen Schultz II.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package edu.claflin.cyfinder.internal.tasks.factories;
+
+import static edu.claflin.cyfinder.internal.Global.getDesktopService;
+import static edu.claflin.cyfinder.internal.Global.getTaskManagerService;
+import edu.claflin.cyfinder.internal.logic.ConfigurationBundle;
+import edu.claflin.cyfinder.internal.tasks.BatchSubgraphFinderTask;
+import edu.claflin.cyfinder.internal.tasks.ConfigurationTask;
+import java.awt.Frame;
+import java.awt.event.ActionEvent;
+import java.util.ArrayList;
+import java.util.Collection;
+import javax.swing.AbstractAction;
+import org.cytoscape.model.CyNetwork;
+import org.cytoscape.task.AbstractNetworkCollectionTaskFactory;
+import org.cytoscape.task.NetworkCollectionTaskFactory;
+import org.cytoscape.work.TaskIterator;
+
+/**
+ * Produces a configuration task applied to every selected network.  The 
+ * configuration dialog is shown for the first of the networks.
+ *
+ * @version 1.0 October 19, 2026
+ */
+public class BatchSubgraphFinderTaskFactory 
+        extends AbstractNetworkCollectionTaskFactory {
+
+    /**
+     * Represents the configuration to apply to executions of this factory.
+     */
+    private ConfigurationBundle config;
+    
+    /**
+     * Constructs an un-configured factory.  Configuration will be handled when 
+     * obtaining the task iterator.
+     */
+    public BatchSubgraphFinderTaskFactory() {
+        this(null);
+    }
+    /**
+     * Constructs a factory with a specified configuration bundle.
+     * 
+     * @param config the ConfigurationBundle object representing the subgraph 
+     * finder configuration.
+     */
+    public BatchSubgraphFinderTaskFactory(ConfigurationBundle config) {
+        this.config = config;
+    }
+    
+    /**
+     * {@inheritDoc }
+     * 
+     * @param networks the Collection&lt;CyNetwork&gt; to analyze.
+     * @return the TaskIterator containing the task to execute.
+     */
+    @Override
+    public TaskIterator createTaskIterator(Collection<CyNetwork> networks) {
+        if (this.config == null) { // Configure First
+            Frame parent = getDesktopService().getJFrame();
+            CyNetwork first = networks.iterator().next();
+            ExecuteAction eAction = new ExecuteAction(networks);
+            return new TaskIterator(
+                    new ConfigurationTask(first, parent, eAction));
+        } else {
+            return new TaskIterator(
+                    new BatchSubgraphFinderTask(networks, config));
+        }
+    }
+    
+    /**
+     * Private class for executing a BatchSubgraphFinderTask after configuring.
+     */
+    private final class ExecuteAction extends AbstractAction {
+        
+        /**
+         * The target networks.
+         */
+        private final Collection<CyNetwork> networks;
+        
+        /**
+         * Constructs the ExecuteAction.
+         * 
+         * @param networks the target Collection&lt;CyNetwork&gt;.
+         */
+        public ExecuteAction(Collection<CyNetwork> networks) {
+            this.networks = new ArrayList<>(networks);
+        }
+
+        /**
+         * {@inheritDoc }
+         * 
+         * @param e the ActionEvent in which the source is the 
+         * Configuration Bundle.
+         */
+        @Override
+        public void actionPerformed(ActionEvent e) {
+            ConfigurationBundle config = (ConfigurationBundle) e.getSource();
+            
+            NetworkCollectionTaskFactory factory = 
+                    new BatchSubgraphFinderTaskFactory(config);
+            getTaskManagerService().execute(
+                    factory.createTaskIterator(networks));
+        }
+    }
+}
@@ -37,6 +37,7 @@ import edu.claflin.finder.logic.comp.EdgeWeightComparator;
 import edu.claflin.finder.logic.cond.BipartiteCondition;
 import edu.claflin.finder.logic.cond.CliqueCondition;
 import edu.claflin.finder.logic.cond.DirectedCliqueCondition;
+import edu.claflin.finder.metrics.Flight;
 import java.awt.Component;
 import java.awt.Frame;
 import java.awt.GridBagConstraints;
@@ -60,7 +61,7 @@ import org.cytoscape.model.CyColumn;
  * Represents a configuration dialog for the Subgraph Finder external utility. 
  * 
  * @author Charles Allen Schultz II
- * @version 1.7 June 19, 2015
+ * @version 1.8 October 19, 2026
  */
 public class ConfigDialog extends JDialog implements ActionListener,
         ItemListener {
@@ -204,14 +205,40 @@ public class ConfigDialog extends JDialog implements ActionListener,
      * GUI: Checkbox for enabling in-place annotation.
      */
     private JCheckBox iCheckBox = new JCheckBox("In-Place annotation of source graph.");
+    /**
+     * GUI: Checkbox for annotating with one membership list column per table.
+     */
+    private JCheckBox lCheckBox = new JCheckBox("Annotate as a single subgraph membership list column.");
+    /**
+     * GUI: Checkbox for summarizing the annotations in a table of subgraphs.
+     */
+    private JCheckBox tCheckBox = new JCheckBox("Also create a table of the found subgraphs.");
     /**
      * GUI: Checkbox for enabling new child creation.
      */
     private JCheckBox nCheckBox = new JCheckBox("New Child Graph beneath source graph.");
+    /**
+     * GUI: Checkbox for browsing the found subgraphs instead of creating a 
+     * child graph for each.
+     */
+    private JCheckBox bCheckBox = new JCheckBox("Browse found subgraphs, creating child graphs only for the first:");
+    /**
+     * GUI: Field for the number of child graphs created right away when 
+     * browsing.
+     */
+    private JTextField childLimitField = new JTextField("10");
     /**
      * GUI: Checkbox for enabling saving to file.
      */
     private JCheckBox sCheckBox = new JCheckBox("Save found subgraph to file.");
+    /**
+     * GUI: Checkbox for saving to a single result archive.
+     */
+    private JCheckBox rCheckBox = new JCheckBox("Save found subgraphs to a single archive file.");
+    /**
+     * GUI: Checkbox for recording flight recorder events during the search.
+     */
+    private JCheckBox fCheckBox = new JCheckBox("Record Flight Recorder events for the search.");
     
     /**
      * GUI: Button to complete configuration.
@@ -304,7 +331,16 @@ public class ConfigDialog extends JDialog implements ActionListener,
             orderingSelection.setEnabled(false);
         
         orderingSelection.addItemListener(this);
+        iCheckBox.addActionListener(this);
+        nCheckBox.addActionListener(this);
+        bCheckBox.addActionListener(this);
+        bCheckBox.setEnabled(false);
+        childLimitField.setEnabled(false);
+        lCheckBox.setEnabled(false);
+        tCheckBox.setEnabled(false);
         sCheckBox.addActionListener(this);
+        rCheckBox.setEnabled(false);
+        fCheckBox.setEnabled(Flight.isAvailable());
         aCheckBox.setSelected(true);
         aCheckBox.setEnabled(false);
         
@@ -383,34 +419,52 @@ public class ConfigDialog extends JDialog implements ActionListener,
         add(iCheckBox, getConstraints(0, 11, 4, 1, 1, 1,
                 GridBagConstraints.BOTH, GridBagConstraints.CENTER,
                 0, 0, insets));
-        add(nCheckBox, getConstraints(0, 12, 4, 1, 1, 1,
+        add(lCheckBox, getConstraints(0, 12, 4, 1, 1, 1,
+                GridBagConstraints.BOTH, GridBagConstraints.CENTER,
+                0, 0, insets));
+        add(tCheckBox, getConstraints(0, 13, 4, 1, 1, 1,
+                GridBagConstraints.BOTH, GridBagConstraints.CENTER,
+                0, 0, insets));
+        add(nCheckBox, getConstraints(0, 14, 4, 1, 1, 1,
+                GridBagConstraints.BOTH, GridBagConstraints.CENTER,
+                0, 0, insets));
+        add(bCheckBox, getConstraints(0, 15, 3, 1, 1, 1,
                 GridBagConstraints.BOTH, GridBagConstraints.CENTER,
                 0, 0, insets));
-        add(sortGraphSelectionLabel, getConstraints(0, 13, 1, 1, 1, 1,
+        add(childLimitField, getConstraints(3, 15, 1, 1, 1, 1,
+                GridBagConstraints.BOTH, GridBagConstraints.LINE_START,
+                0, 0, insets));
+        add(sortGraphSelectionLabel, getConstraints(0, 16, 1, 1, 1, 1,
                 GridBagConstraints.NONE, GridBagConstraints.CENTER,
                 0, 0, insets));
-        add(sortGraphSelection, getConstraints(1, 13, 1, 1, 1, 1,
+        add(sortGraphSelection, getConstraints(1, 16, 1, 1, 1, 1,
                 GridBagConstraints.NONE, GridBagConstraints.LINE_END,
                 0, 0, insets));
-        add(sCheckBox, getConstraints(0, 14, 4, 1, 1, 1,
+        add(sCheckBox, getConstraints(0, 17, 4, 1, 1, 1,
+                GridBagConstraints.BOTH, GridBagConstraints.CENTER,
+                0, 0, insets));
+        add(rCheckBox, getConstraints(0, 18, 4, 1, 1, 1,
+                GridBagConstraints.BOTH, GridBagConstraints.CENTER,
+                0, 0, insets));
+        add(fCheckBox, getConstraints(0, 19, 4, 1, 1, 1,
                 GridBagConstraints.BOTH, GridBagConstraints.CENTER,
                 0, 0, insets));
         add(new JSeparator(JSeparator.HORIZONTAL),
-                getConstraints(0, 15, 4, 1, 1, 0,
+                getConstraints(0, 20, 4, 1, 1, 0,
                         GridBagConstraints.BOTH, GridBagConstraints.CENTER,
                         0, 0, insets));
-        add(partiteFieldLabel, getConstraints(0, 16, 2, 1, 1, 1, GridBagConstraints.BOTH, GridBagConstraints.CENTER,0, 0, insets));
-        add(partiteField, getConstraints(1, 17, 2, 1, 1, 1,
+        add(partiteFieldLabel, getConstraints(0, 21, 2, 1, 1, 1, GridBagConstraints.BOTH, GridBagConstraints.CENTER,0, 0, insets));
+        add(partiteField, getConstraints(1, 22, 2, 1, 1, 1,
                 GridBagConstraints.BOTH, GridBagConstraints.LINE_START,
                 0, 0, insets));
         add(new JSeparator(JSeparator.HORIZONTAL),
-                getConstraints(0, 18, 4, 1, 1, 0,
+                getConstraints(0, 23, 4, 1, 1, 0,
                         GridBagConstraints.BOTH, GridBagConstraints.CENTER,
                         0, 0, insets));
-        add(doneButton, getConstraints(2, 19, 2, 1, 1, 1,
+        add(doneButton, getConstraints(2, 24, 2, 1, 1, 1,
                 GridBagConstraints.NONE, GridBagConstraints.LINE_END,
                 0, 0, insets));
-        add(helpLabel, getConstraints(0, 19, 1, 1, 1, 1,
+        add(helpLabel, getConstraints(0, 24, 1, 1, 1, 1,
                 GridBagConstraints.NONE, GridBagConstraints.LINE_START,
                 0, 0, insets));
         //testing();
@@ -469,8 +523,71 @@ public class ConfigDialog extends JDialog implements ActionListener,
         argsBundle.putBoolean(ArgumentsBundle.COMMON_ARGS.EDGE_PRESERVATION.toString(), pCheckBox.isSelected());
         
         // Select Algorithm
-        List selectedAlgorithms = algorithmsList.getSelectedValuesList();
+        List selectedAlgorithms = new ArrayList(algorithmsList.getSelectedValuesList());
         
+        int partiteNumber = 0;
+        try {
+        	partiteNumber = Integer.parseInt(partiteField.getText());
+        }
+        catch (Exception e) {
+        	//do nothing
+        }       
+        int orderIndex = sortGraphSelection.getSelectedIndex();
+        
+        Algorithm algo = createAlgorithm(selectedAlgorithms, argsBundle, 
+                partiteNumber, orderIndex);
+        final int partite = partiteNumber;
+        configBundle.setAlgoFactory(() -> {
+            try {
+                return createAlgorithm(selectedAlgorithms, argsBundle, 
+                        partite, orderIndex);
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        configBundle.setAlgo(algo);
+        
+        configBundle.setInPlace(iCheckBox.isSelected());
+        if (configBundle.isInPlace()) {
+            configBundle.setMembershipList(lCheckBox.isSelected());
+            configBundle.setResultsTable(tCheckBox.isSelected());
+        }
+        configBundle.setNewChild(nCheckBox.isSelected());
+        if (configBundle.isNewChild() && bCheckBox.isSelected()) {
+            configBundle.setBrowseResults(true);
+            try {
+                configBundle.setChildLimit(
+                        Integer.parseInt(childLimitField.getText().trim()));
+            } catch (NumberFormatException e) {
+                // keep the default
+            }
+        }
+        configBundle.setSaveToFile(sCheckBox.isSelected());
+        configBundle.setFlightRecording(fCheckBox.isSelected());
+        
+        if (configBundle.isSaveToFile()) {
+            configBundle.setSaveDirectory(saveDirectory);
+            configBundle.setArchive(rCheckBox.isSelected());
+        }
+        
+        return configBundle;
+    }
+
+    
+    /**
+     * Creates the search algorithm chosen by the user.  Called again for 
+     * each network of a batch run, so every search has its own instance.
+     * 
+     * @param selectedAlgorithms the List of selected Algorithm classes.
+     * @param argsBundle the ArgumentsBundle to construct them with.
+     * @param partiteNumber the k-partite number, or 0.
+     * @param orderIndex the index of the selected graph sort order.
+     * @return the Algorithm, bundling several if more than one is selected.
+     * @throws Exception should a problem with reflection occur.
+     */
+    private static Algorithm createAlgorithm(List selectedAlgorithms, 
+            ArgumentsBundle argsBundle, int partiteNumber, int orderIndex) 
+            throws Exception {
         Algorithm algo;
         if (selectedAlgorithms.size() == 1) {
             Class algoClass = (Class) selectedAlgorithms.get(0);
@@ -488,16 +605,8 @@ public class ConfigDialog extends JDialog implements ActionListener,
             algo = new Bundle(bundledAlgos.toArray(new Algorithm[0]));
         }
         
-        int partiteNumber = 0;
-        try {
-        	partiteNumber = Integer.parseInt(partiteField.getText());
-        }
-        catch (Exception e) {
-        	//do nothing
-        }       
         algo.setPartiteNumber(partiteNumber);
         
-        int orderIndex = sortGraphSelection.getSelectedIndex();
         if(orderIndex == 0) {
         	//NONE
         	algo.setGraphSortOrder(GraphSortOrder.NONE);
@@ -511,20 +620,9 @@ public class ConfigDialog extends JDialog implements ActionListener,
         	algo.setGraphSortOrder(GraphSortOrder.AVERAGE_WEIGHT);
         } else {
         	throw new IllegalArgumentException("Order index wasn't valid for some reason.");
-        }             
-          
-        configBundle.setAlgo(algo);
-        
-        configBundle.setInPlace(iCheckBox.isSelected());
-        configBundle.setNewChild(nCheckBox.isSelected());
-        configBundle.setSaveToFile(sCheckBox.isSelected());
-        
-        if (configBundle.isSaveToFile())
-            configBundle.setSaveDirectory(saveDirectory);
-        
-        return configBundle;
+        }
+        return algo;
     }
-
     
     /**
      * {@inheritDoc }
@@ -623,6 +721,25 @@ public class ConfigDialog extends JDialog implements ActionListener,
             } else {
                 saveDirectory = fileChooser.getSelectedFile();
             }
+            rCheckBox.setEnabled(sCheckBox.isSelected());
+        }
+        else if (e.getSource() == sCheckBox) {
+            rCheckBox.setSelected(false);
+            rCheckBox.setEnabled(false);
+        }
+        else if (e.getSource() == nCheckBox || e.getSource() == bCheckBox) {
+            if (!nCheckBox.isSelected())
+                bCheckBox.setSelected(false);
+            bCheckBox.setEnabled(nCheckBox.isSelected());
+            childLimitField.setEnabled(bCheckBox.isSelected());
+        }
+        else if (e.getSource() == iCheckBox) {
+            if (!iCheckBox.isSelected()) {
+                lCheckBox.setSelected(false);
+                tCheckBox.setSelected(false);
+            }
+            lCheckBox.setEnabled(iCheckBox.isSelected());
+            tCheckBox.setEnabled(iCheckBox.isSelected());
         }
     }
 
@@ -0,0 +1,191 @@
+/* 
+ * Copyright 2015 Charles Allen Schultz II.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package edu.claflin.cyfinder.internal.ui;
+
+import static edu.claflin.cyfinder.internal.Global.getTaskManagerService;
+import edu.claflin.cyfinder.internal.logic.FoundSubgraph;
+import edu.claflin.cyfinder.internal.tasks.CreateChildNetworksTask;
+import java.awt.BorderLayout;
+import java.awt.Frame;
+import java.awt.event.ActionEvent;
+import java.awt.event.ActionListener;
+import java.util.ArrayList;
+import java.util.List;
+import javax.swing.Box;
+import javax.swing.BoxLayout;
+import javax.swing.JButton;
+import javax.swing.JDialog;
+import javax.swing.JLabel;
+import javax.swing.JPanel;
+import javax.swing.JScrollPane;
+import javax.swing.JTable;
+import javax.swing.ListSelectionModel;
+import javax.swing.table.AbstractTableModel;
+import org.cytoscape.model.CyNetwork;
+import org.cytoscape.work.TaskIterator;
+
+/**
+ * Represents a browser of the subgraphs found by a search.  The results are 
+ * listed in the order the search sorted them, and child networks are only 
+ * created for the results the user selects, so that a large set of results 
+ * does not flood Cytoscape with networks.
+ * 
+ * @version 1.0 October 19, 2026
+ */
+public class ResultsBrowser extends JDialog implements ActionListener {
+    
+    /**
+     * Represents the table of results.
+     */
+    private class ResultsModel extends AbstractTableModel {
+        
+        /**
+         * The names of the columns.
+         */
+        private final String[] names = {"Subgraph", "Nodes", "Edges", 
+            "Child Network"};
+        
+        @Override
+        public int getRowCount() {
+            return subgraphs.size();
+        }
+        @Override
+        public int getColumnCount() {
+            return names.length;
+        }
+        @Override
+        public String getColumnName(int column) {
+            return names[column];
+        }
+        @Override
+        public Class<?> getColumnClass(int column) {
+            return column == 0 ? String.class : 
+                    column == 3 ? Boolean.class : Integer.class;
+        }
+        @Override
+        public Object getValueAt(int row, int column) {
+            FoundSubgraph subgraph = subgraphs.get(row);
+            switch (column) {
+                case 0: return subgraph.getName();
+                case 1: return subgraph.getNodes().length;
+                case 2: return subgraph.getEdges().length;
+                default: return created[row];
+            }
+        }
+    }
+    
+    /**
+     * The network the subgraphs were found in.
+     */
+    private final CyNetwork network;
+    /**
+     * The found subgraphs.
+     */
+    private final List<FoundSubgraph> subgraphs;
+    /**
+     * Indicates which subgraphs already have a child network.
+     */
+    private final boolean[] created;
+    
+    // UI components
+    
+    /**
+     * GUI: Table of the found subgraphs.
+     */
+    private final JTable table;
+    /**
+     * GUI: Button to create child networks for the selected subgraphs.
+     */
+    private final JButton createButton = new JButton("Create Child Networks");
+    /**
+     * GUI: Button to close the browser.
+     */
+    private final JButton closeButton = new JButton("Close");
+    
+    /**
+     * Constructs the browser.
+     * 
+     * @param parent the Frame to display the browser over.
+     * @param network the CyNetwork the subgraphs were found in.
+     * @param subgraphs the List&lt;FoundSubgraph&gt; of found subgraphs.
+     * @param createdCount the number of leading subgraphs that already have a 
+     * child network.
+     */
+    public ResultsBrowser(Frame parent, CyNetwork network, 
+            List<FoundSubgraph> subgraphs, int createdCount) {
+        super(parent, "Subgraphs Found in " + network.toString(), false);
+        this.network = network;
+        this.subgraphs = subgraphs;
+        this.created = new boolean[subgraphs.size()];
+        for (int index = 0; index < createdCount && index < created.length; 
+                index++)
+            created[index] = true;
+        
+        table = new JTable(new ResultsModel());
+        table.setSelectionMode(ListSelectionModel.MULTIPLE_INTERVAL_SELECTION);
+        table.setAutoCreateRowSorter(true);
+        
+        createButton.addActionListener(this);
+        closeButton.addActionListener(this);
+        
+        JPanel buttons = new JPanel();
+        buttons.setLayout(new BoxLayout(buttons, BoxLayout.LINE_AXIS));
+        buttons.add(Box.createHorizontalStrut(10));
+        buttons.add(new JLabel(subgraphs.size() + " subgraphs found."));
+        buttons.add(Box.createHorizontalGlue());
+        buttons.add(createButton);
+        buttons.add(closeButton);
+        buttons.add(Box.createHorizontalStrut(10));
+        
+        setLayout(new BorderLayout());
+        add(new JScrollPane(table, JScrollPane.VERTICAL_SCROLLBAR_AS_NEEDED,
+                JScrollPane.HORIZONTAL_SCROLLBAR_NEVER), BorderLayout.CENTER);
+        add(buttons, BorderLayout.PAGE_END);
+        setDefaultCloseOperation(JDialog.DISPOSE_ON_CLOSE);
+        pack();
+        setLocationRelativeTo(parent);
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void actionPerformed(ActionEvent e) {
+        if (e.getSource() == closeButton) {
+            dispose();
+        } else if (e.getSource() == createButton) {
+            ArrayList<FoundSubgraph> selected = new ArrayList<>();
+            for (int row : table.getSelectedRows()) {
+                int index = table.convertRowIndexToModel(row);
+                if (!created[index]) {
+                    created[index] = true;
+                    selected.add(subgraphs.get(index));
+                }
+            }
+            if (selected.isEmpty())
+                return;
+            ((AbstractTableModel) table.getModel()).fireTableDataChanged();
+            getTaskManagerService().execute(new TaskIterator(
+                    new CreateChildNetworksTask(network, selected)));
+        }
+    }
+}
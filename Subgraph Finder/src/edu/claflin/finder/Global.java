@@ -2,6 +2,7 @@ package edu.claflin.finder;
 
 import edu.claflin.finder.log.LogLevel;
 import edu.claflin.finder.log.LogUtil;
+import edu.claflin.finder.metrics.Metrics;
 import java.io.File;
 
 /**
@@ -11,7 +12,7 @@ import java.io.File;
  * stored here.  This is a static class and requires no instantiation.
  * 
  * @author Charles Allen Schultz II
- * @version 3.1 May 28, 2015
+ * @version 3.2 October 19, 2026
  */
 public final class Global {
     
@@ -60,6 +61,19 @@ public final class Global {
         return logger;
     }
     
+    /**
+     * The Metrics registry measuring the program.  Always present so that 
+     * metrics may be recorded without checking for it.
+     */
+    private static final Metrics metrics = new Metrics();
+    /**
+     * Gets the metrics registry.
+     * @return the Metrics registry used for measuring the program.
+     */
+    public static Metrics getMetrics() {
+        return metrics;
+    }
+    
     /**
      * The output directory for storing results.  Defaults to the working 
      * directory.
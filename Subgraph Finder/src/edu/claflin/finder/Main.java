@@ -1,6 +1,7 @@
 package edu.claflin.finder;
 
 import static edu.claflin.finder.Global.getLogger;
+import static edu.claflin.finder.Global.getMetrics;
 import static edu.claflin.finder.Global.makeLogger;
 import edu.claflin.finder.algo.Algorithm;
 import edu.claflin.finder.algo.BreadthFirstTraversalSearch;
@@ -11,7 +12,12 @@ import static edu.claflin.finder.Global.setOutput;
 import edu.claflin.finder.algo.ArgumentsBundle;
 import edu.claflin.finder.io.graph.SimpleGraphIO;
 import edu.claflin.finder.io.ManifestParser;
+import edu.claflin.finder.io.graph.AsyncGraphWriter;
+import edu.claflin.finder.io.graph.BinaryGraphIO;
+import edu.claflin.finder.io.graph.MappedGraphIO;
 import edu.claflin.finder.io.graph.NOABatchIO;
+import edu.claflin.finder.io.graph.ResultArchiveReader;
+import edu.claflin.finder.io.graph.ResultArchiveWriter;
 import edu.claflin.finder.io.graph.SIFGraphIO;
 import edu.claflin.finder.io.graph.sub.GraphReader;
 import edu.claflin.finder.io.graph.sub.GraphWriter;
@@ -24,16 +30,25 @@ import edu.claflin.finder.logic.cond.BipartiteCondition;
 import edu.claflin.finder.logic.cond.CliqueCondition;
 import edu.claflin.finder.logic.cond.DirectedCliqueCondition;
 import edu.claflin.finder.logic.processor.BatchProcessor;
+import edu.claflin.finder.metrics.Flight;
+import edu.claflin.finder.metrics.ProgressTracker;
+import edu.claflin.finder.metrics.Timer;
+import java.beans.PropertyChangeEvent;
 import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 /**
  * Interprets the command line arguments provided to the program.
  * 
  * @author Charles Allen Schultz II
- * @version 3.2 February 4, 2016
+ * @version 3.5 October 19, 2026
  */
 public class Main {
     
@@ -43,6 +58,7 @@ public class Main {
      * 
      * {@code        -f <FILE> : Supply a single file to be parsed.}
      * {@code        -m <MANIFEST> : Supply a manifest listing several files to be parsed.}
+     * {@code                    (Graphs that fail to load or search are skipped and the program exits with status 1.)}
      * 
      * {@code        -level <OPTION>}
      * 
@@ -70,10 +86,14 @@ public class Main {
      * {@code                SIMPLE : Simple tab delimited format. (DEFUALT)}
      * {@code                SIF : Simple Interaction Format as defined in the Cytoscape Manual.}
      * {@code                NOA : NOA Batch Format as defined in the NOA Plugin for Cytoscape. (OUTPUT ONLY)}
+     * {@code                MAPPED : Simple format read by multiple threads from a memory mapped file. (INPUT ONLY)}
+     * {@code                BIN : Binary graph snapshot.  Loads without parsing.}
+     * {@code                ARCHIVE : One indexed archive file per source graph holding every result. (OUTPUT ONLY)}
      * 
      * {@code            <OPTION> : Some formats require an additional parameter described below:}
      * {@code                SIF : Default Relationship Type (i.e. \"pp\" or \"pd\")}
      * {@code                NOA : Same as SIF.}
+     * {@code                MAPPED : Number of threads to read with.}
      * 
      * {@code        -cfg <OPTION> : Some algorithms receive special configuration parameters, all of which default to false.}
      * 
@@ -95,6 +115,33 @@ public class Main {
      * 
      * {@code        -undirected : Interprets a graph as being undirected.}
      * 
+     * {@code        -workers <N> : Number of worker threads used to load and search manifest graphs.}
+     * {@code                    (Defaults to the number of available processors.)}
+     * {@code        -inflight <N> : Maximum number of manifest graphs held in memory at once.}
+     * {@code                    (Defaults to twice the number of workers.)}
+     * 
+     * {@code        -stream : Writes each found subgraph as soon as it is found instead of after the search.}
+     * {@code                    (Single graphs only.  Subgraphs contained in an earlier result are dropped,}
+     * {@code                    but earlier results contained in later ones are kept.  Containment is only}
+     * {@code                    tested against the last 1024 results; older results are only kept as their}
+     * {@code                    node and edge ids, about 4 bytes each, and only drop exact repeats.)}
+     * 
+     * {@code        -async <N> : Writes found subgraphs on a separate thread, queueing up to N of them.}
+     * {@code                    (Searching only waits on writing once N subgraphs are queued.)}
+     * 
+     * {@code        -metrics <FILE> : Writes a JSON summary of the run's counters, timers and histograms to FILE.}
+     * 
+     * {@code        -progress : Shows the search's progress, rate and estimated time remaining on a single line.}
+     * {@code                    (Single graphs only.  Updated a few times a second on the error stream.)}
+     * 
+     * {@code        -jfr <FILE> : Records the run with the JDK Flight Recorder, including search phase events, to FILE.}
+     * 
+     * {@code        -convert <FILE> : Converts the input graph to a binary snapshot at FILE instead of searching it.}
+     * {@code                    (With a manifest, FILE is a directory receiving one snapshot per graph.)}
+     * 
+     * {@code        -extract <ARCHIVE> : Writes every result held in ARCHIVE using the output type instead of searching.}
+     * {@code                    (The input graph must be the source graph the archive was written for.)}
+     * 
      * {@code        -algo <ALGO> : The algorithm code indicating the method of finding BSGs to use.}
      * 
      * {@code            <ALGO> : Select from one of the following options:}
@@ -117,6 +164,7 @@ public class Main {
             System.out.println();
             System.out.println("       -f <FILE> : Supply a single file to be parsed.");
             System.out.println("       -m <MANIFEST> : Supply a manifest listing several files to be parsed.");
+            System.out.println("               (Graphs that fail to load or search are skipped and the program exits with status 1.)");
             System.out.println();
             System.out.println("       -level <OPTION>");
             System.out.println();
@@ -144,10 +192,14 @@ public class Main {
             System.out.println("               SIMPLE : Simple tab delimited format. (DEFAULT)");
             System.out.println("               SIF : Simple Interaction Format as defined in the Cytoscape Manual.");
             System.out.println("               NOA : NOA Batch Format as defined in the NOA Plugin for Cytoscape. (OUTPUT ONLY)");
+            System.out.println("               MAPPED : Simple format read by multiple threads from a memory mapped file. (INPUT ONLY)");
+            System.out.println("               BIN : Binary graph snapshot.  Loads without parsing.");
+            System.out.println("               ARCHIVE : One indexed archive file per source graph holding every result. (OUTPUT ONLY)");
             System.out.println();
             System.out.println("           <OPTION> : Some formats require an additional parameter described below:");
             System.out.println("               SIF : Default Relationship Type (i.e. \"pp\" or \"pd\")");
             System.out.println("               NOA : Same as SIF.");
+            System.out.println("               MAPPED : Number of threads to read with.");
             System.out.println();
             System.out.println("       -algo <ALGO> : The algorithm code indicating the method of finding SGs to use.");
             System.out.println();
@@ -178,6 +230,33 @@ public class Main {
             System.out.println();
             System.out.println("       -undirected : Interprets a graph as being undirected.");
             System.out.println();
+            System.out.println("       -workers <N> : Number of worker threads used to load and search manifest graphs.");
+            System.out.println("               (Defaults to the number of available processors.)");
+            System.out.println("       -inflight <N> : Maximum number of manifest graphs held in memory at once.");
+            System.out.println("               (Defaults to twice the number of workers.)");
+            System.out.println();
+            System.out.println("       -stream : Writes each found subgraph as soon as it is found instead of after the search.");
+            System.out.println("               (Single graphs only.  Subgraphs contained in an earlier result are dropped,");
+            System.out.println("               but earlier results contained in later ones are kept.  Containment is only");
+            System.out.println("               tested against the last 1024 results; older results are only kept as their");
+            System.out.println("               node and edge ids, about 4 bytes each, and only drop exact repeats.)");
+            System.out.println();
+            System.out.println("       -async <N> : Writes found subgraphs on a separate thread, queueing up to N of them.");
+            System.out.println("               (Searching only waits on writing once N subgraphs are queued.)");
+            System.out.println();
+            System.out.println("       -metrics <FILE> : Writes a JSON summary of the run's counters, timers and histograms to FILE.");
+            System.out.println();
+            System.out.println("       -progress : Shows the search's progress, rate and estimated time remaining on a single line.");
+            System.out.println("               (Single graphs only.  Updated a few times a second on the error stream.)");
+            System.out.println();
+            System.out.println("       -jfr <FILE> : Records the run with the JDK Flight Recorder, including search phase events, to FILE.");
+            System.out.println();
+            System.out.println("       -convert <FILE> : Converts the input graph to a binary snapshot at FILE instead of searching it.");
+            System.out.println("               (With a manifest, FILE is a directory receiving one snapshot per graph.)");
+            System.out.println();
+            System.out.println("       -extract <ARCHIVE> : Writes every result held in ARCHIVE using the output type instead of searching.");
+            System.out.println("               (The input graph must be the source graph the archive was written for.)");
+            System.out.println();
             System.out.println("       -algo BNDL <ALGO>( <ALGO> ...) : Load a BUNDLE Algorithm.  Processes the graph using each ");
             System.out.println("               of the provided Algorithms.  Algorithm codes should be the same as above and delimited ");
             System.out.println("               using spaces.  NOTE: this must be the last argument as the program assumes all following ");
@@ -187,8 +266,18 @@ public class Main {
             boolean[] terminalLogs = new boolean[] {true, true, true, true};
             boolean[] fileLogs = new boolean[] {true, true, true, true};
             boolean undirected = false;
+            int workers = Runtime.getRuntime().availableProcessors();
+            int inFlight = -1;
+            boolean stream = false;
+            int asyncCapacity = 0;
+            String metrics = null;
+            boolean progress = false;
+            String flight = null;
+            String convert = null;
+            String extract = null;
+            boolean archive = false;
             String file = null;
-            Algorithm algo = null;
+            Supplier<Algorithm> algorithms = null;
             GraphReader reader = new SimpleGraphIO();
             GraphWriter writer = new SimpleGraphIO();
             
@@ -232,6 +321,10 @@ public class Main {
                             reader = new SIFGraphIO(args[++arg]);
                         else if (type.equals("NOA"))
                             error();
+                        else if (type.equals("MAPPED"))
+                            reader = new MappedGraphIO(parseCount(args[++arg]));
+                        else if (type.equals("BIN"))
+                            reader = new BinaryGraphIO();
                         break;
                     case "-output":
                         type = args[++arg];
@@ -239,19 +332,36 @@ public class Main {
                             writer = new SIFGraphIO(args[++arg]);
                         else if (type.equals("NOA"))
                             writer = new NOABatchIO(args[++arg]);
+                        else if (type.equals("BIN"))
+                            writer = new BinaryGraphIO();
+                        else if (type.equals("ARCHIVE"))
+                            archive = true;
                         break;
                     case "-algo":
+                        // Only the options given so far apply, as each 
+                        // Algorithm is built from a copy of them.  A fresh 
+                        // Algorithm is built for every graph of a manifest 
+                        // since a Bundle can only process one at a time.
                         String algorithmCode = args[++arg];
+                        final HashMap<String, Boolean> algoConfig = 
+                                new HashMap<>(config);
+                        final ArrayList<Condition> algoConditions = 
+                                new ArrayList<>(conditions);
+                        final Comparator<Edge> algoOrdering = ordering;
                         if (algorithmCode.equals("BNDL")) {
-                            Algorithm[] algos = 
-                                    new Algorithm[args.length - ++arg];
-                            for (; arg < args.length; arg++) {
-                                algos[args.length - arg - 1] = 
-                                        parseAlgorithm(args[arg], config, conditions, ordering);
-                            }
-                            algo = new Bundle(algos);
+                            final String[] codes = 
+                                    Arrays.copyOfRange(args, ++arg, args.length);
+                            arg = args.length;
+                            algorithms = () -> {
+                                Algorithm[] algos = new Algorithm[codes.length];
+                                for (int code = 0; code < codes.length; code++) {
+                                    algos[codes.length - code - 1] = 
+                                            parseAlgorithm(codes[code], algoConfig, algoConditions, algoOrdering);
+                                }
+                                return new Bundle(algos);
+                            };
                         } else {
-                            algo = parseAlgorithm(algorithmCode, config, conditions, ordering);
+                            algorithms = () -> parseAlgorithm(algorithmCode, algoConfig, algoConditions, algoOrdering);
                         }
                         break;
                     case "-cfg":
@@ -290,66 +400,243 @@ public class Main {
                     case "-undirected":
                         undirected = true;
                         break;
+                    case "-workers":
+                        workers = parseCount(args[++arg]);
+                        break;
+                    case "-inflight":
+                        inFlight = parseCount(args[++arg]);
+                        break;
+                    case "-stream":
+                        stream = true;
+                        break;
+                    case "-async":
+                        asyncCapacity = parseCount(args[++arg]);
+                        break;
+                    case "-metrics":
+                        metrics = args[++arg];
+                        break;
+                    case "-progress":
+                        progress = true;
+                        break;
+                    case "-jfr":
+                        flight = args[++arg];
+                        break;
+                    case "-convert":
+                        convert = args[++arg];
+                        break;
+                    case "-extract":
+                        extract = args[++arg];
+                        break;
                     default:
                         error();
                 }
             }
             
+            // Building the Algorithm here also reports a bad code before 
+            // any graph is read.
+            Algorithm algo = algorithms == null ? null : algorithms.get();
+            
             makeLogger(level, fileLogs, terminalLogs);
             BatchProcessor<Graph, Graph> bP = new BatchProcessor();
+            getMetrics().reset();
+            Timer runTimer = getMetrics().timer("run");
+            long runStart = runTimer.start();
+            Flight.Session flightSession = flight == null ? null : 
+                    Flight.open(new File(flight));
+            int failures = 0;
+            AsyncGraphWriter asyncWriter = null;
+            if (asyncCapacity > 0 && writer != null) {
+                asyncWriter = new AsyncGraphWriter(writer, asyncCapacity);
+                writer = asyncWriter;
+            }
             //Evyatar & Ariel Test
 
-            if (manifest) {
-                File[] files = ManifestParser.parseManifest(file);
-                Graph[] graphs = new Graph[files.length];
-                for (int index = 0; index < files.length; index++)
-                    graphs[index] = reader.parseGraph(files[index], undirected);
+            // The writer, the recording and the logger are closed even if the 
+            // search fails, so queued graphs are written and files flushed.
+            try {
+                if (convert != null) {
+                    convertGraphs(manifest ? ManifestParser.parseManifest(file) : 
+                            new File[] {new File(file)}, reader, undirected, 
+                            new File(convert), manifest);
+                } else if (extract != null) {
+                    Graph graph = reader.parseGraph(new File(file), undirected);
+                    extractResults(new File(extract), graph, writer);
+                } else if (manifest) {
+                    File[] files = ManifestParser.parseManifest(file);
+                    if (inFlight == -1)
+                        inFlight = workers * 2;
                 
-                // Inherent difficulty in this method: memory overflow possible.
-//                ArrayList<ArrayList<Graph>> foundGraphs = 
-//                        bP.processMultiple(graphs, algo);
-//                for (int index = 0; index < foundGraphs.size(); index++) {
-//                    String output = graphs[index].getName();
-//                    writeGraphs(foundGraphs.get(index), output, writer);
-//                }
-                
-//                This solution reduces the memory overflow chance.
-                for (Graph current : graphs) {
-                    String output = current.getName();
-                    ArrayList<Graph> foundGraphs = bP.processSingular(current, algo);
-                    writeGraphs(foundGraphs, output, writer);
+                    // Graphs are loaded lazily by the workers and written in 
+                    // manifest order, so at most inFlight graphs are in memory.
+                    final GraphReader manifestReader = reader;
+                    final GraphWriter manifestWriter = writer;
+                    final boolean manifestUndirected = undirected;
+                    final boolean manifestArchive = archive;
+                    failures = bP.processPipelined(files, 
+                            source -> manifestReader.parseGraph(source, manifestUndirected), 
+                            algorithms, 
+                            (current, foundGraphs) -> writeResults(foundGraphs.stream(), 
+                                    current, manifestWriter, manifestArchive), 
+                            workers, inFlight);
+                } else {
+                    Graph graph = reader.parseGraph(new File(file), undirected);
+                    if (progress && algo != null)
+                        algo.addPropertyChangeListener(Main::printProgress);
+                    if (stream) {
+                        final GraphWriter streamWriter = writer;
+                        final boolean streamArchive = archive;
+                        bP.streamSingular(graph, algo, foundGraphs -> 
+                                writeResults(foundGraphs, graph, streamWriter, streamArchive));
+                    } else {
+                        ArrayList<Graph> foundGraphs = bP.processSingular(graph, algo);
+                        writeResults(foundGraphs.stream(), graph, writer, archive);
+                    }
+                }
+            
+                runTimer.stop(runStart);
+                if (getLogger() != null) {
+                    getLogger().logInfo(LogLevel.NORMAL, 
+                            () -> "Metrics: " + getMetrics().toJson());
+                }
+                if (metrics != null)
+                    getMetrics().writeJson(new File(metrics));
+            } finally {
+                try {
+                    if (asyncWriter != null)
+                        asyncWriter.close();
+                } finally {
+                    if (flightSession != null)
+                        flightSession.close();
+                    if (getLogger() != null)
+                        getLogger().destroy();
                 }
-            } else {
-                Graph graph = reader.parseGraph(new File(file), undirected);
-                ArrayList<Graph> foundGraphs = bP.processSingular(graph, algo);
-                writeGraphs(foundGraphs, graph.getName(), writer);
             }
-
-            getLogger().destroy();
+            if (failures > 0)
+                System.exit(1);
         }
     }
     
+    /**
+     * Prints the progress of the search over the last progress line on the 
+     * error stream, ending the line once the search is done.
+     * 
+     * @param evt the PropertyChangeEvent fired by the Algorithm.
+     */
+    private static void printProgress(PropertyChangeEvent evt) {
+        if (!evt.getPropertyName().equals(Algorithm.PROP_PROGRESS))
+            return;
+        ProgressTracker tracker = 
+                ((Algorithm) evt.getSource()).getProgressTracker();
+        System.err.print("\rSearching: " + tracker.describe() + "   ");
+        if (tracker.getFraction() >= 1D)
+            System.err.println();
+        System.err.flush();
+    }
     /**
      * Writes Graph objects to memory.  Does so in a manner so as to promote 
-     * extensibility.
+     * extensibility.  The graphs are either written into a sub directory 
+     * named after the source graph or, if archive is true, appended to a 
+     * single result archive named after it.
      * 
-     * @param graphs the ArrayList object containing the graphs to write.
-     * @param output the String representing the folder in the memory to store 
-     * the graphs in.
+     * @param graphs the Stream of graphs to write.
+     * @param source the Graph object the graphs were found in.
      * @param writer the {@link GraphWriter} object to use for writing the 
      * graphs.
+     * @param archive indicates if the graphs should be archived instead.
      */
-    private static void writeGraphs(ArrayList<Graph> graphs, String output, GraphWriter writer) {
+    private static void writeResults(Stream<Graph> graphs, Graph source, 
+            GraphWriter writer, boolean archive) {
+        if (!archive) {
+            writeGraphs(graphs, source.getName(), writer);
+            return;
+        }
+        
+        File output = new File(getOutput(), 
+                source.getName() + ResultArchiveWriter.EXTENSION);
+        try (ResultArchiveWriter archiveWriter = 
+                new ResultArchiveWriter(output, source)) {
+            archiveWriter.writeGraphs(graphs);
+        } catch (IOException ioe) {
+            if (getLogger() != null) {
+                getLogger().logError(LogLevel.NORMAL, "Error writing result "
+                        + "archive: " + output.getAbsolutePath());
+            }
+        }
+    }
+    
+    /**
+     * Writes every result held in an archive into a sub directory named 
+     * after the source graph.
+     * 
+     * @param archive the File holding the result archive.
+     * @param source the Graph object the archive was written for.
+     * @param writer the {@link GraphWriter} object to use for writing the 
+     * graphs.
+     */
+    private static void extractResults(File archive, Graph source, 
+            GraphWriter writer) {
+        try (ResultArchiveReader archiveReader = new ResultArchiveReader(archive)) {
+            writeGraphs(archiveReader.stream(source), source.getName(), writer);
+        } catch (IOException | UncheckedIOException ex) {
+            if (getLogger() != null) {
+                getLogger().logError(LogLevel.NORMAL, "Error extracting result "
+                        + "archive: " + archive.getAbsolutePath() + " (" 
+                        + ex.getMessage() + ")");
+            }
+        }
+    }
+    
+    /**
+     * Converts graphs to binary snapshots.
+     * 
+     * @param sources the File array of graphs to convert.
+     * @param reader the {@link GraphReader} object to read the graphs with.
+     * @param undirected indicates if the graphs should be interpreted as 
+     * undirected.
+     * @param target the File to write the snapshot to or, if toDirectory is 
+     * true, the directory to write the snapshots into.
+     * @param toDirectory indicates if target is a directory.
+     */
+    private static void convertGraphs(File[] sources, GraphReader reader, 
+            boolean undirected, File target, boolean toDirectory) {
+        BinaryGraphIO binary = new BinaryGraphIO();
+        if (toDirectory)
+            target.mkdirs();
+        
+        for (File source : sources) {
+            Graph graph = reader.parseGraph(source, undirected);
+            if (graph == null)
+                continue;
+            
+            File output = toDirectory ? 
+                    new File(target, graph.getName() + BinaryGraphIO.EXTENSION) : 
+                    target;
+            if (binary.writeSnapshot(graph, output) && getLogger() != null) {
+                getLogger().logInfo(LogLevel.NORMAL, "Converted " 
+                        + source.getPath() + " to " + output.getPath());
+            }
+        }
+    }
+    
+    /**
+     * Writes graphs to the output directory as they are produced by the 
+     * provided Stream.
+     * 
+     * @param graphs the Stream of Graph objects to write.
+     * @param output the name of the sub directory to write the graphs to.
+     * @param writer the GraphWriter object to write the graphs with.
+     */
+    private static void writeGraphs(Stream<Graph> graphs, String output, GraphWriter writer) {
         File oldOutput = getOutput();
         File newOutput = new File(oldOutput + File.separator, output);
         newOutput.mkdir();
         setOutput(newOutput);
         
-        for (Graph graph : graphs) {
-            writer.writeGraph(graph);
+        try {
+            writer.writeGraphs(graphs);
+        } finally {
+            setOutput(oldOutput);
         }
-        
-        setOutput(oldOutput);
     }
     
     /**
@@ -409,6 +696,26 @@ public class Main {
         return null; // Will never get here.
     }
     
+    /**
+     * Parses a positive count such as a number of worker threads.  Kills the 
+     * program with a warning to the user if the count is not valid.
+     * 
+     * @param count the String containing the count.
+     * @return the int value of the count.
+     */
+    private static int parseCount(String count) {
+        try {
+            int value = Integer.parseInt(count);
+            if (value > 0)
+                return value;
+        } catch (NumberFormatException nfe) {
+            // Handled below.
+        }
+        
+        error();
+        return -1; // Will never get here.
+    }
+    
     /**
      * Used to process a fatal error. Kills the program with a warning to the 
      * user.
@@ -1,26 +1,46 @@
 package edu.claflin.finder.algo;
 
 import static edu.claflin.finder.Global.getLogger;
+import static edu.claflin.finder.Global.getMetrics;
 
 import edu.claflin.finder.logic.cygrouper.Communicator;
 import edu.claflin.finder.logic.cygrouper.CommunicationListener;
 import edu.claflin.finder.algo.Algorithm.GraphSortOrder;
 import edu.claflin.finder.log.LogLevel;
-import edu.claflin.finder.logic.cygrouper.CytogrouperMain;
 import edu.claflin.finder.logic.cygrouper.GraphAverageWeightComparator;
 import edu.claflin.finder.logic.cygrouper.GraphSizeComparator;
+import edu.claflin.finder.logic.cygrouper.LazyGroups;
+import edu.claflin.finder.logic.Edge;
 import edu.claflin.finder.logic.Graph;
+import edu.claflin.finder.logic.Node;
+import edu.claflin.finder.logic.PackedSubgraph;
 import edu.claflin.finder.logic.processor.Processable;
+import edu.claflin.finder.metrics.Counter;
+import edu.claflin.finder.metrics.Flight;
+import edu.claflin.finder.metrics.Histogram;
+import edu.claflin.finder.metrics.ProgressTracker;
+import edu.claflin.finder.metrics.Timer;
 import java.beans.PropertyChangeListener;
 import java.beans.PropertyChangeSupport;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Abstraction of the algorithm classes used for finding subgraphs.
  * 
  * @author Charles Allen Schultz II
- * @version 3.4 February 2. 2015
+ * @version 3.12 October 19, 2026
  */
 public abstract class Algorithm implements Processable<Graph, Graph> {
 	
@@ -28,8 +48,10 @@ public abstract class Algorithm implements Processable<Graph, Graph> {
 		NONE, ASCENDING, DESCENDING, AVERAGE_WEIGHT;
 	}
 	
-    CommunicationListener listener;
-    int counter = 1;
+    /**
+     * The SearchResult of the search running on each thread, if any.
+     */
+    private static final ThreadLocal<SearchResult> RESULT = new ThreadLocal<>();
     /**
      * The ArgumentsBundle object holding arguments for the algorithm.
      */
@@ -43,6 +65,11 @@ public abstract class Algorithm implements Processable<Graph, Graph> {
      * The current progress of the algorithm.
      */
     private double progress = 0D;
+    /**
+     * Tracks the progress of the algorithm through its root nodes, and 
+     * limits how often it is reported.
+     */
+    private final ProgressTracker tracker = new ProgressTracker();
     
     /**
      * Number passed in using partite number.
@@ -54,6 +81,46 @@ public abstract class Algorithm implements Processable<Graph, Graph> {
      */
     public static final String PROP_PROGRESS = "progress";
     
+    /**
+     * Times the search from each root node.
+     */
+    protected static final Timer SEARCH_ROOT = getMetrics().timer("search.root");
+    /**
+     * Counts the nodes expanded by the searches.
+     */
+    protected static final Counter NODES_EXPANDED = 
+            getMetrics().counter("search.nodes.expanded");
+    /**
+     * Records the number of edges waiting to be explored as each node is 
+     * expanded.
+     */
+    protected static final Histogram FRONTIER_SIZE = 
+            getMetrics().histogram("search.frontier.size");
+    /**
+     * Records the number of nodes in each subgraph found from a root node.
+     */
+    protected static final Histogram SUBGRAPH_SIZE = 
+            getMetrics().histogram("search.subgraph.nodes");
+    /**
+     * Times culling a list of found subgraphs.
+     */
+    private static final Timer CULL = getMetrics().timer("cull");
+    /**
+     * Counts the subgraph comparisons made while culling.
+     */
+    private static final Counter CULL_COMPARISONS = 
+            getMetrics().counter("cull.comparisons");
+    /**
+     * Counts the subgraphs dropped while culling.
+     */
+    private static final Counter CULL_DROPPED = 
+            getMetrics().counter("cull.dropped");
+    /**
+     * The number of most recently emitted subgraphs a streamed subgraph is 
+     * tested for containment in.
+     */
+    private static final int STREAM_WINDOW = 1024;
+    
     private GraphSortOrder sortOrder = GraphSortOrder.NONE;
     
     /**
@@ -62,8 +129,6 @@ public abstract class Algorithm implements Processable<Graph, Graph> {
      * Algorithm object.
      */
     public Algorithm(ArgumentsBundle args) {
-        Communicator gimme = Communicator.getSingleton();
-        listener = gimme;
         if (args == null) {
             if (getLogger() != null) {
                 getLogger().logError(LogLevel.DEBUG, "The arguments bundle "
@@ -85,6 +150,31 @@ public abstract class Algorithm implements Processable<Graph, Graph> {
         }
     }
     
+    /**
+     * Searches a graph for subgraphs, as {@link #process(Graph)} does, 
+     * collecting the unique subgraphs together with the groups of their 
+     * nodes into a SearchResult of their own.  Unlike those of 
+     * {@link #process(Graph)}, the results are not handed to the 
+     * {@link Communicator}, so several searches may run at the same time.
+     * 
+     * @param graph the Graph to search through.
+     * @return the SearchResult of this search.
+     */
+    public final SearchResult search(Graph graph) {
+        SearchResult result = new SearchResult();
+        SearchResult enclosing = RESULT.get();
+        RESULT.set(result);
+        try {
+            result.setUniqueSubGraphs(process(graph));
+        } finally {
+            if (enclosing == null)
+                RESULT.remove();
+            else
+                RESULT.set(enclosing);
+        }
+        return result;
+    }
+    
     public void setGraphSortOrder(GraphSortOrder gso) {
     	this.sortOrder = gso;
     }
@@ -109,11 +199,51 @@ public abstract class Algorithm implements Processable<Graph, Graph> {
      * @return the ArrayList of Graph objects containing only unique subgraphs.
      */
     protected final ArrayList<Graph> cull(ArrayList<Graph> subGraphs) {
+        long start = CULL.start();
+        Object event = Flight.beginCull();
+        boolean[] duplicate = markDuplicates(subGraphs, Graph::getNodeCount, 
+                this::compare);
+
+        for (int index = duplicate.length - 1; index >=0; index--)
+            if (duplicate[index])
+                subGraphs.remove(index);
+        return finishCull(subGraphs, duplicate.length, start, event);
+    }
+    /**
+     * Removes duplicate subGraphs from the provided ArrayList of packed 
+     * subgraphs, exactly as {@link #cull(ArrayList)} would from the same 
+     * subgraphs as Graphs.  Only the unique subgraphs are built into Graphs.
+     * 
+     * @param subGraphs the ArrayList containing the PackedSubgraphs to remove 
+     * duplicates from.
+     * @return the ArrayList of Graph objects containing only unique subgraphs.
+     */
+    protected final ArrayList<Graph> cullPacked(
+            ArrayList<PackedSubgraph> subGraphs) {
+        long start = CULL.start();
+        Object event = Flight.beginCull();
+        boolean[] duplicate = markDuplicates(subGraphs, 
+                PackedSubgraph::getNodeCount, this::compare);
+
+        ArrayList<Graph> unique = new ArrayList<>();
+        for (int index = 0; index < duplicate.length; index++)
+            if (!duplicate[index])
+                unique.add(subGraphs.get(index).toGraph());
+        return finishCull(unique, duplicate.length, start, event);
+    }
+    /**
+     * Marks the subgraphs contained within another subgraph of the list.
+     * 
+     * @param <T> the type of the subgraphs.
+     * @param subGraphs the List of subgraphs.
+     * @param nodeCount the ToIntFunction giving the node count of a subgraph.
+     * @param contained the BiPredicate testing if the first subgraph is 
+     * contained within the second.
+     * @return the boolean[] marking the duplicates.
+     */
+    private <T> boolean[] markDuplicates(List<T> subGraphs, 
+            ToIntFunction<T> nodeCount, BiPredicate<T, T> contained) {
         boolean[] duplicate = new boolean[subGraphs.size()];
-//        if(counter == 1){
-//            listener.gimmeUniqueSubGraphs(subGraphs);
-//            counter++;
-//        }
         if (getLogger() != null) {
             getLogger().logAlgo(LogLevel.NORMAL,
                     "CULL: " + subGraphs.size() + " queued for culling.");
@@ -130,39 +260,57 @@ public abstract class Algorithm implements Processable<Graph, Graph> {
 
                 if (getLogger() != null) {
                     getLogger().logAlgo(LogLevel.VERBOSE, "CULL: Comparing "
-                            + "graphs " + index1 + " and " + index2 + ".");
+                            + "graphs {} and {}.", index1, index2);
                 }
 
-                Graph graph1 = subGraphs.get(index1);
-                Graph graph2 = subGraphs.get(index2);
+                T graph1 = subGraphs.get(index1);
+                T graph2 = subGraphs.get(index2);
 
-                if (graph1.getNodeCount() < graph2.getNodeCount()) {
-                    duplicate[index1] = compare(graph1, graph2);
+                if (nodeCount.applyAsInt(graph1) < nodeCount.applyAsInt(graph2)) {
+                    duplicate[index1] = contained.test(graph1, graph2);
 
                     if (duplicate[index1] && getLogger() != null) {
                         getLogger().logAlgo(LogLevel.VERBOSE, "CULL: Marked "
-                                + "duplicate graph at index " + index1 + ".");
+                                + "duplicate graph at index {}.", index1);
                     }
 
                     break;
                 } else {
-                    duplicate[index2] = compare(graph2, graph1);
+                    duplicate[index2] = contained.test(graph2, graph1);
 
                     if (duplicate[index2] && getLogger() != null) {
                         getLogger().logAlgo(LogLevel.VERBOSE, "CULL: Marked "
-                                + "duplicate graph at index " + index2 + ".");
+                                + "duplicate graph at index {}.", index2);
                     }
                 }
             }
         }
-
-        for (int index = duplicate.length - 1; index >=0; index--)
-            if (duplicate[index])
-                subGraphs.remove(index);
+        return duplicate;
+    }
+    /**
+     * Records the end of culling, then sorts the unique subgraphs and hands 
+     * them to the grouping logic, which only runs once the groups are read.  
+     * The groups go to the SearchResult of the running 
+     * {@link #search(Graph)}, or to the {@link Communicator} if the 
+     * algorithm was called through {@link #process(Graph)} alone.
+     * 
+     * @param subGraphs the ArrayList holding the unique subgraphs.
+     * @param queued the number of subgraphs queued for culling.
+     * @param start the long returned by CULL.start() when culling began.
+     * @param event the Object returned by Flight.beginCull() when culling 
+     * began.
+     * @return the ArrayList of unique subgraphs.
+     */
+    @SuppressWarnings("deprecation")
+    private ArrayList<Graph> finishCull(ArrayList<Graph> subGraphs, int queued, 
+            long start, Object event) {
+        CULL_DROPPED.add(queued - subGraphs.size());
+        CULL.stop(start);
+        Flight.endCull(event, queued, subGraphs.size());
 
         if (getLogger() != null) {
             getLogger().logInfo(LogLevel.NORMAL, "CULL: Culled " +
-                    (duplicate.length - subGraphs.size()) + " graphs.");
+                    (queued - subGraphs.size()) + " graphs.");
         }
         
         //sorting
@@ -184,13 +332,189 @@ public abstract class Algorithm implements Processable<Graph, Graph> {
         	}
         }
         
-        //Evyatar & Ariel. Takes the completed subgraphs and starts the logic of assigning a group to evey node in the subgraph (A or B) for each subgraph.
-        CytogrouperMain cytoGrouper = new CytogrouperMain(subGraphs,Communicator.getSingleton(), this.partiteNumber);
-        /*Evyatar & Ariel. This listener (listener.gimmeUniqueSubGraphs(subGraphs)) is not used but may be useful to keep for the future,
-        since it allows access to the the final subgraphs found in the Cyfinder module of the app.*/
+        //Evyatar & Ariel. Hands over the logic of assigning a group to evey node in the subgraph (A or B) for each subgraph, which is only run when the groups are read.
+        CommunicationListener listener = RESULT.get();
+        if (listener == null)
+            listener = Communicator.getSingleton();
+        listener.setGroups(new LazyGroups(subGraphs, this.partiteNumber));
         listener.setUniqueSubGraphs(subGraphs);
         return subGraphs;
     }
+    /**
+     * Removes duplicate subGraphs from the provided Stream as they pass 
+     * through it.  A subgraph is dropped if it is contained within one that 
+     * has already been emitted.  Since emitted subgraphs can not be taken 
+     * back, a subgraph is kept even if a later one turns out to contain it; 
+     * the result is therefore a superset of what {@link #cull(ArrayList)} 
+     * would return.  Streamed results are also not handed to the grouping 
+     * logic.
+     * <br>
+     * Only the last {@link #STREAM_WINDOW} emitted subgraphs are kept to 
+     * test containment against, so the cost per subgraph is bounded.  For 
+     * older ones only the ids of their nodes and edges are kept, which 
+     * still drops exact repeats from anywhere in the stream.  Memory 
+     * therefore grows by about 4 bytes per node and edge of each emitted 
+     * subgraph, plus a fixed overhead per subgraph.
+     * <br>
+     * If a {@link GraphSortOrder} other than NONE is set, the stream can not 
+     * be ordered without seeing every subgraph, so it is collected and 
+     * culled as a whole instead.
+     * 
+     * @param subGraphs the Stream of subGraphs to remove duplicates from.
+     * @return the Stream of Graph objects containing only unique subgraphs.
+     */
+    protected final Stream<Graph> streamCulled(Stream<Graph> subGraphs) {
+        if (getGraphSortOrder() != GraphSortOrder.NONE) {
+            return cull(subGraphs.collect(
+                    Collectors.toCollection(ArrayList::new))).stream();
+        }
+        
+        HashMap<Object, Integer> ids = new HashMap<>();
+        return dropStreamedDuplicates(subGraphs, Graph::getNodeCount, 
+                this::compare, graph -> key(graph, ids), Graph::getName);
+    }
+    /**
+     * Removes duplicate subGraphs from the provided Stream of packed 
+     * subgraphs as they pass through it, exactly as 
+     * {@link #streamCulled(Stream)} would from the same subgraphs as Graphs.  
+     * Only the unique subgraphs are built into Graphs.
+     * 
+     * @param subGraphs the Stream of PackedSubgraphs to remove duplicates 
+     * from.
+     * @return the Stream of Graph objects containing only unique subgraphs.
+     */
+    protected final Stream<Graph> streamCulledPacked(
+            Stream<PackedSubgraph> subGraphs) {
+        if (getGraphSortOrder() != GraphSortOrder.NONE) {
+            return cullPacked(subGraphs.collect(
+                    Collectors.toCollection(ArrayList::new))).stream();
+        }
+        
+        return dropStreamedDuplicates(subGraphs, PackedSubgraph::getNodeCount, 
+                this::compare, PackedSubgraph::getKey, PackedSubgraph::getName)
+                .map(PackedSubgraph::toGraph);
+    }
+    /**
+     * Drops each subgraph of a Stream that repeats one emitted before it or 
+     * is contained within one of the last {@link #STREAM_WINDOW} emitted.
+     * 
+     * @param <T> the type of the subgraphs.
+     * @param subGraphs the Stream of subgraphs.
+     * @param nodeCount the ToIntFunction giving the node count of a subgraph.
+     * @param contained the BiPredicate testing if the first subgraph is 
+     * contained within the second.
+     * @param key the Function giving the sorted ids of the nodes and edges 
+     * of a subgraph, equal for two subgraphs exactly when they hold the same 
+     * nodes and edges.
+     * @param name the Function giving the name of a subgraph.
+     * @return the Stream of unique subgraphs.
+     */
+    private <T> Stream<T> dropStreamedDuplicates(Stream<T> subGraphs, 
+            ToIntFunction<T> nodeCount, BiPredicate<T, T> contained, 
+            Function<T, int[]> key, Function<T, String> name) {
+        ArrayDeque<T> window = new ArrayDeque<>();
+        HashSet<IdSet> emitted = new HashSet<>();
+        return subGraphs.filter(candidate -> {
+            IdSet ids = new IdSet(key.apply(candidate));
+            boolean duplicate = emitted.contains(ids);
+            for (Iterator<T> previous = window.iterator(); 
+                    !duplicate && previous.hasNext();) {
+                T other = previous.next();
+                duplicate = nodeCount.applyAsInt(other) >= 
+                        nodeCount.applyAsInt(candidate) && 
+                        contained.test(candidate, other);
+            }
+            if (duplicate) {
+                if (getLogger() != null) {
+                    getLogger().logAlgo(LogLevel.VERBOSE, "CULL: "
+                            + "Dropped streamed duplicate graph " 
+                            + name.apply(candidate) + ".");
+                }
+                CULL_DROPPED.increment();
+                return false;
+            }
+            emitted.add(ids);
+            window.addLast(candidate);
+            if (window.size() > STREAM_WINDOW)
+                window.removeFirst();
+            return true;
+        });
+    }
+    /**
+     * Gets the sorted ids of the nodes and edges of a streamed Graph.  Each 
+     * node and edge is numbered the first time it is seen, so the ids only 
+     * hold for the stream the map belongs to.  Edge ids are stored negated, 
+     * less one, to keep them apart from the node ids.
+     * 
+     * @param graph the Graph to get the ids of.
+     * @param ids the HashMap from the nodes and edges seen so far to their 
+     * ids.
+     * @return the int[] holding the sorted ids.
+     */
+    private static int[] key(Graph graph, HashMap<Object, Integer> ids) {
+        List<Node> nodes = graph.getNodeList();
+        List<Edge> edges = graph.getEdgeList();
+        int[] key = new int[nodes.size() + edges.size()];
+        int index = 0;
+        for (Node node : nodes)
+            key[index++] = ids.computeIfAbsent(node, added -> ids.size());
+        for (Edge edge : edges)
+            key[index++] = -1 - ids.computeIfAbsent(edge, added -> ids.size());
+        Arrays.sort(key);
+        return key;
+    }
+    /**
+     * Records the end of the search from a root node.
+     * 
+     * @param start the long returned by SEARCH_ROOT.start() when the search 
+     * began.
+     * @param event the Object returned by Flight.beginRootSearch() when the 
+     * search began.
+     * @param root the root Node of the search.
+     * @param found the Graph found from the root node.
+     * @return the found Graph.
+     */
+    protected final Graph recordRoot(long start, Object event, Node root, 
+            Graph found) {
+        recordRoot(start, event, root, found.getNodeCount(), 
+                found.getEdgeCount());
+        return found;
+    }
+    /**
+     * Records the end of the search from a root node.
+     * 
+     * @param start the long returned by SEARCH_ROOT.start() when the search 
+     * began.
+     * @param event the Object returned by Flight.beginRootSearch() when the 
+     * search began.
+     * @param root the root Node of the search.
+     * @param found the PackedSubgraph found from the root node.
+     * @return the found PackedSubgraph.
+     */
+    protected final PackedSubgraph recordRoot(long start, Object event, 
+            Node root, PackedSubgraph found) {
+        recordRoot(start, event, root, found.getNodeCount(), 
+                found.getEdgeCount());
+        return found;
+    }
+    /**
+     * Records the end of the search from a root node.
+     * 
+     * @param start the long returned by SEARCH_ROOT.start() when the search 
+     * began.
+     * @param event the Object returned by Flight.beginRootSearch() when the 
+     * search began.
+     * @param root the root Node of the search.
+     * @param nodes the number of nodes found from the root node.
+     * @param edges the number of edges found from the root node.
+     */
+    private void recordRoot(long start, Object event, Node root, int nodes, 
+            int edges) {
+        SEARCH_ROOT.stop(start);
+        SUBGRAPH_SIZE.record(nodes);
+        Flight.endRootSearch(event, getClass().getSimpleName(), 
+                root.getIdentifier(), nodes, edges);
+    }
     /**
      * Reorders the supplied graphs so that the matrices match.  The larger 
      * graph (in terms of node count) is reordered so that the order of its 
@@ -226,10 +550,73 @@ public abstract class Algorithm implements Processable<Graph, Graph> {
      * subgraph of the larger.
      */
     private boolean compare(Graph base, Graph match) {        
+        CULL_COMPARISONS.increment();
         return match.getNodeList().containsAll(base.getNodeList()) &&
                 match.getEdgeList().containsAll(base.getEdgeList());
     }
+    /**
+     * Compares two packed subgraphs of the same graph.  Tests to see that the 
+     * smaller is a subgraph of the larger.
+     * 
+     * @param base the PackedSubgraph (smaller) to match.
+     * @param match the PackedSubgraph (larger) to test against.
+     * @return a boolean primitive indicating if the smaller subgraph is a 
+     * subgraph of the larger.
+     */
+    private boolean compare(PackedSubgraph base, PackedSubgraph match) {
+        CULL_COMPARISONS.increment();
+        return base.isContainedIn(match);
+    }
+    
+    /**
+     * Starts tracking the progress of a search.  Reports no progress.
+     * 
+     * @param roots the number of root nodes to search, or 0 if progress 
+     * will be reported with {@link #updateProgress(double)}.
+     */
+    protected final void startProgress(long roots) {
+        tracker.start(roots);
+        setProgress(0D);
+    }
+    /**
+     * Counts a searched root node.  The progress is reported at most once 
+     * per {@link ProgressTracker#DEFAULT_INTERVAL} milliseconds, and when the 
+     * last root is searched; roots may be searched from several threads.
+     */
+    protected final void rootSearched() {
+        if (tracker.advance())
+            setProgress(tracker.getFraction());
+    }
+    /**
+     * Updates the progress of a search that is not counted in root nodes.  
+     * Reported no more often than the progress of counted roots.
+     * 
+     * @param progress the double fraction of the search done.
+     */
+    protected final void updateProgress(double progress) {
+        if (tracker.set(progress))
+            setProgress(tracker.getFraction());
+    }
+    /**
+     * Gets the tracker of the algorithm's progress, which gives the 
+     * throughput and the estimated time remaining of the running search.  
+     * Listeners receiving a {@link #PROP_PROGRESS} event may read it from 
+     * the Algorithm that fired it.
+     * 
+     * @return the ProgressTracker of the algorithm.
+     */
+    public ProgressTracker getProgressTracker() {
+        return tracker;
+    }
     
+    /**
+     * Sets the progress of the algorithm, firing a {@link #PROP_PROGRESS} 
+     * event.  Searches report their progress through 
+     * {@link #rootSearched()} instead, which limits how often this is 
+     * called.
+     * 
+     * @param progress the double fraction of the search done.
+     */
     protected void setProgress(double progress) {
         if (progress < 0D || progress > 1D)
             throw new IllegalArgumentException("Progress must be between 0 and 1!");
@@ -255,4 +642,39 @@ public abstract class Algorithm implements Processable<Graph, Graph> {
     public void removePropertyChangeListener(PropertyChangeListener pcl) {
         mPCS.removePropertyChangeListener(pcl);
     }
+    
+    /**
+     * The sorted ids of the nodes and edges of a streamed subgraph, compared 
+     * by content.
+     */
+    private static final class IdSet {
+        
+        /**
+         * The sorted ids.
+         */
+        private final int[] ids;
+        /**
+         * The hash of the ids.
+         */
+        private final int hash;
+        
+        /**
+         * Constructs an IdSet.
+         * 
+         * @param ids the int[] holding the sorted ids, kept by the IdSet.
+         */
+        private IdSet(int[] ids) {
+            this.ids = ids;
+            this.hash = Arrays.hashCode(ids);
+        }
+        
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof IdSet && Arrays.equals(ids, ((IdSet) o).ids);
+        }
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
 }
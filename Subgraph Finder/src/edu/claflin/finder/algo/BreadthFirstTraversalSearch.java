@@ -2,23 +2,31 @@ package edu.claflin.finder.algo;
 
 import static edu.claflin.finder.Global.getLogger;
 import edu.claflin.finder.log.LogLevel;
+import edu.claflin.finder.logic.BitSubgraph;
 import edu.claflin.finder.logic.ConditionedGraph;
 import edu.claflin.finder.logic.Graph;
 import edu.claflin.finder.logic.Edge;
+import edu.claflin.finder.logic.IndexedGraph;
 import edu.claflin.finder.logic.Node;
+import edu.claflin.finder.logic.PackedSubgraph;
 import edu.claflin.finder.logic.PrioritySet;
+import edu.claflin.finder.metrics.Flight;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Queue;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 /**
  * Processes a {@link Graph} searching for subgraphs by performing a breadth 
- * first search on each node of the graph.
+ * first search on each node of the graph.  Simple graphs are searched through 
+ * an {@link IndexedGraph}, growing each subgraph as a {@link BitSubgraph}; 
+ * other graphs are searched through the Graph itself.
  * 
  * @author Charles Allen Schultz II
- * @version 3.4 February 4, 2016
+ * @version 3.8 October 19, 2026
  */
 public class BreadthFirstTraversalSearch extends Algorithm {
     
@@ -50,30 +58,84 @@ public class BreadthFirstTraversalSearch extends Algorithm {
     @Override
     public ArrayList<Graph> process(Graph graph) {
         ArrayList<Graph> subGraphs = new ArrayList<>();
+        ArrayList<PackedSubgraph> packed = new ArrayList<>();
         
         if (getLogger() != null) {
             getLogger().logAlgo(LogLevel.NORMAL, 
                     "BFTS: Searching Graph: " + graph.getName());
         }
         
+        IndexedSearch search = index(graph);
+        startProgress(graph.getNodeCount());
         for (Node node : graph.getNodeList()) {
             
             if (getLogger() != null) {
                 getLogger().logAlgo(LogLevel.VERBOSE, 
-                        "BFTS: Setting Node as root: " + node.toString());
+                        "BFTS: Setting Node as root: {}", node);
             }
             
-            subGraphs.add(searchNode(graph, node));
-            setProgress(graph.getNodeIndex(node) * 1D / graph.getNodeCount());
+            if (search != null)
+                packed.add(searchNode(search, node));
+            else
+                subGraphs.add(searchNode(graph, node));
+            rootSearched();
         }
         
         if (getLogger() != null) {
             getLogger().logAlgo(LogLevel.NORMAL, 
                     "BFTS: Finished Searching Graph. SGs found: "
-                    + subGraphs.size());
+                    + (search != null ? packed.size() : subGraphs.size()));
         }
         
-        return cull(subGraphs);
+        return search != null ? cullPacked(packed) : cull(subGraphs);
+    }
+    /**
+     * {@inheritDoc }
+     * <br>
+     * Searches from each root node only as the Stream is consumed.  Duplicate 
+     * subgraphs are removed using {@link #streamCulled(Stream)} or 
+     * {@link #streamCulledPacked(Stream)}.
+     * 
+     * @param graph the {@link Graph} object to search through.
+     * @return the Stream of Graph objects holding the found subgraphs.
+     */
+    @Override
+    public Stream<Graph> stream(Graph graph) {
+        if (getLogger() != null) {
+            getLogger().logAlgo(LogLevel.NORMAL, 
+                    "BFTS: Streaming Graph: " + graph.getName());
+        }
+        
+        List<Node> nodes = graph.getNodeList();
+        IndexedSearch search = index(graph);
+        startProgress(nodes.size());
+        if (search != null) {
+            return streamCulledPacked(IntStream.range(0, nodes.size())
+                    .mapToObj(index -> {
+                Node node = nodes.get(index);
+                
+                if (getLogger() != null) {
+                    getLogger().logAlgo(LogLevel.VERBOSE, 
+                            "BFTS: Setting Node as root: {}", node);
+                }
+                
+                PackedSubgraph subGraph = searchNode(search, node);
+                rootSearched();
+                return subGraph;
+            }));
+        }
+        return streamCulled(IntStream.range(0, nodes.size()).mapToObj(index -> {
+            Node node = nodes.get(index);
+            
+            if (getLogger() != null) {
+                getLogger().logAlgo(LogLevel.VERBOSE, 
+                        "BFTS: Setting Node as root: {}", node);
+            }
+            
+            Graph subGraph = searchNode(graph, node);
+            rootSearched();
+            return subGraph;
+        }));
     }
     /**
      * Helper method to search for the SubGraphs.  Creates and manages a queue 
@@ -84,28 +146,15 @@ public class BreadthFirstTraversalSearch extends Algorithm {
      * @return the Graph object representing the found subgraph.
      */
     private Graph searchNode(Graph graph, Node node) {
+        long start = SEARCH_ROOT.start();
+        Object event = Flight.beginRootSearch();
        //set subgraph name
     	ConditionedGraph subGraph = new ConditionedGraph("[BFS]_N[" + node + "]_" + 
                 graph.getName(), args.getConditionsList());
         //add parameter node to subgraph
         subGraph.addNode(node);
         
-        Queue<Edge> queue;
-        Comparator<Edge> comparator = null;
-        try {
-            Object obj = args.getObject(ArgumentsBundle.COMMON_ARGS.EDGE_WEIGHT_COMPARATOR.toString());
-            if (obj != null) {
-                comparator = (Comparator<Edge>) obj;
-            }
-        } catch (ClassCastException e) { // In future, maybe change ArgumentsBundle to auto-cast things appropriately and restrict elements.
-            if (getLogger() != null) {
-                getLogger().logAlgo(LogLevel.NORMAL, "BFTS: Error casting EDGE_WEIGHT_COMPARATOR");
-            }
-        }
-        if (comparator != null)
-             queue = new PrioritySet<>(comparator, true);
-        else
-            queue = new LinkedList<>();
+        Queue<Edge> queue = newQueue();
         
         //add edges to the queue
         LinkedList<Node> visited = new LinkedList();
@@ -146,10 +195,12 @@ public class BreadthFirstTraversalSearch extends Algorithm {
             
             // mark current node as visited 
             visited.add(current);
+            NODES_EXPANDED.increment();
+            FRONTIER_SIZE.record(queue.size());
             
             if (getLogger() != null) {
                 getLogger().logAlgo(LogLevel.DEBUG, 
-                        "BFTS: Scanning Node: " + current.toString());
+                        "BFTS: Scanning Node: {}", current);
             }
             
             // Check to see if the current node has any edges back into the 
@@ -215,6 +266,145 @@ public class BreadthFirstTraversalSearch extends Algorithm {
             
         }
         
-        return subGraph;
+        return recordRoot(start, event, node, subGraph);
+    }
+    /**
+     * Helper method to search for the SubGraphs through the index of a 
+     * simple graph.  Takes exactly the same steps as 
+     * {@link #searchNode(Graph, Node)}, but tests nodes and edges against 
+     * the bitsets of the subgraph rather than searching lists.
+     * 
+     * @param search the IndexedSearch holding the graph to search through.
+     * @param node the node to use as the root.
+     * @return the PackedSubgraph representing the found subgraph.
+     */
+    private PackedSubgraph searchNode(IndexedSearch search, Node node) {
+        long start = SEARCH_ROOT.start();
+        Object event = Flight.beginRootSearch();
+        IndexedGraph graph = search.graph;
+        BitSubgraph subGraph = search.begin("[BFS]_N[" + node + "]_" + 
+                graph.getGraph().getName());
+        int root = graph.getNodeId(node);
+        search.nodes[0] = root;
+        subGraph.addPartialGraph(search.nodes, 1, search.edges, 0);
+        
+        Queue<Edge> queue = newQueue();
+        Boolean preservative = args.getBoolean(ArgumentsBundle.COMMON_ARGS.EDGE_PRESERVATION.toString());
+        queue.add(new Edge(null, node, 0, false));
+        
+        if (getLogger() != null) {
+            getLogger().logAlgo(LogLevel.DEBUG, "BFTS: Initialized queue.");
+        }
+        
+        while (!queue.isEmpty()) {
+            Edge currentEdge = queue.remove();
+            int edgeId = graph.getEdgeId(currentEdge);
+            int current;
+            
+            if (currentEdge.isUndirected()) {
+                if (!search.isVisited(graph.getSource(edgeId))) {
+                    current = graph.getSource(edgeId);
+                } else if (!search.isVisited(graph.getDestination(edgeId))) {
+                    current = graph.getDestination(edgeId);
+                } else {
+                    continue;
+                }
+            } else {
+                current = edgeId == -1 ? root : graph.getDestination(edgeId);
+            }
+            
+            search.visit(current);
+            NODES_EXPANDED.increment();
+            FRONTIER_SIZE.record(queue.size());
+            
+            if (getLogger() != null) {
+                getLogger().logAlgo(LogLevel.DEBUG, 
+                        "BFTS: Scanning Node: {}", graph.getNode(current));
+            }
+            
+            // Add the edges from the current node back into the subgraph one 
+            // at a time.
+            int rowEnd = graph.rowStart(current + 1);
+            for (int entry = graph.rowStart(current); entry < rowEnd; entry++) {
+                int edge = graph.rowEdge(entry);
+                if (subGraph.containsNode(graph.rowNode(entry)) && 
+                        !subGraph.containsEdge(edge)) {
+                    search.edges[0] = edge;
+                    subGraph.addPartialGraph(search.nodes, 0, search.edges, 1);
+                }
+            }
+            
+            for (int entry = graph.rowStart(current); entry < rowEnd; entry++) {
+                int neighbor = graph.rowNode(entry);
+                if (search.isVisited(neighbor))
+                    continue;
+                
+                int edge = graph.rowEdge(entry);
+                int nodeCount = 0;
+                int edgeCount = 0;
+                if (!subGraph.containsNode(neighbor))
+                    search.nodes[nodeCount++] = neighbor;
+                if (!subGraph.containsEdge(edge))
+                    search.edges[edgeCount++] = edge;
+                
+                // If preservative, add the node and all it's edges back into 
+                // the subgraph all at once.
+                if (preservative != null && preservative) {
+                    int neighborEnd = graph.rowStart(neighbor + 1);
+                    for (int other = graph.rowStart(neighbor); 
+                            other < neighborEnd; other++) {
+                        int otherEdge = graph.rowEdge(other);
+                        if (otherEdge != edge && 
+                                subGraph.containsNode(graph.rowNode(other)) && 
+                                !subGraph.containsEdge(otherEdge))
+                            search.edges[edgeCount++] = otherEdge;
+                    }
+                }
+                
+                if (subGraph.addPartialGraph(search.nodes, nodeCount, 
+                        search.edges, edgeCount))
+                    queue.add(graph.getEdge(edge));
+            }
+        }
+        
+        return recordRoot(start, event, node, subGraph.pack());
+    }
+    /**
+     * Indexes a graph for searching.
+     * 
+     * @param graph the Graph to search through.
+     * @return the IndexedSearch, or null if the graph must be searched 
+     * without an index.
+     */
+    private IndexedSearch index(Graph graph) {
+        IndexedSearch search = IndexedSearch.of(graph, args.getConditionsList());
+        if (search == null && getLogger() != null) {
+            getLogger().logAlgo(LogLevel.DEBUG, "BFTS: Graph has equal edges; "
+                    + "searching without an index.");
+        }
+        return search;
+    }
+    /**
+     * Creates the queue of edges to explore, ordered by the 
+     * EDGE_WEIGHT_COMPARATOR if one is set.
+     * 
+     * @return the Queue of Edges.
+     */
+    private Queue<Edge> newQueue() {
+        Comparator<Edge> comparator = null;
+        try {
+            Object obj = args.getObject(ArgumentsBundle.COMMON_ARGS.EDGE_WEIGHT_COMPARATOR.toString());
+            if (obj != null) {
+                comparator = (Comparator<Edge>) obj;
+            }
+        } catch (ClassCastException e) { // In future, maybe change ArgumentsBundle to auto-cast things appropriately and restrict elements.
+            if (getLogger() != null) {
+                getLogger().logAlgo(LogLevel.NORMAL, "BFTS: Error casting EDGE_WEIGHT_COMPARATOR");
+            }
+        }
+        if (comparator != null)
+            return new PrioritySet<>(comparator, true);
+        else
+            return new LinkedList<>();
     }
 }
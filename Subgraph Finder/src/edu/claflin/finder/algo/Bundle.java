@@ -13,7 +13,7 @@ import java.util.ArrayList;
  * single algorithm.
  * 
  * @author Charles Allen Schultz II
- * @version 3.1.2 February 4, 2015
+ * @version 3.2 October 19, 2026
  */
 public class Bundle extends Algorithm implements PropertyChangeListener {
     
@@ -35,6 +35,8 @@ public class Bundle extends Algorithm implements PropertyChangeListener {
     public Bundle(Algorithm[] algorithms) {
         super(new ArgumentsBundle()); // Supplied bundle is not used for configuration.
         this.algorithms = algorithms;
+        for (Algorithm algo : algorithms)
+            algo.addPropertyChangeListener(this);
         
         if (getLogger() != null) {
             getLogger().logInfo(LogLevel.DEBUG, "Bundle Algorithm initialized.");
@@ -54,9 +56,10 @@ public class Bundle extends Algorithm implements PropertyChangeListener {
     @Override
     public ArrayList<Graph> process(Graph graph) {
         ArrayList<Graph> subGraphs = new ArrayList();
+        done = 0;
+        startProgress(0);
         
         for (Algorithm algo : algorithms) {
-            algo.addPropertyChangeListener(this);
             subGraphs.addAll(algo.process(graph));
             done++;
         }
@@ -64,12 +67,22 @@ public class Bundle extends Algorithm implements PropertyChangeListener {
         return cull(subGraphs);
     }
 
+    /**
+     * {@inheritDoc }
+     * <br>
+     * Passes on the progress of the running algorithm as a share of the 
+     * whole bundle.  The algorithms already limit how often they report, and 
+     * the bundle limits it again.
+     * 
+     * @param evt the PropertyChangeEvent fired by one of the algorithms.
+     */
     @Override
     public void propertyChange(PropertyChangeEvent evt) {
         if (evt.getPropertyName().equals(PROP_PROGRESS)) {
-            double progress = done * 1D / algorithms.length // Completed Algos
-                    + ((Double) evt.getNewValue()) / 2; // Current Algo
-            setProgress(progress);
+            double progress = (done // Completed Algos
+                    + (Double) evt.getNewValue()) // Current Algo
+                    / algorithms.length;
+            updateProgress(progress);
         }
     }
 }
@@ -2,23 +2,31 @@ package edu.claflin.finder.algo;
 
 import static edu.claflin.finder.Global.getLogger;
 import edu.claflin.finder.log.LogLevel;
+import edu.claflin.finder.logic.BitSubgraph;
 import edu.claflin.finder.logic.ConditionedGraph;
 import edu.claflin.finder.logic.Graph;
 import edu.claflin.finder.logic.Edge;
+import edu.claflin.finder.logic.IndexedGraph;
 import edu.claflin.finder.logic.Node;
+import edu.claflin.finder.logic.PackedSubgraph;
 import edu.claflin.finder.logic.PrioritySet;
+import edu.claflin.finder.metrics.Flight;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Queue;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 /**
  * Processes a {@link Graph} searching for bipartite subgraphs by performing a 
- * depth first search on each node.
+ * depth first search on each node.  Simple graphs are searched through an 
+ * {@link IndexedGraph}, growing each subgraph as a {@link BitSubgraph}; other 
+ * graphs are searched through the Graph itself.
  * 
  * @author Charles Allen Schultz II
- * @version 3.4 February 4, 2016
+ * @version 3.8 October 19, 2026
  */
 public class DepthFirstTraversalSearch extends Algorithm {
 
@@ -50,34 +58,101 @@ public class DepthFirstTraversalSearch extends Algorithm {
     @Override
     public ArrayList<Graph> process(Graph graph) {
         ArrayList<Graph> subGraphs = new ArrayList<>();
+        ArrayList<PackedSubgraph> packed = new ArrayList<>();
         
         if (getLogger() != null) {
             getLogger().logAlgo(LogLevel.NORMAL, 
                     "DFTS: Searching Graph: " + graph.getName());
         }
         
+        IndexedSearch search = index(graph);
+        startProgress(graph.getNodeCount());
         for (Node current : graph.getNodeList()) {
             
             if (getLogger() != null) {
                 getLogger().logAlgo(LogLevel.VERBOSE, 
-                        "DFTS: Setting Node as root: " + current.toString());
+                        "DFTS: Setting Node as root: {}", current);
             }
             
+            if (search != null) {
+                packed.add(searchRoot(search, current));
+                rootSearched();
+                continue;
+            }
+            
+            long start = SEARCH_ROOT.start();
+            Object event = Flight.beginRootSearch();
             Graph subGraph = new ConditionedGraph("[DFS]_N[" + current + "]_" + 
                 graph.getName(), args.getConditionsList());
             ArrayList<Node> visited = new ArrayList<>();
             visited.add(current);
-            subGraphs.add(searchNode(graph, subGraph, current, visited));
-            setProgress(graph.getNodeIndex(current) * 1D / graph.getNodeCount());
+            subGraphs.add(recordRoot(start, event, current, 
+                    searchNode(graph, subGraph, current, visited)));
+            rootSearched();
         }
         
         if (getLogger() != null) {
             getLogger().logAlgo(LogLevel.NORMAL, 
                     "DFTS: Finished Searching Graph. SGs found: "
-                    + subGraphs.size());
+                    + (search != null ? packed.size() : subGraphs.size()));
         }
         
-        return cull(subGraphs);
+        return search != null ? cullPacked(packed) : cull(subGraphs);
+    }
+    /**
+     * {@inheritDoc }
+     * <br>
+     * Searches from each root node only as the Stream is consumed.  Duplicate 
+     * subgraphs are removed using {@link #streamCulled(Stream)} or 
+     * {@link #streamCulledPacked(Stream)}.
+     * 
+     * @param graph the {@link Graph} object to search through.
+     * @return the Stream of Graph objects holding the found subgraphs.
+     */
+    @Override
+    public Stream<Graph> stream(Graph graph) {
+        if (getLogger() != null) {
+            getLogger().logAlgo(LogLevel.NORMAL, 
+                    "DFTS: Streaming Graph: " + graph.getName());
+        }
+        
+        List<Node> nodes = graph.getNodeList();
+        IndexedSearch search = index(graph);
+        startProgress(nodes.size());
+        if (search != null) {
+            return streamCulledPacked(IntStream.range(0, nodes.size())
+                    .mapToObj(index -> {
+                Node current = nodes.get(index);
+                
+                if (getLogger() != null) {
+                    getLogger().logAlgo(LogLevel.VERBOSE, 
+                            "DFTS: Setting Node as root: {}", current);
+                }
+                
+                PackedSubgraph found = searchRoot(search, current);
+                rootSearched();
+                return found;
+            }));
+        }
+        return streamCulled(IntStream.range(0, nodes.size()).mapToObj(index -> {
+            Node current = nodes.get(index);
+            
+            if (getLogger() != null) {
+                getLogger().logAlgo(LogLevel.VERBOSE, 
+                        "DFTS: Setting Node as root: {}", current);
+            }
+            
+            long start = SEARCH_ROOT.start();
+            Object event = Flight.beginRootSearch();
+            Graph subGraph = new ConditionedGraph("[DFS]_N[" + current + "]_" + 
+                graph.getName(), args.getConditionsList());
+            ArrayList<Node> visited = new ArrayList<>();
+            visited.add(current);
+            Graph found = recordRoot(start, event, current, 
+                    searchNode(graph, subGraph, current, visited));
+            rootSearched();
+            return found;
+        }));
     }
     /**
      * Helper method to search for the SubGraphs.  Loops recursively 
@@ -93,6 +168,7 @@ public class DepthFirstTraversalSearch extends Algorithm {
     private Graph searchNode(Graph graph, Graph subGraph, Node node, List<Node> visited) {
         if (!subGraph.getNodeList().contains(node))
             subGraph.addNode(node);
+        NODES_EXPANDED.increment();
         
         // Check to see if the current node has any edges back into the 
         // graph and attempt add them in sequence.
@@ -107,28 +183,14 @@ public class DepthFirstTraversalSearch extends Algorithm {
         cEdges.stream().forEach(e -> subGraph.addEdge(e));
         
         // Crazy queue mechanism for setting the ordering of explored nodes.
-        Queue<Edge> queue;
-        Comparator<Edge> comparator = null;
-        try {
-            Object obj = args.getObject(ArgumentsBundle.COMMON_ARGS.EDGE_WEIGHT_COMPARATOR.toString());
-            if (obj != null) {
-                comparator = (Comparator<Edge>) obj;
-            }
-        } catch (ClassCastException e) { // In future, maybe change ArgumentsBundle to auto-cast things appropriately and restrict elements.
-            if (getLogger() != null) {
-                getLogger().logAlgo(LogLevel.NORMAL, "BFTS: Error casting EDGE_WEIGHT_COMPARATOR");
-            }
-        }
-        if (comparator != null)
-            queue = new PrioritySet<>(comparator, true);
-        else
-            queue = new LinkedList<>();
+        Queue<Edge> queue = newQueue();
         graph.getAdjacencyList(node).stream()
                 .forEach(n -> {
                     Edge e = graph.getEdge(node, n);
                     if (!visited.contains(n))
                         queue.add(e);
                 });
+        FRONTIER_SIZE.record(queue.size());
         
         Boolean preservative = args.getBoolean(ArgumentsBundle.COMMON_ARGS.EDGE_PRESERVATION.toString());
         
@@ -178,4 +240,145 @@ public class DepthFirstTraversalSearch extends Algorithm {
         
         return subGraph;
     }
+    /**
+     * Searches for the SubGraph from a root node through the index of a 
+     * simple graph.
+     * 
+     * @param search the IndexedSearch holding the graph to search through.
+     * @param root the node to use as the root.
+     * @return the PackedSubgraph representing the found subgraph.
+     */
+    private PackedSubgraph searchRoot(IndexedSearch search, Node root) {
+        long start = SEARCH_ROOT.start();
+        Object event = Flight.beginRootSearch();
+        IndexedGraph graph = search.graph;
+        search.begin("[DFS]_N[" + root + "]_" + graph.getGraph().getName());
+        int node = graph.getNodeId(root);
+        search.visit(node);
+        searchNode(search, node);
+        return recordRoot(start, event, root, search.subGraph.pack());
+    }
+    /**
+     * Helper method to search for the SubGraphs through the index of a 
+     * simple graph.  Takes exactly the same steps as 
+     * {@link #searchNode(Graph, Graph, Node, List)}, but tests nodes and 
+     * edges against the bitsets of the subgraph rather than searching lists.
+     * 
+     * @param search the IndexedSearch holding the graph to search through.
+     * @param node the id of the current node to search.
+     */
+    private void searchNode(IndexedSearch search, int node) {
+        IndexedGraph graph = search.graph;
+        BitSubgraph subGraph = search.subGraph;
+        if (!subGraph.containsNode(node)) {
+            search.nodes[0] = node;
+            subGraph.addPartialGraph(search.nodes, 1, search.edges, 0);
+        }
+        NODES_EXPANDED.increment();
+        
+        // Add the edges from the current node back into the subgraph one at 
+        // a time.
+        int rowEnd = graph.rowStart(node + 1);
+        for (int entry = graph.rowStart(node); entry < rowEnd; entry++) {
+            int edge = graph.rowEdge(entry);
+            if (subGraph.containsNode(graph.rowNode(entry)) && 
+                    !subGraph.containsEdge(edge)) {
+                search.edges[0] = edge;
+                subGraph.addPartialGraph(search.nodes, 0, search.edges, 1);
+            }
+        }
+        
+        Queue<Edge> queue = newQueue();
+        for (int entry = graph.rowStart(node); entry < rowEnd; entry++)
+            if (!search.isVisited(graph.rowNode(entry)))
+                queue.add(graph.getEdge(graph.rowEdge(entry)));
+        FRONTIER_SIZE.record(queue.size());
+        
+        Boolean preservative = args.getBoolean(ArgumentsBundle.COMMON_ARGS.EDGE_PRESERVATION.toString());
+        
+        while (!queue.isEmpty()) {
+            Edge currentEdge = queue.remove();
+            int edge = graph.getEdgeId(currentEdge);
+            int neighbor;
+            if (currentEdge.isUndirected()) {
+                if (!search.isVisited(graph.getSource(edge))) {
+                    neighbor = graph.getSource(edge);
+                } else if (!search.isVisited(graph.getDestination(edge))) {
+                    neighbor = graph.getDestination(edge);
+                } else {
+                    continue; // eat the edge since it's already been "explored"
+                }
+            } else {
+                neighbor = graph.getDestination(edge);
+            }
+            
+            int nodeCount = 0;
+            int edgeCount = 0;
+            if (!subGraph.containsNode(neighbor))
+                search.nodes[nodeCount++] = neighbor;
+            if (!subGraph.containsEdge(edge))
+                search.edges[edgeCount++] = edge;
+            
+            // If preservative, add the node and all it's edges back into the 
+            // subgraph all at once.
+            if (preservative != null && preservative) {
+                int neighborEnd = graph.rowStart(neighbor + 1);
+                for (int other = graph.rowStart(neighbor); other < neighborEnd; 
+                        other++) {
+                    int otherEdge = graph.rowEdge(other);
+                    if (otherEdge != edge && 
+                            subGraph.containsNode(graph.rowNode(other)) && 
+                            !subGraph.containsEdge(otherEdge))
+                        search.edges[edgeCount++] = otherEdge;
+                }
+            }
+            
+            // Do the addition, and, if successful, recurse on the node.
+            if (subGraph.addPartialGraph(search.nodes, nodeCount, search.edges, 
+                    edgeCount)) {
+                if (!search.isVisited(neighbor)) {
+                    search.visit(neighbor);
+                    searchNode(search, neighbor);
+                }
+            }
+        }
+    }
+    /**
+     * Indexes a graph for searching.
+     * 
+     * @param graph the Graph to search through.
+     * @return the IndexedSearch, or null if the graph must be searched 
+     * without an index.
+     */
+    private IndexedSearch index(Graph graph) {
+        IndexedSearch search = IndexedSearch.of(graph, args.getConditionsList());
+        if (search == null && getLogger() != null) {
+            getLogger().logAlgo(LogLevel.DEBUG, "DFTS: Graph has equal edges; "
+                    + "searching without an index.");
+        }
+        return search;
+    }
+    /**
+     * Creates the queue of edges to explore, ordered by the 
+     * EDGE_WEIGHT_COMPARATOR if one is set.
+     * 
+     * @return the Queue of Edges.
+     */
+    private Queue<Edge> newQueue() {
+        Comparator<Edge> comparator = null;
+        try {
+            Object obj = args.getObject(ArgumentsBundle.COMMON_ARGS.EDGE_WEIGHT_COMPARATOR.toString());
+            if (obj != null) {
+                comparator = (Comparator<Edge>) obj;
+            }
+        } catch (ClassCastException e) { // In future, maybe change ArgumentsBundle to auto-cast things appropriately and restrict elements.
+            if (getLogger() != null) {
+                getLogger().logAlgo(LogLevel.NORMAL, "BFTS: Error casting EDGE_WEIGHT_COMPARATOR");
+            }
+        }
+        if (comparator != null)
+            return new PrioritySet<>(comparator, true);
+        else
+            return new LinkedList<>();
+    }
 }
@@ -0,0 +1,107 @@
+package edu.claflin.finder.algo;
+
+import edu.claflin.finder.logic.BitSubgraph;
+import edu.claflin.finder.logic.Condition;
+import edu.claflin.finder.logic.Graph;
+import edu.claflin.finder.logic.IndexedGraph;
+import java.util.List;
+
+/**
+ * What a traversal search over an {@link IndexedGraph} reuses from one root
+ * node to the next: the subgraph being grown, the visited nodes, and scratch
+ * arrays for the nodes and edges of each addition.  Starting the search from
+ * a new root takes time proportional to the previous subgraph, not to the
+ * graph.
+ *
+ * @version 1.0 October 19, 2026
+ */
+final class IndexedSearch {
+
+    /**
+     * The graph being searched.
+     */
+    final IndexedGraph graph;
+    /**
+     * The subgraph grown from the current root.
+     */
+    final BitSubgraph subGraph;
+    /**
+     * Scratch space for the node of an addition.
+     */
+    final int[] nodes = new int[1];
+    /**
+     * Scratch space for the edges of an addition: an edge to a node plus
+     * every edge of that node.
+     */
+    final int[] edges;
+    /**
+     * The root number each node was last visited under.
+     */
+    private final int[] visited;
+    /**
+     * The number of the current root.
+     */
+    private int root = 0;
+
+    /**
+     * Constructs the search.
+     *
+     * @param graph the IndexedGraph to search.
+     * @param conditions the List&lt;Condition&gt; the subgraphs must satisfy.
+     */
+    private IndexedSearch(IndexedGraph graph, List<Condition> conditions) {
+        this.graph = graph;
+        this.subGraph = new BitSubgraph(graph, conditions);
+        this.visited = new int[graph.getNodeCount()];
+
+        int degree = 0;
+        for (int node = 0; node < graph.getNodeCount(); node++)
+            degree = Math.max(degree,
+                    graph.rowStart(node + 1) - graph.rowStart(node));
+        this.edges = new int[degree + 1];
+    }
+
+    /**
+     * Indexes a graph for searching.  Only a simple graph (see
+     * {@link IndexedGraph#isSimple()}) can be searched through its index
+     * with the same results as through the Graph itself.
+     *
+     * @param graph the Graph to search.
+     * @param conditions the List&lt;Condition&gt; the subgraphs must satisfy.
+     * @return the IndexedSearch, or null if the graph is not simple.
+     */
+    static IndexedSearch of(Graph graph, List<Condition> conditions) {
+        IndexedGraph indexed = new IndexedGraph(graph);
+        return indexed.isSimple() ? new IndexedSearch(indexed, conditions) : null;
+    }
+
+    /**
+     * Starts the search from a new root, emptying the subgraph and forgetting
+     * the visited nodes.
+     *
+     * @param name the String name of the new subgraph.
+     * @return the emptied BitSubgraph.
+     */
+    BitSubgraph begin(String name) {
+        root++;
+        subGraph.reset(name);
+        return subGraph;
+    }
+    /**
+     * Tests if a node has been visited from the current root.
+     *
+     * @param node the id of the node.
+     * @return true if the node has been visited.
+     */
+    boolean isVisited(int node) {
+        return visited[node] == root;
+    }
+    /**
+     * Marks a node as visited from the current root.
+     *
+     * @param node the id of the node.
+     */
+    void visit(int node) {
+        visited[node] = root;
+    }
+}
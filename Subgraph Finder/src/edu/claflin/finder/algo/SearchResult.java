@@ -0,0 +1,91 @@
+package edu.claflin.finder.algo;
+
+import edu.claflin.finder.logic.Graph;
+import edu.claflin.finder.logic.cygrouper.CommunicationListener;
+import edu.claflin.finder.logic.cygrouper.CygrouperNode;
+import edu.claflin.finder.logic.cygrouper.LazyGroups;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The results of a single search made with {@link Algorithm#search(Graph)}: 
+ * the unique subgraphs found, together with the groups and partition numbers 
+ * assigned to their nodes.  The groups are only worked out when read.  Each 
+ * search fills its own SearchResult, so searches running at the same time, 
+ * even with the same Algorithm, do not see each other's results.
+ *
+ * @version 1.1 October 19, 2026
+ */
+public final class SearchResult implements CommunicationListener {
+
+    /**
+     * The unique subgraphs found.
+     */
+    private ArrayList<Graph> subgraphs = new ArrayList<>();
+    /**
+     * The groups of the nodes of each subgraph, keyed by node name.
+     */
+    private List<Map<String, CygrouperNode>> groups = new ArrayList<>();
+    /**
+     * The partition numbers of the nodes of each subgraph, keyed by node 
+     * name.
+     */
+    private ArrayList<Map<String, CygrouperNode>> partitionNumbers = 
+            new ArrayList<>();
+
+    /**
+     * Gets the unique subgraphs found by the search.
+     * 
+     * @return the ArrayList of Graph objects.
+     */
+    public ArrayList<Graph> getSubgraphs() {
+        return subgraphs;
+    }
+    /**
+     * Gets the groups assigned to the nodes of the subgraphs.  Groups not yet 
+     * computed are computed now, in parallel.
+     * 
+     * @return the List holding a Map from node name to CygrouperNode for 
+     * each subgraph.
+     */
+    public List<Map<String, CygrouperNode>> getGroups() {
+        if (groups instanceof LazyGroups)
+            ((LazyGroups) groups).computeAll();
+        return groups;
+    }
+    /**
+     * Gets the groups assigned to the nodes of one subgraph, computing only 
+     * those if they are not yet known.
+     * 
+     * @param index the index of the subgraph.
+     * @return the Map from node name to CygrouperNode, or null if the 
+     * subgraph was not grouped.
+     */
+    public Map<String, CygrouperNode> getGroups(int index) {
+        return index < groups.size() ? groups.get(index) : null;
+    }
+    /**
+     * Gets the partition numbers assigned to the nodes of the subgraphs.
+     * 
+     * @return the ArrayList holding a Map from node name to CygrouperNode for 
+     * each subgraph.
+     */
+    public ArrayList<Map<String, CygrouperNode>> getPartitionNumbers() {
+        return partitionNumbers;
+    }
+
+    @Override
+    public void setUniqueSubGraphs(ArrayList<Graph> subgraphs) {
+        this.subgraphs = subgraphs;
+    }
+    @Override
+    public void setGroups(List<Map<String, CygrouperNode>> results) {
+        this.groups = results;
+    }
+    @Override
+    public void setPartitionNumbers(
+            ArrayList<Map<String, CygrouperNode>> results) {
+        this.partitionNumbers = results;
+    }
+}
@@ -0,0 +1,221 @@
+package edu.claflin.finder.io.graph;
+
+import edu.claflin.finder.io.graph.sub.GraphWriter;
+import static edu.claflin.finder.Global.getLogger;
+import static edu.claflin.finder.Global.getOutput;
+import edu.claflin.finder.log.LogLevel;
+import edu.claflin.finder.logic.Graph;
+
+import java.io.File;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Moves the writing of graphs off of the searching threads.  Graphs handed to
+ * this writer are placed on a bounded queue and written by a dedicated writer
+ * thread using the wrapped {@link GraphWriter}, so formatting and disk I/O
+ * overlap with the search.  The output directory is captured when a graph is
+ * queued, so later changes to it do not affect graphs already queued.
+ * <br>
+ * The queue only blocks the searching thread when the writer falls a full
+ * queue behind.  {@link #close()} must be called to write out the remaining
+ * graphs and stop the writer thread.  The writer thread is a daemon, so an
+ * unclosed writer does not keep the program alive, but any graphs still
+ * queued when the program ends are lost.
+ * <br>
+ * A graph that fails to be written with a RuntimeException is logged and
+ * skipped.  Any other failure, such as running out of memory, stops the
+ * writer thread and drops the queued graphs, after which queueing a graph or
+ * closing the writer throws an IllegalStateException instead of waiting on
+ * a queue that is no longer drained.
+ *
+ * @version 1.2 October 19, 2026
+ */
+public final class AsyncGraphWriter implements GraphWriter, AutoCloseable {
+
+    /**
+     * Marks the end of the queue.
+     */
+    private static final Task END = new Task(null, null);
+
+    /**
+     * The writer used by the writer thread.
+     */
+    private final GraphWriter writer;
+    /**
+     * The graphs waiting to be written.
+     */
+    private final BlockingQueue<Task> queue;
+    /**
+     * The thread writing the queued graphs.
+     */
+    private final Thread thread;
+    /**
+     * Indicates that no more graphs are accepted.
+     */
+    private volatile boolean closed = false;
+    /**
+     * The error that stopped the writer thread, or null while it runs.
+     */
+    private volatile Throwable failure = null;
+
+    /**
+     * Constructs the AsyncGraphWriter and starts its writer thread.
+     *
+     * @param writer the GraphWriter actually writing the graphs.
+     * @param capacity the number of graphs that may wait to be written.
+     */
+    public AsyncGraphWriter(GraphWriter writer, int capacity) {
+        this.writer = writer;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.thread = new Thread(this::drain, "GraphWriter");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * {@inheritDoc } Queues the graph to be written into the current output
+     * directory.
+     *
+     * @param toWrite the {@link Graph} object to write.
+     */
+    @Override
+    public void writeGraph(Graph toWrite) {
+        writeGraph(toWrite, getOutput());
+    }
+    /**
+     * {@inheritDoc } Queues the graph to be written.
+     *
+     * @param toWrite the {@link Graph} object to write.
+     * @param directory the File of the directory to write to.
+     */
+    @Override
+    public void writeGraph(Graph toWrite, File directory) {
+        if (closed)
+            throw new IllegalStateException("The writer has been closed!");
+        put(new Task(toWrite, directory));
+    }
+    /**
+     * Throws if the writer thread has stopped on an error.
+     */
+    private void checkFailure() {
+        Throwable failed = failure;
+        if (failed != null)
+            throw new IllegalStateException("The writer thread failed!", failed);
+    }
+
+    /**
+     * Writes the remaining graphs and stops the writer thread.  Waits for
+     * the writer thread to finish.
+     *
+     * @throws IllegalStateException if the writer thread stopped on an
+     * error, so queued graphs were lost.
+     */
+    @Override
+    public void close() {
+        if (closed)
+            return;
+        closed = true;
+        put(END);
+
+        boolean interrupted = false;
+        while (thread.isAlive()) {
+            try {
+                thread.join();
+            } catch (InterruptedException ie) {
+                interrupted = true;
+            }
+        }
+        if (interrupted)
+            Thread.currentThread().interrupt();
+        checkFailure();
+    }
+
+    /**
+     * Places a task on the queue, waiting for room if necessary.  Stops
+     * waiting if the writer thread fails.
+     *
+     * @param task the Task to queue.
+     * @throws IllegalStateException if the writer thread has failed.
+     */
+    private void put(Task task) {
+        boolean interrupted = false;
+        try {
+            while (true) {
+                checkFailure();
+                try {
+                    if (queue.offer(task, 100L, TimeUnit.MILLISECONDS))
+                        break;
+                } catch (InterruptedException ie) {
+                    interrupted = true;
+                }
+            }
+        } finally {
+            if (interrupted)
+                Thread.currentThread().interrupt();
+        }
+    }
+    /**
+     * Writes queued graphs until the end of the queue is reached.  Run by
+     * the writer thread.
+     */
+    private void drain() {
+        while (true) {
+            Task task;
+            try {
+                task = queue.take();
+            } catch (InterruptedException ie) {
+                continue;
+            }
+            if (task == END)
+                return;
+
+            try {
+                writer.writeGraph(task.graph, task.directory);
+            } catch (RuntimeException ex) {
+                if (getLogger() != null) {
+                    getLogger().logError(LogLevel.NORMAL, "GraphIO: Error "
+                            + "writing graph: " + task.graph.getName() + " ("
+                            + ex + ")");
+                }
+            } catch (Throwable error) {
+                // Recorded before the queue is cleared, so that producers 
+                // woken by the room fail rather than queue again.
+                failure = error;
+                queue.clear();
+                if (getLogger() != null) {
+                    getLogger().logError(LogLevel.NORMAL, "GraphIO: Writer "
+                            + "thread stopped writing graph: " 
+                            + task.graph.getName() + " (" + error + ")");
+                }
+                return;
+            }
+        }
+    }
+
+    /**
+     * A graph waiting to be written along with the directory to write it to.
+     */
+    private static final class Task {
+        /**
+         * The graph to write.
+         */
+        private final Graph graph;
+        /**
+         * The directory to write to.
+         */
+        private final File directory;
+
+        /**
+         * Constructs the Task.
+         *
+         * @param graph the Graph to write.
+         * @param directory the File of the directory to write to.
+         */
+        private Task(Graph graph, File directory) {
+            this.graph = graph;
+            this.directory = directory;
+        }
+    }
+}
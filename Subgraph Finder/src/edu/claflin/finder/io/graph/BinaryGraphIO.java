@@ -0,0 +1,271 @@
+package edu.claflin.finder.io.graph;
+
+import edu.claflin.finder.io.graph.sub.GraphReader;
+import edu.claflin.finder.io.graph.sub.GraphWriter;
+import static edu.claflin.finder.Global.getLogger;
+import static edu.claflin.finder.Global.getMetrics;
+import static edu.claflin.finder.Global.getOutput;
+import edu.claflin.finder.log.LogLevel;
+import edu.claflin.finder.logic.Edge;
+import edu.claflin.finder.logic.Graph;
+import edu.claflin.finder.logic.Node;
+import edu.claflin.finder.metrics.Flight;
+import edu.claflin.finder.metrics.Timer;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * A class for reading and writing binary graph snapshots.  Snapshots store
+ * the node names, a compressed sparse row adjacency and primitive weights in
+ * the layout described by {@link GraphSnapshot}, so reading one involves no
+ * text parsing.  Integer edge data is stored as a weight; any other edge data
+ * is stored as a label using its String form.
+ *
+ * @version 1.0 October 19, 2026
+ */
+public final class BinaryGraphIO implements GraphReader, GraphWriter {
+
+    /**
+     * The file extension given to written snapshots.
+     */
+    public static final String EXTENSION = ".sgb";
+
+    /**
+     * Empty Constructor for instantiating the class.  No customization
+     * necessary.
+     */
+    public BinaryGraphIO() {}
+
+    /**
+     * {@inheritDoc } Reads binary graph snapshots.
+     *
+     * @param source the File object representing the snapshot.
+     * @param undirected a boolean indicating if the graph should be
+     * interpreted as undirected.  Edges written as undirected remain so
+     * regardless.
+     * @return the Graph object read from the snapshot.
+     */
+    @Override
+    public Graph parseGraph(File source, boolean undirected) {
+        if (getLogger() != null) {
+            getLogger().logInfo(LogLevel.VERBOSE,
+                    "GraphIO: Attempting to read snapshot: "
+                    + source.getAbsolutePath());
+        }
+
+        Timer timer = getMetrics().timer("io.read");
+        long start = timer.start();
+        Object event = Flight.beginGraphLoad();
+        try {
+            Graph graph = GraphSnapshot.open(source).toGraph(undirected);
+            timer.stop(start);
+            Flight.endGraphLoad(event, "Binary", source.getName(),
+                    graph.getNodeCount(), graph.getEdgeCount());
+            if (getLogger() != null) {
+                getLogger().logInfo(LogLevel.NORMAL,
+                        "GraphIO: Successfully constructed graph from snapshot.");
+            }
+            return graph;
+        } catch (IOException ioe) {
+            if (getLogger() != null) {
+                getLogger().logError(LogLevel.NORMAL,
+                        "GraphIO: Error reading snapshot: "
+                        + source.getAbsolutePath() + " (" + ioe.getMessage() + ")");
+            }
+            return null;
+        }
+    }
+
+    /**
+     * {@inheritDoc } Writes binary graph snapshots.
+     *
+     * @param toWrite the {@link Graph} object to write to a file.
+     */
+    @Override
+    public void writeGraph(Graph toWrite) {
+        writeGraph(toWrite, getOutput());
+    }
+    /**
+     * {@inheritDoc } Writes binary graph snapshots.
+     *
+     * @param toWrite the {@link Graph} object to write to a file.
+     * @param directory the File of the directory to write to.
+     */
+    @Override
+    public void writeGraph(Graph toWrite, File directory) {
+        File output = new File(directory, toWrite.getName() + EXTENSION);
+
+        if (getLogger() != null) {
+            getLogger().logInfo(LogLevel.NORMAL,
+                    "GraphIO: Attempt to log graph to file (BINARY FORMAT): "
+                    + toWrite.getName());
+        }
+
+        Timer timer = getMetrics().timer("io.write");
+        long start = timer.start();
+        Object event = Flight.beginGraphWrite();
+        boolean error = !writeSnapshot(toWrite, output);
+        timer.stop(start);
+        Flight.endGraphWrite(event, "Binary", toWrite.getName(),
+                toWrite.getNodeCount(), toWrite.getEdgeCount());
+        String success = error ? "Failed to write" : "Succesfully wrote";
+        if (getLogger() != null) {
+            getLogger().logInfo(LogLevel.NORMAL, "GraphIO: " + success +
+                    " graph to file: " + output.getAbsolutePath());
+        }
+    }
+    /**
+     * Writes a binary graph snapshot to the provided file.  Used directly
+     * when converting graphs from other formats.
+     *
+     * @param toWrite the {@link Graph} object to write.
+     * @param output the File to write the snapshot to.
+     * @return true if the snapshot was written.
+     */
+    public boolean writeSnapshot(Graph toWrite, File output) {
+        List<Node> nodes = toWrite.getNodeList();
+        List<Edge> edges = toWrite.getEdgeList();
+        int nodeCount = nodes.size();
+        int edgeCount = edges.size();
+
+        HashMap<Node, Integer> nodeIds = new HashMap<>(Math.max(16, nodeCount * 4 / 3));
+        for (int node = 0; node < nodeCount; node++)
+            nodeIds.put(nodes.get(node), node);
+
+        // Count the edges of each node to lay out the rows.
+        int[] sources = new int[edgeCount];
+        int[] rowPointers = new int[nodeCount + 1];
+        for (int edge = 0; edge < edgeCount; edge++) {
+            sources[edge] = nodeIds.get(edges.get(edge).getSource());
+            rowPointers[sources[edge] + 1]++;
+        }
+        for (int node = 0; node < nodeCount; node++)
+            rowPointers[node + 1] += rowPointers[node];
+
+        // Fill the rows, keeping the original order within each row.
+        int[] next = new int[nodeCount];
+        System.arraycopy(rowPointers, 0, next, 0, nodeCount);
+        int[] destinations = new int[edgeCount];
+        int[] data = new int[edgeCount];
+        int[] order = new int[edgeCount];
+        byte[] flags = new byte[edgeCount];
+        HashMap<String, Integer> labelIds = new HashMap<>();
+        ArrayList<String> labels = new ArrayList<>();
+        for (int edge = 0; edge < edgeCount; edge++) {
+            Edge current = edges.get(edge);
+            int slot = next[sources[edge]]++;
+            order[edge] = slot;
+            destinations[slot] = nodeIds.get(current.getDestination());
+            if (current.isUndirected())
+                flags[slot] |= GraphSnapshot.FLAG_UNDIRECTED;
+
+            Object value = current.getData();
+            if (value == null) {
+                flags[slot] |= GraphSnapshot.FLAG_NULL;
+            } else if (value instanceof Integer) {
+                data[slot] = (Integer) value;
+            } else {
+                String label = value.toString();
+                Integer id = labelIds.get(label);
+                if (id == null) {
+                    id = labels.size();
+                    labelIds.put(label, id);
+                    labels.add(label);
+                }
+                data[slot] = id;
+                flags[slot] |= GraphSnapshot.FLAG_LABEL;
+            }
+        }
+
+        // Encode the string table.
+        int stringCount = 1 + nodeCount + labels.size();
+        byte[][] strings = new byte[stringCount][];
+        strings[0] = toWrite.getName().getBytes(StandardCharsets.UTF_8);
+        for (int node = 0; node < nodeCount; node++)
+            strings[1 + node] = nodes.get(node).getIdentifier()
+                    .getBytes(StandardCharsets.UTF_8);
+        for (int label = 0; label < labels.size(); label++)
+            strings[1 + nodeCount + label] = labels.get(label)
+                    .getBytes(StandardCharsets.UTF_8);
+        int[] stringOffsets = new int[stringCount + 1];
+        for (int string = 0; string < stringCount; string++)
+            stringOffsets[string + 1] = stringOffsets[string] + strings[string].length;
+
+        long length = GraphSnapshot.HEADER_SIZE + 4L * (nodeCount + 1)
+                + 12L * edgeCount + 4L * (stringCount + 1) + edgeCount
+                + stringOffsets[stringCount];
+        if (length > Integer.MAX_VALUE) {
+            if (getLogger() != null) {
+                getLogger().logError(LogLevel.NORMAL, "GraphIO: Graph is too "
+                        + "large for a snapshot: " + toWrite.getName());
+            }
+            return false;
+        }
+
+        try (FileChannel channel = FileChannel.open(output.toPath(),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            CRC32 crc = new CRC32();
+            channel.position(GraphSnapshot.HEADER_SIZE);
+            DataOutputStream out = new DataOutputStream(new CheckedOutputStream(
+                    new BufferedOutputStream(Channels.newOutputStream(channel),
+                    1 << 16), crc));
+            writeInts(out, rowPointers);
+            writeInts(out, destinations);
+            writeInts(out, data);
+            writeInts(out, order);
+            writeInts(out, stringOffsets);
+            out.write(flags);
+            for (byte[] string : strings)
+                out.write(string);
+            out.flush();
+
+            // The header is written last, once the checksum is known.
+            ByteBuffer header = ByteBuffer.allocate(GraphSnapshot.HEADER_SIZE);
+            header.putInt(GraphSnapshot.MAGIC)
+                    .putInt(GraphSnapshot.VERSION)
+                    .putInt(nodeCount)
+                    .putInt(edgeCount)
+                    .putInt(labels.size())
+                    .putInt((int) crc.getValue())
+                    .putLong(length);
+            header.flip();
+            while (header.hasRemaining())
+                channel.write(header, header.position());
+            return true;
+        } catch (IOException ioe) {
+            if (getLogger() != null) {
+                getLogger().logError(LogLevel.NORMAL,
+                        "GraphIO: Error writing snapshot: "
+                        + output.getAbsolutePath());
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Writes an int array to a stream.
+     *
+     * @param out the DataOutputStream to write to.
+     * @param values the int array to write.
+     * @throws IOException if the stream could not be written.
+     */
+    private static void writeInts(DataOutputStream out, int[] values)
+            throws IOException {
+        for (int value : values)
+            out.writeInt(value);
+    }
+}
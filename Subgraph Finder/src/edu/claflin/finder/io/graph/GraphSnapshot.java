@@ -0,0 +1,430 @@
+package edu.claflin.finder.io.graph;
+
+import edu.claflin.finder.logic.Graph;
+import edu.claflin.finder.logic.GraphBuilder;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.zip.CRC32;
+
+/**
+ * A read only view of a binary graph snapshot written by
+ * {@link BinaryGraphIO}.  The file is memory mapped and its sections are
+ * used in place, so opening a snapshot costs no parsing; names are only
+ * decoded when asked for.
+ * <br>
+ * A snapshot consists of a fixed header (the magic number, version, node
+ * count, edge count, label count and checksum as ints, then the file length
+ * as a long) followed by these sections, all big endian:
+ * <ol>
+ * <li>int[nodeCount + 1] row pointers: the edges of node i occupy slots
+ * rowPointers[i] to rowPointers[i + 1] (compressed sparse rows).</li>
+ * <li>int[edgeCount] destination node id of each slot.</li>
+ * <li>int[edgeCount] data of each slot: the weight or a label id.</li>
+ * <li>int[edgeCount] slot of each edge in the order the edges were written,
+ * which lets a Graph be rebuilt with its original edge order.</li>
+ * <li>int[stringCount + 1] string offsets into the string bytes.  String 0 is
+ * the graph name, strings 1 to nodeCount are the node names and the
+ * remainder are edge labels.</li>
+ * <li>byte[edgeCount] flags of each slot (see the FLAG constants).</li>
+ * <li>The UTF-8 string bytes.</li>
+ * </ol>
+ * The header holds a CRC32 of everything following it, which is checked
+ * when the snapshot is opened.
+ *
+ * @version 1.0 October 19, 2026
+ */
+public final class GraphSnapshot {
+
+    /**
+     * Marks a snapshot file ("SGFB").
+     */
+    public static final int MAGIC = 0x53474642;
+    /**
+     * The version of the layout described above.
+     */
+    public static final int VERSION = 1;
+    /**
+     * The size of the fixed header in bytes.
+     */
+    public static final int HEADER_SIZE = 32;
+
+    /**
+     * Flag marking an undirected edge.
+     */
+    public static final byte FLAG_UNDIRECTED = 1;
+    /**
+     * Flag marking an edge whose data is a label id rather than a weight.
+     */
+    public static final byte FLAG_LABEL = 2;
+    /**
+     * Flag marking an edge without data.
+     */
+    public static final byte FLAG_NULL = 4;
+
+    /**
+     * The mapped file.
+     */
+    private final ByteBuffer buffer;
+    /**
+     * The number of nodes.
+     */
+    private final int nodeCount;
+    /**
+     * The number of edges.
+     */
+    private final int edgeCount;
+    /**
+     * The number of edge labels.
+     */
+    private final int labelCount;
+    /**
+     * The row pointer section.
+     */
+    private final IntBuffer rowPointers;
+    /**
+     * The destination section.
+     */
+    private final IntBuffer destinations;
+    /**
+     * The data section.
+     */
+    private final IntBuffer data;
+    /**
+     * The edge order section.
+     */
+    private final IntBuffer order;
+    /**
+     * The string offset section.
+     */
+    private final IntBuffer stringOffsets;
+    /**
+     * The position of the flag section.
+     */
+    private final int flagsStart;
+    /**
+     * The position of the string bytes.
+     */
+    private final int stringsStart;
+    /**
+     * Maps node names to ids.  Only built if a node is looked up by name.
+     */
+    private HashMap<String, Integer> nodeIds = null;
+
+    /**
+     * Constructs the view and validates its header.
+     *
+     * @param buffer the ByteBuffer holding the whole snapshot.
+     * @param verify indicates if the checksum should be verified.
+     * @throws IOException if the buffer does not hold a valid snapshot.
+     */
+    private GraphSnapshot(ByteBuffer buffer, boolean verify) throws IOException {
+        this.buffer = buffer;
+        if (buffer.limit() < HEADER_SIZE || buffer.getInt(0) != MAGIC)
+            throw new IOException("Not a binary graph snapshot!");
+        if (buffer.getInt(4) != VERSION)
+            throw new IOException("Unsupported snapshot version: "
+                    + buffer.getInt(4));
+
+        nodeCount = buffer.getInt(8);
+        edgeCount = buffer.getInt(12);
+        labelCount = buffer.getInt(16);
+        int checksum = buffer.getInt(20);
+        long length = buffer.getLong(24);
+        if (nodeCount < 0 || edgeCount < 0 || labelCount < 0 ||
+                length != buffer.limit())
+            throw new IOException("Snapshot is truncated or corrupt!");
+
+        int position = HEADER_SIZE;
+        rowPointers = section(position, nodeCount + 1);
+        position += (nodeCount + 1) * 4;
+        destinations = section(position, edgeCount);
+        position += edgeCount * 4;
+        data = section(position, edgeCount);
+        position += edgeCount * 4;
+        order = section(position, edgeCount);
+        position += edgeCount * 4;
+        stringOffsets = section(position, getStringCount() + 1);
+        position += (getStringCount() + 1) * 4;
+        if ((long) position + edgeCount + stringOffsets.get(getStringCount())
+                != buffer.limit())
+            throw new IOException("Snapshot is truncated or corrupt!");
+        flagsStart = position;
+        stringsStart = flagsStart + edgeCount;
+
+        if (verify) {
+            CRC32 crc = new CRC32();
+            ByteBuffer body = buffer.duplicate();
+            body.position(HEADER_SIZE);
+            crc.update(body);
+            if ((int) crc.getValue() != checksum)
+                throw new IOException("Snapshot checksum does not match!");
+        }
+    }
+
+    /**
+     * Memory maps and validates a snapshot, verifying its checksum.
+     *
+     * @param source the File holding the snapshot.
+     * @return the GraphSnapshot view of the file.
+     * @throws IOException if the file could not be read or is not a valid
+     * snapshot.
+     */
+    public static GraphSnapshot open(File source) throws IOException {
+        return open(source, true);
+    }
+    /**
+     * Memory maps and validates a snapshot.
+     *
+     * @param source the File holding the snapshot.
+     * @param verify indicates if the checksum should be verified.  Skipping
+     * the check avoids reading the whole file up front.
+     * @return the GraphSnapshot view of the file.
+     * @throws IOException if the file could not be read or is not a valid
+     * snapshot.
+     */
+    public static GraphSnapshot open(File source, boolean verify)
+            throws IOException {
+        try (FileChannel channel = FileChannel.open(source.toPath(),
+                StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE)
+                throw new IOException("Snapshots larger than 2GB are not "
+                        + "supported!");
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY,
+                    0, channel.size());
+            return new GraphSnapshot(buffer, verify);
+        }
+    }
+
+    /**
+     * Gets the name of the graph.
+     *
+     * @return the String name of the graph.
+     */
+    public String getName() {
+        return getString(0);
+    }
+    /**
+     * Gets the number of nodes.
+     *
+     * @return the number of nodes.
+     */
+    public int getNodeCount() {
+        return nodeCount;
+    }
+    /**
+     * Gets the number of edges.
+     *
+     * @return the number of edges.
+     */
+    public int getEdgeCount() {
+        return edgeCount;
+    }
+    /**
+     * Gets the name of a node.
+     *
+     * @param node the int id of the node.
+     * @return the String name of the node.
+     */
+    public String getNodeName(int node) {
+        checkNode(node);
+        return getString(1 + node);
+    }
+    /**
+     * Gets the id of the node with the provided name.  The first call builds
+     * a lookup table of every name.
+     *
+     * @param name the String name of the node.
+     * @return the int id of the node or -1 if there is no such node.
+     */
+    public synchronized int getNodeId(String name) {
+        if (nodeIds == null) {
+            nodeIds = new HashMap<>(Math.max(16, nodeCount * 4 / 3));
+            for (int node = 0; node < nodeCount; node++)
+                nodeIds.put(getNodeName(node), node);
+        }
+        Integer id = nodeIds.get(name);
+        return id == null ? -1 : id;
+    }
+    /**
+     * Gets the first edge slot of a node.
+     *
+     * @param node the int id of the node.
+     * @return the int slot of the first edge leaving the node.
+     */
+    public int getEdgeStart(int node) {
+        checkNode(node);
+        return rowPointers.get(node);
+    }
+    /**
+     * Gets the edge slot following the last edge of a node.
+     *
+     * @param node the int id of the node.
+     * @return the int slot following the last edge leaving the node.
+     */
+    public int getEdgeEnd(int node) {
+        checkNode(node);
+        return rowPointers.get(node + 1);
+    }
+    /**
+     * Gets the destination of the edge in a slot.
+     *
+     * @param slot the int slot of the edge.
+     * @return the int id of the destination node.
+     */
+    public int getDestination(int slot) {
+        return destinations.get(slot);
+    }
+    /**
+     * Gets the raw data of the edge in a slot: its weight, or its label id
+     * if {@link #FLAG_LABEL} is set.
+     *
+     * @param slot the int slot of the edge.
+     * @return the int data of the edge.
+     */
+    public int getRawData(int slot) {
+        return data.get(slot);
+    }
+    /**
+     * Gets the flags of the edge in a slot.
+     *
+     * @param slot the int slot of the edge.
+     * @return the byte of flags.
+     */
+    public byte getFlags(int slot) {
+        if (slot < 0 || slot >= edgeCount)
+            throw new IndexOutOfBoundsException("Invalid edge slot: " + slot);
+        return buffer.get(flagsStart + slot);
+    }
+    /**
+     * Tests if the edge in a slot is undirected.
+     *
+     * @param slot the int slot of the edge.
+     * @return true if the edge is undirected.
+     */
+    public boolean isUndirected(int slot) {
+        return (getFlags(slot) & FLAG_UNDIRECTED) != 0;
+    }
+    /**
+     * Gets the data of the edge in a slot as it would be held by an
+     * {@link edu.claflin.finder.logic.Edge}.
+     *
+     * @param slot the int slot of the edge.
+     * @return the Integer weight, String label or null.
+     */
+    public Object getData(int slot) {
+        byte flags = getFlags(slot);
+        if ((flags & FLAG_NULL) != 0)
+            return null;
+        if ((flags & FLAG_LABEL) != 0)
+            return getString(1 + nodeCount + data.get(slot));
+        return data.get(slot);
+    }
+    /**
+     * Gets the slot of an edge from the order in which the edges were
+     * written.
+     *
+     * @param edge the int index of the edge in the original edge list.
+     * @return the int slot of the edge.
+     */
+    public int getSlot(int edge) {
+        return order.get(edge);
+    }
+    /**
+     * Gets the source of the edge in a slot by searching the row pointers.
+     *
+     * @param slot the int slot of the edge.
+     * @return the int id of the source node.
+     */
+    public int getSource(int slot) {
+        int low = 0;
+        int high = nodeCount - 1;
+        while (low < high) {
+            int middle = (low + high + 1) >>> 1;
+            if (rowPointers.get(middle) <= slot)
+                low = middle;
+            else
+                high = middle - 1;
+        }
+        return low;
+    }
+
+    /**
+     * Builds a {@link Graph} from the snapshot with the nodes and edges in
+     * the order they were written.
+     *
+     * @param undirected a boolean indicating if every edge should be
+     * interpreted as undirected regardless of its flags.
+     * @return the Graph object.
+     */
+    public Graph toGraph(boolean undirected) {
+        GraphBuilder builder = new GraphBuilder(getName(), nodeCount, edgeCount);
+        int[] sources = new int[edgeCount];
+        for (int node = 0; node < nodeCount; node++) {
+            builder.intern(getNodeName(node));
+            for (int slot = getEdgeStart(node); slot < getEdgeEnd(node); slot++)
+                sources[slot] = node;
+        }
+        for (int edge = 0; edge < edgeCount; edge++) {
+            int slot = getSlot(edge);
+            builder.addEdge(sources[slot], getDestination(slot),
+                    getData(slot), undirected || isUndirected(slot));
+        }
+        return builder.build();
+    }
+
+    /**
+     * Gets the number of strings in the string table.
+     *
+     * @return the number of strings.
+     */
+    private int getStringCount() {
+        return 1 + nodeCount + labelCount;
+    }
+    /**
+     * Decodes a string from the string table.
+     *
+     * @param index the int index of the string.
+     * @return the decoded String.
+     */
+    private String getString(int index) {
+        int start = stringOffsets.get(index);
+        int end = stringOffsets.get(index + 1);
+        byte[] bytes = new byte[end - start];
+        for (int offset = 0; offset < bytes.length; offset++)
+            bytes[offset] = buffer.get(stringsStart + start + offset);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+    /**
+     * Creates an IntBuffer view of a section of the snapshot.
+     *
+     * @param position the int position of the section.
+     * @param count the number of ints in the section.
+     * @return the IntBuffer view.
+     * @throws IOException if the section runs past the end of the snapshot.
+     */
+    private IntBuffer section(int position, int count) throws IOException {
+        if ((long) position + count * 4L > buffer.limit())
+            throw new IOException("Snapshot is truncated or corrupt!");
+        ByteBuffer view = buffer.duplicate();
+        view.position(position);
+        view.limit(position + count * 4);
+        return view.slice().asIntBuffer();
+    }
+    /**
+     * Ensures a node id is valid.
+     *
+     * @param node the int id of the node.
+     */
+    private void checkNode(int node) {
+        if (node < 0 || node >= nodeCount)
+            throw new IndexOutOfBoundsException("Invalid node id: " + node);
+    }
+}
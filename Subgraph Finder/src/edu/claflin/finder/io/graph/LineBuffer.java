@@ -0,0 +1,161 @@
+package edu.claflin.finder.io.graph;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+
+/**
+ * A reusable byte buffer for encoding the lines of a graph file.  Lines are
+ * appended piece by piece, avoiding the String formatting and intermediate
+ * Strings of a line at a time, and are handed to the file in large blocks.
+ * Text is encoded with the platform default charset, as by a FileWriter; plain
+ * ASCII is copied directly.
+ * <br>
+ * Each thread owns a single buffer obtained through {@link #get()}, so the
+ * buffer is only allocated once per writing thread rather than once per file.
+ *
+ * @version 1.0 October 19, 2026
+ */
+final class LineBuffer {
+
+    /**
+     * The number of bytes held before {@link #drain(OutputStream)} writes
+     * them out.
+     */
+    static final int BLOCK_SIZE = 1 << 16;
+    /**
+     * The line separator bytes, matching BufferedWriter.newLine().
+     */
+    private static final byte[] NEW_LINE = System.lineSeparator().getBytes();
+    /**
+     * The buffer of each writing thread.
+     */
+    private static final ThreadLocal<LineBuffer> BUFFERS =
+            ThreadLocal.withInitial(LineBuffer::new);
+
+    /**
+     * The charset used for text that is not plain ASCII.
+     */
+    private final Charset charset = Charset.defaultCharset();
+    /**
+     * The encoded bytes.
+     */
+    private byte[] bytes = new byte[BLOCK_SIZE + 1024];
+    /**
+     * The number of encoded bytes.
+     */
+    private int count = 0;
+
+    /**
+     * Only created through {@link #get()}.
+     */
+    private LineBuffer() {}
+
+    /**
+     * Gets the empty buffer of the current thread.
+     *
+     * @return the LineBuffer of the current thread.
+     */
+    static LineBuffer get() {
+        LineBuffer buffer = BUFFERS.get();
+        buffer.count = 0;
+        return buffer;
+    }
+
+    /**
+     * Appends the String form of an object.
+     *
+     * @param value the Object to append.
+     * @return this LineBuffer.
+     */
+    LineBuffer append(Object value) {
+        return append(String.valueOf(value));
+    }
+    /**
+     * Appends a String.
+     *
+     * @param value the String to append.
+     * @return this LineBuffer.
+     */
+    LineBuffer append(String value) {
+        int length = value.length();
+        ensure(length);
+        int start = count;
+        for (int index = 0; index < length; index++) {
+            char c = value.charAt(index);
+            if (c >= 0x80) {
+                count = start;
+                return append(value.getBytes(charset));
+            }
+            bytes[count++] = (byte) c;
+        }
+        return this;
+    }
+    /**
+     * Appends a single ASCII character, such as a separator.
+     *
+     * @param c the char to append.
+     * @return this LineBuffer.
+     */
+    LineBuffer append(char c) {
+        if (c >= 0x80)
+            return append(String.valueOf(c));
+        ensure(1);
+        bytes[count++] = (byte) c;
+        return this;
+    }
+    /**
+     * Ends the current line.
+     *
+     * @return this LineBuffer.
+     */
+    LineBuffer newLine() {
+        return append(NEW_LINE);
+    }
+
+    /**
+     * Writes out the buffered bytes if a full block has been collected.
+     *
+     * @param out the OutputStream to write to.
+     * @throws IOException if the bytes could not be written.
+     */
+    void drain(OutputStream out) throws IOException {
+        if (count >= BLOCK_SIZE)
+            writeTo(out);
+    }
+    /**
+     * Writes out every buffered byte and empties the buffer.
+     *
+     * @param out the OutputStream to write to.
+     * @throws IOException if the bytes could not be written.
+     */
+    void writeTo(OutputStream out) throws IOException {
+        out.write(bytes, 0, count);
+        count = 0;
+    }
+
+    /**
+     * Appends encoded bytes.
+     *
+     * @param encoded the byte array to append.
+     * @return this LineBuffer.
+     */
+    private LineBuffer append(byte[] encoded) {
+        ensure(encoded.length);
+        System.arraycopy(encoded, 0, bytes, count, encoded.length);
+        count += encoded.length;
+        return this;
+    }
+    /**
+     * Ensures there is room for more bytes.
+     *
+     * @param needed the number of bytes about to be appended.  A String of
+     * this many characters may need up to four bytes for each.
+     */
+    private void ensure(int needed) {
+        long required = count + 4L * needed;
+        if (required > bytes.length)
+            bytes = Arrays.copyOf(bytes, (int) Math.max(required, bytes.length * 2L));
+    }
+}
@@ -0,0 +1,464 @@
+package edu.claflin.finder.io.graph;
+
+import edu.claflin.finder.io.graph.sub.GraphReader;
+import static edu.claflin.finder.Global.getLogger;
+import static edu.claflin.finder.Global.getMetrics;
+import edu.claflin.finder.log.LogLevel;
+import edu.claflin.finder.logic.Graph;
+import edu.claflin.finder.logic.GraphBuilder;
+import edu.claflin.finder.metrics.Flight;
+import edu.claflin.finder.metrics.Timer;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * A class for reading very large simple tab delimited graphs.  The file is
+ * memory mapped and split at line boundaries into chunks which are parsed in
+ * parallel straight from the mapped bytes.  Each chunk interns its node names
+ * into local ids and keeps its edges in primitive arrays; the chunks are then
+ * merged in file order through a {@link GraphBuilder}, so the resulting Graph
+ * is identical to the one read by {@link SimpleGraphIO}.
+ * <br>
+ * Lines may end with either "\n" or "\r\n".  Node names are decoded using the
+ * platform default charset, as {@link java.io.FileReader} does.
+ *
+ * @version 1.0 October 19, 2026
+ */
+public final class MappedGraphIO implements GraphReader {
+
+    /**
+     * The largest chunk that is mapped at once.  Mapped buffers are indexed
+     * by int, so a chunk must stay below 2GB.
+     */
+    private static final long MAX_CHUNK = 1L << 30;
+    /**
+     * The number of chunks handed to each thread.  More chunks than threads
+     * keeps the threads busy while earlier chunks are being merged.
+     */
+    private static final int CHUNKS_PER_THREAD = 4;
+
+    /**
+     * The number of threads used to parse the chunks.
+     */
+    private final int threads;
+
+    /**
+     * Constructs the reader using one thread per available processor.
+     */
+    public MappedGraphIO() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+    /**
+     * Constructs the reader.
+     *
+     * @param threads the number of threads used to parse the file.
+     */
+    public MappedGraphIO(int threads) {
+        if (threads < 1)
+            throw new IllegalArgumentException("Threads must be positive!");
+        this.threads = threads;
+    }
+
+    /**
+     * {@inheritDoc } Reads simple tab delimited graphs.
+     *
+     * A graph file consists of an edge on each line with a tab delimiting the
+     * two nodes joined by the edge and followed by an integer value
+     * representing the edge weight.  Lines without two nodes and a valid
+     * weight are skipped and counted.
+     *
+     * @param source the File object representing the graph.
+     * @param undirected a boolean indicating if the graph should be
+     * interpreted as undirected.
+     * @return the Graph object parsed from the file.
+     */
+    @Override
+    public Graph parseGraph(File source, boolean undirected) {
+        if (source.isDirectory()) {
+            if (getLogger() != null) {
+                getLogger().logError(LogLevel.NORMAL,
+                        "GraphIO: File is a directory: " + source.getAbsolutePath());
+            }
+            return null;
+        }
+
+        if (getLogger() != null) {
+            getLogger().logInfo(LogLevel.VERBOSE,
+                    "GraphIO: Attempting to map graph: "
+                    + source.getAbsolutePath());
+        }
+
+        Timer timer = getMetrics().timer("io.read");
+        long begin = timer.start();
+        Object event = Flight.beginGraphLoad();
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        try (FileChannel channel = FileChannel.open(source.toPath(),
+                StandardOpenOption.READ)) {
+            long[] bounds = split(channel);
+
+            ArrayList<Future<Chunk>> chunks = new ArrayList<>();
+            for (int index = 0; index + 1 < bounds.length; index++) {
+                long start = bounds[index];
+                long length = bounds[index + 1] - start;
+                chunks.add(pool.submit(() -> parseChunk(
+                        channel.map(FileChannel.MapMode.READ_ONLY, start, length))));
+            }
+
+            // Merge in file order while the later chunks are still parsing.
+            GraphBuilder builder = new GraphBuilder(
+                    source.getName().split("\\.")[0]);
+            int skipped = 0;
+            for (Future<Chunk> future : chunks) {
+                Chunk chunk = future.get();
+                skipped += chunk.skipped;
+
+                int[] globalIds = new int[chunk.nodeCount];
+                for (int id = 0; id < chunk.nodeCount; id++)
+                    globalIds[id] = builder.intern(chunk.names[id]);
+                for (int edge = 0; edge < chunk.edgeCount; edge++) {
+                    builder.addEdge(globalIds[chunk.sources[edge]],
+                            globalIds[chunk.destinations[edge]],
+                            chunk.weights[edge], undirected);
+                }
+            }
+
+            if (skipped > 0 && getLogger() != null) {
+                getLogger().logError(LogLevel.NORMAL, "GraphIO: Skipped "
+                        + skipped + " malformed lines of file: "
+                        + source.getAbsolutePath());
+            }
+
+            Graph graph = builder.build();
+            timer.stop(begin);
+            Flight.endGraphLoad(event, "Mapped", source.getName(),
+                    graph.getNodeCount(), graph.getEdgeCount());
+            if (getLogger() != null) {
+                getLogger().logInfo(LogLevel.NORMAL, String.format(
+                        "GraphIO: Successfully constructed graph from file "
+                        + "(%d chunks over %d threads).", chunks.size(), threads));
+            }
+            return graph;
+        } catch (IOException | ExecutionException ex) {
+            if (getLogger() != null) {
+                getLogger().logError(LogLevel.NORMAL,
+                        "GraphIO: Error processing Graph from file: "
+                        + source.getAbsolutePath() + " (" + ex + ")");
+            }
+            return null;
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            return null;
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    /**
+     * Splits the file into chunks which each start at the beginning of a
+     * line.
+     *
+     * @param channel the FileChannel of the file.
+     * @return the long array of chunk boundaries, beginning with 0 and ending
+     * with the size of the file.
+     * @throws IOException if the file could not be read.
+     */
+    private long[] split(FileChannel channel) throws IOException {
+        long size = channel.size();
+        int count = (int) Math.max(threads * CHUNKS_PER_THREAD,
+                (size + MAX_CHUNK - 1) / MAX_CHUNK * 2);
+        count = (int) Math.max(1, Math.min(count, size / 4096 + 1));
+
+        long[] bounds = new long[count + 1];
+        int found = 1;
+        ByteBuffer probe = ByteBuffer.allocate(8192);
+        for (int index = 1; index < count; index++) {
+            long position = Math.max(size * index / count, bounds[found - 1]);
+            long boundary = nextLine(channel, position, probe);
+            if (boundary > bounds[found - 1] && boundary < size)
+                bounds[found++] = boundary;
+        }
+        bounds[found++] = size;
+        return Arrays.copyOf(bounds, found);
+    }
+    /**
+     * Finds the position just after the next newline.
+     *
+     * @param channel the FileChannel of the file.
+     * @param position the position to start searching from.
+     * @param probe the ByteBuffer to read into.
+     * @return the position of the start of the next line or the size of the
+     * file if there is none.
+     * @throws IOException if the file could not be read.
+     */
+    private static long nextLine(FileChannel channel, long position,
+            ByteBuffer probe) throws IOException {
+        while (true) {
+            probe.clear();
+            int read = channel.read(probe, position);
+            if (read <= 0)
+                return channel.size();
+            for (int index = 0; index < read; index++) {
+                if (probe.get(index) == '\n')
+                    return position + index + 1;
+            }
+            position += read;
+        }
+    }
+
+    /**
+     * Parses one chunk of the file.
+     *
+     * @param buffer the MappedByteBuffer holding the chunk.
+     * @return the Chunk holding the nodes and edges that were parsed.
+     */
+    private static Chunk parseChunk(MappedByteBuffer buffer) {
+        Chunk chunk = new Chunk();
+        int limit = buffer.limit();
+        int position = 0;
+
+        while (position < limit) {
+            int end = position;
+            while (end < limit && buffer.get(end) != '\n')
+                end++;
+            int next = end + 1;
+            if (end > position && buffer.get(end - 1) == '\r')
+                end--;
+
+            if (!parseLine(buffer, position, end, chunk))
+                chunk.skipped++;
+            position = next;
+        }
+
+        return chunk;
+    }
+    /**
+     * Parses a single line into the chunk.  Any fields after the weight are
+     * ignored.
+     *
+     * @param buffer the ByteBuffer holding the line.
+     * @param start the index of the first byte of the line.
+     * @param end the index just past the last byte of the line.
+     * @param chunk the Chunk to add the edge to.
+     * @return true if the line held a valid edge.
+     */
+    private static boolean parseLine(ByteBuffer buffer, int start, int end,
+            Chunk chunk) {
+        int firstTab = indexOfTab(buffer, start, end);
+        if (firstTab == -1)
+            return false;
+        int secondTab = indexOfTab(buffer, firstTab + 1, end);
+        if (secondTab == -1)
+            return false;
+        int weightEnd = indexOfTab(buffer, secondTab + 1, end);
+        if (weightEnd == -1)
+            weightEnd = end;
+
+        // Parse the weight as Integer.parseInt would.
+        int index = secondTab + 1;
+        boolean negative = false;
+        if (index < weightEnd && (buffer.get(index) == '-' || buffer.get(index) == '+')) {
+            negative = buffer.get(index) == '-';
+            index++;
+        }
+        if (index == weightEnd)
+            return false;
+        long weight = 0;
+        for (; index < weightEnd; index++) {
+            int digit = buffer.get(index) - '0';
+            if (digit < 0 || digit > 9)
+                return false;
+            weight = weight * 10 + digit;
+            if (weight > Integer.MAX_VALUE + 1L)
+                return false;
+        }
+        if (negative)
+            weight = -weight;
+        if (weight > Integer.MAX_VALUE)
+            return false;
+
+        int source = chunk.intern(buffer, start, firstTab);
+        int destination = chunk.intern(buffer, firstTab + 1, secondTab);
+        chunk.addEdge(source, destination, (int) weight);
+        return true;
+    }
+    /**
+     * Finds the next tab in a range of the buffer.
+     *
+     * @param buffer the ByteBuffer to search.
+     * @param start the index to start from.
+     * @param end the index to stop before.
+     * @return the index of the tab or -1 if there is none.
+     */
+    private static int indexOfTab(ByteBuffer buffer, int start, int end) {
+        for (int index = start; index < end; index++) {
+            if (buffer.get(index) == '\t')
+                return index;
+        }
+        return -1;
+    }
+
+    /**
+     * Holds the nodes and edges parsed from one chunk of the file.  Node
+     * names are interned into local ids, in the order they are first seen,
+     * using an open addressing table keyed on the raw bytes.
+     */
+    private static final class Chunk {
+
+        /**
+         * The hash table of local ids plus one (zero marks an empty slot).
+         */
+        private int[] table = new int[1 << 10];
+        /**
+         * The hash of each local node.
+         */
+        private int[] hashes = new int[1 << 8];
+        /**
+         * The buffer offset of each local node's name.
+         */
+        private int[] offsets = new int[1 << 8];
+        /**
+         * The byte length of each local node's name.
+         */
+        private int[] lengths = new int[1 << 8];
+        /**
+         * The decoded name of each local node.
+         */
+        private String[] names = new String[1 << 8];
+        /**
+         * The number of local nodes.
+         */
+        private int nodeCount = 0;
+
+        /**
+         * The local source id of each edge.
+         */
+        private int[] sources = new int[1 << 10];
+        /**
+         * The local destination id of each edge.
+         */
+        private int[] destinations = new int[1 << 10];
+        /**
+         * The weight of each edge.
+         */
+        private int[] weights = new int[1 << 10];
+        /**
+         * The number of edges.
+         */
+        private int edgeCount = 0;
+
+        /**
+         * The number of malformed lines that were skipped.
+         */
+        private int skipped = 0;
+
+        /**
+         * Gets the local id of the node named by a range of the buffer,
+         * adding the node if it has not been seen in this chunk before.
+         *
+         * @param buffer the ByteBuffer holding the name.
+         * @param start the index of the first byte of the name.
+         * @param end the index just past the last byte of the name.
+         * @return the int local id of the node.
+         */
+        private int intern(ByteBuffer buffer, int start, int end) {
+            int hash = 0x811C9DC5;
+            for (int index = start; index < end; index++)
+                hash = (hash ^ buffer.get(index)) * 0x01000193;
+
+            int mask = table.length - 1;
+            int slot = hash & mask;
+            while (table[slot] != 0) {
+                int id = table[slot] - 1;
+                if (hashes[id] == hash && matches(buffer, start, end, id))
+                    return id;
+                slot = (slot + 1) & mask;
+            }
+
+            if (nodeCount == names.length) {
+                int capacity = names.length * 2;
+                hashes = Arrays.copyOf(hashes, capacity);
+                offsets = Arrays.copyOf(offsets, capacity);
+                lengths = Arrays.copyOf(lengths, capacity);
+                names = Arrays.copyOf(names, capacity);
+            }
+
+            int id = nodeCount++;
+            byte[] bytes = new byte[end - start];
+            for (int index = 0; index < bytes.length; index++)
+                bytes[index] = buffer.get(start + index);
+            hashes[id] = hash;
+            offsets[id] = start;
+            lengths[id] = bytes.length;
+            names[id] = new String(bytes, Charset.defaultCharset());
+            table[slot] = id + 1;
+
+            // Keep the table at most half full.
+            if (nodeCount * 2 > table.length)
+                rehash();
+            return id;
+        }
+        /**
+         * Tests if a range of the buffer matches the name of a local node.
+         *
+         * @param buffer the ByteBuffer holding the name.
+         * @param start the index of the first byte of the name.
+         * @param end the index just past the last byte of the name.
+         * @param id the local id of the node to compare against.
+         * @return true if the bytes are identical.
+         */
+        private boolean matches(ByteBuffer buffer, int start, int end, int id) {
+            if (lengths[id] != end - start)
+                return false;
+            int offset = offsets[id];
+            for (int index = 0; index < lengths[id]; index++) {
+                if (buffer.get(start + index) != buffer.get(offset + index))
+                    return false;
+            }
+            return true;
+        }
+        /**
+         * Doubles the size of the hash table.
+         */
+        private void rehash() {
+            table = new int[table.length * 2];
+            int mask = table.length - 1;
+            for (int id = 0; id < nodeCount; id++) {
+                int slot = hashes[id] & mask;
+                while (table[slot] != 0)
+                    slot = (slot + 1) & mask;
+                table[slot] = id + 1;
+            }
+        }
+        /**
+         * Adds an edge between two local nodes.
+         *
+         * @param source the local id of the source node.
+         * @param destination the local id of the destination node.
+         * @param weight the weight of the edge.
+         */
+        private void addEdge(int source, int destination, int weight) {
+            if (edgeCount == sources.length) {
+                int capacity = sources.length * 2;
+                sources = Arrays.copyOf(sources, capacity);
+                destinations = Arrays.copyOf(destinations, capacity);
+                weights = Arrays.copyOf(weights, capacity);
+            }
+            sources[edgeCount] = source;
+            destinations[edgeCount] = destination;
+            weights[edgeCount] = weight;
+            edgeCount++;
+        }
+    }
+}
@@ -1,14 +1,16 @@
 package edu.claflin.finder.io.graph;
 
 import static edu.claflin.finder.Global.getLogger;
+import static edu.claflin.finder.Global.getMetrics;
 import static edu.claflin.finder.Global.getOutput;
 import edu.claflin.finder.io.graph.sub.GraphWriter;
 import edu.claflin.finder.log.LogLevel;
 import edu.claflin.finder.logic.Graph;
 import edu.claflin.finder.logic.Edge;
-import java.io.BufferedWriter;
+import edu.claflin.finder.metrics.Flight;
+import edu.claflin.finder.metrics.Timer;
 import java.io.File;
-import java.io.FileWriter;
+import java.io.FileOutputStream;
 import java.io.IOException;
 
 /**
@@ -20,7 +22,7 @@ import java.io.IOException;
  *
  * 
  * @author Charles Allen Schultz II
- * @version 3.1 May 28, 2015
+ * @version 3.2 October 19, 2026
  */
 public final class NOABatchIO implements GraphWriter {
     
@@ -49,8 +51,21 @@ public final class NOABatchIO implements GraphWriter {
      */
     @Override
     public void writeGraph(Graph toWrite) {
+        writeGraph(toWrite, getOutput());
+    }
+    /**
+     * {@inheritDoc } Writes NOA batch files.
+     * 
+     * @param toWrite the Graph object to write to memory.
+     * @param directory the File of the directory to write to.
+     */
+    @Override
+    public void writeGraph(Graph toWrite, File directory) {
+        Timer timer = getMetrics().timer("io.write");
+        long start = timer.start();
+        Object event = Flight.beginGraphWrite();
         String[] partsOfName = toWrite.getName().split("-");
-        File output = new File(getOutput(), partsOfName[partsOfName.length - 1]);
+        File output = new File(directory, partsOfName[partsOfName.length - 1]);
         boolean error = false;
         boolean append = output.exists();
         
@@ -60,23 +75,17 @@ public final class NOABatchIO implements GraphWriter {
                     + (append ? " | Appending to existing file." : "") + ")");
         }
         
-        try (BufferedWriter bW = new BufferedWriter(new FileWriter(output, append))) {
-            bW.write(">" + toWrite.getName().replace(" ", "_"));
-            bW.newLine();
+        try (FileOutputStream out = new FileOutputStream(output, append)) {
+            LineBuffer buffer = LineBuffer.get();
+            buffer.append('>').append(toWrite.getName().replace(" ", "_")).newLine();
             
             for (Edge edge : toWrite.getEdgeList()) {
-                String type = verifyRelationship(edge.getData());
-                String line = String.format("%s %s %s",
-                        edge.getSource().getIdentifier(), type,
-                        edge.getDestination().getIdentifier());
-                bW.write(line);
-                bW.newLine();
-                
-                if (getLogger() != null) {
-                    getLogger().logInfo(LogLevel.VERBOSE, 
-                            "GraphIO: Wrote line to graph file: " + line);
-                }
+                buffer.append(edge.getSource().getIdentifier()).append(' ')
+                        .append(verifyRelationship(edge.getData())).append(' ')
+                        .append(edge.getDestination().getIdentifier()).newLine();
+                buffer.drain(out);
             }
+            buffer.writeTo(out);
         } catch (IOException ioe) {
             error = true;
             if (getLogger() != null) {
@@ -85,6 +94,9 @@ public final class NOABatchIO implements GraphWriter {
                         + toWrite.getName());
             }
         } finally {
+            timer.stop(start);
+            Flight.endGraphWrite(event, "NOA", toWrite.getName(), 
+                    toWrite.getNodeCount(), toWrite.getEdgeCount());
             String success = error ? "Failed to write" : "Successfully wrote";
             if (getLogger() != null) {
                 getLogger().logInfo(LogLevel.NORMAL, "GraphIO: " + success +
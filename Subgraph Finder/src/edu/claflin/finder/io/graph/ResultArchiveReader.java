@@ -0,0 +1,318 @@
+package edu.claflin.finder.io.graph;
+
+import edu.claflin.finder.io.graph.sub.GraphWriter;
+import edu.claflin.finder.logic.Edge;
+import edu.claflin.finder.logic.Graph;
+import edu.claflin.finder.logic.GraphBuilder;
+import edu.claflin.finder.logic.Node;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Reads the result archives written by {@link ResultArchiveWriter}.  The
+ * index is loaded when the archive is opened; records are only read when a
+ * result is asked for.  Results are rebuilt from the same source graph the
+ * archive was written for, which is checked using the fingerprint stored in
+ * the archive.
+ *
+ * @version 1.0 October 19, 2026
+ */
+public final class ResultArchiveReader implements Closeable {
+
+    /**
+     * The channel the archive is read through.
+     */
+    private final FileChannel channel;
+    /**
+     * The number of nodes in the source graph.
+     */
+    private final int sourceNodeCount;
+    /**
+     * The number of edges in the source graph.
+     */
+    private final int sourceEdgeCount;
+    /**
+     * The fingerprint of the source graph.
+     */
+    private final long sourceFingerprint;
+    /**
+     * The name of the source graph.
+     */
+    private final String sourceName;
+    /**
+     * The offset of each record.
+     */
+    private final long[] offsets;
+
+    /**
+     * Opens an archive and loads its index.
+     *
+     * @param archive the File holding the archive.
+     * @throws IOException if the file could not be read or is not a complete
+     * archive.
+     */
+    public ResultArchiveReader(File archive) throws IOException {
+        channel = FileChannel.open(archive.toPath(), StandardOpenOption.READ);
+        try {
+            ByteBuffer header = read(0, ResultArchiveWriter.HEADER_SIZE);
+            if (header.getInt(0) != ResultArchiveWriter.MAGIC)
+                throw new IOException("Not a result archive!");
+            if (header.getInt(4) != ResultArchiveWriter.VERSION)
+                throw new IOException("Unsupported archive version: "
+                        + header.getInt(4));
+
+            sourceNodeCount = header.getInt(8);
+            sourceEdgeCount = header.getInt(12);
+            sourceFingerprint = header.getLong(16);
+            long indexOffset = header.getLong(24);
+            int count = header.getInt(32);
+            if (indexOffset == 0L)
+                throw new IOException("Archive was not closed properly!");
+            if (count < 0 || indexOffset + 8L * count != channel.size())
+                throw new IOException("Archive is truncated or corrupt!");
+
+            int nameLength = read(ResultArchiveWriter.HEADER_SIZE, 4).getInt(0);
+            sourceName = decode(read(ResultArchiveWriter.HEADER_SIZE + 4L,
+                    nameLength));
+
+            offsets = new long[count];
+            read(indexOffset, 8 * count).asLongBuffer().get(offsets);
+        } catch (IOException | RuntimeException ex) {
+            channel.close();
+            throw ex;
+        }
+    }
+
+    /**
+     * Gets the name of the source graph.
+     *
+     * @return the String name of the source graph.
+     */
+    public String getSourceName() {
+        return sourceName;
+    }
+    /**
+     * Gets the number of results in the archive.
+     *
+     * @return the number of results.
+     */
+    public int getResultCount() {
+        return offsets.length;
+    }
+    /**
+     * Tests if the provided graph is the source graph the archive was written
+     * for.
+     *
+     * @param source the Graph to test.
+     * @return true if the graph matches.
+     */
+    public boolean matches(Graph source) {
+        return source.getNodeCount() == sourceNodeCount &&
+                source.getEdgeList().size() == sourceEdgeCount &&
+                ResultArchiveWriter.fingerprint(source) == sourceFingerprint;
+    }
+
+    /**
+     * Gets the name of a result.
+     *
+     * @param index the int index of the result.
+     * @return the String name of the result.
+     * @throws IOException if the archive could not be read.
+     */
+    public String getName(int index) throws IOException {
+        long offset = offsets[index];
+        return decode(read(offset + 4, read(offset, 4).getInt(0)));
+    }
+    /**
+     * Gets the ids of the source nodes in a result.
+     *
+     * @param index the int index of the result.
+     * @return the int array of node ids.
+     * @throws IOException if the archive could not be read.
+     */
+    public int[] getNodeIds(int index) throws IOException {
+        return readIds(nodesOffset(index));
+    }
+    /**
+     * Gets the ids of the source edges in a result.
+     *
+     * @param index the int index of the result.
+     * @return the int array of edge ids.
+     * @throws IOException if the archive could not be read.
+     */
+    public int[] getEdgeIds(int index) throws IOException {
+        long nodes = nodesOffset(index);
+        return readIds(nodes + 4 + 4L * read(nodes, 4).getInt(0));
+    }
+
+    /**
+     * Rebuilds a result from the source graph.  The result holds the very
+     * Node and Edge objects of the source graph.
+     *
+     * @param index the int index of the result.
+     * @param source the Graph the archive was written for.
+     * @return the Graph object of the result.
+     * @throws IOException if the archive could not be read or the source
+     * graph does not match.
+     */
+    public Graph getResult(int index, Graph source) throws IOException {
+        checkSource(source);
+        return getResult(index, source.getNodeList(), source.getEdgeList());
+    }
+    /**
+     * Streams every result rebuilt from the source graph, in the order they
+     * were written.  Each result is only read as the Stream is consumed.
+     *
+     * @param source the Graph the archive was written for.
+     * @return the Stream of result Graph objects.
+     * @throws IOException if the source graph does not match.
+     */
+    public Stream<Graph> stream(Graph source) throws IOException {
+        checkSource(source);
+        List<Node> nodes = source.getNodeList();
+        List<Edge> edges = source.getEdgeList();
+        return IntStream.range(0, offsets.length).mapToObj(index -> {
+            try {
+                return getResult(index, nodes, edges);
+            } catch (IOException ioe) {
+                throw new UncheckedIOException(ioe);
+            }
+        });
+    }
+    /**
+     * Writes every result using the provided writer.
+     *
+     * @param source the Graph the archive was written for.
+     * @param writer the GraphWriter to write the results with.
+     * @return the number of results written.
+     * @throws IOException if the archive could not be read or the source
+     * graph does not match.
+     */
+    public int extractAll(Graph source, GraphWriter writer) throws IOException {
+        try {
+            writer.writeGraphs(stream(source));
+        } catch (UncheckedIOException uioe) {
+            throw uioe.getCause();
+        }
+        return offsets.length;
+    }
+
+    /**
+     * Closes the archive.
+     *
+     * @throws IOException if the archive could not be closed.
+     */
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    /**
+     * Rebuilds a result from the lists of the source graph.
+     *
+     * @param index the int index of the result.
+     * @param nodes the List of source nodes.
+     * @param edges the List of source edges.
+     * @return the Graph object of the result.
+     * @throws IOException if the archive could not be read.
+     */
+    private Graph getResult(int index, List<Node> nodes, List<Edge> edges)
+            throws IOException {
+        int[] nodeIds = getNodeIds(index);
+        int[] edgeIds = getEdgeIds(index);
+        GraphBuilder builder = new GraphBuilder(getName(index), nodeIds.length,
+                edgeIds.length);
+        for (int id : nodeIds)
+            builder.addNode(nodes.get(check(id, nodes.size())));
+        for (int id : edgeIds)
+            builder.addEdge(edges.get(check(id, edges.size())));
+        return builder.build();
+    }
+    /**
+     * Ensures the source graph matches the archive.
+     *
+     * @param source the Graph to check.
+     * @throws IOException if the graph does not match.
+     */
+    private void checkSource(Graph source) throws IOException {
+        if (!matches(source))
+            throw new IOException("Graph " + source.getName() + " is not the "
+                    + "source graph of this archive (" + sourceName + ")!");
+    }
+    /**
+     * Gets the offset of the node count of a record.
+     *
+     * @param index the int index of the result.
+     * @return the long offset.
+     * @throws IOException if the archive could not be read.
+     */
+    private long nodesOffset(int index) throws IOException {
+        long offset = offsets[index];
+        return offset + 4 + read(offset, 4).getInt(0);
+    }
+    /**
+     * Reads a count followed by that many ids.
+     *
+     * @param offset the long offset of the count.
+     * @return the int array of ids.
+     * @throws IOException if the archive could not be read.
+     */
+    private int[] readIds(long offset) throws IOException {
+        int count = read(offset, 4).getInt(0);
+        int[] ids = new int[count];
+        read(offset + 4, 4 * count).asIntBuffer().get(ids);
+        return ids;
+    }
+    /**
+     * Reads bytes from the archive.
+     *
+     * @param offset the long offset to read from.
+     * @param length the number of bytes to read.
+     * @return the ByteBuffer holding the bytes.
+     * @throws IOException if the bytes could not be read.
+     */
+    private ByteBuffer read(long offset, int length) throws IOException {
+        if (length < 0 || offset + length > channel.size())
+            throw new IOException("Archive is truncated or corrupt!");
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, offset + buffer.position()) < 0)
+                throw new EOFException();
+        }
+        buffer.flip();
+        return buffer;
+    }
+    /**
+     * Decodes a UTF-8 string.
+     *
+     * @param buffer the ByteBuffer holding the string.
+     * @return the decoded String.
+     */
+    private static String decode(ByteBuffer buffer) {
+        return new String(buffer.array(), StandardCharsets.UTF_8);
+    }
+    /**
+     * Ensures an id read from the archive is valid.
+     *
+     * @param id the int id.
+     * @param size the number of valid ids.
+     * @return the id.
+     * @throws IOException if the id is out of range.
+     */
+    private static int check(int id, int size) throws IOException {
+        if (id < 0 || id >= size)
+            throw new IOException("Archive is truncated or corrupt!");
+        return id;
+    }
+}
@@ -0,0 +1,381 @@
+package edu.claflin.finder.io.graph;
+
+import edu.claflin.finder.io.graph.sub.GraphWriter;
+import static edu.claflin.finder.Global.getLogger;
+import static edu.claflin.finder.Global.getMetrics;
+import edu.claflin.finder.log.LogLevel;
+import edu.claflin.finder.logic.Edge;
+import edu.claflin.finder.logic.Graph;
+import edu.claflin.finder.logic.Node;
+import edu.claflin.finder.metrics.Flight;
+import edu.claflin.finder.metrics.Timer;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Objects;
+import java.util.zip.CRC32;
+
+/**
+ * Writes every subgraph found in a source graph into a single archive file.
+ * Each result is stored as lists of node and edge ids referencing the source
+ * graph, so an archive of many thousands of results is one small file
+ * written with a single sync when it is closed.  Results are read back with
+ * {@link ResultArchiveReader}.
+ * <br>
+ * An archive consists of a fixed header (the magic number, version, source
+ * node count and source edge count as ints, the source fingerprint and index
+ * offset as longs, then the result count and a reserved int), the source
+ * graph name, the result records and finally the index of record offsets.
+ * A record holds the result name, its node count and node ids, then its edge
+ * count and edge ids.  The index offset and result count are only filled in
+ * when the archive is closed, so an archive that was never closed is
+ * rejected by the reader.
+ *
+ * @version 1.1 October 19, 2026
+ */
+public final class ResultArchiveWriter implements GraphWriter, Closeable {
+
+    /**
+     * Marks a result archive ("SGFR").
+     */
+    public static final int MAGIC = 0x53474652;
+    /**
+     * The version of the layout described above.
+     */
+    public static final int VERSION = 1;
+    /**
+     * The size of the fixed header in bytes.
+     */
+    public static final int HEADER_SIZE = 40;
+    /**
+     * The file extension given to archives.
+     */
+    public static final String EXTENSION = ".sgr";
+
+    /**
+     * The archive file.
+     */
+    private final File output;
+    /**
+     * The channel the archive is written through.
+     */
+    private final FileChannel channel;
+    /**
+     * The buffered stream over the channel.
+     */
+    private final DataOutputStream out;
+    /**
+     * Maps the nodes of the source graph to their ids.
+     */
+    private final HashMap<Node, Integer> nodeIds;
+    /**
+     * Maps (source, destination) pairs of the source graph to the ids of the
+     * edges between them, which are several for parallel edges.
+     */
+    private final HashMap<Long, int[]> edgeIds;
+    /**
+     * The edges of the source graph.
+     */
+    private final List<Edge> edges;
+    /**
+     * The header of the archive.
+     */
+    private final ByteBuffer header;
+    /**
+     * The offset of each record written so far.
+     */
+    private long[] offsets = new long[64];
+    /**
+     * The number of records written so far.
+     */
+    private int count = 0;
+    /**
+     * The position the next record will be written at.
+     */
+    private long position;
+    /**
+     * Indicates that writing has failed and the archive is unusable.
+     */
+    private boolean failed = false;
+
+    /**
+     * Creates an archive for results found in the provided source graph.
+     *
+     * @param output the File to write the archive to.
+     * @param source the Graph the results were found in.
+     * @throws IOException if the archive could not be created.
+     */
+    public ResultArchiveWriter(File output, Graph source) throws IOException {
+        this.output = output;
+
+        List<Node> nodes = source.getNodeList();
+        edges = source.getEdgeList();
+        nodeIds = new HashMap<>(Math.max(16, nodes.size() * 4 / 3));
+        for (int node = 0; node < nodes.size(); node++)
+            nodeIds.put(nodes.get(node), node);
+        edgeIds = new HashMap<>(Math.max(16, edges.size() * 4 / 3));
+        for (int edge = 0; edge < edges.size(); edge++) {
+            Edge current = edges.get(edge);
+            long key = key(nodeIds.get(current.getSource()),
+                    nodeIds.get(current.getDestination()));
+            int[] ids = edgeIds.get(key);
+            if (ids == null) {
+                ids = new int[] {edge};
+            } else {
+                ids = Arrays.copyOf(ids, ids.length + 1);
+                ids[ids.length - 1] = edge;
+            }
+            edgeIds.put(key, ids);
+        }
+
+        header = ByteBuffer.allocate(HEADER_SIZE);
+        header.putInt(MAGIC)
+                .putInt(VERSION)
+                .putInt(nodes.size())
+                .putInt(edges.size())
+                .putLong(fingerprint(source))
+                .putLong(0L)
+                .putInt(0)
+                .putInt(0);
+
+        channel = FileChannel.open(output.toPath(), StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        channel.position(HEADER_SIZE);
+        out = new DataOutputStream(new BufferedOutputStream(
+                Channels.newOutputStream(channel), 1 << 16));
+        byte[] name = source.getName().getBytes(StandardCharsets.UTF_8);
+        out.writeInt(name.length);
+        out.write(name);
+        position = HEADER_SIZE + 4L + name.length;
+
+        if (getLogger() != null) {
+            getLogger().logInfo(LogLevel.NORMAL, "GraphIO: Opened result "
+                    + "archive: " + output.getAbsolutePath());
+        }
+    }
+
+    /**
+     * {@inheritDoc } Appends the graph to the archive as a record of node and
+     * edge ids.  Graphs containing nodes or edges that are not part of the
+     * source graph are logged and skipped.
+     *
+     * @param toWrite the {@link Graph} object to append.
+     */
+    @Override
+    public synchronized void writeGraph(Graph toWrite) {
+        if (failed)
+            return;
+
+        Timer timer = getMetrics().timer("io.write");
+        long start = timer.start();
+        Object event = Flight.beginGraphWrite();
+        List<Node> nodes = toWrite.getNodeList();
+        List<Edge> resultEdges = toWrite.getEdgeList();
+        int[] nodeList = new int[nodes.size()];
+        int[] edgeList = new int[resultEdges.size()];
+        for (int node = 0; node < nodeList.length; node++) {
+            Integer id = nodeIds.get(nodes.get(node));
+            if (id == null) {
+                skip(toWrite, "node " + nodes.get(node));
+                return;
+            }
+            nodeList[node] = id;
+        }
+        for (int edge = 0; edge < edgeList.length; edge++) {
+            int id = findEdge(resultEdges.get(edge));
+            if (id == -1) {
+                skip(toWrite, "edge " + resultEdges.get(edge));
+                return;
+            }
+            edgeList[edge] = id;
+        }
+
+        byte[] name = toWrite.getName().getBytes(StandardCharsets.UTF_8);
+        try {
+            out.writeInt(name.length);
+            out.write(name);
+            out.writeInt(nodeList.length);
+            for (int id : nodeList)
+                out.writeInt(id);
+            out.writeInt(edgeList.length);
+            for (int id : edgeList)
+                out.writeInt(id);
+        } catch (IOException ioe) {
+            failed = true;
+            if (getLogger() != null) {
+                getLogger().logError(LogLevel.NORMAL, "GraphIO: Error writing "
+                        + "to result archive: " + output.getAbsolutePath());
+            }
+            return;
+        }
+
+        if (count == offsets.length)
+            offsets = Arrays.copyOf(offsets, count * 2);
+        offsets[count++] = position;
+        position += 12L + name.length + 4L * (nodeList.length + edgeList.length);
+        timer.stop(start);
+        Flight.endGraphWrite(event, "Archive", toWrite.getName(),
+                nodeList.length, edgeList.length);
+    }
+
+    /**
+     * Gets the number of results written so far.
+     *
+     * @return the number of results.
+     */
+    public synchronized int getResultCount() {
+        return count;
+    }
+
+    /**
+     * Finishes the archive.  Writes the index, fills in the header and
+     * syncs the file to disk once.
+     *
+     * @throws IOException if the archive could not be finished.
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (!channel.isOpen())
+            return;
+
+        try {
+            for (int index = 0; index < count; index++)
+                out.writeLong(offsets[index]);
+            out.flush();
+
+            if (!failed) {
+                header.putLong(24, position);
+                header.putInt(32, count);
+                header.rewind();
+                while (header.hasRemaining())
+                    channel.write(header, header.position());
+            }
+            channel.force(true);
+        } finally {
+            channel.close();
+        }
+
+        if (getLogger() != null) {
+            getLogger().logInfo(LogLevel.NORMAL, "GraphIO: "
+                    + (failed ? "Failed to write" : "Succesfully wrote") + " "
+                    + count + " graphs to result archive: "
+                    + output.getAbsolutePath());
+        }
+    }
+
+    /**
+     * Computes a fingerprint of a graph from its node names and the node ids
+     * of its edges, in order.  Used to check that an archive is being read
+     * against the same source graph it was written for.
+     *
+     * @param graph the Graph to fingerprint.
+     * @return the long fingerprint.
+     */
+    static long fingerprint(Graph graph) {
+        CRC32 crc = new CRC32();
+        List<Node> nodes = graph.getNodeList();
+        HashMap<Node, Integer> ids = new HashMap<>(Math.max(16, nodes.size() * 4 / 3));
+        for (Node node : nodes) {
+            ids.put(node, ids.size());
+            crc.update(node.getIdentifier().getBytes(StandardCharsets.UTF_8));
+            crc.update(0);
+        }
+        ByteBuffer pair = ByteBuffer.allocate(8);
+        for (Edge edge : graph.getEdgeList()) {
+            pair.clear();
+            pair.putInt(ids.get(edge.getSource()))
+                    .putInt(ids.get(edge.getDestination()));
+            crc.update(pair.array());
+        }
+        return ((long) nodes.size() << 32) ^ crc.getValue();
+    }
+
+    /**
+     * Finds the id of a result edge in the source graph.  Undirected edges
+     * may be found in either direction.
+     *
+     * @param edge the Edge to find.
+     * @return the int id of the edge or -1 if it is not in the source graph.
+     */
+    private int findEdge(Edge edge) {
+        Integer source = nodeIds.get(edge.getSource());
+        Integer destination = nodeIds.get(edge.getDestination());
+        if (source == null || destination == null)
+            return -1;
+
+        int id = matchEdge(edgeIds.get(key(source, destination)), edge, false);
+        if (id == -1)
+            id = matchEdge(edgeIds.get(key(destination, source)), edge, true);
+        return id;
+    }
+    /**
+     * Picks the source edge a result edge stands for among the edges between
+     * the same pair of nodes.  The edge itself is preferred, then an edge with
+     * the same data and direction, then the first candidate, so that parallel
+     * edges keep their own ids.
+     *
+     * @param ids the int ids of the candidate edges, or null if there are none.
+     * @param edge the Edge to match.
+     * @param reversed true if the candidates run the other way, in which case
+     * only undirected edges match.
+     * @return the int id of the edge or -1 if none of the candidates match.
+     */
+    private int matchEdge(int[] ids, Edge edge, boolean reversed) {
+        if (ids == null)
+            return -1;
+
+        int fallback = -1;
+        for (int id : ids) {
+            Edge candidate = edges.get(id);
+            if (reversed && !candidate.isUndirected())
+                continue;
+            if (candidate == edge)
+                return id;
+            if (fallback == -1)
+                fallback = id;
+        }
+        for (int id : ids) {
+            Edge candidate = edges.get(id);
+            if (reversed && !candidate.isUndirected())
+                continue;
+            if (candidate.isUndirected() == edge.isUndirected()
+                    && Objects.equals(candidate.getData(), edge.getData()))
+                return id;
+        }
+        return fallback;
+    }
+    /**
+     * Logs a result that could not be archived.
+     *
+     * @param graph the Graph being skipped.
+     * @param reason the String naming the missing node or edge.
+     */
+    private void skip(Graph graph, String reason) {
+        if (getLogger() != null) {
+            getLogger().logError(LogLevel.NORMAL, "GraphIO: Skipped archiving "
+                    + graph.getName() + " as its " + reason
+                    + " is not in the source graph.");
+        }
+    }
+    /**
+     * Packs a pair of node ids into a single key.
+     *
+     * @param source the int id of the source node.
+     * @param destination the int id of the destination node.
+     * @return the long key of the pair.
+     */
+    private static long key(int source, int destination) {
+        return ((long) source << 32) | (destination & 0xFFFFFFFFL);
+    }
+}
@@ -1,6 +1,7 @@
 package edu.claflin.finder.io.graph;
 
 import static edu.claflin.finder.Global.getLogger;
+import static edu.claflin.finder.Global.getMetrics;
 import edu.claflin.finder.io.graph.sub.GraphWriter;
 import edu.claflin.finder.io.graph.sub.GraphReader;
 import static edu.claflin.finder.Global.getOutput;
@@ -8,11 +9,12 @@ import edu.claflin.finder.log.LogLevel;
 import edu.claflin.finder.logic.Graph;
 import edu.claflin.finder.logic.Edge;
 import edu.claflin.finder.logic.Node;
+import edu.claflin.finder.metrics.Flight;
+import edu.claflin.finder.metrics.Timer;
 import java.io.BufferedReader;
-import java.io.BufferedWriter;
 import java.io.File;
+import java.io.FileOutputStream;
 import java.io.FileReader;
-import java.io.FileWriter;
 import java.io.IOException;
 
 /**
@@ -22,7 +24,7 @@ import java.io.IOException;
  *
  * 
  * @author Charles Allen Schultz II
- * @version 3.1.1 February 2, 2016
+ * @version 3.2 October 19, 2026
  */
 public final class SIFGraphIO implements GraphReader, GraphWriter {
 
@@ -58,6 +60,9 @@ public final class SIFGraphIO implements GraphReader, GraphWriter {
         if (!testFile(source))
             return null;
         
+        Timer timer = getMetrics().timer("io.read");
+        long start = timer.start();
+        Object event = Flight.beginGraphLoad();
         Graph graph = new Graph(source.getName().split("\\.")[0]);
         
         if (getLogger() != null) {
@@ -83,9 +88,10 @@ public final class SIFGraphIO implements GraphReader, GraphWriter {
                         throw new IOException();
                     }
                     
+                    // Skip the relationship type between the source and targets.
                     for (int nodeIndex = 0; nodeIndex < nodes.length; nodeIndex++) {
-                        if (nodeIndex == 1) continue;
-                        nodes[nodeIndex] = new Node(nodeString[nodeIndex]);
+                        int field = nodeIndex == 0 ? 0 : nodeIndex + 1;
+                        nodes[nodeIndex] = new Node(nodeString[field]);
                     }
                     for (Node node : nodes) {
                         if (!graph.getNodeList().contains(node))
@@ -105,6 +111,11 @@ public final class SIFGraphIO implements GraphReader, GraphWriter {
             }
             graph = null;
         } finally {
+            timer.stop(start);
+            if (graph != null) {
+                Flight.endGraphLoad(event, "SIF", source.getName(), 
+                        graph.getNodeCount(), graph.getEdgeCount());
+            }
             if (graph != null && getLogger() != null) {
                 getLogger().logInfo(LogLevel.NORMAL, 
                         "GraphIO: Successfully constructed SIF Graph from "
@@ -121,7 +132,20 @@ public final class SIFGraphIO implements GraphReader, GraphWriter {
      */
     @Override
     public void writeGraph(Graph toWrite) {
-        File output = new File(getOutput(), toWrite.getName());
+        writeGraph(toWrite, getOutput());
+    }
+    /**
+     * {@inheritDoc } Writes SIF Style graphs.
+     * 
+     * @param toWrite the Graph object to write to memory.
+     * @param directory the File of the directory to write to.
+     */
+    @Override
+    public void writeGraph(Graph toWrite, File directory) {
+        Timer timer = getMetrics().timer("io.write");
+        long start = timer.start();
+        Object event = Flight.beginGraphWrite();
+        File output = new File(directory, toWrite.getName());
         boolean error = false;
         
         if (getLogger() != null) {
@@ -130,19 +154,15 @@ public final class SIFGraphIO implements GraphReader, GraphWriter {
                     + toWrite.getName());
         }
         
-        try (BufferedWriter bW = new BufferedWriter(new FileWriter(output))) {
+        try (FileOutputStream out = new FileOutputStream(output)) {
+            LineBuffer buffer = LineBuffer.get();
             for (Edge edge : toWrite.getEdgeList()) {
-                String type = verifyRelationship(edge.getData());
-                String line = String.format("%s %s %s", 
-                        edge.getSource().getIdentifier(), type, 
-                        edge.getDestination().getIdentifier());
-                bW.write(line);
-                bW.newLine();
-                if (getLogger() != null) {
-                    getLogger().logInfo(LogLevel.VERBOSE, 
-                            "GraphIO: Wrote line to graph file: " + line);
-                }
+                buffer.append(edge.getSource().getIdentifier()).append(' ')
+                        .append(verifyRelationship(edge.getData())).append(' ')
+                        .append(edge.getDestination().getIdentifier()).newLine();
+                buffer.drain(out);
             }
+            buffer.writeTo(out);
         } catch (IOException ioe) {
             error = true;
             if (getLogger() != null) {
@@ -151,6 +171,9 @@ public final class SIFGraphIO implements GraphReader, GraphWriter {
                         + toWrite.getName());
             }
         } finally {
+            timer.stop(start);
+            Flight.endGraphWrite(event, "SIF", toWrite.getName(), 
+                    toWrite.getNodeCount(), toWrite.getEdgeCount());
             String success = error ? "Failed to write" : "Successfully wrote";
             if (getLogger() != null) {
                 getLogger().logInfo(LogLevel.NORMAL, "GraphIO: " + success +
@@ -3,18 +3,23 @@ package edu.claflin.finder.io.graph;
 import edu.claflin.finder.io.graph.sub.GraphWriter;
 import edu.claflin.finder.io.graph.sub.GraphReader;
 import static edu.claflin.finder.Global.getLogger;
+import static edu.claflin.finder.Global.getMetrics;
 import static edu.claflin.finder.Global.getOutput;
 import edu.claflin.finder.log.LogLevel;
 import edu.claflin.finder.logic.Graph;
+import edu.claflin.finder.logic.GraphBuilder;
 import edu.claflin.finder.logic.BronKerboschBipartiteUtils;
 import edu.claflin.finder.logic.BronKerboschHandler;
 import edu.claflin.finder.logic.Edge;
 import edu.claflin.finder.logic.Node;
 import edu.claflin.finder.logic.cygrouper.GraphAverageWeight;
+import edu.claflin.finder.metrics.Flight;
+import edu.claflin.finder.metrics.Timer;
 
 import java.io.BufferedReader;
 import java.io.BufferedWriter;
 import java.io.File;
+import java.io.FileOutputStream;
 import java.io.FileReader;
 import java.io.FileWriter;
 import java.io.IOException;
@@ -25,7 +30,7 @@ import javax.swing.JOptionPane;
  * A class for reading and writing graphs.
  * 
  * @author Charles Allen Schultz II
- * @version 3.1.2 February 2, 2016
+ * @version 3.3 October 19, 2026
  */
 public final class SimpleGraphIO implements GraphReader, GraphWriter {
 
@@ -40,7 +45,11 @@ public final class SimpleGraphIO implements GraphReader, GraphWriter {
      * 
      * A graph file consists of an edge on each line with a tab delimiting the 
      * two nodes joined by the edge and followed by an integer value 
-     * representing the edge weight.
+     * representing the edge weight.  Lines without two nodes and a valid 
+     * weight are logged and skipped.
+     * <br>
+     * The file is read in a single pass, de-duplicating nodes and edges 
+     * through a {@link GraphBuilder}, so loading is linear in its size.
      * 
      * @param source the File object representing the graph.
      * @param undirected a boolean indicating if the graph should be 
@@ -55,7 +64,11 @@ public final class SimpleGraphIO implements GraphReader, GraphWriter {
             return null;
         }
         
-        Graph graph = new Graph(source.getName().split("\\.")[0]);
+        Timer timer = getMetrics().timer("io.read");
+        long start = timer.start();
+        Object event = Flight.beginGraphLoad();
+        GraphBuilder builder = new GraphBuilder(source.getName().split("\\.")[0]);
+        Graph graph = null;
         
         if (getLogger() != null) {
             getLogger().logInfo(LogLevel.VERBOSE, 
@@ -64,41 +77,71 @@ public final class SimpleGraphIO implements GraphReader, GraphWriter {
         }
         
         // Read graph here.  Assume File is a valid Graph file.
-        try (BufferedReader bR = new BufferedReader(new FileReader(source))) {
+        try (BufferedReader bR = new BufferedReader(new FileReader(source), 1 << 16)) {
             String line;
+            int lineNumber = 0;
             
-            do {
-                line = bR.readLine();
-                if (line != null) {
-                    String[] nodeString = line.split("\t");
-                    
-                    // Add nodes to Graph.
-                    Node[] nodes = new Node[2];
-                    for (int nodeIndex = 0; nodeIndex < 2; nodeIndex++) {
-                        nodes[nodeIndex] = new Node(nodeString[nodeIndex]);
-                    }
-                    for (Node node : nodes) {
-                        if (!graph.getNodeList().contains(node))
-                            graph.addNode(node);
-                    }
-                    
-                    graph.addEdge(new Edge(nodes[0], nodes[1], Integer.parseInt(nodeString[2]), undirected));
+            while ((line = bR.readLine()) != null) {
+                lineNumber++;
+                if (!parseLine(line, builder, undirected) && getLogger() != null) {
+                    getLogger().logError(LogLevel.NORMAL, 
+                            "GraphIO: Skipped malformed line " + lineNumber 
+                            + " of file: " + source.getAbsolutePath());
                 }
-            } while (line != null);
+            }
+            graph = builder.build();
         } catch (IOException ioe) {
             if (getLogger() != null) {
                 getLogger().logError(LogLevel.NORMAL, 
                         "GraphIO: Error processing Graph from file: "
                         + source.getAbsolutePath());
             }
-            graph = null;
-        } finally {
-            if (graph != null && getLogger() != null) {
-                getLogger().logInfo(LogLevel.NORMAL, 
-                        "GraphIO: Successfully constructed graph from file.");
-            }
-            return graph;
         }
+        
+        timer.stop(start);
+        if (graph != null) {
+            Flight.endGraphLoad(event, "Simple", source.getName(), 
+                    graph.getNodeCount(), graph.getEdgeCount());
+        }
+        if (graph != null && getLogger() != null) {
+            getLogger().logInfo(LogLevel.NORMAL, 
+                    "GraphIO: Successfully constructed graph from file.");
+        }
+        return graph;
+    }
+    
+    /**
+     * Parses a single line of a simple tab delimited graph into the builder. 
+     * Fields are located by scanning for tabs rather than splitting with a 
+     * regular expression.  Any fields after the weight are ignored.
+     * 
+     * @param line the String containing the line.
+     * @param builder the GraphBuilder to add the edge to.
+     * @param undirected a boolean indicating if the edge is undirected.
+     * @return true if the line held a valid edge.
+     */
+    private static boolean parseLine(String line, GraphBuilder builder, 
+            boolean undirected) {
+        int firstTab = line.indexOf('\t');
+        if (firstTab == -1)
+            return false;
+        int secondTab = line.indexOf('\t', firstTab + 1);
+        if (secondTab == -1)
+            return false;
+        int end = line.indexOf('\t', secondTab + 1);
+        if (end == -1)
+            end = line.length();
+        
+        int weight;
+        try {
+            weight = Integer.parseInt(line.substring(secondTab + 1, end));
+        } catch (NumberFormatException nfe) {
+            return false;
+        }
+        
+        builder.addEdge(line.substring(0, firstTab), 
+                line.substring(firstTab + 1, secondTab), weight, undirected);
+        return true;
     }
     
     /**
@@ -113,7 +156,20 @@ public final class SimpleGraphIO implements GraphReader, GraphWriter {
      */
     @Override
     public void writeGraph(Graph toWrite){
-        File output = new File(getOutput(), toWrite.getName());
+        writeGraph(toWrite, getOutput());
+    }
+    /**
+     * {@inheritDoc } Writes simple tab delimited graphs.
+     * 
+     * @param toWrite the {@link Graph} object to write to a file.
+     * @param directory the File of the directory to write to.
+     */
+    @Override
+    public void writeGraph(Graph toWrite, File directory){
+        Timer timer = getMetrics().timer("io.write");
+        long start = timer.start();
+        Object event = Flight.beginGraphWrite();
+        File output = new File(directory, toWrite.getName());
         boolean error = false;
         
         if (getLogger() != null) {
@@ -122,26 +178,20 @@ public final class SimpleGraphIO implements GraphReader, GraphWriter {
                     + toWrite.getName());
         }
         
-        try (BufferedWriter bW = new BufferedWriter(new FileWriter(output))) {
+        try (FileOutputStream out = new FileOutputStream(output)) {
         	if (!toWrite.getEdgeList().isEmpty())
         	{
-        		
+        		LineBuffer buffer = LineBuffer.get();
       			// to see if the graph given has no nodesS
 	            for (Edge edge : toWrite.getEdgeList()) {
-	            	Integer weight = verifyRelationship(edge.getData());
-	                String line = String.format("%s\t%s\t%s", 
-	                        edge.getSource().getIdentifier(), 
-	                        edge.getDestination().getIdentifier(), weight); // last variable is for 
-	                bW.write(line);
-	                bW.newLine();
-	               
-	                if (getLogger() != null) {
-	                    getLogger().logInfo(LogLevel.VERBOSE, 
-	                            "GraphIO: Wrote line to graph file: " + line);
-	                } 
+	                buffer.append(edge.getSource().getIdentifier()).append('\t')
+	                        .append(edge.getDestination().getIdentifier()).append('\t')
+	                        .append(verifyRelationship(edge.getData())).newLine();
+	                buffer.drain(out);
 	            }
-	            bW.write("Average edge weight: " + GraphAverageWeight.getAverageWeight(toWrite));
-	            bW.newLine();
+	            buffer.append("Average edge weight: ")
+	                    .append(GraphAverageWeight.getAverageWeight(toWrite)).newLine();
+	            buffer.writeTo(out);
         	}
         	
         } catch (IOException ioe) {
@@ -153,6 +203,9 @@ public final class SimpleGraphIO implements GraphReader, GraphWriter {
             }
         }
         finally {
+            timer.stop(start);
+            Flight.endGraphWrite(event, "Simple", toWrite.getName(), 
+                    toWrite.getNodeCount(), toWrite.getEdgeCount());
             String success = error ? "Failed to write" : "Succesfully wrote";
             if (getLogger() != null) {
                 getLogger().logInfo(LogLevel.NORMAL, "GraphIO: " + success +
@@ -1,12 +1,14 @@
 package edu.claflin.finder.io.graph.sub;
 
 import edu.claflin.finder.logic.Graph;
+import java.io.File;
+import java.util.stream.Stream;
 
 /**
  * Interface used by classes that write graphs to memory.
  * 
  * @author Charles Allen Schultz II
- * @version 3.0 May 20, 2015
+ * @version 3.2 October 19, 2026
  */
 public interface GraphWriter {
 
@@ -16,4 +18,27 @@ public interface GraphWriter {
      * @param toWrite the {@link Graph} object to write to memory.
      */
     void writeGraph(Graph toWrite);
+    
+    /**
+     * Writes graphs to memory in the provided directory rather than the 
+     * current output directory.  Used when the graph is written after the 
+     * output directory may have changed, such as by an 
+     * {@link edu.claflin.finder.io.graph.AsyncGraphWriter}.  Writers that do 
+     * not write into the output directory need not override this.
+     * 
+     * @param toWrite the {@link Graph} object to write to memory.
+     * @param directory the File of the directory to write to.
+     */
+    default void writeGraph(Graph toWrite, File directory) {
+        writeGraph(toWrite);
+    }
+    
+    /**
+     * Writes graphs to memory as they are produced by the provided Stream.
+     * 
+     * @param toWrite the Stream of {@link Graph} objects to write to memory.
+     */
+    default void writeGraphs(Stream<Graph> toWrite) {
+        toWrite.forEachOrdered(this::writeGraph);
+    }
 }
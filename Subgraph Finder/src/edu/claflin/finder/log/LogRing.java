@@ -0,0 +1,125 @@
+package edu.claflin.finder.log;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A bounded, lock-free ring buffer carrying finished log lines from any
+ * number of logging threads to the single thread writing them out.  Each
+ * slot carries a sequence number: a logging thread claims a slot by
+ * advancing the tail with a compare-and-set, fills it and publishes it by
+ * bumping the slot's sequence; the writing thread reads published slots in
+ * order and hands them back by bumping the sequence a full lap.  A full
+ * buffer never blocks the logging thread; the line is refused instead.
+ * <br>
+ * Only one thread may consume at a time.
+ *
+ * @version 1.0 October 19, 2026
+ */
+final class LogRing {
+
+    /**
+     * Receives the lines taken from the ring.
+     */
+    interface Sink {
+        /**
+         * Receives a single line.
+         *
+         * @param line the String line.
+         * @param targets the int bit set of outputs the line is written to.
+         */
+        void accept(String line, int targets);
+    }
+
+    /**
+     * Used to wrap an index into the ring.
+     */
+    private final int mask;
+    /**
+     * The sequence number of each slot.
+     */
+    private final AtomicLongArray sequences;
+    /**
+     * The line held in each slot.
+     */
+    private final String[] lines;
+    /**
+     * The outputs of the line held in each slot.
+     */
+    private final int[] targets;
+    /**
+     * The next position to be claimed by a logging thread.
+     */
+    private final AtomicLong tail = new AtomicLong();
+    /**
+     * The next position to be read.  Only touched by the consuming thread.
+     */
+    private long head = 0L;
+
+    /**
+     * Constructs the ring.
+     *
+     * @param capacity the number of lines the ring can hold, rounded up to a
+     * power of two.
+     */
+    LogRing(int capacity) {
+        int size = Integer.highestOneBit(Math.max(2, capacity - 1)) << 1;
+        mask = size - 1;
+        sequences = new AtomicLongArray(size);
+        lines = new String[size];
+        targets = new int[size];
+        for (int slot = 0; slot < size; slot++)
+            sequences.set(slot, slot);
+    }
+
+    /**
+     * Places a line in the ring.
+     *
+     * @param line the String line.
+     * @param outputs the int bit set of outputs the line is written to.
+     * @return true if the line was accepted, false if the ring is full.
+     */
+    boolean offer(String line, int outputs) {
+        long position;
+        int slot;
+        while (true) {
+            position = tail.get();
+            slot = (int) position & mask;
+            long sequence = sequences.get(slot);
+            if (sequence == position) {
+                if (tail.compareAndSet(position, position + 1))
+                    break;
+            } else if (sequence < position) {
+                return false;
+            }
+        }
+
+        lines[slot] = line;
+        targets[slot] = outputs;
+        sequences.lazySet(slot, position + 1);
+        return true;
+    }
+
+    /**
+     * Hands every published line to the sink, in order.
+     *
+     * @param sink the Sink receiving the lines.
+     * @return the number of lines taken.
+     */
+    int drain(Sink sink) {
+        int taken = 0;
+        while (true) {
+            int slot = (int) head & mask;
+            if (sequences.get(slot) != head + 1)
+                return taken;
+
+            String line = lines[slot];
+            int outputs = targets[slot];
+            lines[slot] = null;
+            sequences.lazySet(slot, head + mask + 1);
+            head++;
+            taken++;
+            sink.accept(line, outputs);
+        }
+    }
+}
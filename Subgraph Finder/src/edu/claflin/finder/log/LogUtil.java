@@ -7,14 +7,26 @@ import java.io.IOException;
 import java.util.Calendar;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
 
 /**
  * Logging utility for documenting the state of the program.  This simple custom
  * built logging utility outputs to a file the steps involved in the program.  
  * It may also be configured to output to the terminal as well.
+ * <br>
+ * Messages are written asynchronously.  Logging threads only check the level 
+ * and place the finished line into a lock-free {@link LogRing}, which a 
+ * background thread drains to the file and the terminal.  Should the ring 
+ * fill up, messages are dropped and counted rather than stalling the caller.  
+ * Messages that are expensive to build should use the Supplier or 
+ * parameterized forms of the logging methods, or check 
+ * {@link #isLoggable(LogType, LogLevel)} first, so that nothing is built 
+ * when the message is filtered out.
  * 
  * @author Charles Allen Schultz II
- * @version 3.1 May 28, 2015
+ * @version 3.2 October 19, 2026
  */
 public class LogUtil {
     
@@ -32,12 +44,12 @@ public class LogUtil {
      * The value representing if logging to a file is enabled.  Defaults to true
      * and is only set to false due to a malfunction in the BufferedWriter.
      */
-    private boolean logToFile = true;
+    private volatile boolean logToFile = true;
     /**
      * The value representing if logging to the terminal is enabled.  Defaults 
      * to true.
      */
-    private boolean logToTerminal = true;
+    private volatile boolean logToTerminal = true;
     /**
      * The maximum granularity of the logging utility.  Anything greater will 
      * be ignored.
@@ -55,6 +67,62 @@ public class LogUtil {
      */
     private final HashMap<LogType, Boolean> fileLogs = new HashMap();
     
+    /**
+     * Marks a line that is written to the file.
+     */
+    private static final int FILE = 1;
+    /**
+     * Marks a line that is written to the terminal.
+     */
+    private static final int TERMINAL = 2;
+    /**
+     * The number of lines that may wait to be written.
+     */
+    private static final int RING_CAPACITY = 1 << 16;
+    /**
+     * How long the background thread sleeps when there is nothing to write.
+     */
+    private static final long IDLE_NANOS = 1000000L;
+    
+    /**
+     * The outputs of each {@link LogType} and {@link LogLevel} pair, indexed 
+     * by their ordinals.  Rebuilt whenever an output is enabled or disabled.
+     */
+    private volatile int[][] outputs;
+    /**
+     * The lines waiting to be written.
+     */
+    private final LogRing ring = new LogRing(RING_CAPACITY);
+    /**
+     * Writes the lines taken from the ring.
+     */
+    private final LogRing.Sink sink = this::write;
+    /**
+     * The number of lines dropped since the last report.
+     */
+    private final AtomicLong dropped = new AtomicLong();
+    /**
+     * Guards the outputs and ensures a single thread drains the ring.
+     */
+    private final Object sinkLock = new Object();
+    /**
+     * Indicates that lines have been written to the file without a flush.
+     */
+    private boolean unflushed = false;
+    /**
+     * Indicates that the background thread should keep running.
+     */
+    private volatile boolean running = true;
+    /**
+     * The background thread writing the logged lines.
+     */
+    private final Thread writer;
+    /**
+     * Writes the remaining lines if the program exits without destroying 
+     * the logger.
+     */
+    private final Thread shutdownHook;
+    
     /**
      * Constructs the logging utility.
      * 
@@ -83,6 +151,13 @@ public class LogUtil {
         
         setFileLogs(fileLogs);
         setTerminalLogs(terminalLogs);
+        updateOutputs();
+        
+        writer = new Thread(this::run, "LogUtil");
+        writer.setDaemon(true);
+        writer.start();
+        shutdownHook = new Thread(this::flush, "LogUtil-shutdown");
+        Runtime.getRuntime().addShutdownHook(shutdownHook);
     }
     /**
      * Constructs the logging utility.  Allows the user to specify which 
@@ -138,14 +213,18 @@ public class LogUtil {
      * It also closes the BufferedWriter to free the resource.
      */
     public void destroyLogToFile() {
-        if (logToFile) {
-            try {
-                bW.close();
-            } catch (IOException ioe) {
-                reportProblem(ioe.getMessage(), "Unimportant.  "
-                        + "Destroying engine anyways.");
-            } finally {
-                logToFile = false;
+        synchronized (sinkLock) {
+            if (logToFile) {
+                drainRing();
+                try {
+                    bW.close();
+                } catch (IOException ioe) {
+                    reportProblem(ioe.getMessage(), "Unimportant.  "
+                            + "Destroying engine anyways.");
+                } finally {
+                    logToFile = false;
+                    updateOutputs();
+                }
             }
         }
     }
@@ -155,16 +234,62 @@ public class LogUtil {
      * enabled.
      */
     public void destroyLogToTerminal() {
-        if (logToTerminal)
-            logToTerminal = false;
+        synchronized (sinkLock) {
+            if (logToTerminal) {
+                drainRing();
+                logToTerminal = false;
+                updateOutputs();
+            }
+        }
     }
     /**
      * Destroys all logging functionality of the log engine.  A convenience
-     * method that calls both destroyLogToTerminal() and destroyLogToFile().
+     * method that calls both destroyLogToTerminal() and destroyLogToFile().  
+     * Every message logged beforehand is written first and the background 
+     * thread is stopped.
      */
     public void destroy() {
+        running = false;
+        LockSupport.unpark(writer);
+        boolean interrupted = false;
+        while (writer.isAlive()) {
+            try {
+                writer.join();
+            } catch (InterruptedException ie) {
+                interrupted = true;
+            }
+        }
+        if (interrupted)
+            Thread.currentThread().interrupt();
+        
         destroyLogToFile();
         destroyLogToTerminal();
+        try {
+            Runtime.getRuntime().removeShutdownHook(shutdownHook);
+        } catch (IllegalStateException ise) {
+            // Already shutting down; the hook finds nothing left to write.
+        }
+    }
+    /**
+     * Writes every message logged so far.  Blocks until they are written.
+     */
+    public void flush() {
+        synchronized (sinkLock) {
+            drainRing();
+            flushFile();
+        }
+    }
+    
+    /**
+     * Tests if a message would be logged.  Used to skip building messages 
+     * that would be thrown away.
+     * 
+     * @param type the LogType of the message.
+     * @param granularity the LogLevel of the message.
+     * @return true if the message would be written to any output.
+     */
+    public boolean isLoggable(LogType type, LogLevel granularity) {
+        return outputs[type.ordinal()][granularity.ordinal()] != 0;
     }
     
     /**
@@ -197,21 +322,154 @@ public class LogUtil {
      * @param detail the String representing the data to be logged.
      */
     private void log(LogType type, LogLevel granularity, String detail) {
-        if (granularity.compareTo(maxGranularity) <= 0) {
-            if (logToFile && fileLogs.get(type)) {
-                try {
-                    bW.write(type + detail);
-                    bW.newLine();
-                } catch (IOException ioe) {
-                    reportProblem(ioe.getMessage(), "Disabling Logging Engine...");
-                    destroyLogToTerminal();
-                }
+        int targets = outputs[type.ordinal()][granularity.ordinal()];
+        if (targets != 0 && !ring.offer(type + detail, targets))
+            dropped.incrementAndGet();
+    }
+    /**
+     * Used to log data that is only built if the message will be logged.
+     * 
+     * @param type the LogType object representing the level of detail for the
+     *  log.
+     * @param granularity the LogLevel object representing how granular this 
+     * message is.
+     * @param detail the Supplier of the String representing the data to be 
+     * logged.
+     */
+    private void log(LogType type, LogLevel granularity, Supplier<String> detail) {
+        if (isLoggable(type, granularity))
+            log(type, granularity, detail.get());
+    }
+    /**
+     * Used to log a parameterized message.  Each "{}" in the pattern is 
+     * replaced by the String form of the next argument, but only if the 
+     * message will be logged.
+     * 
+     * @param type the LogType object representing the level of detail for the
+     *  log.
+     * @param granularity the LogLevel object representing how granular this 
+     * message is.
+     * @param pattern the String pattern of the message.
+     * @param arguments the Objects substituted into the pattern.
+     */
+    private void log(LogType type, LogLevel granularity, String pattern, 
+            Object... arguments) {
+        if (isLoggable(type, granularity))
+            log(type, granularity, format(pattern, arguments));
+    }
+    
+    /**
+     * Substitutes arguments into a pattern.
+     * 
+     * @param pattern the String pattern containing "{}" placeholders.
+     * @param arguments the Objects to substitute.
+     * @return the formatted String.
+     */
+    static String format(String pattern, Object... arguments) {
+        StringBuilder builder = new StringBuilder(pattern.length() + 16 * arguments.length);
+        int start = 0;
+        for (Object argument : arguments) {
+            int placeholder = pattern.indexOf("{}", start);
+            if (placeholder == -1)
+                break;
+            builder.append(pattern, start, placeholder).append(argument);
+            start = placeholder + 2;
+        }
+        return builder.append(pattern, start, pattern.length()).toString();
+    }
+    
+    /**
+     * Rebuilds the table of outputs after the configuration changes.
+     */
+    private void updateOutputs() {
+        int[][] table = new int[LogType.values().length][LogLevel.values().length];
+        for (LogType type : LogType.values()) {
+            for (LogLevel granularity : LogLevel.values()) {
+                if (granularity.compareTo(maxGranularity) > 0)
+                    continue;
+                if (logToFile && fileLogs.get(type))
+                    table[type.ordinal()][granularity.ordinal()] |= FILE;
+                if (logToTerminal && terminalLogs.get(type))
+                    table[type.ordinal()][granularity.ordinal()] |= TERMINAL;
+            }
+        }
+        outputs = table;
+    }
+    /**
+     * Writes logged lines until the logger is destroyed.  Run by the 
+     * background thread.
+     */
+    private void run() {
+        while (true) {
+            boolean stopping = !running;
+            int taken;
+            synchronized (sinkLock) {
+                taken = drainRing();
+                if (taken == 0)
+                    flushFile();
+            }
+            if (taken == 0) {
+                if (stopping)
+                    return;
+                LockSupport.parkNanos(this, IDLE_NANOS);
+            }
+        }
+    }
+    /**
+     * Writes every line waiting in the ring, followed by a report of any 
+     * dropped lines.  Must be called holding the sinkLock.
+     * 
+     * @return the number of lines written.
+     */
+    private int drainRing() {
+        int taken = ring.drain(sink);
+        long lost = dropped.getAndSet(0L);
+        if (lost > 0L) {
+            write(LogType.ERRR + "LogUtil: Dropped " + lost + " messages that "
+                    + "were logged faster than they could be written.", 
+                    outputs[LogType.ERRR.ordinal()][LogLevel.NORMAL.ordinal()]);
+        }
+        return taken;
+    }
+    /**
+     * Writes a single line to its outputs.  Must be called holding the 
+     * sinkLock.
+     * 
+     * @param line the String line.
+     * @param targets the int bit set of outputs to write to.
+     */
+    private void write(String line, int targets) {
+        if ((targets & FILE) != 0 && logToFile) {
+            try {
+                bW.write(line);
+                bW.newLine();
+                unflushed = true;
+            } catch (IOException ioe) {
+                reportProblem(ioe.getMessage(), "Disabling Logging to File...");
+                logToFile = false;
+                updateOutputs();
             }
+        }
         
-            if (logToTerminal && terminalLogs.get(type)) {
-                System.out.println(type + detail);
+        if ((targets & TERMINAL) != 0 && logToTerminal) {
+            System.out.println(line);
+        }
+    }
+    /**
+     * Flushes the file if lines have been written since the last flush.  
+     * Must be called holding the sinkLock.
+     */
+    private void flushFile() {
+        if (unflushed && logToFile) {
+            try {
+                bW.flush();
+            } catch (IOException ioe) {
+                reportProblem(ioe.getMessage(), "Disabling Logging to File...");
+                logToFile = false;
+                updateOutputs();
             }
         }
+        unflushed = false;
     }
     /**
      * Logs an ERROR message.  Used by the user to log error messages.  Calls 
@@ -223,6 +481,27 @@ public class LogUtil {
     public void logError(LogLevel level, String detail) {
         log(LogType.ERRR, level, detail);
     }
+    /**
+     * Logs an ERROR message that is only built if it will be logged.
+     * 
+     * @param level the level of granularity of this message.
+     * @param detail the Supplier of the String representing the data to be 
+     * logged.
+     */
+    public void logError(LogLevel level, Supplier<String> detail) {
+        log(LogType.ERRR, level, detail);
+    }
+    /**
+     * Logs an ERROR message built from a pattern.  Each "{}" in the pattern is 
+     * replaced by the next argument, only if the message will be logged.
+     * 
+     * @param level the level of granularity of this message.
+     * @param pattern the String pattern of the message.
+     * @param arguments the Objects substituted into the pattern.
+     */
+    public void logError(LogLevel level, String pattern, Object... arguments) {
+        log(LogType.ERRR, level, pattern, arguments);
+    }
     /**
      * Logs an INFO message.  Used by the user to log info messages.  Calls 
      * log(LogLevel, String) for the user.
@@ -233,6 +512,27 @@ public class LogUtil {
     public void logInfo(LogLevel level, String detail) {
         log(LogType.INFO, level, detail);
     }
+    /**
+     * Logs an INFO message that is only built if it will be logged.
+     * 
+     * @param level the level of granularity of this message.
+     * @param detail the Supplier of the String representing the data to be 
+     * logged.
+     */
+    public void logInfo(LogLevel level, Supplier<String> detail) {
+        log(LogType.INFO, level, detail);
+    }
+    /**
+     * Logs an INFO message built from a pattern.  Each "{}" in the pattern is 
+     * replaced by the next argument, only if the message will be logged.
+     * 
+     * @param level the level of granularity of this message.
+     * @param pattern the String pattern of the message.
+     * @param arguments the Objects substituted into the pattern.
+     */
+    public void logInfo(LogLevel level, String pattern, Object... arguments) {
+        log(LogType.INFO, level, pattern, arguments);
+    }
     /**
      * Logs an ALGO message.  Used by the user to log algorithm messages. Calls 
      * log(LogLevel, String) for the user.
@@ -243,6 +543,27 @@ public class LogUtil {
     public void logAlgo(LogLevel level, String detail) {
         log(LogType.ALGO, level, detail);
     }
+    /**
+     * Logs an ALGO message that is only built if it will be logged.
+     * 
+     * @param level the level of granularity of this message.
+     * @param detail the Supplier of the String representing the data to be 
+     * logged.
+     */
+    public void logAlgo(LogLevel level, Supplier<String> detail) {
+        log(LogType.ALGO, level, detail);
+    }
+    /**
+     * Logs an ALGO message built from a pattern.  Each "{}" in the pattern is 
+     * replaced by the next argument, only if the message will be logged.
+     * 
+     * @param level the level of granularity of this message.
+     * @param pattern the String pattern of the message.
+     * @param arguments the Objects substituted into the pattern.
+     */
+    public void logAlgo(LogLevel level, String pattern, Object... arguments) {
+        log(LogType.ALGO, level, pattern, arguments);
+    }
     /**
      * Logs a GRPH message.  Used by the user to log graph messages.  Calls 
      * log(LogLevel, String) for the user.
@@ -253,4 +574,25 @@ public class LogUtil {
     public void logGraph(LogLevel level, String detail) {
         log(LogType.GRPH, level, detail);
     }
+    /**
+     * Logs a GRPH message that is only built if it will be logged.
+     * 
+     * @param level the level of granularity of this message.
+     * @param detail the Supplier of the String representing the data to be 
+     * logged.
+     */
+    public void logGraph(LogLevel level, Supplier<String> detail) {
+        log(LogType.GRPH, level, detail);
+    }
+    /**
+     * Logs a GRPH message built from a pattern.  Each "{}" in the pattern is 
+     * replaced by the next argument, only if the message will be logged.
+     * 
+     * @param level the level of granularity of this message.
+     * @param pattern the String pattern of the message.
+     * @param arguments the Objects substituted into the pattern.
+     */
+    public void logGraph(LogLevel level, String pattern, Object... arguments) {
+        log(LogType.GRPH, level, pattern, arguments);
+    }
 }
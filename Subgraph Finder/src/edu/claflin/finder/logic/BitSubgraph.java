@@ -0,0 +1,385 @@
+package edu.claflin.finder.logic;
+
+import static edu.claflin.finder.Global.getLogger;
+import static edu.claflin.finder.Global.getMetrics;
+import edu.claflin.finder.log.LogLevel;
+import edu.claflin.finder.metrics.Counter;
+import edu.claflin.finder.metrics.Flight;
+import edu.claflin.finder.metrics.Timer;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * A subgraph of an {@link IndexedGraph} being grown by a search.  Membership
+ * of nodes and edges is held as bitsets over the ids of the parent graph, so
+ * testing a node or edge is a single word operation and growing the subgraph
+ * never copies it.  Like a {@link ConditionedGraph} forcing its conditions,
+ * an addition is only kept if the subgraph still satisfies its conditions
+ * afterwards; a refused addition is simply rolled back.
+ * <br>
+ * The nodes and edges are also remembered in the order they were added, so
+ * that the subgraph can be turned back into a {@link Graph} identical to the
+ * one a ConditionedGraph would have built.  A BitSubgraph is meant to be
+ * reused for each root of a search; use {@link #pack()} to keep a result.
+ *
+ * @version 1.0 October 19, 2026
+ */
+public final class BitSubgraph {
+
+    /**
+     * Times the additions checked against the conditions.
+     */
+    private static final Timer CONDITION_CHECK =
+            getMetrics().timer("condition.check");
+    /**
+     * Counts the evaluations of individual conditions.
+     */
+    private static final Counter CONDITION_EVALUATIONS =
+            getMetrics().counter("condition.evaluations");
+    /**
+     * Counts the additions refused because a condition would not hold.
+     */
+    private static final Counter CONDITION_REJECTIONS =
+            getMetrics().counter("condition.rejections");
+
+    /**
+     * The graph this is a subgraph of.
+     */
+    private final IndexedGraph parent;
+    /**
+     * The Conditions the subgraph must satisfy.
+     */
+    private final List<Condition> conditions;
+    /**
+     * The member nodes, one bit per node id.
+     */
+    private final long[] nodeBits;
+    /**
+     * The member edges, one bit per edge id.
+     */
+    private final long[] edgeBits;
+    /**
+     * The member node ids in the order they were added.
+     */
+    private final int[] nodeOrder;
+    /**
+     * The member edge ids in the order they were added.
+     */
+    private final int[] edgeOrder;
+    /**
+     * The position of each member node in nodeOrder, by node id.
+     */
+    private final int[] position;
+    /**
+     * The number of member nodes.
+     */
+    private int nodeCount = 0;
+    /**
+     * The number of member edges.
+     */
+    private int edgeCount = 0;
+    /**
+     * The name of the subgraph.
+     */
+    private String name;
+
+    /**
+     * Constructs an empty subgraph.
+     *
+     * @param parent the IndexedGraph to take nodes and edges from.
+     * @param conditions the Collection&lt;Condition&gt; the subgraph must
+     * satisfy, or null for none.
+     */
+    public BitSubgraph(IndexedGraph parent, Collection<Condition> conditions) {
+        this.parent = parent;
+        this.conditions = new ArrayList<>();
+        if (conditions != null)
+            this.conditions.addAll(conditions);
+        this.nodeBits = new long[words(parent.getNodeCount())];
+        this.edgeBits = new long[words(parent.getEdgeCount())];
+        this.nodeOrder = new int[parent.getNodeCount()];
+        this.edgeOrder = new int[parent.getEdgeCount()];
+        this.position = new int[parent.getNodeCount()];
+    }
+
+    /**
+     * Empties the subgraph so that it can be grown again.  Takes time
+     * proportional to the size of the subgraph, not of the parent.
+     *
+     * @param name the String name of the new subgraph.
+     */
+    public void reset(String name) {
+        truncate(0, 0);
+        this.name = name;
+    }
+
+    /**
+     * Gets the name of the subgraph.
+     *
+     * @return the String name.
+     */
+    public String getName() {
+        return name;
+    }
+    /**
+     * Gets the graph this is a subgraph of.
+     *
+     * @return the parent IndexedGraph.
+     */
+    public IndexedGraph getParent() {
+        return parent;
+    }
+    /**
+     * Gets the number of nodes in the subgraph.
+     *
+     * @return the number of nodes.
+     */
+    public int getNodeCount() {
+        return nodeCount;
+    }
+    /**
+     * Gets the number of edges in the subgraph.
+     *
+     * @return the number of edges.
+     */
+    public int getEdgeCount() {
+        return edgeCount;
+    }
+    /**
+     * Tests if a node is in the subgraph.
+     *
+     * @param node the id of the node.
+     * @return true if the node is a member.
+     */
+    public boolean containsNode(int node) {
+        return (nodeBits[node >>> 6] & (1L << node)) != 0L;
+    }
+    /**
+     * Tests if an edge is in the subgraph.
+     *
+     * @param edge the id of the edge.
+     * @return true if the edge is a member.
+     */
+    public boolean containsEdge(int edge) {
+        return (edgeBits[edge >>> 6] & (1L << edge)) != 0L;
+    }
+    /**
+     * Gets a member node by the position it was added in.
+     *
+     * @param index the position of the node, from 0 to the node count.
+     * @return the id of the node.
+     */
+    public int getNodeAt(int index) {
+        return nodeOrder[index];
+    }
+    /**
+     * Gets the position a member node was added in.
+     *
+     * @param node the id of a member node.
+     * @return the position of the node.
+     */
+    public int getPosition(int node) {
+        return position[node];
+    }
+
+    /**
+     * Finds the members joined to a member node by member edges.  The result
+     * is a bitset over the positions of the members rather than over the ids
+     * of the parent, so it is only as large as the subgraph.
+     *
+     * @param index the position of the node.
+     * @param arriving true to also follow directed edges arriving at the
+     * node; false to follow only those {@link Graph#getAdjacencyList(Node)}
+     * would.
+     * @return the long[] bitset of positions.
+     */
+    public long[] getNeighbors(int index, boolean arriving) {
+        long[] neighbors = new long[words(nodeCount)];
+        int node = nodeOrder[index];
+        for (int entry = parent.rowStart(node);
+                entry < parent.rowStart(node + 1); entry++) {
+            if (containsEdge(parent.rowEdge(entry))) {
+                int neighbor = position[parent.rowNode(entry)];
+                neighbors[neighbor >>> 6] |= 1L << neighbor;
+            }
+        }
+        if (arriving) {
+            for (int entry = parent.inStart(node);
+                    entry < parent.inStart(node + 1); entry++) {
+                if (containsEdge(parent.inEdge(entry))) {
+                    int neighbor = position[parent.inNode(entry)];
+                    neighbors[neighbor >>> 6] |= 1L << neighbor;
+                }
+            }
+        }
+        return neighbors;
+    }
+    /**
+     * Tests if a bitset of positions holds every member but one.
+     *
+     * @param positions the long[] bitset, as from
+     * {@link #getNeighbors(int, boolean)}.
+     * @param index the position of the member that need not be held.
+     * @return true if every other member is held.
+     */
+    public boolean holdsAllBut(long[] positions, int index) {
+        int full = nodeCount >>> 6;
+        for (int word = 0; word < full; word++) {
+            long expected = word == index >>> 6 ? ~(1L << index) : -1L;
+            if ((positions[word] & expected) != expected)
+                return false;
+        }
+        if ((nodeCount & 63) != 0) {
+            long expected = (1L << nodeCount) - 1L;
+            if (full == index >>> 6)
+                expected &= ~(1L << index);
+            return (positions[full] & expected) == expected;
+        }
+        return true;
+    }
+
+    /**
+     * Adds nodes and edges to the subgraph if it would still satisfy its
+     * conditions afterwards.  As with {@link Graph#addPartialGraph(List,
+     * List)}, the nodes are added first and an edge is only added if both of
+     * its nodes are then members and it is not a member already.
+     *
+     * @param nodes the int[] holding the ids of the nodes to add, none of
+     * which may already be members.
+     * @param nodesLength the number of nodes to add from the array.
+     * @param edges the int[] holding the ids of the edges to add.
+     * @param edgesLength the number of edges to add from the array.
+     * @return true if the addition was kept.
+     */
+    public boolean addPartialGraph(int[] nodes, int nodesLength, int[] edges,
+            int edgesLength) {
+        long start = CONDITION_CHECK.start();
+        int nodeMark = nodeCount;
+        int edgeMark = edgeCount;
+        for (int index = 0; index < nodesLength; index++) {
+            int node = nodes[index];
+            nodeBits[node >>> 6] |= 1L << node;
+            position[node] = nodeCount;
+            nodeOrder[nodeCount++] = node;
+        }
+        for (int index = 0; index < edgesLength; index++) {
+            int edge = edges[index];
+            if (!containsEdge(edge) && containsNode(parent.getSource(edge)) &&
+                    containsNode(parent.getDestination(edge))) {
+                edgeBits[edge >>> 6] |= 1L << edge;
+                edgeOrder[edgeCount++] = edge;
+            }
+        }
+        boolean satisfied = querySatisfaction();
+        CONDITION_CHECK.stop(start);
+        if (!satisfied) {
+            truncate(nodeMark, edgeMark);
+            CONDITION_REJECTIONS.increment();
+            return false;
+        }
+
+        if (getLogger() != null) {
+            for (int index = nodeMark; index < nodeCount; index++)
+                getLogger().logGraph(LogLevel.VERBOSE, "{}: Added Node: \"{}\"",
+                        name, parent.getNode(nodeOrder[index]));
+            for (int index = edgeMark; index < edgeCount; index++)
+                getLogger().logGraph(LogLevel.VERBOSE, "{}: Added Edge: {}",
+                        name, parent.getEdge(edgeOrder[index]));
+            getLogger().logGraph(LogLevel.VERBOSE,
+                    name + ": Successful addition to conditioned graph.");
+        }
+        return true;
+    }
+    /**
+     * Tests if the subgraph satisfies its conditions.
+     *
+     * @return true if every condition is satisfied.
+     */
+    public boolean querySatisfaction() {
+        for (Condition condition : conditions) {
+            CONDITION_EVALUATIONS.increment();
+            Object event = Flight.beginConditionCheck();
+            boolean satisfied = condition.satisfies(this);
+            Flight.endConditionCheck(event, condition.getClass().getSimpleName(),
+                    nodeCount, edgeCount, satisfied);
+            if (!satisfied)
+                return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * Keeps the subgraph as it stands, in a compact form that is not changed
+     * by later growth or resets of this one.
+     *
+     * @return the PackedSubgraph.
+     */
+    public PackedSubgraph pack() {
+        int[] nodes = new int[nodeCount];
+        int[] edges = new int[edgeCount];
+        System.arraycopy(nodeOrder, 0, nodes, 0, nodeCount);
+        System.arraycopy(edgeOrder, 0, edges, 0, edgeCount);
+        return new PackedSubgraph(parent, name, nodes, edges);
+    }
+    /**
+     * Builds a Graph holding the nodes and edges of the subgraph, in the
+     * order they were added.
+     *
+     * @return the Graph.
+     */
+    public Graph toGraph() {
+        return materialize(parent, name, nodeOrder, nodeCount, edgeOrder,
+                edgeCount);
+    }
+
+    /**
+     * Builds a Graph from nodes and edges of an IndexedGraph.
+     *
+     * @param parent the IndexedGraph the ids refer to.
+     * @param name the String name of the Graph.
+     * @param nodes the int[] holding the node ids.
+     * @param nodesLength the number of nodes to take from the array.
+     * @param edges the int[] holding the edge ids.
+     * @param edgesLength the number of edges to take from the array.
+     * @return the Graph.
+     */
+    static Graph materialize(IndexedGraph parent, String name, int[] nodes,
+            int nodesLength, int[] edges, int edgesLength) {
+        ArrayList<Node> nodeList = new ArrayList<>(nodesLength);
+        for (int index = 0; index < nodesLength; index++)
+            nodeList.add(parent.getNode(nodes[index]));
+        ArrayList<Edge> edgeList = new ArrayList<>(edgesLength);
+        for (int index = 0; index < edgesLength; index++)
+            edgeList.add(parent.getEdge(edges[index]));
+        return new Graph(name, nodeList, edgeList);
+    }
+    /**
+     * Gets the number of words needed for a bitset.
+     *
+     * @param bits the number of bits.
+     * @return the number of long words.
+     */
+    static int words(int bits) {
+        return (bits + 63) >>> 6;
+    }
+
+    /**
+     * Removes the nodes and edges added after the given counts.
+     *
+     * @param nodeMark the number of nodes to keep.
+     * @param edgeMark the number of edges to keep.
+     */
+    private void truncate(int nodeMark, int edgeMark) {
+        while (nodeCount > nodeMark) {
+            int node = nodeOrder[--nodeCount];
+            nodeBits[node >>> 6] &= ~(1L << node);
+        }
+        while (edgeCount > edgeMark) {
+            int edge = edgeOrder[--edgeCount];
+            edgeBits[edge >>> 6] &= ~(1L << edge);
+        }
+    }
+}
@@ -3,6 +3,7 @@ package edu.claflin.finder.logic;
 import edu.claflin.finder.logic.Graph;
 import edu.claflin.finder.logic.Node;
 import edu.claflin.finder.logic.Edge;
+import edu.claflin.finder.metrics.Flight;
 import java.util.*;
 
 /**
@@ -85,19 +86,29 @@ public class BronKerboschHandler {
     }
 	
 	/**
-	 * Given a graph, finds all complete subgraphs.
+	 * Given a graph, finds all complete subgraphs.  R, P and X are kept as 
+	 * persistent sets over an index of the graph, so each branch of the 
+	 * search shares them with its parent instead of copying three graphs.  
+	 * The results are the same as those of 
+	 * {@link #bronKerbosch(ArrayList, Graph, Graph, Graph)} started from the 
+	 * graph, but the graph itself is left unchanged.
 	 * 
 	 * @param graph the graph
 	 * @return an ArrayList of complete subgraphs, unordered
 	 */
 	public static ArrayList<Graph> bronKerbosch(Graph graph) {
 		ArrayList<Graph> results = new ArrayList<>();
-        bronKerbosch(results, new Graph("r"), graph, new Graph("x"));
+		IndexedGraph index = new IndexedGraph(graph);
+		int[] incident = new int[2 * index.getEdgeCount()];
+        bronKerbosch(results, PersistentGraph.empty(index), 
+        		PersistentIntSet.full(index.getNodeCount()), 
+        		PersistentIntSet.empty(index.getNodeCount()), incident, true);
         return results;
 	}
 	
 	/**
-	 * Recursive helper method to do the above.
+	 * Recursive helper method to do the above on graphs of the caller's 
+	 * choosing.  The graphs p and x are changed by the search.
 	 * 	
 	 * @param results result list. Passed between recursive calls to create output
 	 * @param r graph r in wikipedia link
@@ -105,6 +116,21 @@ public class BronKerboschHandler {
 	 * @param x graph x in wikipedia link
 	 */
 	public static void bronKerbosch(ArrayList<Graph> results, Graph r, Graph p, Graph x) {
+		bronKerbosch(results, r, p, x, false);
+	}
+	
+	/**
+	 * Recursive helper method doing the work of the above.  Each branch of the
+	 * top level call is reported as a flight recorder event.
+	 * 
+	 * @param results result list. Passed between recursive calls to create output
+	 * @param r graph r in wikipedia link
+	 * @param p graph p in wikipedia link
+	 * @param x graph x in wikipedia link
+	 * @param topLevel true if this is the first call of the search
+	 */
+	private static void bronKerbosch(ArrayList<Graph> results, Graph r, Graph p, Graph x,
+			boolean topLevel) {
         //AS OF NOW, RESULTING GRAPH R HAS NO EDGES
         //Ideally after algorithm is finished we just manually transpose the edgees with one swift pass
         //System.out.println(r + "\n" + p + "\n " + x + "\n");
@@ -138,7 +164,13 @@ public class BronKerboschHandler {
                 p2.removeNode(n);
                 x2.intersect(p2.getAdjacencyList(n));
                 x2.removeNode(n);
-                bronKerbosch(results, r2, p2, x2);
+                Object event = topLevel ? Flight.beginBranch() : null;
+                int candidates = p2.getNodeCount();
+                int excluded = x2.getNodeCount();
+                int found = results.size();
+                bronKerbosch(results, r2, p2, x2, false);
+                Flight.endBranch(event, n.getIdentifier(), candidates, excluded,
+                        results.size() - found);
 
                 //Modify the original graphs for the next loop
                 //Remove node n from the original p, and then add n to r
@@ -148,6 +180,69 @@ public class BronKerboschHandler {
         }
     }
 	
+	/**
+	 * Recursive helper method doing the work of {@link #bronKerbosch(Graph)}.  
+	 * Takes the same steps as the Graph based search: as 
+	 * {@link Graph#intersect(List)} leaves the graph unchanged, P is only 
+	 * narrowed by the nodes already branched on.
+	 * 
+	 * @param results result list. Passed between recursive calls to create output
+	 * @param r subgraph r in wikipedia link
+	 * @param p node ids of p in wikipedia link
+	 * @param x node ids of x in wikipedia link
+	 * @param incident scratch space for the edges moved into r
+	 * @param topLevel true if this is the first call of the search
+	 */
+	private static void bronKerbosch(ArrayList<Graph> results, PersistentGraph r, 
+			PersistentIntSet p, PersistentIntSet x, int[] incident, 
+			boolean topLevel) {
+        if(p.isEmpty() && x.isEmpty()) {
+        	if(r.getEdgeCount() > 0) {
+        		results.add(r.toGraph("r").uniqueCopy());
+        	}
+        	return;
+        }
+        
+        IndexedGraph index = r.getIndex();
+        PersistentIntSet remaining = p;
+        for(int n = p.first(); n != -1; n = p.next(n + 1)) {
+        	PersistentGraph r2 = r;
+        	if(!r2.containsNode(n)) {
+        		r2 = r2.withNode(n);
+        		
+        		// Move the edges joining n to r out of p, in edge order.
+        		int count = 0;
+        		for(int entry = index.rowStart(n); entry < index.rowStart(n + 1); entry++) {
+        			int other = index.rowNode(entry);
+        			if(remaining.contains(other) && r2.containsNode(other)) {
+        				incident[count++] = index.rowEdge(entry);
+        			}
+        		}
+        		for(int entry = index.inStart(n); entry < index.inStart(n + 1); entry++) {
+        			int other = index.inNode(entry);
+        			if(remaining.contains(other) && r2.containsNode(other)) {
+        				incident[count++] = index.inEdge(entry);
+        			}
+        		}
+        		Arrays.sort(incident, 0, count);
+        		for(int edge = 0; edge < count; edge++) {
+        			r2 = r2.withEdge(incident[edge]);
+        		}
+        	}
+        	PersistentIntSet p2 = remaining.remove(n);
+        	PersistentIntSet x2 = x.remove(n);
+        	
+        	Object event = topLevel ? Flight.beginBranch() : null;
+        	int found = results.size();
+        	bronKerbosch(results, r2, p2, x2, incident, false);
+        	Flight.endBranch(event, index.getNode(n).getIdentifier(), p2.size(), 
+        			x2.size(), results.size() - found);
+        	
+        	remaining = p2;
+        	x = x.add(n);
+        }
+	}
+	
 	/**
 	 * Bipartite Bron Kerbosch algorithm that usees the above to find all complete bipartite graphs
 	 * within a bipartite graph.
@@ -169,8 +264,7 @@ public class BronKerboschHandler {
         graphCopy.addEdgesBetweenAllNodesInList(groups.get(0));
         graphCopy.addEdgesBetweenAllNodesInList(groups.get(1));
 
-        ArrayList<Graph> results = new ArrayList<>();
-        bronKerbosch(results, new Graph("r"), graphCopy, new Graph("x"));
+        ArrayList<Graph> results = bronKerbosch(graphCopy);
 
         for(Graph g: results) {
         	ArrayList<ArrayList<Node>> newGroups = BronKerboschBipartiteUtils.bipartiteDivision(g);
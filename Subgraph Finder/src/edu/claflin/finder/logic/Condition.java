@@ -6,7 +6,7 @@ package edu.claflin.finder.logic;
  * or several condition objects wrapped within a large condition.
  * 
  * @author Charles Allen Schultz II
- * @version 1.0.1 May 22, 2015
+ * @version 1.1 October 19, 2026
  */
 public abstract class Condition {
     
@@ -18,4 +18,16 @@ public abstract class Condition {
      * @return a boolean indicating if the requirements satisfy the condition.
      */
     public abstract boolean satisfies(Graph existingGraph);
+    /**
+     * Used to test if a subgraph being grown by a search is within the bounds 
+     * of the condition's implementation.  By default the subgraph is built 
+     * into a Graph and tested with {@link #satisfies(Graph)}; conditions 
+     * override this to test the bitsets directly.
+     * 
+     * @param candidate the BitSubgraph to test if the Condition applies.
+     * @return a boolean indicating if the requirements satisfy the condition.
+     */
+    public boolean satisfies(BitSubgraph candidate) {
+        return satisfies(candidate.toGraph());
+    }
 }
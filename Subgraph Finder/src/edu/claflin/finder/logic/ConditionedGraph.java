@@ -1,7 +1,11 @@
 package edu.claflin.finder.logic;
 
 import static edu.claflin.finder.Global.getLogger;
+import static edu.claflin.finder.Global.getMetrics;
 import edu.claflin.finder.log.LogLevel;
+import edu.claflin.finder.metrics.Counter;
+import edu.claflin.finder.metrics.Flight;
+import edu.claflin.finder.metrics.Timer;
 
 import javax.swing.*;
 import java.util.*;
@@ -11,10 +15,25 @@ import java.util.*;
  * limited by the conditions applied to the graph upon creation.
  * 
  * @author Charles Allen Schultz II
- * @version 1.1 May 28, 2015
+ * @version 1.3 October 19, 2026
  */
 public class ConditionedGraph extends Graph {
 
+    /**
+     * Times the simulated additions used to force conditions.
+     */
+    private static final Timer CONDITION_CHECK = 
+            getMetrics().timer("condition.check");
+    /**
+     * Counts the evaluations of individual conditions.
+     */
+    private static final Counter CONDITION_EVALUATIONS = 
+            getMetrics().counter("condition.evaluations");
+    /**
+     * Counts the additions refused because a condition would not hold.
+     */
+    private static final Counter CONDITION_REJECTIONS = 
+            getMetrics().counter("condition.rejections");
 
     /**
      * The List of Conditions applied to this Graph.
@@ -120,7 +139,12 @@ public class ConditionedGraph extends Graph {
      */
     public boolean querySatisfaction() {
         for (Condition condition : conditions) {
-            if (!condition.satisfies(this))
+            CONDITION_EVALUATIONS.increment();
+            Object event = Flight.beginConditionCheck();
+            boolean satisfied = condition.satisfies(this);
+            Flight.endConditionCheck(event, condition.getClass().getSimpleName(), 
+                    getNodeCount(), getEdgeCount(), satisfied);
+            if (!satisfied)
                 return false;
         }
         
@@ -142,11 +166,16 @@ public class ConditionedGraph extends Graph {
     @Override
     public boolean addPartialGraph(List<Node> nodes, List<Edge> edges) {
         if (forceSatisfactionOnAdd) {
+            long start = CONDITION_CHECK.start();
             ConditionedGraph copy = copy();
             copy.suppressLog = true;
             copy.superAddPartialGraph(nodes, edges);
-            if (!copy.querySatisfaction())
+            boolean satisfied = copy.querySatisfaction();
+            CONDITION_CHECK.stop(start);
+            if (!satisfied) {
+                CONDITION_REJECTIONS.increment();
                 return false;
+            }
         }
         
         superAddPartialGraph(nodes, edges);
@@ -9,7 +9,7 @@ import java.util.Objects;
  * two nodes and a single piece of edge data.
  * 
  * @author Charles Allen Schultz II
- * @version 3.1 February 2, 2016
+ * @version 3.1.1 October 19, 2026
  * @param <D> the data type of the data attached to the edge object.
  */
 public class Edge<D> {
@@ -45,8 +45,7 @@ public class Edge<D> {
         this.undirected = undirected;
         
         if (getLogger() != null) {
-            getLogger().logInfo(LogLevel.DEBUG, "Edge: Created Edge: "
-                    + toString());
+            getLogger().logInfo(LogLevel.DEBUG, "Edge: Created Edge: {}", this);
         }
     }
 
@@ -1,7 +1,9 @@
 package edu.claflin.finder.logic;
 
 import static edu.claflin.finder.Global.getLogger;
+import static edu.claflin.finder.Global.getMetrics;
 import edu.claflin.finder.log.LogLevel;
+import edu.claflin.finder.metrics.Counter;
 
 import java.util.*;
 
@@ -11,9 +13,13 @@ import java.util.*;
  * remain in existence but the underlying implementation has changed.
  * 
  * @author Charles Allen Schultz II
- * @version 3.4 February 2, 2016
+ * @version 3.7 October 19, 2026
  */
 public class Graph {
+    /**
+     * Counts the copies made of graphs.
+     */
+    private static final Counter COPIES = getMetrics().counter("graph.copies");
     /**
      * The name of the Graph provided by the user.  This value is used
      * by the program to name output files unless specified otherwise.
@@ -289,6 +295,14 @@ public class Graph {
         newList.addAll(edgeList);
         return newList;
     }
+    /**
+     * Gets the number of edges in the graph.
+     * 
+     * @return the integer representing the total number of edges in the graph.
+     */
+    public int getEdgeCount() {
+        return edgeList.size();
+    }
     /**
      * Adds a partial graph to this graph.  Specifically adds a set of nodes 
      * and a set of edges to the graph.  It should be noted that nodes or 
@@ -310,8 +324,8 @@ public class Graph {
                         checkNode(node);
                         nodeList.add(node);
                         if (!suppressLog && getLogger() != null) {
-                            getLogger().logGraph(LogLevel.VERBOSE, getName()
-                                    + ": Added Node: \"" + node + "\"");
+                            getLogger().logGraph(LogLevel.VERBOSE, 
+                                    "{}: Added Node: \"{}\"", getName(), node);
                         }
                     });
         
@@ -322,8 +336,8 @@ public class Graph {
                                 !edgeList.contains(edge)) {
                             edgeList.add(edge);
                             if (!suppressLog && getLogger() != null) {
-                                getLogger().logGraph(LogLevel.VERBOSE, getName()
-                                        + ": Added Edge: " + edge);
+                                getLogger().logGraph(LogLevel.VERBOSE, 
+                                        "{}: Added Edge: {}", getName(), edge);
                             }
                         }
                     });
@@ -421,9 +435,8 @@ public class Graph {
         
         if (!suppressLog && getLogger() != null) {
             getLogger().logGraph(LogLevel.VERBOSE, 
-                    getName() + ": Transposed Nodes \"" + 
-                    nodeList.get(node1Index) + "\" & \"" + 
-                    nodeList.get(node2Index) + "\".");
+                    "{}: Transposed Nodes \"{}\" & \"{}\".", getName(), 
+                    nodeList.get(node1Index), nodeList.get(node2Index));
         }
     }
     /**
@@ -523,8 +536,22 @@ public class Graph {
      * @return a Graph object identical to the original.
      */
     public Graph copy() {
+        COPIES.increment();
         return getSubGraph(nodeList, "");
     }
+    /**
+     * Copies the lists of this Graph, sharing its Node and Edge objects.  
+     * Unlike {@link #copy()}, takes time linear in the size of the graph, 
+     * as the edges are not checked against the nodes again.  Re-ordering or 
+     * adding to the copy leaves the original unchanged.
+     * 
+     * @return a Graph object holding the same nodes and edges.
+     */
+    public Graph shallowCopy() {
+        COPIES.increment();
+        return new Graph(graphName, new ArrayList<>(nodeList), 
+                new ArrayList<>(edgeList));
+    }
     /**
      * Copies this Graph producing a unique copy in which there is no 
      * entanglement between the two Graph objects.  I.e. there are no shared 
@@ -537,6 +564,7 @@ public class Graph {
      * @return a unique copy of the graph object.
      */
     public Graph uniqueCopy() {
+        COPIES.increment();
         ArrayList<Node> nodeList = new ArrayList<>();
         ArrayList<Edge> edgeList = new ArrayList<>();
         
@@ -0,0 +1,291 @@
+package edu.claflin.finder.logic;
+
+import static edu.claflin.finder.Global.getLogger;
+import edu.claflin.finder.log.LogLevel;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+
+/**
+ * Used to construct large graphs in linear time.  Nodes and edges are
+ * de-duplicated with hash lookups rather than by scanning the lists of the
+ * {@link Graph}, and the finished lists are handed to the Graph in a single
+ * bulk insert.  The resulting Graph is identical to one built by adding the
+ * same nodes and edges one at a time.
+ * <br>
+ * Nodes are identified by int ids assigned in the order they are first seen,
+ * which is also the order they appear in the built Graph.
+ *
+ * @version 1.0 October 19, 2026
+ */
+public final class GraphBuilder {
+
+    /**
+     * The name of the Graph being built.
+     */
+    private final String graphName;
+    /**
+     * Maps a node identifier to its id.
+     */
+    private final HashMap<String, Integer> nodeIds;
+    /**
+     * The nodes added so far, indexed by id.
+     */
+    private final ArrayList<Node> nodeList;
+    /**
+     * The edges added so far.
+     */
+    private final ArrayList<Edge> edgeList;
+    /**
+     * The keys of every edge added so far.
+     */
+    private final HashSet<Long> edgeKeys;
+    /**
+     * The keys of every undirected edge added so far.
+     */
+    private final HashSet<Long> undirectedKeys;
+    /**
+     * Indicates that the Graph has been built and the builder is spent.
+     */
+    private boolean built = false;
+
+    /**
+     * Constructs a GraphBuilder.
+     *
+     * @param graphName the String which represents the name of the Graph.
+     */
+    public GraphBuilder(String graphName) {
+        this(graphName, 16, 16);
+    }
+    /**
+     * Constructs a GraphBuilder sized for the expected number of nodes and
+     * edges.
+     *
+     * @param graphName the String which represents the name of the Graph.
+     * @param expectedNodes the expected number of nodes.
+     * @param expectedEdges the expected number of edges.
+     */
+    public GraphBuilder(String graphName, int expectedNodes, int expectedEdges) {
+        this.graphName = graphName;
+        this.nodeIds = new HashMap<>(Math.max(16, expectedNodes * 4 / 3));
+        this.nodeList = new ArrayList<>(expectedNodes);
+        this.edgeList = new ArrayList<>(expectedEdges);
+        this.edgeKeys = new HashSet<>(Math.max(16, expectedEdges * 4 / 3));
+        this.undirectedKeys = new HashSet<>();
+    }
+
+    /**
+     * Gets the id of the node with the provided identifier, adding the node
+     * if it has not been seen before.
+     *
+     * @param identifier the String identifying the node.
+     * @return the int id of the node.
+     */
+    public int intern(String identifier) {
+        checkBuilt();
+
+        Integer id = nodeIds.get(identifier);
+        if (id == null) {
+            id = nodeList.size();
+            nodeIds.put(identifier, id);
+            nodeList.add(new Node(identifier));
+        }
+        return id;
+    }
+    /**
+     * Adds the provided node, keeping the Node object itself so that 
+     * subclasses of Node survive into the built Graph.  If a node with the 
+     * same identifier was already added, the existing node is kept.
+     *
+     * @param node the Node to add.
+     * @return the int id of the node.
+     */
+    public int addNode(Node node) {
+        checkBuilt();
+
+        Integer id = nodeIds.get(node.getIdentifier());
+        if (id == null) {
+            id = nodeList.size();
+            nodeIds.put(node.getIdentifier(), id);
+            nodeList.add(node);
+        }
+        return id;
+    }
+    /**
+     * Gets the id of the node with the provided identifier.
+     *
+     * @param identifier the String identifying the node.
+     * @return the int id of the node or -1 if it has not been added.
+     */
+    public int getNodeId(String identifier) {
+        Integer id = nodeIds.get(identifier);
+        return id == null ? -1 : id;
+    }
+    /**
+     * Gets the node with the provided id.
+     *
+     * @param id the int id of the node.
+     * @return the Node object.
+     */
+    public Node getNode(int id) {
+        return nodeList.get(id);
+    }
+    /**
+     * Gets the number of nodes added so far.
+     *
+     * @return the number of nodes.
+     */
+    public int getNodeCount() {
+        return nodeList.size();
+    }
+    /**
+     * Gets the number of edges added so far.
+     *
+     * @return the number of edges.
+     */
+    public int getEdgeCount() {
+        return edgeList.size();
+    }
+
+    /**
+     * Adds an edge between the nodes with the provided identifiers, adding
+     * the nodes if they have not been seen before.
+     *
+     * @param source the String identifying the source node.
+     * @param destination the String identifying the destination node.
+     * @param data the Object representing the edge's data.
+     * @param undirected indicates if the edge is undirected.
+     * @return true if the edge was added, false if it was a duplicate.
+     */
+    public boolean addEdge(String source, String destination, Object data,
+            boolean undirected) {
+        return addEdge(intern(source), intern(destination), data, undirected);
+    }
+    /**
+     * Adds the provided edge, keeping the Edge object itself so that 
+     * subclasses of Edge survive into the built Graph.  Edges whose nodes 
+     * have not been added are ignored, as they are by 
+     * {@link Graph#addEdge(Edge)}.
+     *
+     * @param edge the Edge to add.
+     * @return true if the edge was added, false if it was a duplicate or its 
+     * nodes have not been added.
+     */
+    public boolean addEdge(Edge edge) {
+        checkBuilt();
+        int source = getNodeId(edge.getSource().getIdentifier());
+        int destination = getNodeId(edge.getDestination().getIdentifier());
+        if (source == -1 || destination == -1)
+            return false;
+
+        return addEdge(source, destination, edge);
+    }
+    /**
+     * Adds an edge between the nodes with the provided ids.  Duplicates are
+     * detected in the same way as {@link Graph#addEdge(Edge)}: an edge is
+     * not added if an edge with the same source and destination exists, or
+     * if an undirected edge exists with the two reversed.
+     *
+     * @param source the int id of the source node.
+     * @param destination the int id of the destination node.
+     * @param data the Object representing the edge's data.
+     * @param undirected indicates if the edge is undirected.
+     * @return true if the edge was added, false if it was a duplicate.
+     */
+    public boolean addEdge(int source, int destination, Object data,
+            boolean undirected) {
+        checkBuilt();
+        if (isDuplicate(source, destination))
+            return false;
+
+        append(source, destination, new Edge(nodeList.get(source),
+                nodeList.get(destination), data, undirected));
+        return true;
+    }
+    /**
+     * Adds an edge object between the nodes with the provided ids, checking
+     * for duplicates.
+     *
+     * @param source the int id of the source node.
+     * @param destination the int id of the destination node.
+     * @param edge the Edge to add.
+     * @return true if the edge was added, false if it was a duplicate.
+     */
+    private boolean addEdge(int source, int destination, Edge edge) {
+        if (isDuplicate(source, destination))
+            return false;
+
+        append(source, destination, edge);
+        return true;
+    }
+    /**
+     * Tests if an edge between the nodes with the provided ids would be a
+     * duplicate.
+     *
+     * @param source the int id of the source node.
+     * @param destination the int id of the destination node.
+     * @return true if the edge would be a duplicate.
+     */
+    private boolean isDuplicate(int source, int destination) {
+        if (source < 0 || source >= nodeList.size() ||
+                destination < 0 || destination >= nodeList.size()) {
+            throw new IllegalArgumentException("Edge [" + source + ", "
+                    + destination + "] references a node that was not added!");
+        }
+
+        return edgeKeys.contains(key(source, destination)) ||
+                undirectedKeys.contains(key(destination, source));
+    }
+    /**
+     * Records an edge that is known not to be a duplicate.
+     *
+     * @param source the int id of the source node.
+     * @param destination the int id of the destination node.
+     * @param edge the Edge to add.
+     */
+    private void append(int source, int destination, Edge edge) {
+        long key = key(source, destination);
+        edgeKeys.add(key);
+        if (edge.isUndirected())
+            undirectedKeys.add(key);
+        edgeList.add(edge);
+    }
+
+    /**
+     * Builds the Graph.  The builder hands its lists over to the Graph and
+     * may not be used afterwards.
+     *
+     * @return the Graph object containing the added nodes and edges.
+     */
+    public Graph build() {
+        checkBuilt();
+        built = true;
+
+        if (getLogger() != null) {
+            getLogger().logGraph(LogLevel.DEBUG, graphName + ": Bulk loaded "
+                    + nodeList.size() + " nodes and " + edgeList.size()
+                    + " edges.");
+        }
+
+        return new Graph(graphName, nodeList, edgeList);
+    }
+
+    /**
+     * Packs a pair of node ids into a single key.
+     *
+     * @param source the int id of the source node.
+     * @param destination the int id of the destination node.
+     * @return the long key of the pair.
+     */
+    private static long key(int source, int destination) {
+        return ((long) source << 32) | (destination & 0xFFFFFFFFL);
+    }
+    /**
+     * Ensures the builder has not already been used to build a Graph.
+     */
+    private void checkBuilt() {
+        if (built)
+            throw new IllegalStateException("The Graph has already been built!");
+    }
+}
@@ -0,0 +1,322 @@
+package edu.claflin.finder.logic;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+
+/**
+ * An immutable index of a {@link Graph} for the searches.  Every node and
+ * edge is given an int id (its position in the Graph's lists), so that the
+ * subgraphs grown from the Graph can record their membership as bitsets over
+ * those ids; see {@link BitSubgraph}.
+ * <br>
+ * The adjacency of each node is held in compressed rows.  A row lists the
+ * same neighbors, in the same order, as {@link Graph#getAdjacencyList(Node)}:
+ * one entry for each edge leaving the node and each undirected edge arriving
+ * at it, kept with the edge the entry came from.  The directed edges arriving
+ * at each node are held in a second set of rows.
+ * <br>
+ * The ids stand in for the nodes and edges themselves only if no two edges of
+ * the Graph are equal to one another; see {@link #isSimple()}.
+ * <br>
+ * The index is a snapshot; changes to the Graph after indexing are not
+ * seen.
+ *
+ * @version 1.0 October 19, 2026
+ */
+public final class IndexedGraph {
+
+    /**
+     * The indexed Graph.
+     */
+    private final Graph graph;
+    /**
+     * The nodes, indexed by id.
+     */
+    private final Node[] nodes;
+    /**
+     * The edges, indexed by id.
+     */
+    private final Edge[] edges;
+    /**
+     * Maps each node to its id.
+     */
+    private final HashMap<Node, Integer> nodeIds;
+    /**
+     * Maps each edge object to its id.
+     */
+    private final IdentityHashMap<Edge, Integer> edgeIds;
+    /**
+     * The source node id of each edge.
+     */
+    private final int[] sources;
+    /**
+     * The destination node id of each edge.
+     */
+    private final int[] destinations;
+    /**
+     * The first entry of each node's adjacency row, plus the end of the last.
+     */
+    private final int[] rowStart;
+    /**
+     * The neighbor of each adjacency entry.
+     */
+    private final int[] rowNode;
+    /**
+     * The edge each adjacency entry came from.
+     */
+    private final int[] rowEdge;
+    /**
+     * True if no node has two adjacency entries for the same neighbor.
+     */
+    private final boolean simple;
+    /**
+     * The first entry of each node's row of arriving directed edges.
+     */
+    private final int[] inStart;
+    /**
+     * The source of each arriving directed edge.
+     */
+    private final int[] inNode;
+    /**
+     * Each arriving directed edge.
+     */
+    private final int[] inEdge;
+
+    /**
+     * Indexes a Graph.
+     *
+     * @param graph the Graph to index.
+     */
+    public IndexedGraph(Graph graph) {
+        this.graph = graph;
+        List<Node> nodeList = graph.getNodeList();
+        List<Edge> edgeList = graph.getEdgeList();
+        int nodeCount = nodeList.size();
+        int edgeCount = edgeList.size();
+
+        nodes = nodeList.toArray(new Node[nodeCount]);
+        edges = edgeList.toArray(new Edge[edgeCount]);
+        nodeIds = new HashMap<>(Math.max(16, nodeCount * 4 / 3 + 1));
+        for (int node = 0; node < nodeCount; node++)
+            nodeIds.put(nodes[node], node);
+        edgeIds = new IdentityHashMap<>(Math.max(16, edgeCount));
+
+        sources = new int[edgeCount];
+        destinations = new int[edgeCount];
+        rowStart = new int[nodeCount + 1];
+        inStart = new int[nodeCount + 1];
+        for (int edge = 0; edge < edgeCount; edge++) {
+            edgeIds.put(edges[edge], edge);
+            sources[edge] = nodeIds.get(edges[edge].getSource());
+            destinations[edge] = nodeIds.get(edges[edge].getDestination());
+            rowStart[sources[edge] + 1]++;
+            if (sources[edge] != destinations[edge]) {
+                if (edges[edge].isUndirected())
+                    rowStart[destinations[edge] + 1]++;
+                else
+                    inStart[destinations[edge] + 1]++;
+            }
+        }
+        for (int node = 0; node < nodeCount; node++) {
+            rowStart[node + 1] += rowStart[node];
+            inStart[node + 1] += inStart[node];
+        }
+
+        // Fill the rows in edge order, as getAdjacencyList scans the edges.
+        rowNode = new int[rowStart[nodeCount]];
+        rowEdge = new int[rowStart[nodeCount]];
+        inNode = new int[inStart[nodeCount]];
+        inEdge = new int[inStart[nodeCount]];
+        int[] rowNext = new int[nodeCount];
+        int[] inNext = new int[nodeCount];
+        System.arraycopy(rowStart, 0, rowNext, 0, nodeCount);
+        System.arraycopy(inStart, 0, inNext, 0, nodeCount);
+        for (int edge = 0; edge < edgeCount; edge++) {
+            int source = sources[edge];
+            int destination = destinations[edge];
+            rowNode[rowNext[source]] = destination;
+            rowEdge[rowNext[source]++] = edge;
+            if (source == destination)
+                continue;
+            if (edges[edge].isUndirected()) {
+                rowNode[rowNext[destination]] = source;
+                rowEdge[rowNext[destination]++] = edge;
+            } else {
+                inNode[inNext[destination]] = source;
+                inEdge[inNext[destination]++] = edge;
+            }
+        }
+
+        // Two equal edges always leave a node with two entries for the same
+        // neighbor.
+        int[] seen = new int[nodeCount];
+        Arrays.fill(seen, -1);
+        boolean repeats = false;
+        for (int node = 0; node < nodeCount && !repeats; node++) {
+            for (int entry = rowStart[node]; entry < rowStart[node + 1]; entry++) {
+                if (seen[rowNode[entry]] == node) {
+                    repeats = true;
+                    break;
+                }
+                seen[rowNode[entry]] = node;
+            }
+        }
+        simple = !repeats;
+    }
+
+    /**
+     * Gets the indexed Graph.
+     *
+     * @return the Graph.
+     */
+    public Graph getGraph() {
+        return graph;
+    }
+    /**
+     * Gets the number of nodes.
+     *
+     * @return the number of nodes.
+     */
+    public int getNodeCount() {
+        return nodes.length;
+    }
+    /**
+     * Gets the number of edges.
+     *
+     * @return the number of edges.
+     */
+    public int getEdgeCount() {
+        return edges.length;
+    }
+    /**
+     * Gets a node by id.
+     *
+     * @param id the id of the node.
+     * @return the Node.
+     */
+    public Node getNode(int id) {
+        return nodes[id];
+    }
+    /**
+     * Gets an edge by id.
+     *
+     * @param id the id of the edge.
+     * @return the Edge.
+     */
+    public Edge getEdge(int id) {
+        return edges[id];
+    }
+    /**
+     * Gets the id of a node.
+     *
+     * @param node the Node to look up.
+     * @return the id of the node, or -1 if it is not in the Graph.
+     */
+    public int getNodeId(Node node) {
+        Integer id = nodeIds.get(node);
+        return id == null ? -1 : id;
+    }
+    /**
+     * Gets the id of an edge of the Graph.  The edge must be the Graph's own
+     * object, not an equivalent one.
+     *
+     * @param edge the Edge to look up.
+     * @return the id of the edge, or -1 if it is not one of the Graph's.
+     */
+    public int getEdgeId(Edge edge) {
+        Integer id = edgeIds.get(edge);
+        return id == null ? -1 : id;
+    }
+    /**
+     * Gets the source node of an edge.
+     *
+     * @param edge the id of the edge.
+     * @return the id of the source node.
+     */
+    public int getSource(int edge) {
+        return sources[edge];
+    }
+    /**
+     * Gets the destination node of an edge.
+     *
+     * @param edge the id of the edge.
+     * @return the id of the destination node.
+     */
+    public int getDestination(int edge) {
+        return destinations[edge];
+    }
+
+    /**
+     * Tests if no two edges of the Graph are equal to one another, which
+     * holds unless edges are repeated or directed and undirected edges join
+     * the same nodes.  In a simple Graph each adjacency entry's edge is the
+     * one {@link Graph#getEdge(Node, Node)} returns for the pair, and two
+     * edges are equal only if they have the same id.
+     *
+     * @return true if the Graph is simple.
+     */
+    public boolean isSimple() {
+        return simple;
+    }
+
+    /**
+     * Gets the first adjacency entry of a node.  The entries of node n run
+     * from rowStart(n) to rowStart(n + 1).
+     *
+     * @param node the id of the node, or the node count for the end of the
+     * last row.
+     * @return the index of the first entry.
+     */
+    public int rowStart(int node) {
+        return rowStart[node];
+    }
+    /**
+     * Gets the neighbor of an adjacency entry.
+     *
+     * @param entry the index of the entry.
+     * @return the id of the neighbor.
+     */
+    public int rowNode(int entry) {
+        return rowNode[entry];
+    }
+    /**
+     * Gets the edge an adjacency entry came from.
+     *
+     * @param entry the index of the entry.
+     * @return the id of the edge.
+     */
+    public int rowEdge(int entry) {
+        return rowEdge[entry];
+    }
+    /**
+     * Gets the first arriving directed edge of a node.  The entries of node n
+     * run from inStart(n) to inStart(n + 1).
+     *
+     * @param node the id of the node, or the node count for the end of the
+     * last row.
+     * @return the index of the first entry.
+     */
+    public int inStart(int node) {
+        return inStart[node];
+    }
+    /**
+     * Gets the source of an arriving directed edge.
+     *
+     * @param entry the index of the entry.
+     * @return the id of the source node.
+     */
+    public int inNode(int entry) {
+        return inNode[entry];
+    }
+    /**
+     * Gets an arriving directed edge.
+     *
+     * @param entry the index of the entry.
+     * @return the id of the edge.
+     */
+    public int inEdge(int entry) {
+        return inEdge[entry];
+    }
+}
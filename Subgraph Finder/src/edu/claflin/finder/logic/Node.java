@@ -14,7 +14,7 @@ import java.util.Objects;
  * identifier.
  * 
  * @author Charles Allen Schultz II
- * @version 1.1.1 June 16, 2015
+ * @version 1.1.2 October 19, 2026
  */
 public class Node {
     /**
@@ -32,7 +32,7 @@ public class Node {
         
         if (getLogger() != null) {
             getLogger().logInfo(LogLevel.DEBUG, "Node: Created Node with "
-                    + "identifier: " + identifier);
+                    + "identifier: {}", identifier);
         }
     }
 
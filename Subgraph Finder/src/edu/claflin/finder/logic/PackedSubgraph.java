@@ -0,0 +1,210 @@
+package edu.claflin.finder.logic;
+
+import java.util.Arrays;
+
+/**
+ * A subgraph found by a search, kept compactly until it is written out.  The
+ * nodes and edges are held as ids of the parent {@link IndexedGraph}, both in
+ * the order they were added and as sparse bitsets: only the words of the
+ * parent's bitsets that hold a member are stored, with the index of each.
+ * Testing if one subgraph is contained within another is then a merge of the
+ * two lists of words.
+ * <br>
+ * A PackedSubgraph is made with {@link BitSubgraph#pack()} and is not
+ * changed afterwards.
+ *
+ * @version 1.1 October 19, 2026
+ */
+public final class PackedSubgraph {
+
+    /**
+     * The graph this is a subgraph of.
+     */
+    private final IndexedGraph parent;
+    /**
+     * The name of the subgraph.
+     */
+    private final String name;
+    /**
+     * The node ids in the order they were added.
+     */
+    private final int[] nodes;
+    /**
+     * The edge ids in the order they were added.
+     */
+    private final int[] edges;
+    /**
+     * The index of each stored word of the node bitset, ascending.
+     */
+    private final int[] nodeWordIndex;
+    /**
+     * The stored words of the node bitset.
+     */
+    private final long[] nodeWords;
+    /**
+     * The index of each stored word of the edge bitset, ascending.
+     */
+    private final int[] edgeWordIndex;
+    /**
+     * The stored words of the edge bitset.
+     */
+    private final long[] edgeWords;
+
+    /**
+     * Packs a subgraph.
+     *
+     * @param parent the IndexedGraph the ids refer to.
+     * @param name the String name of the subgraph.
+     * @param nodes the int[] holding the node ids in the order they were
+     * added, kept by the PackedSubgraph.
+     * @param edges the int[] holding the edge ids in the order they were
+     * added, kept by the PackedSubgraph.
+     */
+    PackedSubgraph(IndexedGraph parent, String name, int[] nodes, int[] edges) {
+        this.parent = parent;
+        this.name = name;
+        this.nodes = nodes;
+        this.edges = edges;
+
+        int[] sorted = nodes.clone();
+        Arrays.sort(sorted);
+        this.nodeWordIndex = wordIndices(sorted);
+        this.nodeWords = words(sorted, nodeWordIndex.length);
+        sorted = edges.clone();
+        Arrays.sort(sorted);
+        this.edgeWordIndex = wordIndices(sorted);
+        this.edgeWords = words(sorted, edgeWordIndex.length);
+    }
+
+    /**
+     * Gets the name of the subgraph.
+     *
+     * @return the String name.
+     */
+    public String getName() {
+        return name;
+    }
+    /**
+     * Gets the graph this is a subgraph of.
+     *
+     * @return the parent IndexedGraph.
+     */
+    public IndexedGraph getParent() {
+        return parent;
+    }
+    /**
+     * Gets the number of nodes in the subgraph.
+     *
+     * @return the number of nodes.
+     */
+    public int getNodeCount() {
+        return nodes.length;
+    }
+    /**
+     * Gets the number of edges in the subgraph.
+     *
+     * @return the number of edges.
+     */
+    public int getEdgeCount() {
+        return edges.length;
+    }
+    /**
+     * Gets the ids of the nodes and edges of the subgraph as a single sorted
+     * array, the edge ids negated less one to keep them apart from the node
+     * ids.  Two subgraphs of the same parent hold the same nodes and edges
+     * exactly when their keys are equal.
+     *
+     * @return the int[] holding the sorted ids.
+     */
+    public int[] getKey() {
+        int[] key = new int[nodes.length + edges.length];
+        System.arraycopy(nodes, 0, key, 0, nodes.length);
+        for (int edge = 0; edge < edges.length; edge++)
+            key[nodes.length + edge] = -1 - edges[edge];
+        Arrays.sort(key);
+        return key;
+    }
+
+    /**
+     * Tests if every node and edge of this subgraph is also in another
+     * subgraph of the same parent.
+     *
+     * @param other the PackedSubgraph to test against.
+     * @return true if this subgraph is contained within the other.
+     */
+    public boolean isContainedIn(PackedSubgraph other) {
+        return nodes.length <= other.nodes.length &&
+                edges.length <= other.edges.length &&
+                isSubset(nodeWordIndex, nodeWords, other.nodeWordIndex,
+                        other.nodeWords) &&
+                isSubset(edgeWordIndex, edgeWords, other.edgeWordIndex,
+                        other.edgeWords);
+    }
+    /**
+     * Builds a Graph holding the nodes and edges of the subgraph, in the
+     * order they were added.
+     *
+     * @return the Graph.
+     */
+    public Graph toGraph() {
+        return BitSubgraph.materialize(parent, name, nodes, nodes.length, edges,
+                edges.length);
+    }
+
+    /**
+     * Tests if one sparse bitset is a subset of another.
+     *
+     * @param index the int[] word indices of the possible subset.
+     * @param words the long[] words of the possible subset.
+     * @param otherIndex the int[] word indices of the possible superset.
+     * @param otherWords the long[] words of the possible superset.
+     * @return true if every bit of the first is set in the second.
+     */
+    private static boolean isSubset(int[] index, long[] words, int[] otherIndex,
+            long[] otherWords) {
+        int other = 0;
+        for (int word = 0; word < index.length; word++) {
+            while (other < otherIndex.length && otherIndex[other] < index[word])
+                other++;
+            if (other == otherIndex.length || otherIndex[other] != index[word] ||
+                    (words[word] & ~otherWords[other]) != 0L)
+                return false;
+        }
+        return true;
+    }
+    /**
+     * Finds the words of a bitset that hold at least one of some ids.
+     *
+     * @param sorted the int[] holding the ids, ascending.
+     * @return the int[] holding the word indices, ascending.
+     */
+    private static int[] wordIndices(int[] sorted) {
+        int count = 0;
+        for (int id = 0; id < sorted.length; id++)
+            if (id == 0 || sorted[id] >>> 6 != sorted[id - 1] >>> 6)
+                count++;
+        int[] indices = new int[count];
+        count = 0;
+        for (int id = 0; id < sorted.length; id++)
+            if (id == 0 || sorted[id] >>> 6 != sorted[id - 1] >>> 6)
+                indices[count++] = sorted[id] >>> 6;
+        return indices;
+    }
+    /**
+     * Builds the words of a bitset holding some ids.
+     *
+     * @param sorted the int[] holding the ids, ascending.
+     * @param count the number of words, from {@link #wordIndices(int[])}.
+     * @return the long[] holding the words.
+     */
+    private static long[] words(int[] sorted, int count) {
+        long[] words = new long[count];
+        int word = -1;
+        for (int id = 0; id < sorted.length; id++) {
+            if (id == 0 || sorted[id] >>> 6 != sorted[id - 1] >>> 6)
+                word++;
+            words[word] |= 1L << sorted[id];
+        }
+        return words;
+    }
+}
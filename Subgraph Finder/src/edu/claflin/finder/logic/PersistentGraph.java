@@ -0,0 +1,198 @@
+package edu.claflin.finder.logic;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+/**
+ * An immutable subgraph of an {@link IndexedGraph}, changed by making a new
+ * one.  The adjacency of the indexed graph is shared by every
+ * PersistentGraph made from it; each holds only its node and edge ids, in
+ * {@link PersistentIntSet}s, and the order its edges were added in, as a
+ * chain shared with the graph it was made from.  Adding or removing a node or
+ * edge therefore takes time logarithmic in the size of the indexed graph and
+ * leaves the original untouched, so a recursive search can branch without
+ * copying.
+ *
+ * @version 1.0 October 19, 2026
+ */
+public final class PersistentGraph {
+
+    /**
+     * A link in the chain of edges, newest first.
+     */
+    private static final class EdgeLink {
+
+        /**
+         * The id of the edge.
+         */
+        private final int edge;
+        /**
+         * The link of the edge added before, or null.
+         */
+        private final EdgeLink previous;
+
+        /**
+         * Constructs a link.
+         *
+         * @param edge the id of the edge.
+         * @param previous the link of the edge added before, or null.
+         */
+        private EdgeLink(int edge, EdgeLink previous) {
+            this.edge = edge;
+            this.previous = previous;
+        }
+    }
+
+    /**
+     * The graph this is a subgraph of.
+     */
+    private final IndexedGraph index;
+    /**
+     * The node ids.
+     */
+    private final PersistentIntSet nodes;
+    /**
+     * The edge ids.
+     */
+    private final PersistentIntSet edges;
+    /**
+     * The edge added last, or null if there are no edges.
+     */
+    private final EdgeLink lastEdge;
+
+    /**
+     * Constructs a PersistentGraph.
+     *
+     * @param index the IndexedGraph this is a subgraph of.
+     * @param nodes the PersistentIntSet of node ids.
+     * @param edges the PersistentIntSet of edge ids.
+     * @param lastEdge the EdgeLink of the edge added last.
+     */
+    private PersistentGraph(IndexedGraph index, PersistentIntSet nodes,
+            PersistentIntSet edges, EdgeLink lastEdge) {
+        this.index = index;
+        this.nodes = nodes;
+        this.edges = edges;
+        this.lastEdge = lastEdge;
+    }
+
+    /**
+     * Creates an empty subgraph.
+     *
+     * @param index the IndexedGraph to take nodes and edges from.
+     * @return the empty PersistentGraph.
+     */
+    public static PersistentGraph empty(IndexedGraph index) {
+        return new PersistentGraph(index,
+                PersistentIntSet.empty(index.getNodeCount()),
+                PersistentIntSet.empty(index.getEdgeCount()), null);
+    }
+
+    /**
+     * Gets the graph this is a subgraph of.
+     *
+     * @return the IndexedGraph.
+     */
+    public IndexedGraph getIndex() {
+        return index;
+    }
+    /**
+     * Gets the node ids of the subgraph.
+     *
+     * @return the PersistentIntSet of node ids.
+     */
+    public PersistentIntSet getNodes() {
+        return nodes;
+    }
+    /**
+     * Gets the number of nodes in the subgraph.
+     *
+     * @return the number of nodes.
+     */
+    public int getNodeCount() {
+        return nodes.size();
+    }
+    /**
+     * Gets the number of edges in the subgraph.
+     *
+     * @return the number of edges.
+     */
+    public int getEdgeCount() {
+        return edges.size();
+    }
+    /**
+     * Tests if a node is in the subgraph.
+     *
+     * @param node the id of the node.
+     * @return true if the node is in the subgraph.
+     */
+    public boolean containsNode(int node) {
+        return nodes.contains(node);
+    }
+    /**
+     * Tests if an edge is in the subgraph.
+     *
+     * @param edge the id of the edge.
+     * @return true if the edge is in the subgraph.
+     */
+    public boolean containsEdge(int edge) {
+        return edges.contains(edge);
+    }
+
+    /**
+     * Makes a subgraph with another node.
+     *
+     * @param node the id of the node to add.
+     * @return the new PersistentGraph, or this one if it holds the node.
+     */
+    public PersistentGraph withNode(int node) {
+        PersistentIntSet added = nodes.add(node);
+        return added == nodes ? this :
+                new PersistentGraph(index, added, edges, lastEdge);
+    }
+    /**
+     * Makes a subgraph without a node.  As with
+     * {@link Graph#removeNode(Node)}, the edges of the node are kept.
+     *
+     * @param node the id of the node to remove.
+     * @return the new PersistentGraph, or this one if it does not hold the
+     * node.
+     */
+    public PersistentGraph withoutNode(int node) {
+        PersistentIntSet removed = nodes.remove(node);
+        return removed == nodes ? this :
+                new PersistentGraph(index, removed, edges, lastEdge);
+    }
+    /**
+     * Makes a subgraph with another edge, listed after the edges already in
+     * it.
+     *
+     * @param edge the id of the edge to add.
+     * @return the new PersistentGraph, or this one if it holds the edge.
+     */
+    public PersistentGraph withEdge(int edge) {
+        PersistentIntSet added = edges.add(edge);
+        return added == edges ? this :
+                new PersistentGraph(index, nodes, added,
+                        new EdgeLink(edge, lastEdge));
+    }
+
+    /**
+     * Builds a Graph holding the nodes of the subgraph, in the order of the
+     * indexed graph, and its edges, in the order they were added.  The Graph
+     * shares its Node and Edge objects with the indexed graph.
+     *
+     * @param name the String name of the Graph.
+     * @return the Graph.
+     */
+    public Graph toGraph(String name) {
+        ArrayList<Node> nodeList = new ArrayList<>(nodes.size());
+        for (int node = nodes.first(); node != -1; node = nodes.next(node + 1))
+            nodeList.add(index.getNode(node));
+        Edge[] edgeArray = new Edge[edges.size()];
+        int slot = edgeArray.length;
+        for (EdgeLink link = lastEdge; link != null; link = link.previous)
+            edgeArray[--slot] = index.getEdge(link.edge);
+        return new Graph(name, nodeList, new ArrayList<>(Arrays.asList(edgeArray)));
+    }
+}
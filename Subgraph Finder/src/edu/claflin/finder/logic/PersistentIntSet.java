@@ -0,0 +1,305 @@
+package edu.claflin.finder.logic;
+
+/**
+ * An immutable set of int ids, such as the node ids of an
+ * {@link IndexedGraph}, that is changed by making a new set.  The ids are
+ * held in a trie: each leaf is a bitset of 2048 ids and each branch above it
+ * has 32 children, so a set of a million ids is three levels deep.  Adding
+ * or removing an id copies only the leaf and branches on the path to it; the
+ * new set shares everything else with the old one.  Recursive searches can
+ * therefore keep a set for every branch at the cost of a few small arrays
+ * each.
+ * <br>
+ * Ids are iterated in ascending order:
+ * <code>for (int id = set.first(); id != -1; id = set.next(id + 1))</code>.
+ *
+ * @version 1.0 October 19, 2026
+ */
+public final class PersistentIntSet {
+
+    /**
+     * The number of bits of an id chosen within a leaf.
+     */
+    private static final int LEAF_BITS = 11;
+    /**
+     * The number of long words in a leaf.
+     */
+    private static final int LEAF_WORDS = 1 << (LEAF_BITS - 6);
+    /**
+     * The number of bits of an id chosen at each branch.
+     */
+    private static final int BRANCH_BITS = 5;
+    /**
+     * The number of children of a branch.
+     */
+    private static final int BRANCH_WIDTH = 1 << BRANCH_BITS;
+
+    /**
+     * The ids the set may hold, from 0 up to but excluding this.
+     */
+    private final int capacity;
+    /**
+     * The number of branch levels above the leaves.
+     */
+    private final int height;
+    /**
+     * The top of the trie: a long[] leaf when the height is 0, otherwise an
+     * Object[] branch; null when the set is empty.
+     */
+    private final Object root;
+    /**
+     * The number of ids in the set.
+     */
+    private final int size;
+
+    /**
+     * Constructs a set.
+     *
+     * @param capacity the ids the set may hold.
+     * @param height the number of branch levels.
+     * @param root the top of the trie.
+     * @param size the number of ids.
+     */
+    private PersistentIntSet(int capacity, int height, Object root, int size) {
+        this.capacity = capacity;
+        this.height = height;
+        this.root = root;
+        this.size = size;
+    }
+
+    /**
+     * Creates an empty set.
+     *
+     * @param capacity the ids the set and those made from it may hold, from
+     * 0 up to but excluding the capacity.
+     * @return the empty PersistentIntSet.
+     */
+    public static PersistentIntSet empty(int capacity) {
+        int height = 0;
+        for (long span = 1L << LEAF_BITS; span < capacity; span <<= BRANCH_BITS)
+            height++;
+        return new PersistentIntSet(capacity, height, null, 0);
+    }
+    /**
+     * Creates a set holding every id from 0 up to its capacity.
+     *
+     * @param capacity the ids the set holds.
+     * @return the full PersistentIntSet.
+     */
+    public static PersistentIntSet full(int capacity) {
+        PersistentIntSet empty = empty(capacity);
+        return new PersistentIntSet(capacity, empty.height,
+                fill(empty.height, 0, capacity), capacity);
+    }
+
+    /**
+     * Gets the ids the set may hold.
+     *
+     * @return the capacity of the set.
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+    /**
+     * Gets the number of ids in the set.
+     *
+     * @return the size of the set.
+     */
+    public int size() {
+        return size;
+    }
+    /**
+     * Tests if the set is empty.
+     *
+     * @return true if the set holds no ids.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+    /**
+     * Tests if the set holds an id.
+     *
+     * @param id the id to test.
+     * @return true if the id is in the set.
+     */
+    public boolean contains(int id) {
+        if (id < 0 || id >= capacity)
+            return false;
+        Object node = root;
+        for (int level = height; level > 0 && node != null; level--)
+            node = ((Object[]) node)[(id >>> shift(level)) & (BRANCH_WIDTH - 1)];
+        return node != null &&
+                (((long[]) node)[(id >>> 6) & (LEAF_WORDS - 1)] & (1L << id)) != 0L;
+    }
+    /**
+     * Makes a set holding the ids of this one and another id.
+     *
+     * @param id the id to add.
+     * @return the new PersistentIntSet, or this one if it holds the id.
+     * @throws IndexOutOfBoundsException if the id is outside the capacity.
+     */
+    public PersistentIntSet add(int id) {
+        if (id < 0 || id >= capacity)
+            throw new IndexOutOfBoundsException("Id " + id + " is outside 0 to " +
+                    capacity + ".");
+        if (contains(id))
+            return this;
+        return new PersistentIntSet(capacity, height, add(root, height, id),
+                size + 1);
+    }
+    /**
+     * Makes a set holding the ids of this one but one.
+     *
+     * @param id the id to remove.
+     * @return the new PersistentIntSet, or this one if it does not hold the
+     * id.
+     */
+    public PersistentIntSet remove(int id) {
+        if (!contains(id))
+            return this;
+        return new PersistentIntSet(capacity, height, remove(root, height, id),
+                size - 1);
+    }
+    /**
+     * Gets the smallest id in the set.
+     *
+     * @return the smallest id, or -1 if the set is empty.
+     */
+    public int first() {
+        return next(0);
+    }
+    /**
+     * Gets the smallest id in the set no smaller than the one given.
+     *
+     * @param from the id to start looking from.
+     * @return the next id, or -1 if there is none.
+     */
+    public int next(int from) {
+        if (from >= capacity)
+            return -1;
+        return next(root, height, 0, Math.max(0, from));
+    }
+
+    /**
+     * Gets the number of bits an id is shifted by to choose the child of a
+     * branch.
+     *
+     * @param level the level of the branch, 1 being just above the leaves.
+     * @return the shift.
+     */
+    private static int shift(int level) {
+        return LEAF_BITS + (level - 1) * BRANCH_BITS;
+    }
+    /**
+     * Builds the part of a trie holding every id in a range.
+     *
+     * @param level the level of the part, 0 being a leaf.
+     * @param base the first id the part covers.
+     * @param end the id after the last one to hold.
+     * @return the part, or null if it holds no ids.
+     */
+    private static Object fill(int level, int base, int end) {
+        if (base >= end)
+            return null;
+        if (level == 0) {
+            long[] words = new long[LEAF_WORDS];
+            for (int word = 0; word < LEAF_WORDS; word++) {
+                int first = base + (word << 6);
+                if (first + 64 <= end)
+                    words[word] = -1L;
+                else if (first < end)
+                    words[word] = (1L << (end - first)) - 1L;
+            }
+            return words;
+        }
+        Object[] children = new Object[BRANCH_WIDTH];
+        for (int slot = 0; slot < BRANCH_WIDTH; slot++) {
+            long childBase = base + ((long) slot << shift(level));
+            if (childBase >= end)
+                break;
+            children[slot] = fill(level - 1, (int) childBase, end);
+        }
+        return children;
+    }
+    /**
+     * Copies the path to an id, setting it.
+     *
+     * @param node the part of the trie to add to, or null if it is empty.
+     * @param level the level of the part, 0 being a leaf.
+     * @param id the id to add.
+     * @return the new part.
+     */
+    private static Object add(Object node, int level, int id) {
+        if (level == 0) {
+            long[] words = node == null ? new long[LEAF_WORDS] :
+                    ((long[]) node).clone();
+            words[(id >>> 6) & (LEAF_WORDS - 1)] |= 1L << id;
+            return words;
+        }
+        Object[] children = node == null ? new Object[BRANCH_WIDTH] :
+                ((Object[]) node).clone();
+        int slot = (id >>> shift(level)) & (BRANCH_WIDTH - 1);
+        children[slot] = add(children[slot], level - 1, id);
+        return children;
+    }
+    /**
+     * Copies the path to an id, clearing it.  Parts left empty are dropped.
+     *
+     * @param node the part of the trie holding the id.
+     * @param level the level of the part, 0 being a leaf.
+     * @param id the id to remove.
+     * @return the new part, or null if it is empty.
+     */
+    private static Object remove(Object node, int level, int id) {
+        if (level == 0) {
+            long[] words = ((long[]) node).clone();
+            words[(id >>> 6) & (LEAF_WORDS - 1)] &= ~(1L << id);
+            for (long word : words)
+                if (word != 0L)
+                    return words;
+            return null;
+        }
+        Object[] children = ((Object[]) node).clone();
+        int slot = (id >>> shift(level)) & (BRANCH_WIDTH - 1);
+        children[slot] = remove(children[slot], level - 1, id);
+        for (Object child : children)
+            if (child != null)
+                return children;
+        return null;
+    }
+    /**
+     * Finds the smallest id in part of the trie no smaller than the one
+     * given.
+     *
+     * @param node the part of the trie, or null if it is empty.
+     * @param level the level of the part, 0 being a leaf.
+     * @param base the first id the part covers.
+     * @param from the id to start looking from.
+     * @return the next id, or -1 if there is none.
+     */
+    private static int next(Object node, int level, int base, int from) {
+        if (node == null)
+            return -1;
+        int start = Math.max(from, base);
+        if (level == 0) {
+            long[] words = (long[]) node;
+            for (int word = (start - base) >>> 6; word < LEAF_WORDS; word++) {
+                long bits = words[word];
+                if (word == (start - base) >>> 6)
+                    bits &= -1L << start;
+                if (bits != 0L)
+                    return base + (word << 6) + Long.numberOfTrailingZeros(bits);
+            }
+            return -1;
+        }
+        Object[] children = (Object[]) node;
+        int shift = shift(level);
+        for (int slot = (start - base) >>> shift; slot < BRANCH_WIDTH; slot++) {
+            int found = next(children[slot], level - 1, base + (slot << shift),
+                    from);
+            if (found != -1)
+                return found;
+        }
+        return -1;
+    }
+}
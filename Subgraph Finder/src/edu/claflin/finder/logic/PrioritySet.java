@@ -18,7 +18,7 @@ import java.util.PriorityQueue;
  * if the comparator is configured properly.  (i.e. a 4 replacing a 5.)
  * 
  * @author Charles Allen Schultz II
- * @version 1.1 May 28, 2015
+ * @version 1.1.1 October 19, 2026
  * @param <T> the type of object to manage in the PriorityQueue.
  */
 public class PrioritySet<T> extends PriorityQueue<T> {
@@ -69,7 +69,7 @@ public class PrioritySet<T> extends PriorityQueue<T> {
         if (!contains(t)) {
             if (getLogger() != null) {
                 getLogger().logInfo(LogLevel.DEBUG, "PrioritySet: Adding new "
-                        + "item to PrioritySet instance: " + t.toString());
+                        + "item to PrioritySet instance: {}", t);
             }
             return super.add(t);
         } else if (addOverride) {
@@ -78,8 +78,7 @@ public class PrioritySet<T> extends PriorityQueue<T> {
             if (removed) {
                 if (getLogger() != null) {
                     getLogger().logInfo(LogLevel.DEBUG, "PrioritySet: "
-                            + "Replacing item in PrioritySet instance: "
-                            + t.toString());
+                            + "Replacing item in PrioritySet instance: {}", t);
                 }
                 return super.add(t);
             }
@@ -87,7 +86,7 @@ public class PrioritySet<T> extends PriorityQueue<T> {
         
         if (getLogger() != null) {
             getLogger().logInfo(LogLevel.DEBUG, "PrioritySet: Not adding item "
-                    + "to PrioritySet instance: " + t.toString());
+                    + "to PrioritySet instance: {}", t);
         }
         
         return false;
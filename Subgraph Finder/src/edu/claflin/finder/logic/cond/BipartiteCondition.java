@@ -1,9 +1,11 @@
 package edu.claflin.finder.logic.cond;
 
 
+import edu.claflin.finder.logic.BitSubgraph;
 import edu.claflin.finder.logic.Condition;
 
 import edu.claflin.finder.logic.Graph;
+import edu.claflin.finder.logic.IndexedGraph;
 import edu.claflin.finder.logic.Node;
 import java.util.HashSet;
 import java.util.List;
@@ -14,7 +16,7 @@ import java.util.Set;
  * bipartiteness.
  * 
  * @author Charles Allen Schultz II
- * @version 1.1.1 May 26, 2015
+ * @version 1.2 October 19, 2026
  */
 public class BipartiteCondition extends Condition {
 
@@ -67,4 +69,57 @@ public class BipartiteCondition extends Condition {
         
         return true;
     }
+    
+    /**
+     * {@inheritDoc }
+     * <p>
+     * Checks to determine if the supplied subgraph is Bipartite.  Sorts the 
+     * nodes in the same order as {@link #satisfies(Graph)}, holding the two 
+     * groups as bitsets over the positions of the nodes in the subgraph.
+     * @param candidate the BitSubgraph object to test against.
+     * @return true if the subgraph is bipartite.
+     */
+    @Override
+    public boolean satisfies(BitSubgraph candidate) {
+        long[] groupA = new long[(candidate.getNodeCount() + 63) >>> 6];
+        long[] groupB = new long[groupA.length];
+        
+        for (int index = 0; index < candidate.getNodeCount(); index++) {
+            if (!satisfies(candidate, groupA, groupB, index))
+                return false;
+        }
+        return true;
+    }
+    
+    /**
+     * Private method for stepping through the subgraph and determining if it 
+     * is bipartite, as 
+     * {@link #satisfies(Graph, Set, Set, Node)} does for a Graph.
+     * 
+     * @param candidate the BitSubgraph object to test against.
+     * @param addSet the current set to add a node to based on the previous.
+     * @param compareSet the current set to add adjacent nodes to.
+     * @param current the position of the current node being compared.
+     * @return true if the structure could be bipartite.  
+     */
+    private boolean satisfies(BitSubgraph candidate, long[] addSet, 
+            long[] compareSet, int current) {
+        long bit = 1L << current;
+        if (((addSet[current >>> 6] | compareSet[current >>> 6]) & bit) == 0L) {
+            addSet[current >>> 6] |= bit;
+            IndexedGraph parent = candidate.getParent();
+            int node = candidate.getNodeAt(current);
+            for (int entry = parent.rowStart(node); 
+                    entry < parent.rowStart(node + 1); entry++) {
+                if (!candidate.containsEdge(parent.rowEdge(entry)))
+                    continue;
+                int neighbor = candidate.getPosition(parent.rowNode(entry));
+                if ((addSet[neighbor >>> 6] & (1L << neighbor)) != 0L || 
+                        !satisfies(candidate, compareSet, addSet, neighbor))
+                    return false;
+            }
+        }
+        
+        return true;
+    }
 }
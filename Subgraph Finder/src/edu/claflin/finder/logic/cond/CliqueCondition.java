@@ -1,5 +1,6 @@
 package edu.claflin.finder.logic.cond;
 
+import edu.claflin.finder.logic.BitSubgraph;
 import edu.claflin.finder.logic.Condition;
 import edu.claflin.finder.logic.Graph;
 import edu.claflin.finder.logic.Node;
@@ -17,7 +18,7 @@ import java.util.List;
  * C : { A, B }
  * 
  * @author Charles Allen Schultz II
- * @version 1.0 June 19, 2015
+ * @version 1.1 October 19, 2026
  */
 public class CliqueCondition extends Condition {
 
@@ -41,6 +42,24 @@ public class CliqueCondition extends Condition {
                 return false;
         }
         
+        return true;
+    }
+    /**
+     * {@inheritDoc }
+     * <p>
+     * Checks to determine if the supplied subgraph is a Clique by testing 
+     * that the neighbors of every node are all the other nodes.
+     * @param candidate the BitSubgraph object to test against.
+     * @return true if the subgraph is a clique.
+     */
+    @Override
+    public boolean satisfies(BitSubgraph candidate) {
+        for (int index = 0; index < candidate.getNodeCount(); index++) {
+            if (!candidate.holdsAllBut(candidate.getNeighbors(index, false), 
+                    index))
+                return false;
+        }
+        
         return true;
     }
 }
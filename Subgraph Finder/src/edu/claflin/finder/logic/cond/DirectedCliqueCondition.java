@@ -1,5 +1,6 @@
 package edu.claflin.finder.logic.cond;
 
+import edu.claflin.finder.logic.BitSubgraph;
 import edu.claflin.finder.logic.Condition;
 import edu.claflin.finder.logic.Graph;
 import edu.claflin.finder.logic.Node;
@@ -17,7 +18,7 @@ import edu.claflin.finder.logic.Node;
  * B : { C }
  * 
  * @author Charles Allen Schultz II
- * @version 1.0 June 19, 2015
+ * @version 1.1 October 19, 2026
  */
 public class DirectedCliqueCondition extends Condition {
 
@@ -45,6 +46,25 @@ public class DirectedCliqueCondition extends Condition {
                 return false;
         }
         
+        return true;
+    }
+    /**
+     * {@inheritDoc }
+     * <p>
+     * Checks to determine if the supplied subgraph is a Directed Clique by 
+     * testing that every node is joined to all the other nodes by edges in 
+     * either direction.
+     * @param candidate the BitSubgraph object to test against.
+     * @return true if the subgraph is a directed clique.
+     */
+    @Override
+    public boolean satisfies(BitSubgraph candidate) {
+        for (int index = 0; index < candidate.getNodeCount(); index++) {
+            if (!candidate.holdsAllBut(candidate.getNeighbors(index, true), 
+                    index))
+                return false;
+        }
+        
         return true;
     }
 }
@@ -2,6 +2,7 @@ package edu.claflin.finder.logic.cygrouper;
 
 import edu.claflin.finder.logic.Graph;
 import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 
 /*
@@ -11,6 +12,6 @@ import java.util.Map;
  */
 public interface CommunicationListener {
     public void setUniqueSubGraphs(ArrayList<Graph> subgraphs);
-    public void setGroups(ArrayList<Map<String, CygrouperNode>> results);
+    public void setGroups(List<Map<String, CygrouperNode>> results);
     public void setPartitionNumbers(ArrayList<Map<String, CygrouperNode>> results);
 }
@@ -2,6 +2,7 @@ package edu.claflin.finder.logic.cygrouper;
 
 import edu.claflin.finder.logic.Graph;
 import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 
 /*
@@ -9,9 +10,18 @@ import java.util.Map;
   This is a Singleton class which implements an Interface also written by Evyatar & Ariel called CommunicationListener.
   This class is instantiated in the Cyfinder Module and provides an easy mean of communication between the Subgraph-Finder Module and the Cyfinder Module.
  */
+/**
+ * Holds the results of the last search made through Algorithm.process in 
+ * static lists, shared by every search in the JVM.
+ * 
+ * @deprecated searches running at the same time overwrite each other's 
+ * results here; use {@link edu.claflin.finder.algo.Algorithm#search} and 
+ * read them from its {@link edu.claflin.finder.algo.SearchResult} instead.
+ */
+@Deprecated
 public class Communicator implements CommunicationListener {
     private static Communicator communicator;
-    public static ArrayList<Map<String, CygrouperNode>> groups = new ArrayList<>();
+    public static List<Map<String, CygrouperNode>> groups = new ArrayList<>();
     public static ArrayList<Map<String, CygrouperNode>> partitionNumbers = new ArrayList<>();
     public static ArrayList<Graph> uniqueSubgraphs = new ArrayList<>();
     private Communicator(){
@@ -27,7 +37,7 @@ public class Communicator implements CommunicationListener {
     }
 
     @Override
-    public void setGroups(ArrayList<Map<String, CygrouperNode>> results) {
+    public void setGroups(List<Map<String, CygrouperNode>> results) {
         Communicator.groups = results;
     }
     
@@ -9,6 +9,15 @@ import java.util.*;
 * The purpose of the classes in this package is to assign each node a set attribute (Group A or Group B).
 * With this information Cytoscape can group the nodes into the different sets that make up the bipartite condition.
 * */
+/**
+ * Assigns groups to the nodes of found subgraphs through string-keyed 
+ * adjacency maps.
+ * 
+ * @deprecated rebuilds the adjacency of every subgraph through 
+ * {@link CygrouperAssembler}, which prints each step to the console, and 
+ * groups only the component of the first node; use {@link SubgraphGrouper}.
+ */
+@Deprecated
 public class CytogrouperMain {
     /*
      ArrayList<Map<String,CygrouperNode>> results is a list of Maps, where each map is a map with a String as key and a CygrouperNode as value. (Map<String,CygrouperNode>)
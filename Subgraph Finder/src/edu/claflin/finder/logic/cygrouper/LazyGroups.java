@@ -0,0 +1,93 @@
+package edu.claflin.finder.logic.cygrouper;
+
+import static edu.claflin.finder.Global.getMetrics;
+
+import edu.claflin.finder.logic.Graph;
+import edu.claflin.finder.metrics.Timer;
+import java.util.AbstractList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.stream.IntStream;
+
+/**
+ * The groups of the nodes of a list of subgraphs, computed with
+ * {@link SubgraphGrouper} only when asked for.  Element i holds the groups
+ * of subgraph i, which are worked out the first time the element is read and
+ * kept from then on, so a search whose groups are never read does not pay
+ * for them.
+ * <br>
+ * The list is unmodifiable and may be read from several threads; the
+ * subgraphs themselves are expected not to change once found.
+ *
+ * @version 1.0 October 19, 2026
+ */
+public final class LazyGroups extends AbstractList<Map<String, CygrouperNode>> {
+
+    /**
+     * Times grouping the nodes of the subgraphs.
+     */
+    private static final Timer GROUP = getMetrics().timer("cull.group");
+
+    /**
+     * The subgraphs to group.
+     */
+    private final Graph[] subgraphs;
+    /**
+     * The number of partitions.
+     */
+    private final int partiteNumber;
+    /**
+     * The groups of each subgraph, or null until computed.
+     */
+    private final AtomicReferenceArray<Map<String, CygrouperNode>> groups;
+
+    /**
+     * Constructs the LazyGroups.  Nothing is computed until the groups are
+     * read.
+     *
+     * @param subgraphs the List of subgraphs to group, copied.
+     * @param partiteNumber the number of partitions, used only if greater
+     * than two.
+     */
+    public LazyGroups(List<Graph> subgraphs, int partiteNumber) {
+        this.subgraphs = subgraphs.toArray(new Graph[subgraphs.size()]);
+        this.partiteNumber = partiteNumber;
+        this.groups = new AtomicReferenceArray<>(this.subgraphs.length);
+    }
+
+    /**
+     * Gets the groups of a subgraph, computing them if this is the first
+     * time they are read.
+     *
+     * @param index the index of the subgraph.
+     * @return the Map from node identifier to the CygrouperNode holding its
+     * group and partition number.
+     */
+    @Override
+    public Map<String, CygrouperNode> get(int index) {
+        Map<String, CygrouperNode> grouped = groups.get(index);
+        if (grouped == null) {
+            long start = GROUP.start();
+            grouped = SubgraphGrouper.group(subgraphs[index], partiteNumber);
+            GROUP.stop(start);
+            if (!groups.compareAndSet(index, null, grouped))
+                grouped = groups.get(index);
+        }
+        return grouped;
+    }
+    @Override
+    public int size() {
+        return subgraphs.length;
+    }
+    /**
+     * Computes the groups of every subgraph not yet grouped, in parallel.
+     * Useful before reading all of them in turn.
+     *
+     * @return this LazyGroups.
+     */
+    public LazyGroups computeAll() {
+        IntStream.range(0, subgraphs.length).parallel().forEach(this::get);
+        return this;
+    }
+}
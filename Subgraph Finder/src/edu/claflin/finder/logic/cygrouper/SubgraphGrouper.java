@@ -0,0 +1,222 @@
+package edu.claflin.finder.logic.cygrouper;
+
+import edu.claflin.finder.logic.Edge;
+import edu.claflin.finder.logic.Graph;
+import edu.claflin.finder.logic.Node;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Assigns the nodes of found subgraphs to the sides of a bipartition (group
+ * A or B) and to partitions, as {@link CytogrouperMain} does, working
+ * directly from each subgraph's edges.  The adjacency of a subgraph is held
+ * in int arrays, ignoring edge direction, and each connected component is
+ * walked breadth first from its first node, which is put in group A with
+ * partition number 0.  A node is put in the opposite group to the node it
+ * was reached from, with the next partition number.
+ * <br>
+ * For more than two partitions, the partition numbers are then reassigned by
+ * dealing the nodes of the two groups alternately into partitions 1 to k,
+ * as {@link CytogrouperMain#kPartite(java.util.Map, int)} does.
+ * <br>
+ * The subgraphs are grouped in parallel, and every subgraph, even one
+ * without edges, gets a map of its own, so the groups line up with the
+ * subgraphs by index.
+ *
+ * @version 1.0 October 19, 2026
+ */
+public final class SubgraphGrouper {
+
+    /**
+     * Marks a node not yet reached by the walk.
+     */
+    private static final int UNVISITED = -1;
+
+    /**
+     * Private constructor; the class only holds static methods.
+     */
+    private SubgraphGrouper() {
+    }
+
+    /**
+     * Groups the nodes of each subgraph.
+     *
+     * @param subgraphs the List of subgraphs to group.
+     * @param partiteNumber the number of partitions, used only if greater
+     * than two.
+     * @return the ArrayList holding, for each subgraph in order, the Map from
+     * node identifier to the CygrouperNode holding its group and partition
+     * number.
+     */
+    public static ArrayList<Map<String, CygrouperNode>> group(
+            List<Graph> subgraphs, int partiteNumber) {
+        return subgraphs.parallelStream()
+                .map(subgraph -> group(subgraph, partiteNumber))
+                .collect(Collectors.toCollection(ArrayList::new));
+    }
+    /**
+     * Groups the nodes of a subgraph.
+     *
+     * @param subgraph the Graph to group.
+     * @param partiteNumber the number of partitions, used only if greater
+     * than two.
+     * @return the Map from node identifier to the CygrouperNode holding its
+     * group and partition number.
+     */
+    public static Map<String, CygrouperNode> group(Graph subgraph,
+            int partiteNumber) {
+        List<Node> nodeList = subgraph.getNodeList();
+        List<Edge> edgeList = subgraph.getEdgeList();
+
+        // Number the nodes, including any edge end not in the node list.
+        HashMap<Node, Integer> ids = new HashMap<>(
+                Math.max(16, nodeList.size() * 4 / 3));
+        ArrayList<Node> nodes = new ArrayList<>(nodeList.size());
+        for (Node node : nodeList)
+            id(node, ids, nodes);
+        int[] sources = new int[edgeList.size()];
+        int[] destinations = new int[edgeList.size()];
+        for (int edge = 0; edge < edgeList.size(); edge++) {
+            sources[edge] = id(edgeList.get(edge).getSource(), ids, nodes);
+            destinations[edge] = id(edgeList.get(edge).getDestination(),
+                    ids, nodes);
+        }
+        int nodeCount = nodes.size();
+
+        // Compressed rows of neighbors, each edge counted in both directions.
+        int[] rowStart = new int[nodeCount + 1];
+        for (int edge = 0; edge < sources.length; edge++) {
+            rowStart[sources[edge] + 1]++;
+            rowStart[destinations[edge] + 1]++;
+        }
+        for (int node = 0; node < nodeCount; node++)
+            rowStart[node + 1] += rowStart[node];
+        int[] fill = new int[nodeCount];
+        System.arraycopy(rowStart, 0, fill, 0, nodeCount);
+        int[] rowNode = new int[rowStart[nodeCount]];
+        for (int edge = 0; edge < sources.length; edge++) {
+            rowNode[fill[sources[edge]]++] = destinations[edge];
+            rowNode[fill[destinations[edge]]++] = sources[edge];
+        }
+
+        // Walk each component breadth first.
+        int[] side = new int[nodeCount];
+        int[] level = new int[nodeCount];
+        int[] queue = new int[nodeCount];
+        Arrays.fill(side, UNVISITED);
+        for (int root = 0; root < nodeCount; root++) {
+            if (side[root] != UNVISITED)
+                continue;
+            side[root] = 0;
+            level[root] = 0;
+            int head = 0;
+            int tail = 0;
+            queue[tail++] = root;
+            while (head < tail) {
+                int current = queue[head++];
+                for (int entry = rowStart[current];
+                        entry < rowStart[current + 1]; entry++) {
+                    int neighbor = rowNode[entry];
+                    if (side[neighbor] == UNVISITED) {
+                        side[neighbor] = 1 - side[current];
+                        level[neighbor] = level[current] + 1;
+                        queue[tail++] = neighbor;
+                    }
+                }
+            }
+        }
+
+        if (partiteNumber > 2)
+            kPartite(side, level, partiteNumber);
+
+        LinkedHashMap<String, CygrouperNode> groups = new LinkedHashMap<>(
+                Math.max(16, nodeCount * 4 / 3));
+        for (int node = 0; node < nodeCount; node++) {
+            String name = nodes.get(node).getIdentifier();
+            CygrouperNode grouped = new CygrouperNode(name);
+            grouped.setGroup(side[node] == 0 ? "A" : "B");
+            grouped.setPartiteNumber(level[node]);
+            groups.put(name, grouped);
+        }
+        return groups;
+    }
+
+    /**
+     * Gets the id of a node, numbering it if it has none yet.
+     *
+     * @param node the Node to number.
+     * @param ids the HashMap from the numbered nodes to their ids.
+     * @param nodes the ArrayList of the numbered nodes, indexed by id.
+     * @return the id of the node.
+     */
+    private static int id(Node node, HashMap<Node, Integer> ids,
+            ArrayList<Node> nodes) {
+        Integer id = ids.get(node);
+        if (id == null) {
+            id = nodes.size();
+            ids.put(node, id);
+            nodes.add(node);
+        }
+        return id;
+    }
+    /**
+     * Reassigns the partition numbers for more than two partitions.  The
+     * nodes of the larger group are dealt into the odd partitions and those
+     * of the smaller group into the even ones, in turn, until either group
+     * runs out; the rest of the larger group goes into partition 1 and the
+     * rest of the smaller into partition 2.  If either group is too small to
+     * fill its share of the k partitions, the numbers are left unchanged.
+     *
+     * @param side the int[] holding the group of each node, 0 for A and 1 for
+     * B.
+     * @param level the int[] holding the partition number of each node,
+     * reassigned in place.
+     * @param k the number of partitions.
+     */
+    private static void kPartite(int[] side, int[] level, int k) {
+        int countA = 0;
+        for (int node = 0; node < side.length; node++)
+            if (side[node] == 0)
+                countA++;
+        int countB = side.length - countA;
+        int greaterSide = countA >= countB ? 0 : 1;
+        int greaterCount = Math.max(countA, countB);
+        int lesserCount = Math.min(countA, countB);
+
+        if (greaterCount < (k + 1) / 2 || lesserCount < k / 2)
+            return;
+
+        int[] greater = new int[greaterCount];
+        int[] lesser = new int[lesserCount];
+        int g = 0;
+        int l = 0;
+        for (int node = 0; node < side.length; node++) {
+            if (side[node] == greaterSide)
+                greater[g++] = node;
+            else
+                lesser[l++] = node;
+        }
+
+        g = 0;
+        l = 0;
+        while (g < greaterCount && l < lesserCount) {
+            for (int part = 1; part <= k; part++) {
+                if (g == greaterCount || l == lesserCount)
+                    break;
+                else if (part % 2 == 1)
+                    level[greater[g++]] = part;
+                else
+                    level[lesser[l++]] = part;
+            }
+        }
+        while (g < greaterCount)
+            level[greater[g++]] = 1;
+        while (l < lesserCount)
+            level[lesser[l++]] = 2;
+    }
+}
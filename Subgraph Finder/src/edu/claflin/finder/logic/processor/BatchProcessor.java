@@ -3,6 +3,19 @@ package edu.claflin.finder.logic.processor;
 import static edu.claflin.finder.Global.getLogger;
 import edu.claflin.finder.log.LogLevel;
 import java.util.ArrayList;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 /**
  * Used to process one or multiple objects.  Processing is accomplished via a 
@@ -10,7 +23,7 @@ import java.util.ArrayList;
  * code base.
  * 
  * @author Charles Allen Schultz II
- * @version 3.1 May 28, 2015
+ * @version 3.4 October 19, 2026
  * @param <T> the object Type to be processed.
  * @param <S> the expected output Type of the processing.
  */
@@ -51,6 +64,36 @@ public final class BatchProcessor<T, S> {
         return processedData;
     }
     
+    /**
+     * Processes a singular object, handing each result to the consumer as 
+     * soon as it is produced.  Relies on 
+     * {@link Processable#stream(java.lang.Object)} so that the full set of 
+     * results never has to be held in memory.
+     * 
+     * @param toProcess the T object to process.
+     * @param processor the Processable object to process with.
+     * @param consumer the Consumer receiving the Stream of results.
+     */
+    public void streamSingular(T toProcess, Processable<T, S> processor, 
+            Consumer<Stream<S>> consumer) {
+        
+        if (getLogger() != null) {
+            getLogger().logInfo(LogLevel.NORMAL, 
+                    String.format("Streaming %s object.", 
+                    toProcess.getClass().getCanonicalName()));
+        }
+        
+        try (Stream<S> results = processor.stream(toProcess)) {
+            consumer.accept(results);
+        }
+        
+        if (getLogger() != null) {
+            getLogger().logInfo(LogLevel.NORMAL, 
+                String.format("Streamed %s object.",
+                toProcess.getClass().getCanonicalName()));
+        }
+    }
+    
     /**
      * Processes multiple files.  This method does so by calling the 
      * processSingular(T, {@link Processable}) method.
@@ -81,4 +124,154 @@ public final class BatchProcessor<T, S> {
         
         return processedData;
     }
-}
\ No newline at end of file
+
+    /**
+     * Processes multiple sources as a pipeline.  Loading and processing of
+     * the sources is carried out by a pool of worker threads while the
+     * results are handed to the consumer on the calling thread strictly in
+     * the order of the sources array.  Unlike
+     * {@link #processMultiple(java.lang.Object[], Processable)} the sources
+     * are only loaded when a worker is ready for them, and no more than
+     * maxInFlight of them are held in memory at once (counting from the
+     * moment a source is loaded to the moment its results are consumed).
+     * <p>
+     * A processor is taken from the supplier for each source, on the worker
+     * processing it, so processors that keep state between calls (such as a
+     * Bundle) are never shared between threads.  Sources that fail to load
+     * (i.e. the loader returns null) or fail to process are logged, skipped
+     * and counted.
+     *
+     * @param <R> the type of the sources that the T objects are loaded from.
+     * @param sources the R object array containing the sources to process.
+     * @param loader the Function used to load a T object from a source.
+     * @param processors the Supplier of a new Processable object for each
+     * source.
+     * @param consumer the BiConsumer receiving each loaded object along with
+     * the results of its processing.
+     * @param workers the number of worker threads to use.
+     * @param maxInFlight the maximum number of loaded objects held in memory.
+     * @return the number of sources skipped because they failed to load or
+     * process.
+     */
+    public <R> int processPipelined(R[] sources, Function<R, T> loader,
+            Supplier<? extends Processable<T, S>> processors,
+            BiConsumer<T, ArrayList<S>> consumer, int workers,
+            int maxInFlight) {
+        if (workers < 1 || maxInFlight < 1)
+            throw new IllegalArgumentException("Workers and in-flight bound "
+                    + "must both be positive!");
+
+        if (getLogger() != null) {
+            getLogger().logInfo(LogLevel.NORMAL,
+                    String.format("Pipelining %d sources over %d workers "
+                    + "(at most %d in flight).",
+                    sources.length, workers, maxInFlight));
+        }
+
+        ExecutorService pool = Executors.newFixedThreadPool(workers);
+        Semaphore inFlight = new Semaphore(maxInFlight);
+        BlockingQueue<Future<Processed<T, S>>> ordered =
+                new LinkedBlockingQueue<>();
+
+        // Sources are submitted from a separate thread so that the calling
+        // thread is free to consume results as soon as the first completes.
+        Thread submitter = new Thread(() -> {
+            try {
+                for (R source : sources) {
+                    inFlight.acquire();
+                    ordered.put(pool.submit(() -> {
+                        T loaded = loader.apply(source);
+                        if (loaded == null)
+                            return new Processed<>(source, null, null);
+                        return new Processed<>(source, loaded,
+                                processSingular(loaded, processors.get()));
+                    }));
+                }
+            } catch (InterruptedException ie) {
+                Thread.currentThread().interrupt();
+            } catch (RejectedExecutionException ree) {
+                // The pool was shut down because consuming stopped early.
+            }
+        }, "BatchProcessor-submitter");
+        submitter.setDaemon(true);
+        submitter.start();
+
+        int failures = 0;
+        try {
+            for (int index = 0; index < sources.length; index++) {
+                try {
+                    Processed<T, S> result = ordered.take().get();
+                    if (result.loaded == null) {
+                        failures++;
+                        if (getLogger() != null) {
+                            getLogger().logError(LogLevel.NORMAL,
+                                    "Skipping source that could not be "
+                                    + "loaded: " + result.source);
+                        }
+                    } else {
+                        consumer.accept(result.loaded, result.results);
+                    }
+                } catch (ExecutionException ee) {
+                    failures++;
+                    if (getLogger() != null) {
+                        getLogger().logError(LogLevel.NORMAL,
+                                "Error processing source " + index + ": "
+                                + ee.getCause());
+                    }
+                } finally {
+                    inFlight.release();
+                }
+            }
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+        } finally {
+            // The submitter may be waiting for a permit that will never be 
+            // released if consuming stopped early, e.g. the consumer threw.
+            submitter.interrupt();
+            pool.shutdownNow();
+        }
+
+        if (getLogger() != null) {
+            getLogger().logInfo(LogLevel.NORMAL,
+                    String.format("Pipelined %d sources, %d skipped.",
+                    sources.length, failures));
+        }
+        return failures;
+    }
+
+    /**
+     * Holds a loaded object and its results while they travel from the
+     * workers back to the consumer.
+     *
+     * @param <T> the type of the loaded object.
+     * @param <S> the type of the results.
+     */
+    private static final class Processed<T, S> {
+
+        /**
+         * The source the object was loaded from.
+         */
+        private final Object source;
+        /**
+         * The loaded object or null if loading failed.
+         */
+        private final T loaded;
+        /**
+         * The results of processing the loaded object.
+         */
+        private final ArrayList<S> results;
+
+        /**
+         * Constructs the holder.
+         *
+         * @param source the source the object was loaded from.
+         * @param loaded the loaded object.
+         * @param results the results of processing the loaded object.
+         */
+        private Processed(Object source, T loaded, ArrayList<S> results) {
+            this.source = source;
+            this.loaded = loaded;
+            this.results = results;
+        }
+    }
+}
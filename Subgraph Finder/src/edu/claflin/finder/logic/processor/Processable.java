@@ -1,12 +1,13 @@
 package edu.claflin.finder.logic.processor;
 
 import java.util.ArrayList;
+import java.util.stream.Stream;
 
 /**
  * Represents an operation that can be carried out on a specific type of data.
  * 
  * @author Charles Allen Schultz II
- * @version 3.0 May 20, 2015
+ * @version 3.1 October 19, 2026
  * @param <T> the T type object to process.
  * @param <S> the S type object of the data produced by processing.
  */
@@ -19,4 +20,18 @@ public interface Processable<T, S> {
      * @return the S type object array produced by the processing.
      */
     ArrayList<S> process(T t);
+    
+    /**
+     * Processes data, producing the results one at a time.  The results are 
+     * only computed as the returned Stream is consumed, so a caller that 
+     * handles each result immediately (such as a writer) never has to hold 
+     * the full set in memory.  By default the results of 
+     * {@link #process(java.lang.Object)} are simply streamed.
+     * 
+     * @param t the T type object to process.
+     * @return the Stream of S type objects produced by the processing.
+     */
+    default Stream<S> stream(T t) {
+        return process(t).stream();
+    }
 }
@@ -0,0 +1,52 @@
+package edu.claflin.finder.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts occurrences of an event.  Backed by a LongAdder so that many
+ * threads may count at once without contending.
+ *
+ * @version 1.0 October 19, 2026
+ */
+public final class Counter {
+
+    /**
+     * The running count.
+     */
+    private final LongAdder count = new LongAdder();
+
+    /**
+     * Only created through {@link Metrics#counter(String)}.
+     */
+    Counter() {}
+
+    /**
+     * Counts a single occurrence.
+     */
+    public void increment() {
+        count.increment();
+    }
+    /**
+     * Counts several occurrences.
+     *
+     * @param amount the number of occurrences.
+     */
+    public void add(long amount) {
+        count.add(amount);
+    }
+    /**
+     * Gets the count.
+     *
+     * @return the number of occurrences counted.
+     */
+    public long get() {
+        return count.sum();
+    }
+
+    /**
+     * Sets the count back to zero.
+     */
+    void reset() {
+        count.reset();
+    }
+}
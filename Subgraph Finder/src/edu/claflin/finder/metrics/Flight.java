@@ -0,0 +1,327 @@
+package edu.claflin.finder.metrics;
+
+import static edu.claflin.finder.Global.getLogger;
+import edu.claflin.finder.log.LogLevel;
+
+import java.io.File;
+
+/**
+ * Emits JDK Flight Recorder events for the phases of a run, so their timing
+ * may be correlated with garbage collection and allocation in a recording.
+ * Events are emitted for loading the graph, the search from each root,
+ * each top level Bron-Kerbosch branch, condition checks slower than 1 ms,
+ * culling and writing the results.
+ * <br>
+ * Events are only on while a {@link Session} opened with
+ * {@link #open(File)} is open and are never emitted on JVMs without the
+ * flight recorder.  While off, the begin methods
+ * return null and the end methods ignore it, so a phase is marked with:
+ * <br>
+ * {@code Object event = Flight.beginCull(); ... Flight.endCull(event, ...);}
+ *
+ * @version 1.2 October 19, 2026
+ */
+public final class Flight {
+
+    /**
+     * Indicates that events are emitted.
+     */
+    private static volatile boolean enabled = false;
+    /**
+     * The number of open sessions, guarded by the class.
+     */
+    private static int sessions = 0;
+
+    /**
+     * Private constructor for preventing instantiation of the class.
+     */
+    private Flight() {}
+
+    /**
+     * Checks for the flight recorder once, on first use.
+     */
+    private static final class Availability {
+        /**
+         * Indicates that the flight recorder may be used.
+         */
+        private static final boolean AVAILABLE = check();
+
+        /**
+         * Checks for the flight recorder.
+         *
+         * @return true if the flight recorder may be used.
+         */
+        private static boolean check() {
+            try {
+                return FlightEvents.isAvailable();
+            } catch (LinkageError | RuntimeException ex) {
+                return false;
+            }
+        }
+    }
+
+    /**
+     * Checks that the flight recorder may be used in this JVM.
+     *
+     * @return true if the flight recorder is available.
+     */
+    public static boolean isAvailable() {
+        return Availability.AVAILABLE;
+    }
+    /**
+     * Checks if events are emitted.
+     *
+     * @return true if events are emitted.
+     */
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Opens a session, turning the events on until it and every other open
+     * session are closed.  If an output file is given, the session also
+     * starts a recording of its own with the default settings, which is
+     * written to the file when the session is closed.  Runs that overlap
+     * each open their own session, so closing one does not turn off the
+     * events or end the recording of another.
+     * <br>
+     * A session is returned even if the flight recorder is not available or
+     * the recording could not be started, so it may always be closed in a
+     * finally block.
+     *
+     * @param output the File to write the recording to, or null to only
+     * turn the events on.
+     * @return the open Session.
+     */
+    public static Session open(File output) {
+        Session session = new Session();
+        if (!isAvailable()) {
+            if (getLogger() != null) {
+                getLogger().logError(LogLevel.NORMAL, "Flight: The flight "
+                        + "recorder is not available in this JVM.");
+            }
+            return session;
+        }
+        synchronized (Flight.class) {
+            sessions++;
+            enabled = true;
+        }
+        session.counted = true;
+        if (output == null)
+            return session;
+
+        try {
+            session.recording = FlightEvents.startRecording(output);
+            if (getLogger() != null) {
+                getLogger().logInfo(LogLevel.NORMAL, "Flight: Recording to "
+                        + "file: " + output.getAbsolutePath());
+            }
+        } catch (Exception ex) {
+            if (getLogger() != null) {
+                getLogger().logError(LogLevel.NORMAL, "Flight: Error starting "
+                        + "recording to file: " + output.getAbsolutePath()
+                        + " (" + ex + ")");
+            }
+            session.close();
+        }
+        return session;
+    }
+
+    /**
+     * A run's hold on the events, and its recording if it has one, opened
+     * with {@link Flight#open(File)}.
+     */
+    public static final class Session implements AutoCloseable {
+
+        /**
+         * Indicates that the session is counted among the open sessions.
+         */
+        private boolean counted = false;
+        /**
+         * The recording of the session, or null if it has none.
+         */
+        private Object recording = null;
+        /**
+         * Indicates that the session has been closed.
+         */
+        private boolean closed = false;
+
+        /**
+         * Only opened through {@link Flight#open(File)}.
+         */
+        private Session() {}
+
+        /**
+         * Checks if the session is recording to a file.
+         *
+         * @return true if the session has a recording.
+         */
+        public synchronized boolean isRecording() {
+            return recording != null;
+        }
+        /**
+         * Closes the session, writing its recording to its file, and turns
+         * the events off if no other session is open.  Closing a session
+         * again has no effect.
+         */
+        @Override
+        public synchronized void close() {
+            if (closed)
+                return;
+            closed = true;
+            if (recording != null) {
+                try {
+                    FlightEvents.stopRecording(recording);
+                } catch (RuntimeException ex) {
+                    if (getLogger() != null) {
+                        getLogger().logError(LogLevel.NORMAL, "Flight: Error "
+                                + "writing recording (" + ex + ")");
+                    }
+                }
+                recording = null;
+            }
+            if (counted) {
+                synchronized (Flight.class) {
+                    enabled = --sessions > 0;
+                }
+            }
+        }
+    }
+
+    /**
+     * Marks the start of reading a graph.
+     *
+     * @return the started event, or null if events are off.
+     */
+    public static Object beginGraphLoad() {
+        return enabled ? FlightEvents.beginGraphLoad() : null;
+    }
+    /**
+     * Marks the end of reading a graph.
+     *
+     * @param event the Object returned by {@link #beginGraphLoad()}.
+     * @param format the String name of the graph format.
+     * @param source the String name of the file read.
+     * @param nodes the number of nodes read.
+     * @param edges the number of edges read.
+     */
+    public static void endGraphLoad(Object event, String format, String source,
+            int nodes, int edges) {
+        if (event != null)
+            FlightEvents.endGraphLoad(event, format, source, nodes, edges);
+    }
+
+    /**
+     * Marks the start of the search from a root node.
+     *
+     * @return the started event, or null if events are off.
+     */
+    public static Object beginRootSearch() {
+        return enabled ? FlightEvents.beginRootSearch() : null;
+    }
+    /**
+     * Marks the end of the search from a root node.
+     *
+     * @param event the Object returned by {@link #beginRootSearch()}.
+     * @param algorithm the String name of the searching algorithm.
+     * @param root the String name of the root node.
+     * @param nodes the number of nodes in the subgraph found.
+     * @param edges the number of edges in the subgraph found.
+     */
+    public static void endRootSearch(Object event, String algorithm,
+            String root, int nodes, int edges) {
+        if (event != null)
+            FlightEvents.endRootSearch(event, algorithm, root, nodes, edges);
+    }
+
+    /**
+     * Marks the start of a top level Bron-Kerbosch branch.
+     *
+     * @return the started event, or null if events are off.
+     */
+    public static Object beginBranch() {
+        return enabled ? FlightEvents.beginBranch() : null;
+    }
+    /**
+     * Marks the end of a top level Bron-Kerbosch branch.
+     *
+     * @param event the Object returned by {@link #beginBranch()}.
+     * @param node the String name of the node the branch starts from.
+     * @param candidates the number of candidate nodes of the branch.
+     * @param excluded the number of excluded nodes of the branch.
+     * @param found the number of cliques found in the branch.
+     */
+    public static void endBranch(Object event, String node, int candidates,
+            int excluded, int found) {
+        if (event != null)
+            FlightEvents.endBranch(event, node, candidates, excluded, found);
+    }
+
+    /**
+     * Marks the start of a condition check.
+     *
+     * @return the started event, or null if events are off.
+     */
+    public static Object beginConditionCheck() {
+        return enabled ? FlightEvents.beginConditionCheck() : null;
+    }
+    /**
+     * Marks the end of a condition check.  The event is only recorded if the
+     * check was slower than its threshold.
+     *
+     * @param event the Object returned by {@link #beginConditionCheck()}.
+     * @param condition the String name of the condition.
+     * @param nodes the number of nodes of the graph checked.
+     * @param edges the number of edges of the graph checked.
+     * @param satisfied the boolean result of the check.
+     */
+    public static void endConditionCheck(Object event, String condition,
+            int nodes, int edges, boolean satisfied) {
+        if (event != null)
+            FlightEvents.endConditionCheck(event, condition, nodes, edges,
+                    satisfied);
+    }
+
+    /**
+     * Marks the start of culling.
+     *
+     * @return the started event, or null if events are off.
+     */
+    public static Object beginCull() {
+        return enabled ? FlightEvents.beginCull() : null;
+    }
+    /**
+     * Marks the end of culling.
+     *
+     * @param event the Object returned by {@link #beginCull()}.
+     * @param before the number of subgraphs before culling.
+     * @param after the number of subgraphs kept.
+     */
+    public static void endCull(Object event, int before, int after) {
+        if (event != null)
+            FlightEvents.endCull(event, before, after);
+    }
+
+    /**
+     * Marks the start of writing a graph.
+     *
+     * @return the started event, or null if events are off.
+     */
+    public static Object beginGraphWrite() {
+        return enabled ? FlightEvents.beginGraphWrite() : null;
+    }
+    /**
+     * Marks the end of writing a graph.
+     *
+     * @param event the Object returned by {@link #beginGraphWrite()}.
+     * @param format the String name of the graph format.
+     * @param graph the String name of the graph written.
+     * @param nodes the number of nodes written.
+     * @param edges the number of edges written.
+     */
+    public static void endGraphWrite(Object event, String format, String graph,
+            int nodes, int edges) {
+        if (event != null)
+            FlightEvents.endGraphWrite(event, format, graph, nodes, edges);
+    }
+}
@@ -0,0 +1,375 @@
+package edu.claflin.finder.metrics;
+
+import java.io.File;
+import java.io.IOException;
+import java.text.ParseException;
+
+import jdk.jfr.Category;
+import jdk.jfr.Configuration;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Recording;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * The JDK Flight Recorder event types of the program and the recordings
+ * started by {@link Flight#open(File)}.  This is the only class
+ * referring to the jdk.jfr package and is only loaded through
+ * {@link Flight} once the flight recorder is known to be present.
+ *
+ * @version 1.1 October 19, 2026
+ */
+final class FlightEvents {
+
+    /**
+     * Private constructor for preventing instantiation of the class.
+     */
+    private FlightEvents() {}
+
+    /**
+     * Checks that the flight recorder may be used in this JVM.
+     *
+     * @return true if the flight recorder is available.
+     */
+    static boolean isAvailable() {
+        return FlightRecorder.isAvailable();
+    }
+
+    /**
+     * Starts a recording using the default settings along with every event
+     * of the program.
+     *
+     * @param output the File the recording is written to when stopped.
+     * @return the started Recording, as an Object so that callers need not
+     * refer to the jdk.jfr package.
+     * @throws IOException if the recording could not be created.
+     * @throws ParseException if the default settings could not be read.
+     */
+    static Object startRecording(File output)
+            throws IOException, ParseException {
+        Recording started = new Recording(Configuration.getConfiguration("default"));
+        started.setName("Subgraph Finder");
+        started.setToDisk(true);
+        started.setDestination(output.toPath());
+        started.start();
+        return started;
+    }
+    /**
+     * Stops a recording, writing it to its file.
+     *
+     * @param recording the Object returned by
+     * {@link #startRecording(File)}.
+     */
+    static void stopRecording(Object recording) {
+        Recording started = (Recording) recording;
+        try {
+            started.stop();
+        } finally {
+            started.close();
+        }
+    }
+
+    /**
+     * Begins a graph load event.
+     *
+     * @return the started event.
+     */
+    static Object beginGraphLoad() {
+        GraphLoad event = new GraphLoad();
+        event.begin();
+        return event;
+    }
+    /**
+     * Ends and commits a graph load event.
+     *
+     * @param started the event returned by {@link #beginGraphLoad()}.
+     * @param format the String name of the graph format.
+     * @param source the String name of the file read.
+     * @param nodes the number of nodes read.
+     * @param edges the number of edges read.
+     */
+    static void endGraphLoad(Object started, String format, String source,
+            int nodes, int edges) {
+        GraphLoad event = (GraphLoad) started;
+        event.end();
+        if (event.shouldCommit()) {
+            event.format = format;
+            event.source = source;
+            event.nodes = nodes;
+            event.edges = edges;
+            event.commit();
+        }
+    }
+
+    /**
+     * Begins a root search event.
+     *
+     * @return the started event.
+     */
+    static Object beginRootSearch() {
+        RootSearch event = new RootSearch();
+        event.begin();
+        return event;
+    }
+    /**
+     * Ends and commits a root search event.
+     *
+     * @param started the event returned by {@link #beginRootSearch()}.
+     * @param algorithm the String name of the searching algorithm.
+     * @param root the String name of the root node.
+     * @param nodes the number of nodes in the subgraph found.
+     * @param edges the number of edges in the subgraph found.
+     */
+    static void endRootSearch(Object started, String algorithm, String root,
+            int nodes, int edges) {
+        RootSearch event = (RootSearch) started;
+        event.end();
+        if (event.shouldCommit()) {
+            event.algorithm = algorithm;
+            event.root = root;
+            event.nodes = nodes;
+            event.edges = edges;
+            event.commit();
+        }
+    }
+
+    /**
+     * Begins a Bron-Kerbosch branch event.
+     *
+     * @return the started event.
+     */
+    static Object beginBranch() {
+        Branch event = new Branch();
+        event.begin();
+        return event;
+    }
+    /**
+     * Ends and commits a Bron-Kerbosch branch event.
+     *
+     * @param started the event returned by {@link #beginBranch()}.
+     * @param node the String name of the node the branch starts from.
+     * @param candidates the number of candidate nodes of the branch.
+     * @param excluded the number of excluded nodes of the branch.
+     * @param found the number of cliques found in the branch.
+     */
+    static void endBranch(Object started, String node, int candidates,
+            int excluded, int found) {
+        Branch event = (Branch) started;
+        event.end();
+        if (event.shouldCommit()) {
+            event.node = node;
+            event.candidates = candidates;
+            event.excluded = excluded;
+            event.found = found;
+            event.commit();
+        }
+    }
+
+    /**
+     * Begins a condition check event.
+     *
+     * @return the started event.
+     */
+    static Object beginConditionCheck() {
+        ConditionCheck event = new ConditionCheck();
+        event.begin();
+        return event;
+    }
+    /**
+     * Ends and commits a condition check event if it took longer than its
+     * threshold.
+     *
+     * @param started the event returned by {@link #beginConditionCheck()}.
+     * @param condition the String name of the condition.
+     * @param nodes the number of nodes of the graph checked.
+     * @param edges the number of edges of the graph checked.
+     * @param satisfied the boolean result of the check.
+     */
+    static void endConditionCheck(Object started, String condition, int nodes,
+            int edges, boolean satisfied) {
+        ConditionCheck event = (ConditionCheck) started;
+        event.end();
+        if (event.shouldCommit()) {
+            event.condition = condition;
+            event.nodes = nodes;
+            event.edges = edges;
+            event.satisfied = satisfied;
+            event.commit();
+        }
+    }
+
+    /**
+     * Begins a cull event.
+     *
+     * @return the started event.
+     */
+    static Object beginCull() {
+        Cull event = new Cull();
+        event.begin();
+        return event;
+    }
+    /**
+     * Ends and commits a cull event.
+     *
+     * @param started the event returned by {@link #beginCull()}.
+     * @param before the number of subgraphs before culling.
+     * @param after the number of subgraphs kept.
+     */
+    static void endCull(Object started, int before, int after) {
+        Cull event = (Cull) started;
+        event.end();
+        if (event.shouldCommit()) {
+            event.before = before;
+            event.after = after;
+            event.commit();
+        }
+    }
+
+    /**
+     * Begins a graph write event.
+     *
+     * @return the started event.
+     */
+    static Object beginGraphWrite() {
+        GraphWrite event = new GraphWrite();
+        event.begin();
+        return event;
+    }
+    /**
+     * Ends and commits a graph write event.
+     *
+     * @param started the event returned by {@link #beginGraphWrite()}.
+     * @param format the String name of the graph format.
+     * @param graph the String name of the graph written.
+     * @param nodes the number of nodes written.
+     * @param edges the number of edges written.
+     */
+    static void endGraphWrite(Object started, String format, String graph,
+            int nodes, int edges) {
+        GraphWrite event = (GraphWrite) started;
+        event.end();
+        if (event.shouldCommit()) {
+            event.format = format;
+            event.graph = graph;
+            event.nodes = nodes;
+            event.edges = edges;
+            event.commit();
+        }
+    }
+
+    /**
+     * Reading a graph from a file.
+     */
+    @Name("edu.claflin.finder.GraphLoad")
+    @Label("Graph Load")
+    @Category({"Subgraph Finder", "IO"})
+    @Description("Reading a graph from a file.")
+    @StackTrace(false)
+    static final class GraphLoad extends Event {
+        @Label("Format")
+        String format;
+        @Label("Source")
+        String source;
+        @Label("Nodes")
+        int nodes;
+        @Label("Edges")
+        int edges;
+    }
+
+    /**
+     * Searching for the subgraph grown from a single root node.
+     */
+    @Name("edu.claflin.finder.RootSearch")
+    @Label("Root Search")
+    @Category({"Subgraph Finder", "Search"})
+    @Description("Searching for the subgraph grown from a single root node.")
+    @StackTrace(false)
+    static final class RootSearch extends Event {
+        @Label("Algorithm")
+        String algorithm;
+        @Label("Root")
+        String root;
+        @Label("Nodes")
+        int nodes;
+        @Label("Edges")
+        int edges;
+    }
+
+    /**
+     * A top level branch of the Bron-Kerbosch clique search.
+     */
+    @Name("edu.claflin.finder.BronKerboschBranch")
+    @Label("Bron-Kerbosch Branch")
+    @Category({"Subgraph Finder", "Search"})
+    @Description("A top level branch of the Bron-Kerbosch clique search.")
+    @StackTrace(false)
+    static final class Branch extends Event {
+        @Label("Node")
+        String node;
+        @Label("Candidates")
+        int candidates;
+        @Label("Excluded")
+        int excluded;
+        @Label("Cliques Found")
+        int found;
+    }
+
+    /**
+     * Checking a graph against a condition.  Only checks slower than the
+     * threshold are recorded.
+     */
+    @Name("edu.claflin.finder.ConditionCheck")
+    @Label("Condition Check")
+    @Category({"Subgraph Finder", "Search"})
+    @Description("Checking a graph against a condition.")
+    @Threshold("1 ms")
+    @StackTrace(false)
+    static final class ConditionCheck extends Event {
+        @Label("Condition")
+        String condition;
+        @Label("Nodes")
+        int nodes;
+        @Label("Edges")
+        int edges;
+        @Label("Satisfied")
+        boolean satisfied;
+    }
+
+    /**
+     * Removing the found subgraphs contained within other found subgraphs.
+     */
+    @Name("edu.claflin.finder.Cull")
+    @Label("Cull")
+    @Category({"Subgraph Finder", "Search"})
+    @Description("Removing subgraphs contained within other subgraphs.")
+    @StackTrace(false)
+    static final class Cull extends Event {
+        @Label("Subgraphs Before")
+        int before;
+        @Label("Subgraphs After")
+        int after;
+    }
+
+    /**
+     * Writing a found subgraph.
+     */
+    @Name("edu.claflin.finder.GraphWrite")
+    @Label("Graph Write")
+    @Category({"Subgraph Finder", "IO"})
+    @Description("Writing a found subgraph.")
+    @StackTrace(false)
+    static final class GraphWrite extends Event {
+        @Label("Format")
+        String format;
+        @Label("Graph")
+        String graph;
+        @Label("Nodes")
+        int nodes;
+        @Label("Edges")
+        int edges;
+    }
+}
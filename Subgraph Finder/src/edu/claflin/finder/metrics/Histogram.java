@@ -0,0 +1,110 @@
+package edu.claflin.finder.metrics;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Records the distribution of a non-negative value, such as a frontier size.
+ * Values are counted in power of two buckets, so percentiles are reported as
+ * the upper bound of the bucket they fall in.
+ *
+ * @version 1.0 October 19, 2026
+ */
+public final class Histogram {
+
+    /**
+     * The count of each bucket.  Bucket i holds values with a bit length of
+     * i, i.e. values from 2^(i-1) to 2^i - 1; bucket 0 holds zero.
+     */
+    private final LongAdder[] buckets = new LongAdder[64];
+    /**
+     * The number of recorded values.
+     */
+    private final LongAdder count = new LongAdder();
+    /**
+     * The sum of the recorded values.
+     */
+    private final LongAdder sum = new LongAdder();
+    /**
+     * The largest recorded value.
+     */
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0L);
+
+    /**
+     * Only created through {@link Metrics#histogram(String)}.
+     */
+    Histogram() {
+        for (int bucket = 0; bucket < buckets.length; bucket++)
+            buckets[bucket] = new LongAdder();
+    }
+
+    /**
+     * Records a value.  Negative values are recorded as zero.
+     *
+     * @param value the long value to record.
+     */
+    public void record(long value) {
+        value = Math.max(0L, value);
+        buckets[64 - Long.numberOfLeadingZeros(value)].increment();
+        count.increment();
+        sum.add(value);
+        max.accumulate(value);
+    }
+
+    /**
+     * Gets the number of recorded values.
+     *
+     * @return the count.
+     */
+    public long getCount() {
+        return count.sum();
+    }
+    /**
+     * Gets the sum of the recorded values.
+     *
+     * @return the sum.
+     */
+    public long getSum() {
+        return sum.sum();
+    }
+    /**
+     * Gets the largest recorded value.
+     *
+     * @return the maximum.
+     */
+    public long getMax() {
+        return max.get();
+    }
+    /**
+     * Estimates a percentile of the recorded values.
+     *
+     * @param percentile the double percentile between 0 and 1.
+     * @return the upper bound of the bucket holding the percentile, or zero
+     * if nothing was recorded.
+     */
+    public long getPercentile(double percentile) {
+        long total = getCount();
+        if (total == 0L)
+            return 0L;
+
+        long rank = Math.max(1L, (long) Math.ceil(percentile * total));
+        long seen = 0L;
+        for (int bucket = 0; bucket < buckets.length; bucket++) {
+            seen += buckets[bucket].sum();
+            if (seen >= rank)
+                return Math.min(getMax(), bucket == 0 ? 0L : (1L << bucket) - 1);
+        }
+        return getMax();
+    }
+
+    /**
+     * Discards every recorded value.
+     */
+    void reset() {
+        for (LongAdder bucket : buckets)
+            bucket.reset();
+        count.reset();
+        sum.reset();
+        max.reset();
+    }
+}
@@ -0,0 +1,271 @@
+package edu.claflin.finder.metrics;
+
+import static edu.claflin.finder.Global.getLogger;
+import edu.claflin.finder.log.LogLevel;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The registry of every {@link Counter}, {@link Timer} and {@link Histogram}
+ * of the program.  Metrics are created on first use and are never removed,
+ * so callers may keep the returned objects in static fields; resetting the
+ * registry zeroes them instead.
+ * <br>
+ * The registry is shared by the whole program, so resetting it while another
+ * run is in progress loses that run's counts.  Runs that may overlap, such as
+ * those started from Cytoscape, take a {@link #snapshot()} when they start
+ * instead and report what was recorded since with
+ * {@link #summary(int, Snapshot)}.
+ * <br>
+ * Metric names are dotted paths grouping related metrics, e.g.
+ * "search.nodes.expanded" or "io.read".
+ *
+ * @version 1.1 October 19, 2026
+ */
+public final class Metrics {
+
+    /**
+     * The counters, by name.
+     */
+    private final ConcurrentHashMap<String, Counter> counters =
+            new ConcurrentHashMap<>();
+    /**
+     * The timers, by name.
+     */
+    private final ConcurrentHashMap<String, Timer> timers =
+            new ConcurrentHashMap<>();
+    /**
+     * The histograms, by name.
+     */
+    private final ConcurrentHashMap<String, Histogram> histograms =
+            new ConcurrentHashMap<>();
+
+    /**
+     * Gets the counter with the provided name, creating it if necessary.
+     *
+     * @param name the String name of the counter.
+     * @return the Counter.
+     */
+    public Counter counter(String name) {
+        return counters.computeIfAbsent(name, key -> new Counter());
+    }
+    /**
+     * Gets the timer with the provided name, creating it if necessary.
+     *
+     * @param name the String name of the timer.
+     * @return the Timer.
+     */
+    public Timer timer(String name) {
+        return timers.computeIfAbsent(name, key -> new Timer());
+    }
+    /**
+     * Gets the histogram with the provided name, creating it if necessary.
+     *
+     * @param name the String name of the histogram.
+     * @return the Histogram.
+     */
+    public Histogram histogram(String name) {
+        return histograms.computeIfAbsent(name, key -> new Histogram());
+    }
+
+    /**
+     * Zeroes every metric.  Used at the start of a run.
+     */
+    public void reset() {
+        counters.values().forEach(Counter::reset);
+        timers.values().forEach(Timer::reset);
+        histograms.values().forEach(Histogram::reset);
+    }
+
+    /**
+     * Renders every metric that has recorded anything as a JSON object.
+     * Times are reported in milliseconds.
+     *
+     * @return the String JSON summary.
+     */
+    public String toJson() {
+        StringBuilder json = new StringBuilder("{\n  \"counters\": {");
+        String separator = "\n";
+        for (Map.Entry<String, Counter> entry : new TreeMap<>(counters).entrySet()) {
+            if (entry.getValue().get() == 0L)
+                continue;
+            json.append(separator).append("    ").append(quote(entry.getKey()))
+                    .append(": ").append(entry.getValue().get());
+            separator = ",\n";
+        }
+
+        json.append("\n  },\n  \"timers\": {");
+        separator = "\n";
+        for (Map.Entry<String, Timer> entry : new TreeMap<>(timers).entrySet()) {
+            Timer timer = entry.getValue();
+            long count = timer.getCount();
+            if (count == 0L)
+                continue;
+            json.append(separator).append("    ").append(quote(entry.getKey()))
+                    .append(": {\"count\": ").append(count)
+                    .append(", \"total_ms\": ").append(millis(timer.getTotalNanos()))
+                    .append(", \"mean_ms\": ").append(millis(timer.getTotalNanos() / count))
+                    .append(", \"max_ms\": ").append(millis(timer.getMaxNanos()))
+                    .append('}');
+            separator = ",\n";
+        }
+
+        json.append("\n  },\n  \"histograms\": {");
+        separator = "\n";
+        for (Map.Entry<String, Histogram> entry : new TreeMap<>(histograms).entrySet()) {
+            Histogram histogram = entry.getValue();
+            long count = histogram.getCount();
+            if (count == 0L)
+                continue;
+            json.append(separator).append("    ").append(quote(entry.getKey()))
+                    .append(": {\"count\": ").append(count)
+                    .append(", \"mean\": ").append(round(histogram.getSum() * 1D / count))
+                    .append(", \"p50\": ").append(histogram.getPercentile(0.5))
+                    .append(", \"p90\": ").append(histogram.getPercentile(0.9))
+                    .append(", \"p99\": ").append(histogram.getPercentile(0.99))
+                    .append(", \"max\": ").append(histogram.getMax())
+                    .append('}');
+            separator = ",\n";
+        }
+
+        return json.append("\n  }\n}").toString();
+    }
+    /**
+     * Records the count and total time of every timer, so that what is timed
+     * afterwards can be told apart without resetting the registry.
+     *
+     * @return the Snapshot of the timers.
+     */
+    public Snapshot snapshot() {
+        return new Snapshot(timers);
+    }
+    /**
+     * Renders a one line summary of the timers with the most total time,
+     * suitable for a status message.
+     *
+     * @param limit the maximum number of timers to include.
+     * @return the String summary.
+     */
+    public String summary(int limit) {
+        return summary(limit, null);
+    }
+    /**
+     * Renders a one line summary of the timers with the most total time
+     * since a snapshot, suitable for a status message.  Anything timed by
+     * other runs since the snapshot is included.
+     *
+     * @param limit the maximum number of timers to include.
+     * @param since the Snapshot to count from, or null to count everything.
+     * @return the String summary.
+     */
+    public String summary(int limit, Snapshot since) {
+        ArrayList<Map.Entry<String, long[]>> sorted = new ArrayList<>();
+        for (Map.Entry<String, Timer> entry : timers.entrySet()) {
+            long[] before = since == null ? null : since.timers.get(entry.getKey());
+            long count = entry.getValue().getCount();
+            long total = entry.getValue().getTotalNanos();
+            if (before != null) {
+                count -= before[0];
+                total -= before[1];
+            }
+            if (count > 0L)
+                sorted.add(new SimpleImmutableEntry<>(entry.getKey(),
+                        new long[] {count, total}));
+        }
+        sorted.sort((a, b) -> Long.compare(b.getValue()[1], a.getValue()[1]));
+
+        StringBuilder summary = new StringBuilder();
+        for (int index = 0; index < Math.min(limit, sorted.size()); index++) {
+            long[] timer = sorted.get(index).getValue();
+            if (index > 0)
+                summary.append(", ");
+            summary.append(sorted.get(index).getKey()).append(' ')
+                    .append(millis(timer[1])).append(" ms (")
+                    .append(timer[0]).append("x)");
+        }
+        return summary.length() == 0 ? "No metrics recorded." : summary.toString();
+    }
+    /**
+     * Writes the JSON summary to a file.
+     *
+     * @param output the File to write to.
+     * @return true if the summary was written.
+     */
+    public boolean writeJson(File output) {
+        try (Writer writer = Files.newBufferedWriter(output.toPath(),
+                StandardCharsets.UTF_8)) {
+            writer.write(toJson());
+            writer.write(System.lineSeparator());
+            return true;
+        } catch (IOException ioe) {
+            if (getLogger() != null) {
+                getLogger().logError(LogLevel.NORMAL, "Metrics: Error writing "
+                        + "metrics to file: " + output.getAbsolutePath());
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Converts nanoseconds to milliseconds rounded to three places.
+     *
+     * @param nanos the long nanoseconds.
+     * @return the double milliseconds.
+     */
+    private static double millis(long nanos) {
+        return round(nanos / 1e6);
+    }
+    /**
+     * Rounds a value to three places.
+     *
+     * @param value the double to round.
+     * @return the rounded double.
+     */
+    private static double round(double value) {
+        return Math.round(value * 1000D) / 1000D;
+    }
+    /**
+     * The counts and total times of the timers at one moment, taken with
+     * {@link Metrics#snapshot()}.
+     */
+    public static final class Snapshot {
+
+        /**
+         * The count and total time in nanoseconds of each timer, by name.
+         */
+        private final Map<String, long[]> timers = new HashMap<>();
+
+        /**
+         * Records the timers.
+         *
+         * @param timers the Map of timers to record, by name.
+         */
+        private Snapshot(Map<String, Timer> timers) {
+            for (Map.Entry<String, Timer> entry : timers.entrySet()) {
+                this.timers.put(entry.getKey(), new long[] {
+                    entry.getValue().getCount(),
+                    entry.getValue().getTotalNanos()});
+            }
+        }
+    }
+
+    /**
+     * Quotes a metric name as a JSON string.
+     *
+     * @param name the String name.
+     * @return the quoted String.
+     */
+    private static String quote(String name) {
+        return '"' + name.replace("\\", "\\\\").replace("\"", "\\\"") + '"';
+    }
+}
@@ -0,0 +1,222 @@
+package edu.claflin.finder.metrics;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Tracks the progress of a search through its root nodes, and decides when
+ * that progress is worth reporting.  Roots may be finished from several
+ * threads at once; each finished root is counted with
+ * {@link #advance()}, which only asks for a report once per interval (and
+ * for the last root), so listeners such as a Cytoscape TaskMonitor or a
+ * progress line on the terminal are updated at a fixed rate however fast
+ * the roots are searched.
+ * <br>
+ * The throughput and the estimated time remaining are worked out from the
+ * time taken so far per finished root.  Progress that is not counted in
+ * roots, such as that of a bundle of algorithms, can be reported as a
+ * fraction with {@link #set(double)}, in which case only the estimate is
+ * available.
+ *
+ * @version 1.0 October 19, 2026
+ */
+public final class ProgressTracker {
+
+    /**
+     * The default minimum time between reports, in milliseconds.
+     */
+    public static final long DEFAULT_INTERVAL = 200L;
+
+    /**
+     * The minimum time between reports in nanoseconds.
+     */
+    private final long interval;
+    /**
+     * The number of roots to search, or 0 if progress is set as a fraction.
+     */
+    private volatile long total = 0L;
+    /**
+     * The number of roots searched.
+     */
+    private final AtomicLong done = new AtomicLong();
+    /**
+     * The time the search started, from System.nanoTime().
+     */
+    private volatile long started = System.nanoTime();
+    /**
+     * The time of the last report, from System.nanoTime().
+     */
+    private final AtomicLong reported = new AtomicLong(started);
+    /**
+     * The fraction of the search done.
+     */
+    private volatile double fraction = 0D;
+
+    /**
+     * Constructs a ProgressTracker reporting at most once every
+     * {@link #DEFAULT_INTERVAL} milliseconds.
+     */
+    public ProgressTracker() {
+        this(DEFAULT_INTERVAL);
+    }
+    /**
+     * Constructs a ProgressTracker.
+     *
+     * @param intervalMillis the minimum time between reports in
+     * milliseconds.
+     */
+    public ProgressTracker(long intervalMillis) {
+        this.interval = TimeUnit.MILLISECONDS.toNanos(intervalMillis);
+    }
+
+    /**
+     * Starts tracking a new search, discarding the progress of any earlier
+     * one.
+     *
+     * @param total the number of roots to search, or 0 if progress will be
+     * set as a fraction.
+     */
+    public void start(long total) {
+        this.total = Math.max(0L, total);
+        done.set(0L);
+        fraction = 0D;
+        started = System.nanoTime();
+        reported.set(started);
+    }
+    /**
+     * Counts a searched root.
+     *
+     * @return true if the progress should be reported now.
+     */
+    public boolean advance() {
+        long searched = done.incrementAndGet();
+        long roots = total;
+        fraction = roots > 0L ? Math.min(1D, searched * 1D / roots) : 1D;
+        return isDue(searched >= roots);
+    }
+    /**
+     * Sets the fraction of the search done.
+     *
+     * @param fraction the double fraction between 0 and 1.
+     * @return true if the progress should be reported now.
+     */
+    public boolean set(double fraction) {
+        this.fraction = Math.max(0D, Math.min(1D, fraction));
+        return isDue(this.fraction >= 1D);
+    }
+    /**
+     * Tests if a report is due, claiming it if so.  Of the threads finding a
+     * report due at the same time, only one claims it.
+     *
+     * @param last true if this is the last update of the search, which is
+     * always reported.
+     * @return true if the progress should be reported now.
+     */
+    private boolean isDue(boolean last) {
+        long now = System.nanoTime();
+        long previous = reported.get();
+        if (!last && now - previous < interval)
+            return false;
+        return reported.compareAndSet(previous, now) || last;
+    }
+
+    /**
+     * Gets the fraction of the search done.
+     *
+     * @return the double fraction between 0 and 1.
+     */
+    public double getFraction() {
+        return fraction;
+    }
+    /**
+     * Gets the number of roots searched.
+     *
+     * @return the long count.
+     */
+    public long getDone() {
+        return done.get();
+    }
+    /**
+     * Gets the number of roots to search.
+     *
+     * @return the long count, or 0 if progress is set as a fraction.
+     */
+    public long getTotal() {
+        return total;
+    }
+    /**
+     * Gets the time since the search started.
+     *
+     * @return the elapsed time in nanoseconds.
+     */
+    public long getElapsedNanos() {
+        return System.nanoTime() - started;
+    }
+    /**
+     * Gets the number of roots searched per second so far.
+     *
+     * @return the double rate, or 0 if nothing has been searched.
+     */
+    public double getRootsPerSecond() {
+        long elapsed = getElapsedNanos();
+        return elapsed > 0L ? done.get() * 1E9D / elapsed : 0D;
+    }
+    /**
+     * Estimates the time remaining, assuming the rest of the search goes as
+     * fast as what has been done so far.
+     *
+     * @return the estimate in nanoseconds, or -1 if nothing has been done
+     * to estimate from.
+     */
+    public long getRemainingNanos() {
+        double done = fraction;
+        if (done <= 0D)
+            return -1L;
+        return (long) (getElapsedNanos() * (1D - done) / done);
+    }
+
+    /**
+     * Describes the progress in a single line, such as
+     * {@code "42.0% (4200/10000 roots, 850.3 roots/s, ETA 0:07)"}.
+     *
+     * @return the String describing the progress.
+     */
+    public String describe() {
+        StringBuilder line = new StringBuilder(
+                String.format(Locale.ROOT, "%.1f%%", fraction * 100D));
+        StringBuilder details = new StringBuilder();
+        if (total > 0L) {
+            details.append(done.get()).append('/').append(total)
+                    .append(" roots, ")
+                    .append(String.format(Locale.ROOT, "%.1f", 
+                            getRootsPerSecond()))
+                    .append(" roots/s");
+        }
+        long remaining = getRemainingNanos();
+        if (remaining >= 0L && fraction < 1D) {
+            if (details.length() > 0)
+                details.append(", ");
+            details.append("ETA ").append(formatDuration(remaining));
+        }
+        if (details.length() > 0)
+            line.append(" (").append(details).append(')');
+        return line.toString();
+    }
+    /**
+     * Formats a duration as hours, minutes and seconds, such as
+     * {@code "1:02:03"} or {@code "2:03"}.
+     *
+     * @param nanos the duration in nanoseconds.
+     * @return the String holding the formatted duration.
+     */
+    public static String formatDuration(long nanos) {
+        long seconds = TimeUnit.NANOSECONDS.toSeconds(nanos);
+        long hours = seconds / 3600;
+        long minutes = seconds / 60 % 60;
+        if (hours > 0)
+            return String.format(Locale.ROOT, "%d:%02d:%02d", hours, minutes, 
+                    seconds % 60);
+        return String.format(Locale.ROOT, "%d:%02d", minutes, seconds % 60);
+    }
+}
@@ -0,0 +1,97 @@
+package edu.claflin.finder.metrics;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Measures how often and for how long an operation runs.  Timing is done by
+ * the caller:
+ * <br>
+ * {@code long start = timer.start(); ... timer.stop(start);}
+ *
+ * @version 1.0 October 19, 2026
+ */
+public final class Timer {
+
+    /**
+     * The number of timed operations.
+     */
+    private final LongAdder count = new LongAdder();
+    /**
+     * The total time of the timed operations in nanoseconds.
+     */
+    private final LongAdder total = new LongAdder();
+    /**
+     * The longest timed operation in nanoseconds.
+     */
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0L);
+
+    /**
+     * Only created through {@link Metrics#timer(String)}.
+     */
+    Timer() {}
+
+    /**
+     * Starts timing an operation.
+     *
+     * @return the long start time to pass to {@link #stop(long)}.
+     */
+    public long start() {
+        return System.nanoTime();
+    }
+    /**
+     * Stops timing an operation.
+     *
+     * @param start the long returned by {@link #start()}.
+     * @return the duration of the operation in nanoseconds.
+     */
+    public long stop(long start) {
+        long elapsed = System.nanoTime() - start;
+        record(elapsed);
+        return elapsed;
+    }
+    /**
+     * Records an operation that has already been timed.
+     *
+     * @param nanos the duration of the operation in nanoseconds.
+     */
+    public void record(long nanos) {
+        count.increment();
+        total.add(nanos);
+        max.accumulate(nanos);
+    }
+
+    /**
+     * Gets the number of timed operations.
+     *
+     * @return the count.
+     */
+    public long getCount() {
+        return count.sum();
+    }
+    /**
+     * Gets the total time of the timed operations.
+     *
+     * @return the total in nanoseconds.
+     */
+    public long getTotalNanos() {
+        return total.sum();
+    }
+    /**
+     * Gets the longest timed operation.
+     *
+     * @return the maximum in nanoseconds.
+     */
+    public long getMaxNanos() {
+        return max.get();
+    }
+
+    /**
+     * Discards every timed operation.
+     */
+    void reset() {
+        count.reset();
+        total.reset();
+        max.reset();
+    }
+}
@@ -0,0 +1,6 @@
+/**
+ * Contains the counters, timers and histograms used to measure where a run
+ * spends its time, along with the JDK Flight Recorder events marking the
+ * phases of a run.
+ */
+package edu.claflin.finder.metrics;
\ No newline at end of file